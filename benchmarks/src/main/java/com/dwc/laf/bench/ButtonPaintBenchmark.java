@@ -0,0 +1,99 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.DwcLookAndFeel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.ButtonModel;
+import javax.swing.JButton;
+import javax.swing.UIManager;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paints a {@link JButton} with {@code DwcButtonUI} for each of the six
+ * {@code dwc.buttonType} variants in each interaction state, at 1x, 1.5x and
+ * 2x device scale.
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar ButtonPaintBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ButtonPaintBenchmark {
+
+    private static final int WIDTH = 120;
+    private static final int HEIGHT = 36;
+
+    @Param({"default", "primary", "success", "danger", "warning", "info"})
+    public String variant;
+
+    @Param({"normal", "hover", "pressed", "focused", "disabled"})
+    public String state;
+
+    @Param({"1.0", "1.5", "2.0"})
+    public double scale;
+
+    private JButton button;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+        boolean focused = "focused".equals(state);
+        button = new JButton("Submit") {
+            @Override
+            public boolean hasFocus() {
+                return focused;
+            }
+        };
+        button.putClientProperty("dwc.buttonType", variant);
+        button.setSize(WIDTH, HEIGHT);
+
+        ButtonModel model = button.getModel();
+        switch (state) {
+            case "hover" -> model.setRollover(true);
+            case "pressed" -> {
+                model.setRollover(true);
+                model.setArmed(true);
+                model.setPressed(true);
+            }
+            case "disabled" -> button.setEnabled(false);
+            default -> {
+            }
+        }
+
+        image = new BufferedImage((int) Math.ceil(WIDTH * scale), (int) Math.ceil(HEIGHT * scale),
+                BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        graphics.scale(scale, scale);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void paint() {
+        button.paint(graphics);
+    }
+}
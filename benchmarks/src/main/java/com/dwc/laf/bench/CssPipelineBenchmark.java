@@ -0,0 +1,162 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.css.CssCalcEvaluator;
+import com.dwc.laf.css.CssColorParser;
+import com.dwc.laf.css.CssThemeLoader;
+import com.dwc.laf.css.CssTokenMap;
+import com.dwc.laf.css.CssTokenParser;
+import com.dwc.laf.css.CssValue;
+import com.dwc.laf.css.CssValueTyper;
+import com.dwc.laf.css.CssVariableResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each stage of the CSS token pipeline and the full
+ * {@link CssThemeLoader#loadFromString} path.
+ *
+ * <p>Inputs ({@code theme}):</p>
+ * <ul>
+ *   <li>{@code default} -- the bundled {@code default-light.css}</li>
+ *   <li>{@code theme1}, {@code theme2} -- the bundled theme followed by the
+ *       {@code css/theme1.css} or {@code css/theme2.css} override</li>
+ *   <li>{@code synthetic-N} -- a generated theme of N tokens (see
+ *       {@link SyntheticTheme}), shaped by {@code varDepth} and
+ *       {@code calcDensity}</li>
+ * </ul>
+ *
+ * <p>Each stage benchmark starts from the output of the previous stage,
+ * prepared once per trial, so the figures add up to the full load. The
+ * {@code colors} benchmark parses every evaluated value with
+ * {@link CssColorParser}, which the typer otherwise runs per token.</p>
+ *
+ * <p>Run all CSS benchmarks and write the results to JSON for comparing
+ * releases (the file name defaults to {@code css-pipeline.json}):</p>
+ *
+ * <pre>
+ *   java -cp benchmarks/target/benchmarks.jar com.dwc.laf.bench.CssPipelineBenchmark [results.json]
+ *   java -jar benchmarks/target/benchmarks.jar CssPipelineBenchmark -p varDepth=8 -rf json
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CssPipelineBenchmark {
+
+    private static final String DEFAULT_THEME = "com/dwc/laf/themes/default-light.css";
+    private static final String SYNTHETIC = "synthetic-";
+
+    @Param({"default", "theme1", "theme2", "synthetic-1000", "synthetic-10000", "synthetic-100000"})
+    public String theme;
+
+    /** Maximum {@code var()} hops behind a synthetic token. */
+    @Param({"4"})
+    public int varDepth;
+
+    /** Fraction of synthetic tokens using {@code calc()}. */
+    @Param({"0.1"})
+    public double calcDensity;
+
+    private String css;
+    private Map<String, String> raw;
+    private Map<String, String> resolved;
+    private Map<String, String> evaluated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (theme.startsWith(SYNTHETIC)) {
+            int tokens = Integer.parseInt(theme.substring(SYNTHETIC.length()));
+            css = SyntheticTheme.generate(tokens, varDepth, calcDensity);
+        } else if ("default".equals(theme)) {
+            css = resource(DEFAULT_THEME);
+        } else {
+            css = resource(DEFAULT_THEME) + "\n" + resource("css/" + theme + ".css");
+        }
+        raw = CssTokenParser.parse(css);
+        resolved = CssVariableResolver.resolve(raw);
+        evaluated = CssCalcEvaluator.evaluate(resolved);
+    }
+
+    private static String resource(String path) {
+        try (InputStream in = CssPipelineBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing benchmark input " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> parse() {
+        return CssTokenParser.parse(css);
+    }
+
+    @Benchmark
+    public Map<String, String> resolve() {
+        return CssVariableResolver.resolve(raw);
+    }
+
+    @Benchmark
+    public Map<String, String> calc() {
+        return CssCalcEvaluator.evaluate(resolved);
+    }
+
+    @Benchmark
+    public Map<String, CssValue> type() {
+        return CssValueTyper.type(evaluated);
+    }
+
+    @Benchmark
+    public void colors(Blackhole bh) {
+        for (String value : evaluated.values()) {
+            bh.consume(CssColorParser.parse(value));
+        }
+    }
+
+    @Benchmark
+    public CssTokenMap loadFromString() {
+        return CssThemeLoader.loadFromString(css);
+    }
+
+    /**
+     * Runs all CSS pipeline benchmarks and writes the results as JSON.
+     *
+     * @param args optional result file name
+     * @throws Exception if the benchmark run fails
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(CssPipelineBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "css-pipeline.json")
+                .build();
+        new Runner(options).run();
+    }
+}
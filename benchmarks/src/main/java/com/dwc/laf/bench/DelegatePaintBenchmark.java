@@ -0,0 +1,183 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.DwcLookAndFeel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JRadioButton;
+import javax.swing.JScrollBar;
+import javax.swing.JTabbedPane;
+import javax.swing.JTable;
+import javax.swing.JTextField;
+import javax.swing.JToolTip;
+import javax.swing.JTree;
+import javax.swing.UIManager;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paints one component per DWC delegate into an offscreen image at 1x,
+ * 1.5x and 2x device scale, headless.
+ *
+ * <p>Each invocation paints the whole component -- background, border and
+ * children -- the way {@code RepaintManager} paints it into the back
+ * buffer. Buttons, with their variants and states, are measured by
+ * {@link ButtonPaintBenchmark}; the shared painters in isolation by
+ * {@link PainterBenchmark}.</p>
+ *
+ * <p>Run with the GC profiler to also report bytes allocated per paint
+ * ({@code gc.alloc.rate.norm}); {@link #main} does so for all three
+ * painting benchmarks:</p>
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar DelegatePaintBenchmark -prof gc
+ *   java -cp benchmarks/target/benchmarks.jar com.dwc.laf.bench.DelegatePaintBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class DelegatePaintBenchmark {
+
+    @Param({"textField", "comboBox", "checkBox", "radioButton", "tabbedPane",
+            "progressDeterminate", "progressIndeterminate", "scrollBar", "tree",
+            "table", "toolTip", "cardPanel"})
+    public String delegate;
+
+    @Param({"1.0", "1.5", "2.0"})
+    public double scale;
+
+    private JComponent component;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+        component = createComponent(delegate);
+        component.doLayout();
+        for (var child : component.getComponents()) {
+            child.doLayout();
+        }
+
+        image = new BufferedImage((int) Math.ceil(component.getWidth() * scale),
+                (int) Math.ceil(component.getHeight() * scale), BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        graphics.scale(scale, scale);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void paint() {
+        component.paint(graphics);
+    }
+
+    private static JComponent createComponent(String delegate) {
+        return switch (delegate) {
+            case "textField" -> sized(new JTextField("Account number"), 200, 36);
+            case "comboBox" -> sized(new JComboBox<>(new String[] {"Limit", "Market", "Stop"}), 160, 36);
+            case "checkBox" -> sized(new JCheckBox("Confirm orders", true), 160, 24);
+            case "radioButton" -> sized(new JRadioButton("Day order", true), 160, 24);
+            case "tabbedPane" -> {
+                JTabbedPane tabs = new JTabbedPane();
+                for (String title : new String[] {"Orders", "Positions", "Trades", "Watchlist"}) {
+                    tabs.addTab(title, new JPanel());
+                }
+                yield sized(tabs, 500, 300);
+            }
+            case "progressDeterminate" -> {
+                JProgressBar pb = new JProgressBar(0, 100);
+                pb.setValue(60);
+                pb.setStringPainted(true);
+                yield sized(pb, 300, 20);
+            }
+            case "progressIndeterminate" -> {
+                JProgressBar pb = new JProgressBar();
+                pb.setIndeterminate(true);
+                yield sized(pb, 300, 8);
+            }
+            case "scrollBar" -> {
+                JScrollBar sb = new JScrollBar(JScrollBar.VERTICAL, 300, 100, 0, 1000);
+                yield sized(sb, 16, 400);
+            }
+            case "tree" -> {
+                JTree tree = new JTree();
+                for (int row = 0; row < tree.getRowCount(); row++) {
+                    tree.expandRow(row);
+                }
+                tree.setSelectionRow(2);
+                yield sized(tree, 300, tree.getPreferredSize().height);
+            }
+            case "table" -> {
+                JTable table = new JTable(30, 6);
+                for (int row = 0; row < 30; row++) {
+                    for (int col = 0; col < 6; col++) {
+                        table.setValueAt("R" + row + "C" + col, row, col);
+                    }
+                }
+                table.setRowSelectionInterval(4, 6);
+                yield sized(table, 600, table.getPreferredSize().height);
+            }
+            case "toolTip" -> {
+                JToolTip tip = new JToolTip();
+                tip.setTipText("Cancels all open orders");
+                yield sized(tip, tip.getPreferredSize().width, tip.getPreferredSize().height);
+            }
+            case "cardPanel" -> {
+                JPanel card = new JPanel();
+                card.putClientProperty("dwc.panelStyle", "card");
+                card.add(new JLabel("Balance"));
+                yield sized(card, 300, 200);
+            }
+            default -> throw new IllegalArgumentException("Unknown delegate " + delegate);
+        };
+    }
+
+    private static JComponent sized(JComponent c, int width, int height) {
+        c.setSize(width, height);
+        return c;
+    }
+
+    /**
+     * Runs the delegate, button and painter benchmarks with the GC profiler.
+     *
+     * @param args ignored
+     * @throws Exception if the benchmark run fails
+     */
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(DelegatePaintBenchmark.class.getSimpleName())
+                .include(ButtonPaintBenchmark.class.getSimpleName())
+                .include(PainterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
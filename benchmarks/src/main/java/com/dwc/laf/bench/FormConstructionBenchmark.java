@@ -0,0 +1,191 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.DwcLookAndFeel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JRadioButton;
+import javax.swing.JTextField;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds BBj-style forms of 1,000 and 10,000 absolutely positioned, mixed
+ * controls under DWC and under Metal, to track the per-component cost of
+ * the DWC delegates.
+ *
+ * <p>{@link #construct} creates a form (component constructors run
+ * {@code updateUI}, so this includes {@code installUI});
+ * {@link #installUI} re-runs {@code updateUI} on every control of a built
+ * form, i.e. uninstall plus install; {@link #firstPaint} paints a freshly
+ * built form into a 1600x1200 window-sized image. Run with
+ * {@code -prof gc} for bytes allocated per form.</p>
+ *
+ * <p>{@link #main} prints the footprint per control instead: bytes
+ * allocated while building a form ({@code ThreadMXBean}) and heap retained
+ * by it (heap delta after GC).</p>
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar FormConstructionBenchmark -prof gc
+ *   java -cp benchmarks/target/benchmarks.jar com.dwc.laf.bench.FormConstructionBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+@State(Scope.Thread)
+public class FormConstructionBenchmark {
+
+    private static final int COLUMNS = 20;
+    private static final int CELL_WIDTH = 120;
+    private static final int CELL_HEIGHT = 40;
+    private static final int WINDOW_WIDTH = 1600;
+    private static final int WINDOW_HEIGHT = 1200;
+
+    @Param({"DWC", "Metal"})
+    public String laf;
+
+    @Param({"1000", "10000"})
+    public int components;
+
+    private JPanel form;
+    private Graphics2D graphics;
+
+    /**
+     * A form built before every {@link #firstPaint} call, in its own state so
+     * the per-invocation setup does not run for the other benchmarks.
+     */
+    @State(Scope.Thread)
+    public static class UnpaintedForm {
+        JPanel form;
+
+        @Setup(Level.Invocation)
+        public void build(FormConstructionBenchmark benchmark) {
+            form = buildForm(benchmark.components);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UIManager.setLookAndFeel(lookAndFeel(laf));
+        form = buildForm(components);
+        graphics = new BufferedImage(WINDOW_WIDTH, WINDOW_HEIGHT, BufferedImage.TYPE_INT_ARGB)
+                .createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public JPanel construct() {
+        return buildForm(components);
+    }
+
+    @Benchmark
+    public JPanel installUI() {
+        for (Component c : form.getComponents()) {
+            ((JComponent) c).updateUI();
+        }
+        return form;
+    }
+
+    @Benchmark
+    public void firstPaint(UnpaintedForm unpainted) {
+        unpainted.form.paint(graphics);
+    }
+
+    private static LookAndFeel lookAndFeel(String name) {
+        return "DWC".equals(name) ? new DwcLookAndFeel() : new MetalLookAndFeel();
+    }
+
+    /**
+     * Builds a form of mixed controls, placed with absolute bounds in a
+     * grid as BBj windows place them.
+     */
+    private static JPanel buildForm(int count) {
+        JPanel panel = new JPanel(null);
+        for (int i = 0; i < count; i++) {
+            JComponent c = switch (i % 8) {
+                case 0 -> new JLabel("Field " + i);
+                case 1 -> new JTextField("Value " + i);
+                case 2 -> new JButton("Button " + i);
+                case 3 -> new JComboBox<>(new String[] {"One", "Two", "Three"});
+                case 4 -> new JCheckBox("Option " + i);
+                case 5 -> new JRadioButton("Choice " + i);
+                case 6 -> new JProgressBar(0, 100);
+                default -> new JTextField();
+            };
+            c.setBounds((i % COLUMNS) * CELL_WIDTH, (i / COLUMNS) * CELL_HEIGHT,
+                    CELL_WIDTH - 8, CELL_HEIGHT - 8);
+            panel.add(c);
+        }
+        panel.setSize(COLUMNS * CELL_WIDTH, (count + COLUMNS - 1) / COLUMNS * CELL_HEIGHT);
+        return panel;
+    }
+
+    /**
+     * Prints bytes allocated and heap retained per control for each look
+     * and feel and form size.
+     *
+     * @param args ignored
+     * @throws Exception if a look and feel cannot be installed
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        System.out.printf(Locale.ROOT, "%-6s %10s %18s %18s%n",
+                "laf", "controls", "allocated B/ctrl", "retained B/ctrl");
+        for (String name : new String[] {"DWC", "Metal"}) {
+            UIManager.setLookAndFeel(lookAndFeel(name));
+            buildForm(1000); // warm up class loading and UI defaults
+            for (int count : new int[] {1000, 10000}) {
+                long heapBefore = usedHeapAfterGc(memory);
+                long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                JPanel built = buildForm(count);
+                long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+                long retained = usedHeapAfterGc(memory) - heapBefore;
+                System.out.printf(Locale.ROOT, "%-6s %10d %18d %18d%n",
+                        name, built.getComponentCount(), allocated / count, retained / count);
+            }
+        }
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,92 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.DwcLookAndFeel;
+import com.dwc.laf.painting.GlyphCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.UIManager;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repaints a form of 2,000 short {@link JLabel}s, the text-bound case of a
+ * large data entry screen.
+ *
+ * <p>{@link #repaintForm} draws the labels through the {@link GlyphCache};
+ * {@link #repaintFormUncached} runs in a fork with
+ * {@code -Ddwc.glyphCache=false}, so every label is shaped again by
+ * {@code drawString}. Labels cycle through a pool of {@code distinct}
+ * strings; with 2000 distinct strings every label is unique.</p>
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar LabelFormBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class LabelFormBenchmark {
+
+    private static final int LABELS = 2000;
+    private static final int COLUMNS = 20;
+
+    @Param({"50", "2000"})
+    public int distinct;
+
+    private JPanel form;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+
+        form = new JPanel(new GridLayout(0, COLUMNS));
+        for (int i = 0; i < LABELS; i++) {
+            form.add(new JLabel("Field " + (i % distinct)));
+        }
+        form.setSize(form.getPreferredSize());
+        form.doLayout();
+
+        image = new BufferedImage(form.getWidth(), form.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void repaintForm() {
+        form.paint(graphics);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Ddwc.glyphCache=false"})
+    public void repaintFormUncached() {
+        form.paint(graphics);
+    }
+}
@@ -0,0 +1,91 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.painting.FocusRingPainter;
+import com.dwc.laf.painting.PaintUtils;
+import com.dwc.laf.painting.ShadowPainter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the shared painters on their own, so that a regression in a
+ * helper shows up separately from the delegates calling it.
+ *
+ * <p>Shapes are the size of a default button (120x36, 6 px arc); the
+ * shadow is a 300x200 card with an 8 px blur, painted from the
+ * {@link ShadowPainter} image cache after the first call.</p>
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar PainterBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PainterBenchmark {
+
+    private static final Color FILL = new Color(0x2B7CD3);
+    private static final Color OUTLINE = new Color(0x8A8F98);
+    private static final Color RING = new Color(0x2B7CD3 | 0x66000000, true);
+    private static final Color SHADOW = new Color(0, 0, 0, 40);
+
+    @Param({"1.0", "1.5", "2.0"})
+    public double scale;
+
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        image = new BufferedImage((int) Math.ceil(340 * scale), (int) Math.ceil(240 * scale),
+                BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        graphics.scale(scale, scale);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void roundedBackground() {
+        PaintUtils.paintRoundedBackground(graphics, 4, 4, 120, 36, 6, FILL);
+    }
+
+    @Benchmark
+    public void outline() {
+        Object[] saved = PaintUtils.setupPaintingHints(graphics);
+        graphics.setColor(OUTLINE);
+        PaintUtils.paintOutline(graphics, 4, 4, 120, 36, 1, 6);
+        PaintUtils.restorePaintingHints(graphics, saved);
+    }
+
+    @Benchmark
+    public void focusRing() {
+        FocusRingPainter.paintFocusRing(graphics, 4, 4, 120, 36, 6, 3, RING);
+    }
+
+    @Benchmark
+    public void shadow() {
+        ShadowPainter.paintShadow(graphics, 20, 20, 300, 200, 8, 8, 0, 2, SHADOW);
+    }
+}
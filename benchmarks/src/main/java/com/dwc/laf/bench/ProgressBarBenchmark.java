@@ -0,0 +1,102 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.DwcLookAndFeel;
+import com.dwc.laf.ui.DwcProgressBarUI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JProgressBar;
+import javax.swing.UIManager;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paints single {@link JProgressBar} frames with {@link DwcProgressBarUI}.
+ *
+ * <p>{@link #determinateFrame} advances the value by one percent per frame;
+ * {@link #indeterminateFrame} advances the bouncing box by one animation
+ * step, as the animation timer does about 30 times per second. Bars are
+ * painted at several sizes and at 1x and 2x device scale.</p>
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar ProgressBarBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ProgressBarBenchmark {
+
+    /** Bar size as {@code widthxheight}. */
+    @Param({"120x8", "300x20", "800x24"})
+    public String size;
+
+    @Param({"1", "2"})
+    public int scale;
+
+    private JProgressBar determinate;
+    private JProgressBar indeterminate;
+    private SteppingUI indeterminateUI;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    /** Exposes the animation step of the indeterminate bouncing box. */
+    static final class SteppingUI extends DwcProgressBarUI {
+        void step() {
+            incrementAnimationIndex();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+        String[] parts = size.split("x");
+        int width = Integer.parseInt(parts[0]);
+        int height = Integer.parseInt(parts[1]);
+
+        determinate = new JProgressBar(0, 100);
+        determinate.setSize(width, height);
+
+        indeterminate = new JProgressBar(0, 100);
+        indeterminateUI = new SteppingUI();
+        indeterminate.setUI(indeterminateUI);
+        indeterminate.setIndeterminate(true);
+        indeterminate.setSize(width, height);
+
+        image = new BufferedImage(width * scale, height * scale, BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        graphics.scale(scale, scale);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void determinateFrame() {
+        determinate.setValue((determinate.getValue() + 1) % 101);
+        determinate.getUI().update(graphics, determinate);
+    }
+
+    @Benchmark
+    public void indeterminateFrame() {
+        indeterminateUI.step();
+        indeterminateUI.update(graphics, indeterminate);
+    }
+}
@@ -0,0 +1,180 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.DwcLookAndFeel;
+import com.dwc.laf.painting.RenderProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JRadioButton;
+import javax.swing.JTextField;
+import javax.swing.JToolTip;
+import javax.swing.UIManager;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paints a 1600x1200 window of mixed controls -- card panels with shadows,
+ * tooltips, enabled and disabled controls -- under each
+ * {@link RenderProfile}, to compare what a frame costs on a remote display.
+ *
+ * <p>{@link #paintFrame} measures local paint time per frame. {@link #main}
+ * prints the estimated bytes a frame transfers to a remote X11 display
+ * without server-side compositing, per {@link TransferCountingGraphics2D}'s
+ * cost model, with the antialiased, translucent and image pixels behind
+ * the estimate:</p>
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar RenderProfileBenchmark
+ *   java -cp benchmarks/target/benchmarks.jar com.dwc.laf.bench.RenderProfileBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderProfileBenchmark {
+
+    private static final int COLUMNS = 4;
+    private static final int ROWS = 4;
+    private static final int CARD_WIDTH = 400;
+    private static final int CARD_HEIGHT = 300;
+    private static final int CARD_INSET = 16;
+    private static final int CELL_WIDTH = 180;
+    private static final int CELL_HEIGHT = 36;
+
+    @Param({"FULL", "REMOTE"})
+    public String profile;
+
+    private JPanel window;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        install(RenderProfile.valueOf(profile));
+        window = buildWindow();
+        image = new BufferedImage(window.getWidth(), window.getHeight(), BufferedImage.TYPE_INT_RGB);
+        graphics = image.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+        RenderProfile.setCurrent(RenderProfile.FULL);
+    }
+
+    @Benchmark
+    public BufferedImage paintFrame() {
+        window.paint(graphics);
+        return image;
+    }
+
+    private static void install(RenderProfile profile) throws Exception {
+        RenderProfile.setCurrent(profile);
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+    }
+
+    /**
+     * Builds a window of card panels, each holding a column of mixed
+     * controls (every fifth one disabled) and a tooltip.
+     */
+    private static JPanel buildWindow() {
+        JPanel window = new JPanel(null);
+        int n = 0;
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLUMNS; col++) {
+                JPanel card = new JPanel(null);
+                card.putClientProperty("dwc.panelStyle", "card");
+                card.setBounds(col * CARD_WIDTH, row * CARD_HEIGHT,
+                        CARD_WIDTH - CARD_INSET, CARD_HEIGHT - CARD_INSET);
+                for (int i = 0; i < 14; i++, n++) {
+                    JComponent c = switch (n % 7) {
+                        case 0 -> new JLabel("Field " + n);
+                        case 1 -> new JTextField("Value " + n);
+                        case 2 -> new JButton("Button " + n);
+                        case 3 -> new JComboBox<>(new String[] {"One", "Two", "Three"});
+                        case 4 -> new JCheckBox("Option " + n, n % 2 == 0);
+                        case 5 -> new JRadioButton("Choice " + n, n % 2 == 0);
+                        default -> new JProgressBar(0, 100);
+                    };
+                    if (c instanceof JProgressBar bar) {
+                        bar.setValue(n % 100);
+                    }
+                    c.setEnabled(n % 5 != 0);
+                    c.setBounds(CARD_INSET + (i % 2) * CELL_WIDTH, CARD_INSET + (i / 2) * CELL_HEIGHT,
+                            CELL_WIDTH - 8, CELL_HEIGHT - 8);
+                    card.add(c);
+                }
+                JToolTip tip = new JToolTip();
+                tip.setTipText("Tooltip " + n);
+                tip.setSize(tip.getPreferredSize());
+                tip.setLocation(CARD_INSET, CARD_HEIGHT - CARD_INSET - tip.getHeight() - 8);
+                card.add(tip, 0);
+                window.add(card);
+            }
+        }
+        window.setSize(COLUMNS * CARD_WIDTH, ROWS * CARD_HEIGHT);
+        return window;
+    }
+
+    /**
+     * Prints the estimated transfer per frame and the paint time for each
+     * render profile.
+     *
+     * @param args ignored
+     * @throws Exception if the look and feel cannot be installed
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        System.out.printf(Locale.ROOT, "%-7s %10s %12s %14s %12s %14s %10s%n",
+                "profile", "ops", "AA px", "translucent px", "image px", "bytes/frame", "ms/frame");
+        for (RenderProfile profile : RenderProfile.values()) {
+            install(profile);
+            JPanel window = buildWindow();
+            var image = new BufferedImage(window.getWidth(), window.getHeight(), BufferedImage.TYPE_INT_RGB);
+            var g = new TransferCountingGraphics2D(image);
+            window.paint(g);
+            TransferCountingGraphics2D.Counters frame = g.counters();
+            g.dispose();
+
+            Graphics2D plain = image.createGraphics();
+            for (int i = 0; i < 50; i++) {
+                window.paint(plain);
+            }
+            int frames = 200;
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                window.paint(plain);
+            }
+            double millis = (System.nanoTime() - start) / 1e6 / frames;
+            plain.dispose();
+
+            System.out.printf(Locale.ROOT, "%-7s %,10d %,12d %,14d %,12d %,14d %10.2f%n",
+                    profile, frame.operations, frame.antialiasedPixels, frame.translucentPixels,
+                    frame.imagePixels, frame.bytes, millis);
+        }
+        RenderProfile.setCurrent(RenderProfile.FULL);
+    }
+}
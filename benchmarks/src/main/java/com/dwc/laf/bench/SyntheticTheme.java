@@ -0,0 +1,75 @@
+package com.dwc.laf.bench;
+
+import java.util.Random;
+
+/**
+ * Generates synthetic DWC-style themes for the CSS pipeline benchmarks.
+ *
+ * <p>A theme of {@code tokens} custom properties is built from palettes
+ * like the bundled {@code default-light.css}: per palette a hue, saturation
+ * and contrast base, followed by shades and text colors. Shades form
+ * chains in which each token refers to the previous one, so resolving a
+ * shade takes up to {@code varDepth} {@code var()} hops. The fraction
+ * {@code calcDensity} of the shades instead uses the contrast formula
+ * {@code hsl(0, 0%, calc((N - c) * -100%))}. The output is deterministic
+ * for the same arguments.</p>
+ */
+final class SyntheticTheme {
+
+    /** Tokens per palette: three bases plus shades and text colors. */
+    private static final int PALETTE_SIZE = 40;
+
+    private SyntheticTheme() {
+        // Non-instantiable utility class
+    }
+
+    /**
+     * Generates the CSS text of a synthetic theme.
+     *
+     * @param tokens      the number of custom properties
+     * @param varDepth    the maximum number of {@code var()} hops behind a
+     *                    derived token, at least 1
+     * @param calcDensity the fraction of derived tokens using {@code calc()}
+     * @return CSS text with a single {@code :root} block
+     */
+    static String generate(int tokens, int varDepth, double calcDensity) {
+        Random random = new Random(tokens * 31L + varDepth);
+        StringBuilder css = new StringBuilder(tokens * 64);
+        css.append(":root {\n");
+
+        int depth = Math.max(1, varDepth);
+        int palette = -1;
+        int indexInPalette = PALETTE_SIZE;
+        for (int i = 0; i < tokens; i++, indexInPalette++) {
+            if (indexInPalette >= PALETTE_SIZE) {
+                palette++;
+                indexInPalette = 0;
+            }
+            String p = "--bench-p" + palette;
+            css.append("  ");
+            switch (indexInPalette) {
+                case 0 -> css.append(p).append("-h: ").append(random.nextInt(360)).append(";\n");
+                case 1 -> css.append(p).append("-s: ").append(40 + random.nextInt(60)).append("%;\n");
+                case 2 -> css.append(p).append("-c: ").append(30 + random.nextInt(40)).append(";\n");
+                default -> {
+                    int shade = indexInPalette - 3;
+                    css.append(p).append('-').append(shade).append(": ");
+                    if (random.nextDouble() < calcDensity) {
+                        css.append("hsl(0, 0%, calc((").append(shade * 5)
+                                .append(" - var(").append(p).append("-c)) * -100%))");
+                    } else if (shade % (depth + 1) == 0) {
+                        // Head of a chain: a color from the palette bases
+                        css.append("hsl(var(").append(p).append("-h), var(").append(p)
+                                .append("-s), ").append(5 + shade * 2).append("%)");
+                    } else {
+                        // Next link of the chain, up to varDepth hops from its head
+                        css.append("var(").append(p).append('-').append(shade - 1).append(')');
+                    }
+                    css.append(";\n");
+                }
+            }
+        }
+        css.append("}\n");
+        return css.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.DwcLookAndFeel;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JTable;
+import javax.swing.UIManager;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import javax.swing.table.AbstractTableModel;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paints the visible viewport of a very large {@link JTable} while scrolling.
+ *
+ * <p>Each invocation advances the scroll offset by three rows (one mouse
+ * wheel notch) and paints the rows that fall into an 800 px high viewport
+ * into an offscreen image, the way {@code JViewport} blits and repaints
+ * during scrolling. The {@code cells} counter reports rendered cells per
+ * second, which is the figure to compare between look and feels.</p>
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar TableScrollBenchmark -p laf=DWC,Metal
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class TableScrollBenchmark {
+
+    private static final int VIEWPORT_HEIGHT = 800;
+    private static final int COLUMN_WIDTH = 90;
+    private static final int SCROLL_ROWS = 3;
+
+    @Param({"DWC", "Metal"})
+    public String laf;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"30"})
+    public int columns;
+
+    private JTable table;
+    private BufferedImage image;
+    private Graphics2D graphics;
+    private int scrollY;
+    private int maxScrollY;
+
+    /** Cells painted, reported by JMH as an additional throughput figure. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long cells;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UIManager.setLookAndFeel("DWC".equals(laf) ? new DwcLookAndFeel() : new MetalLookAndFeel());
+
+        table = new JTable(new LargeModel(rows, columns));
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+        for (int i = 0; i < columns; i++) {
+            table.getColumnModel().getColumn(i).setPreferredWidth(COLUMN_WIDTH);
+        }
+        table.setSize(table.getPreferredSize());
+        table.setRowSelectionInterval(10, 12);
+
+        image = new BufferedImage(table.getWidth(), VIEWPORT_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        maxScrollY = table.getHeight() - VIEWPORT_HEIGHT;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void scrollAndPaint(Counters counters) {
+        scrollY += SCROLL_ROWS * table.getRowHeight();
+        if (scrollY > maxScrollY) {
+            scrollY = 0;
+        }
+
+        Graphics2D g = (Graphics2D) graphics.create();
+        try {
+            g.translate(0, -scrollY);
+            g.clipRect(0, scrollY, table.getWidth(), VIEWPORT_HEIGHT);
+            table.getUI().update(g, table);
+        } finally {
+            g.dispose();
+        }
+
+        int first = table.rowAtPoint(new Point(0, scrollY));
+        int last = table.rowAtPoint(new Point(0, scrollY + VIEWPORT_HEIGHT - 1));
+        counters.cells += (long) (last - first + 1) * columns;
+    }
+
+    /**
+     * Synthetic model: values come from a small precomputed pool so that
+     * the benchmark measures rendering rather than string formatting.
+     */
+    private static final class LargeModel extends AbstractTableModel {
+        private final int rowCount;
+        private final int columnCount;
+        private final Object[] pool = new Object[97];
+
+        LargeModel(int rowCount, int columnCount) {
+            this.rowCount = rowCount;
+            this.columnCount = columnCount;
+            for (int i = 0; i < pool.length; i++) {
+                pool[i] = "Value " + (i * 7919);
+            }
+        }
+
+        @Override
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnCount;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            return pool[(row * 31 + column) % pool.length];
+        }
+    }
+}
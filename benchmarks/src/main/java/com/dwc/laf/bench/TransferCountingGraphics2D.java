@@ -0,0 +1,537 @@
+package com.dwc.laf.bench;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A {@link Graphics2D} that forwards to a real image graphics and estimates
+ * the bytes a remote X11 display connection without server-side
+ * compositing would transfer for each operation.
+ *
+ * <p>The cost model: every operation is a request of {@value #REQUEST_BYTES}
+ * bytes (text adds {@value #GLYPH_BYTES} bytes per character, glyphs being
+ * cached by the server). An opaque, unantialiased fill or stroke costs
+ * nothing more. An antialiased shape uploads a coverage mask of one byte per
+ * device pixel of its clipped bounds; a translucent color or
+ * {@link AlphaComposite} forces the pixels beneath to be read back and
+ * written again, four bytes each way; an image uploads four bytes per
+ * device pixel. Graphics created with {@link #create()} share the
+ * counters.</p>
+ */
+final class TransferCountingGraphics2D extends Graphics2D {
+
+    static final int REQUEST_BYTES = 16;
+    static final int GLYPH_BYTES = 4;
+
+    /** Counters shared by a graphics and the graphics created from it. */
+    static final class Counters {
+        long operations;
+        long antialiasedPixels;
+        long translucentPixels;
+        long imagePixels;
+        long bytes;
+
+        void clear() {
+            operations = 0;
+            antialiasedPixels = 0;
+            translucentPixels = 0;
+            imagePixels = 0;
+            bytes = 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%,d ops, %,d AA px, %,d translucent px, %,d image px, %,d bytes",
+                    operations, antialiasedPixels, translucentPixels, imagePixels, bytes);
+        }
+    }
+
+    private final Graphics2D delegate;
+    private final Counters counters;
+
+    TransferCountingGraphics2D(BufferedImage image) {
+        this(image.createGraphics(), new Counters());
+    }
+
+    private TransferCountingGraphics2D(Graphics2D delegate, Counters counters) {
+        this.delegate = delegate;
+        this.counters = counters;
+    }
+
+    Counters counters() {
+        return counters;
+    }
+
+    /** Counts a fill or stroke covering the given user-space bounds. */
+    private void shape(Rectangle bounds) {
+        counters.operations++;
+        counters.bytes += REQUEST_BYTES;
+        long pixels = devicePixels(bounds);
+        if (RenderingHints.VALUE_ANTIALIAS_ON.equals(
+                delegate.getRenderingHint(RenderingHints.KEY_ANTIALIASING))) {
+            counters.antialiasedPixels += pixels;
+            counters.bytes += pixels;
+        }
+        if (translucent()) {
+            counters.translucentPixels += pixels;
+            counters.bytes += pixels * 8;
+        }
+    }
+
+    /** Counts an image draw covering the given user-space bounds. */
+    private void image(Rectangle bounds) {
+        counters.operations++;
+        long pixels = devicePixels(bounds);
+        counters.imagePixels += pixels;
+        counters.bytes += REQUEST_BYTES + pixels * 4;
+    }
+
+    private void text(int length) {
+        counters.operations++;
+        counters.bytes += REQUEST_BYTES + (long) GLYPH_BYTES * length;
+    }
+
+    private boolean translucent() {
+        if (delegate.getComposite() instanceof AlphaComposite ac && ac.getAlpha() < 1f) {
+            return true;
+        }
+        return !(delegate.getPaint() instanceof Color c) || c.getAlpha() < 255;
+    }
+
+    private long devicePixels(Rectangle bounds) {
+        Rectangle clip = delegate.getClipBounds();
+        Rectangle r = clip != null ? bounds.intersection(clip) : bounds;
+        if (r.isEmpty()) {
+            return 0;
+        }
+        Rectangle device = delegate.getTransform().createTransformedShape(r).getBounds();
+        return (long) device.width * device.height;
+    }
+
+    private static Rectangle bounds(Image img, int x, int y) {
+        return new Rectangle(x, y, Math.max(0, img.getWidth(null)), Math.max(0, img.getHeight(null)));
+    }
+
+    // ---- Counted operations ----
+
+    @Override
+    public void fillRect(int x, int y, int width, int height) {
+        shape(new Rectangle(x, y, width, height));
+        delegate.fillRect(x, y, width, height);
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height) {
+        shape(new Rectangle(x, y, width, height));
+        delegate.clearRect(x, y, width, height);
+    }
+
+    @Override
+    public void drawRect(int x, int y, int width, int height) {
+        shape(new Rectangle(x, y, width + 1, height + 1));
+        delegate.drawRect(x, y, width, height);
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2) {
+        shape(new Rectangle(Math.min(x1, x2), Math.min(y1, y2), Math.abs(x2 - x1) + 1, Math.abs(y2 - y1) + 1));
+        delegate.drawLine(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void fill(Shape s) {
+        shape(s.getBounds());
+        delegate.fill(s);
+    }
+
+    @Override
+    public void draw(Shape s) {
+        shape(delegate.getStroke().createStrokedShape(s).getBounds());
+        delegate.draw(s);
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        shape(new Rectangle(x, y, width + 1, height + 1));
+        delegate.drawRoundRect(x, y, width, height, arcWidth, arcHeight);
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        shape(new Rectangle(x, y, width, height));
+        delegate.fillRoundRect(x, y, width, height, arcWidth, arcHeight);
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height) {
+        shape(new Rectangle(x, y, width + 1, height + 1));
+        delegate.drawOval(x, y, width, height);
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height) {
+        shape(new Rectangle(x, y, width, height));
+        delegate.fillOval(x, y, width, height);
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        shape(new Rectangle(x, y, width + 1, height + 1));
+        delegate.drawArc(x, y, width, height, startAngle, arcAngle);
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        shape(new Rectangle(x, y, width, height));
+        delegate.fillArc(x, y, width, height, startAngle, arcAngle);
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+        shape(new java.awt.Polygon(xPoints, yPoints, nPoints).getBounds());
+        delegate.drawPolyline(xPoints, yPoints, nPoints);
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        shape(new java.awt.Polygon(xPoints, yPoints, nPoints).getBounds());
+        delegate.drawPolygon(xPoints, yPoints, nPoints);
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        shape(new java.awt.Polygon(xPoints, yPoints, nPoints).getBounds());
+        delegate.fillPolygon(xPoints, yPoints, nPoints);
+    }
+
+    @Override
+    public void drawString(String str, int x, int y) {
+        text(str.length());
+        delegate.drawString(str, x, y);
+    }
+
+    @Override
+    public void drawString(String str, float x, float y) {
+        text(str.length());
+        delegate.drawString(str, x, y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+        text(iterator.getEndIndex() - iterator.getBeginIndex());
+        delegate.drawString(iterator, x, y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+        text(iterator.getEndIndex() - iterator.getBeginIndex());
+        delegate.drawString(iterator, x, y);
+    }
+
+    @Override
+    public void drawChars(char[] data, int offset, int length, int x, int y) {
+        text(length);
+        delegate.drawChars(data, offset, length, x, y);
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector glyphs, float x, float y) {
+        text(glyphs.getNumGlyphs());
+        delegate.drawGlyphVector(glyphs, x, y);
+    }
+
+    @Override
+    public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+        image(xform.createTransformedShape(bounds(img, 0, 0)).getBounds());
+        return delegate.drawImage(img, xform, obs);
+    }
+
+    @Override
+    public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+        image(bounds(img, x, y));
+        delegate.drawImage(img, op, x, y);
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+        image(xform.createTransformedShape(new Rectangle(img.getWidth(), img.getHeight())).getBounds());
+        delegate.drawRenderedImage(img, xform);
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+        image(xform.createTransformedShape(new Rectangle((int) img.getWidth(), (int) img.getHeight())).getBounds());
+        delegate.drawRenderableImage(img, xform);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+        image(bounds(img, x, y));
+        return delegate.drawImage(img, x, y, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+        image(new Rectangle(x, y, width, height));
+        return delegate.drawImage(img, x, y, width, height, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+        image(bounds(img, x, y));
+        return delegate.drawImage(img, x, y, bgcolor, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor,
+                             ImageObserver observer) {
+        image(new Rectangle(x, y, width, height));
+        return delegate.drawImage(img, x, y, width, height, bgcolor, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2,
+                             int sx1, int sy1, int sx2, int sy2, ImageObserver observer) {
+        image(new Rectangle(Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1), Math.abs(dy2 - dy1)));
+        return delegate.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2,
+                             int sx1, int sy1, int sx2, int sy2, Color bgcolor, ImageObserver observer) {
+        image(new Rectangle(Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1), Math.abs(dy2 - dy1)));
+        return delegate.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, bgcolor, observer);
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+        counters.operations++;
+        counters.bytes += REQUEST_BYTES;
+        delegate.copyArea(x, y, width, height, dx, dy);
+    }
+
+    // ---- Forwarded state ----
+
+    @Override
+    public Graphics create() {
+        return new TransferCountingGraphics2D((Graphics2D) delegate.create(), counters);
+    }
+
+    @Override
+    public void dispose() {
+        delegate.dispose();
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+        return delegate.hit(rect, s, onStroke);
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return delegate.getDeviceConfiguration();
+    }
+
+    @Override
+    public void setComposite(Composite comp) {
+        delegate.setComposite(comp);
+    }
+
+    @Override
+    public void setPaint(Paint paint) {
+        delegate.setPaint(paint);
+    }
+
+    @Override
+    public void setStroke(Stroke s) {
+        delegate.setStroke(s);
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue) {
+        delegate.setRenderingHint(hintKey, hintValue);
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key hintKey) {
+        return delegate.getRenderingHint(hintKey);
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> hints) {
+        delegate.setRenderingHints(hints);
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> hints) {
+        delegate.addRenderingHints(hints);
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return delegate.getRenderingHints();
+    }
+
+    @Override
+    public void translate(int x, int y) {
+        delegate.translate(x, y);
+    }
+
+    @Override
+    public void translate(double tx, double ty) {
+        delegate.translate(tx, ty);
+    }
+
+    @Override
+    public void rotate(double theta) {
+        delegate.rotate(theta);
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y) {
+        delegate.rotate(theta, x, y);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        delegate.scale(sx, sy);
+    }
+
+    @Override
+    public void shear(double shx, double shy) {
+        delegate.shear(shx, shy);
+    }
+
+    @Override
+    public void transform(AffineTransform tx) {
+        delegate.transform(tx);
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx) {
+        delegate.setTransform(tx);
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return delegate.getTransform();
+    }
+
+    @Override
+    public Paint getPaint() {
+        return delegate.getPaint();
+    }
+
+    @Override
+    public Composite getComposite() {
+        return delegate.getComposite();
+    }
+
+    @Override
+    public void setBackground(Color color) {
+        delegate.setBackground(color);
+    }
+
+    @Override
+    public Color getBackground() {
+        return delegate.getBackground();
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return delegate.getStroke();
+    }
+
+    @Override
+    public void clip(Shape s) {
+        delegate.clip(s);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        return delegate.getFontRenderContext();
+    }
+
+    @Override
+    public Color getColor() {
+        return delegate.getColor();
+    }
+
+    @Override
+    public void setColor(Color c) {
+        delegate.setColor(c);
+    }
+
+    @Override
+    public void setPaintMode() {
+        delegate.setPaintMode();
+    }
+
+    @Override
+    public void setXORMode(Color c1) {
+        delegate.setXORMode(c1);
+    }
+
+    @Override
+    public Font getFont() {
+        return delegate.getFont();
+    }
+
+    @Override
+    public void setFont(Font font) {
+        delegate.setFont(font);
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font f) {
+        return delegate.getFontMetrics(f);
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return delegate.getClipBounds();
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height) {
+        delegate.clipRect(x, y, width, height);
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height) {
+        delegate.setClip(x, y, width, height);
+    }
+
+    @Override
+    public Shape getClip() {
+        return delegate.getClip();
+    }
+
+    @Override
+    public void setClip(Shape clip) {
+        delegate.setClip(clip);
+    }
+}
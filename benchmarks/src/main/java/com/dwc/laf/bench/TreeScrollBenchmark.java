@@ -0,0 +1,203 @@
+package com.dwc.laf.bench;
+
+import com.dwc.laf.DwcLookAndFeel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JTree;
+import javax.swing.UIManager;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expands and scrolls a synthetic file-system tree of about one million
+ * nodes (1,000 directories of 1,000 files each).
+ *
+ * <p>{@link #scrollFrame} reports the average time to scroll three rows and
+ * paint an 800 px high viewport with a large selected range, i.e. the frame
+ * time while scrolling. {@link #expandAll} reports the time to expand every
+ * directory. Both run with and without the {@code dwc.largeModel} client
+ * property.</p>
+ *
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar TreeScrollBenchmark
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+@State(Scope.Thread)
+public class TreeScrollBenchmark {
+
+    private static final int DIRECTORIES = 1_000;
+    private static final int FILES_PER_DIRECTORY = 999;
+    private static final int VIEWPORT_WIDTH = 400;
+    private static final int VIEWPORT_HEIGHT = 800;
+    private static final int SCROLL_ROWS = 3;
+
+    @Param({"true", "false"})
+    public boolean largeModel;
+
+    private JTree tree;
+    private BufferedImage image;
+    private Graphics2D graphics;
+    private int scrollY;
+    private int maxScrollY;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+        image = new BufferedImage(VIEWPORT_WIDTH, VIEWPORT_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    /** Builds a fully expanded tree before each scrolling iteration. */
+    @Setup(Level.Iteration)
+    public void expandedTree() {
+        if (tree == null) {
+            tree = createTree();
+            expand(tree);
+            tree.setSize(VIEWPORT_WIDTH, tree.getRowCount() * tree.getRowHeight());
+            tree.setSelectionInterval(1_000, 50_000);
+            maxScrollY = tree.getHeight() - VIEWPORT_HEIGHT;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void scrollFrame() {
+        scrollY += SCROLL_ROWS * tree.getRowHeight();
+        if (scrollY > maxScrollY) {
+            scrollY = 0;
+        }
+
+        Graphics2D g = (Graphics2D) graphics.create();
+        try {
+            g.translate(0, -scrollY);
+            g.clipRect(0, scrollY, VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+            tree.getUI().update(g, tree);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public JTree expandAll() {
+        JTree fresh = createTree();
+        expand(fresh);
+        return fresh;
+    }
+
+    private JTree createTree() {
+        JTree t = new JTree(new FileSystemModel());
+        if (largeModel) {
+            t.putClientProperty("dwc.largeModel", Boolean.TRUE);
+        }
+        return t;
+    }
+
+    private static void expand(JTree t) {
+        Object root = t.getModel().getRoot();
+        for (int i = 0; i < DIRECTORIES; i++) {
+            t.expandPath(new TreePath(new Object[] {root, new Directory(i)}));
+        }
+    }
+
+    /** A directory node; records give the value-based equality JTree needs for expansion state. */
+    private record Directory(int index) {
+        @Override
+        public String toString() {
+            return String.format("dir-%04d", index);
+        }
+    }
+
+    /** A file node. */
+    private record FileNode(int directory, int index) {
+        @Override
+        public String toString() {
+            return "file-" + index + ".txt";
+        }
+    }
+
+    /** Immutable synthetic model; nodes are created on demand. */
+    private static final class FileSystemModel implements TreeModel {
+        private static final String ROOT = "/";
+
+        @Override
+        public Object getRoot() {
+            return ROOT;
+        }
+
+        @Override
+        public Object getChild(Object parent, int index) {
+            if (parent == ROOT) {
+                return new Directory(index);
+            }
+            return new FileNode(((Directory) parent).index(), index);
+        }
+
+        @Override
+        public int getChildCount(Object parent) {
+            if (parent == ROOT) {
+                return DIRECTORIES;
+            }
+            return parent instanceof Directory ? FILES_PER_DIRECTORY : 0;
+        }
+
+        @Override
+        public boolean isLeaf(Object node) {
+            return node instanceof FileNode;
+        }
+
+        @Override
+        public void valueForPathChanged(TreePath path, Object newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getIndexOfChild(Object parent, Object child) {
+            if (child instanceof Directory d) {
+                return parent == ROOT ? d.index() : -1;
+            }
+            if (child instanceof FileNode f && parent instanceof Directory d && f.directory() == d.index()) {
+                return f.index();
+            }
+            return -1;
+        }
+
+        @Override
+        public void addTreeModelListener(TreeModelListener l) {
+            // immutable
+        }
+
+        @Override
+        public void removeTreeModelListener(TreeModelListener l) {
+            // immutable
+        }
+    }
+}
@@ -4,6 +4,8 @@ import javax.swing.*;
 import javax.swing.tree.DefaultMutableTreeNode;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Comprehensive demo gallery showcasing all 13 DWC-themed Swing components.
@@ -13,10 +15,43 @@ import java.awt.event.ActionEvent;
  * interactive -- move the mouse over components to see them.</p>
  *
  * <p>Run with: {@code mvn compile exec:java}</p>
+ *
+ * <p>With {@code --stress[=N]} every section is replicated N times (10 by
+ * default) and the gallery is driven automatically -- hover sweeps, focus
+ * traversal, tab switching, progress animation, table and tree scrolling --
+ * for {@code --duration=SECONDS} (30 by default). It then prints frame time
+ * percentiles, EDT busy percentage, GC counts and allocation rate, as JSON
+ * with {@code --json}, and exits. This also works under Xvfb:
+ * {@code mvn compile exec:java -Dexec.args="--stress=20 --json"}.</p>
  */
 public class DwcComponentGallery {
 
     public static void main(String[] args) {
+        boolean stress = false;
+        int copies = 1;
+        int duration = 30;
+        boolean json = false;
+        for (String arg : args) {
+            if (arg.equals("--stress")) {
+                stress = true;
+                copies = 10;
+            } else if (arg.startsWith("--stress=")) {
+                stress = true;
+                copies = Integer.parseInt(arg.substring("--stress=".length()));
+            } else if (arg.startsWith("--duration=")) {
+                duration = Integer.parseInt(arg.substring("--duration=".length()));
+            } else if (arg.equals("--json")) {
+                json = true;
+            } else {
+                System.err.println("Unknown argument: " + arg);
+                System.err.println("Usage: DwcComponentGallery [--stress[=N]] [--duration=SECONDS] [--json]");
+                System.exit(2);
+            }
+        }
+        start(stress, Math.max(1, copies), duration, json);
+    }
+
+    private static void start(boolean stress, int copies, int duration, boolean json) {
         SwingUtilities.invokeLater(() -> {
             try {
                 UIManager.setLookAndFeel(new DwcLookAndFeel());
@@ -79,32 +114,29 @@ public class DwcComponentGallery {
             main.add(themeRow);
             main.add(Box.createVerticalStrut(16));
 
-            // 13 component sections
-            main.add(createButtonSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createTextFieldSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createCheckBoxSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createRadioButtonSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createComboBoxSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createLabelSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createPanelSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createTabbedPaneSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createProgressBarSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createScrollBarSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createTreeSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createTableSection());
-            main.add(Box.createVerticalStrut(24));
-            main.add(createToolTipSection());
+            // 13 component sections, each replicated in stress mode
+            List<Supplier<JPanel>> sections = List.of(
+                    DwcComponentGallery::createButtonSection,
+                    DwcComponentGallery::createTextFieldSection,
+                    DwcComponentGallery::createCheckBoxSection,
+                    DwcComponentGallery::createRadioButtonSection,
+                    DwcComponentGallery::createComboBoxSection,
+                    DwcComponentGallery::createLabelSection,
+                    DwcComponentGallery::createPanelSection,
+                    DwcComponentGallery::createTabbedPaneSection,
+                    DwcComponentGallery::createProgressBarSection,
+                    DwcComponentGallery::createScrollBarSection,
+                    DwcComponentGallery::createTreeSection,
+                    DwcComponentGallery::createTableSection,
+                    DwcComponentGallery::createToolTipSection);
+            for (int i = 0; i < sections.size(); i++) {
+                for (int copy = 0; copy < copies; copy++) {
+                    if (i > 0 || copy > 0) {
+                        main.add(Box.createVerticalStrut(24));
+                    }
+                    main.add(sections.get(i).get());
+                }
+            }
 
             // Wrap in scroll pane
             JScrollPane scrollPane = new JScrollPane(main);
@@ -114,6 +146,10 @@ public class DwcComponentGallery {
             frame.setContentPane(scrollPane);
             frame.setLocationRelativeTo(null);
             frame.setVisible(true);
+
+            if (stress) {
+                new GalleryStress(frame, duration, json, System.out).start();
+            }
         });
     }
 
@@ -0,0 +1,173 @@
+package com.dwc.laf;
+
+import com.dwc.laf.css.CssThemeLoader;
+import com.dwc.laf.css.CssTokenMap;
+import com.dwc.laf.defaults.TokenMappingConfig;
+import com.dwc.laf.defaults.UIDefaultsPopulator;
+import com.dwc.laf.diagnostics.StartupReport;
+import com.dwc.laf.painting.RenderProfile;
+
+import javax.swing.UIDefaults;
+import java.awt.GraphicsEnvironment;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Background preparation of the token-derived part of the DWC defaults.
+ *
+ * <p>{@link DwcLookAndFeel#preload()} starts three independent stages in
+ * parallel -- theme load, mapping load and the platform font family query --
+ * and, once theme and mapping are available, populates a staging
+ * {@link UIDefaults} table. Once the font list is available too, the
+ * computed component defaults (default font, focus ring colors, borders,
+ * icons, render profile flattening) are added to the staging table. The
+ * next {@link DwcLookAndFeel} activation takes the prepared result and only
+ * copies the staged entries into the real table.</p>
+ *
+ * <p>A prepared result is used at most once, and only if the {@code dwc.theme}
+ * and {@code dwc.mapping} system properties and the {@link RenderProfile}
+ * are still what they were when the preload started; otherwise it is
+ * discarded and the defaults are built synchronously as before.</p>
+ */
+final class DwcDefaultsPreloader {
+
+    private static final Logger LOG = Logger.getLogger(DwcDefaultsPreloader.class.getName());
+
+    /**
+     * Outcome of a preload.
+     *
+     * @param tokenMap       the loaded CSS tokens
+     * @param staged         the UIDefaults entries produced by the token mapping
+     *                       and the computed component defaults
+     * @param availableFonts the platform font family names, or null if unavailable
+     */
+    record Prepared(CssTokenMap tokenMap, UIDefaults staged, Set<String> availableFonts) {
+    }
+
+    /** A preload in flight (or finished), with the configuration it was started for. */
+    private record Pending(String themeSpec, String mappingSpec, RenderProfile profile,
+            CompletableFuture<Prepared> future) {
+        boolean matchesCurrentConfig() {
+            return Objects.equals(themeSpec, System.getProperty("dwc.theme"))
+                    && Objects.equals(mappingSpec, System.getProperty("dwc.mapping"))
+                    && profile == RenderProfile.current();
+        }
+    }
+
+    private static Pending pending;
+
+    private DwcDefaultsPreloader() {
+        // utility class
+    }
+
+    /**
+     * Starts a preload for the current configuration, or returns the one
+     * already in flight for it.
+     *
+     * @return a future completing when the prepared defaults are ready
+     */
+    static synchronized CompletableFuture<Prepared> start() {
+        if (pending != null && pending.matchesCurrentConfig()) {
+            return pending.future();
+        }
+
+        long startNanos = System.nanoTime();
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+
+        CompletableFuture<CssTokenMap> theme =
+                CompletableFuture.supplyAsync(timed("theme", timings, CssThemeLoader::load));
+        CompletableFuture<TokenMappingConfig> mapping =
+                CompletableFuture.supplyAsync(timed("mapping", timings, TokenMappingConfig::loadDefault));
+        CompletableFuture<Set<String>> fonts =
+                CompletableFuture.supplyAsync(timed("fonts", timings, DwcDefaultsPreloader::availableFontFamilies));
+
+        CompletableFuture<UIDefaults> staged = theme.thenCombine(mapping, (tokens, config) ->
+                timed("populate", timings, () -> {
+                    UIDefaults table = new UIDefaults();
+                    UIDefaultsPopulator.populate(table, tokens, config);
+                    return table;
+                }).get());
+
+        CompletableFuture<Prepared> future = staged.thenCombine(fonts, (table, families) -> {
+            CssTokenMap tokens = theme.join();
+            timed("compute", timings, () -> {
+                new DwcLookAndFeel().initStagedDefaults(table, tokens, families);
+                return null;
+            }).get();
+            LOG.info(() -> "DWC defaults preloaded in " + millis(System.nanoTime() - startNanos)
+                    + " ms (theme " + millis(timings.get("theme"))
+                    + " ms, mapping " + millis(timings.get("mapping"))
+                    + " ms, fonts " + millis(timings.get("fonts"))
+                    + " ms, populate " + millis(timings.get("populate"))
+                    + " ms, compute " + millis(timings.get("compute")) + " ms)");
+            return new Prepared(tokens, table, families);
+        });
+
+        pending = new Pending(System.getProperty("dwc.theme"), System.getProperty("dwc.mapping"),
+                RenderProfile.current(), future);
+        return future;
+    }
+
+    /**
+     * Takes the pending preload, waiting for it if it is still running.
+     *
+     * @return the prepared defaults, or null if there is no usable preload
+     */
+    static Prepared take() {
+        Pending taken;
+        synchronized (DwcDefaultsPreloader.class) {
+            taken = pending;
+            pending = null;
+        }
+        if (taken == null) {
+            return null;
+        }
+        if (!taken.matchesCurrentConfig()) {
+            LOG.info("Discarding DWC preload: dwc.theme, dwc.mapping or the render profile changed since it started");
+            return null;
+        }
+        try {
+            return taken.future().join();
+        } catch (CompletionException e) {
+            LOG.warning("DWC preload failed, loading defaults synchronously - " + e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Queries the platform font family names.
+     *
+     * @return the family names, or null in headless or otherwise restricted environments
+     */
+    static Set<String> availableFontFamilies() {
+        try {
+            return Set.of(GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames());
+        } catch (Exception e) {
+            LOG.fine("Could not query available fonts: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static <T> Supplier<T> timed(String stage, Map<String, Long> timings, Supplier<T> work) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                return work.get();
+            } finally {
+                long nanos = System.nanoTime() - start;
+                timings.put(stage, nanos);
+                StartupReport.record("preload/" + stage, nanos);
+            }
+        };
+    }
+
+    private static long millis(Long nanos) {
+        return nanos == null ? 0 : nanos / 1_000_000;
+    }
+}
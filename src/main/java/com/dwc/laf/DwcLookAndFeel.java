@@ -4,6 +4,14 @@ import com.dwc.laf.css.CssThemeLoader;
 import com.dwc.laf.css.CssTokenMap;
 import com.dwc.laf.css.CssValue;
 import com.dwc.laf.defaults.TokenMappingConfig;
+import com.dwc.laf.diagnostics.DefaultsInitEvent;
+import com.dwc.laf.diagnostics.DwcDiagnosticsRepaintManager;
+import com.dwc.laf.diagnostics.EdtWatchdog;
+import com.dwc.laf.diagnostics.FontResolveEvent;
+import com.dwc.laf.diagnostics.JfrEvents;
+import com.dwc.laf.diagnostics.StartupReport;
+import com.dwc.laf.painting.RenderProfile;
+import com.dwc.laf.painting.StateColorResolver;
 import com.dwc.laf.defaults.UIDefaultsPopulator;
 import com.dwc.laf.ui.DwcButtonBorder;
 import com.dwc.laf.ui.DwcCheckBoxIcon;
@@ -21,10 +29,12 @@ import javax.swing.plaf.InsetsUIResource;
 import javax.swing.plaf.basic.BasicLookAndFeel;
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.GraphicsEnvironment;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 /**
@@ -38,7 +48,8 @@ import java.util.logging.Logger;
  * <p>On activation, the L&amp;F loads the bundled default CSS theme (or an
  * external override specified via the {@code dwc.theme} system property),
  * parses CSS custom properties into typed values, and populates Swing
- * {@link UIDefaults} through a properties-driven mapping layer.</p>
+ * {@link UIDefaults} through a properties-driven mapping layer. That work can
+ * be moved off the EDT ahead of activation with {@link #preload()}.</p>
  *
  * <p>Custom {@code ComponentUI} delegates for specific components (buttons,
  * text fields, etc.) are registered in later phases. This class provides
@@ -83,6 +94,21 @@ public class DwcLookAndFeel extends BasicLookAndFeel {
 
     // ---- Initialization overrides ----
 
+    /**
+     * Installs the {@link DwcDiagnosticsRepaintManager} when repaint
+     * diagnostics are enabled with {@code -Ddwc.repaintDiagnostics=true}.
+     */
+    @Override
+    public void initialize() {
+        super.initialize();
+        if (DwcDiagnosticsRepaintManager.ENABLED) {
+            DwcDiagnosticsRepaintManager.install();
+        }
+        if (EdtWatchdog.ENABLED) {
+            EdtWatchdog.install();
+        }
+    }
+
     @Override
     protected void initClassDefaults(UIDefaults table) {
         super.initClassDefaults(table);
@@ -105,60 +131,184 @@ public class DwcLookAndFeel extends BasicLookAndFeel {
     protected void initComponentDefaults(UIDefaults table) {
         super.initComponentDefaults(table);
 
-        // 1. Load CSS tokens from bundled theme (+ optional override)
-        tokenMap = CssThemeLoader.load();
+        long startNanos = System.nanoTime();
+        DwcDefaultsPreloader.Prepared prepared = DwcDefaultsPreloader.take();
+        boolean preloaded = prepared != null;
+        if (preloaded) {
+            // 1-18. All token-derived and computed entries were staged by
+            // preload(); only the puts are left for the EDT
+            runStep(table, 18, "preloaded", true, () -> {
+                tokenMap = prepared.tokenMap();
+                table.putAll(prepared.staged());
+            });
+        } else {
+            // 1. Load CSS tokens from bundled theme (+ optional override)
+            tokenMap = runStep(table, 1, "theme", false, CssThemeLoader::load);
+
+            // 2. Load token-to-UIDefaults mapping configuration
+            TokenMappingConfig mapping = runStep(table, 2, "mapping", false, TokenMappingConfig::loadDefault);
+
+            // 3. Populate UIDefaults from CSS tokens via mapping
+            runStep(table, 3, "populate", false, () -> UIDefaultsPopulator.populate(table, tokenMap, mapping));
+
+            long fontListStart = System.nanoTime();
+            Set<String> availableFonts = DwcDefaultsPreloader.availableFontFamilies();
+            StartupReport.recordSince("defaults/font-list", fontListStart);
+
+            // 4-18. Computed component defaults
+            initComputedDefaults(table, availableFonts, false);
+        }
 
-        // 2. Load token-to-UIDefaults mapping configuration
-        TokenMappingConfig mapping = TokenMappingConfig.loadDefault();
+        // Opaque-with-corner-fill rendering mode, off unless -Ddwc.opaqueCorners=true
+        table.put("Component.opaqueCorners", Boolean.getBoolean("dwc.opaqueCorners"));
 
-        // 3. Populate UIDefaults from CSS tokens via mapping
-        UIDefaultsPopulator.populate(table, tokenMap, mapping);
+        long totalNanos = System.nanoTime() - startNanos;
+        LOG.fine(() -> "DWC defaults initialized in " + totalNanos / 1_000_000 + " ms ("
+                + (preloaded ? "preloaded" : "synchronous") + ")");
+        StartupReport.record("defaults/total", totalNanos);
+        StartupReport.printAndReset("DWC startup report (" + (preloaded ? "preloaded" : "synchronous")
+                + ", sorted by duration)", System.err);
+    }
 
+    /**
+     * Runs steps 4-18 of {@link #initComponentDefaults}: the default font
+     * and the computed per-component defaults. They read only the token map
+     * and the token-mapped entries of {@code table}, so {@link #preload()}
+     * runs them on a staging table off the EDT.
+     *
+     * @param table          the defaults table holding the token-mapped entries
+     * @param availableFonts the platform font family names, or null if unavailable
+     * @param preloaded      whether this runs for a preload
+     */
+    private void initComputedDefaults(UIDefaults table, Set<String> availableFonts, boolean preloaded) {
         // 4. Set up default font from mapped font properties
-        initDefaultFont(table);
+        runStep(table, 4, "font", preloaded, () -> initDefaultFont(table, availableFonts, preloaded));
 
         // 5. Set up button-specific UIDefaults (focus ring color, margin, etc.)
-        initButtonDefaults(table);
+        runStep(table, 5, "button", preloaded, () -> initButtonDefaults(table));
 
         // 6. Set up text field-specific UIDefaults (margin, border)
-        initTextFieldDefaults(table);
+        runStep(table, 6, "textfield", preloaded, () -> initTextFieldDefaults(table));
 
         // 7. Set up checkbox-specific UIDefaults (icon, margin, rollover)
-        initCheckBoxDefaults(table);
+        runStep(table, 7, "checkbox", preloaded, () -> initCheckBoxDefaults(table));
 
         // 8. Set up radio button-specific UIDefaults (icon, margin, rollover)
-        initRadioButtonDefaults(table);
+        runStep(table, 8, "radiobutton", preloaded, () -> initRadioButtonDefaults(table));
 
         // 9. Set up combobox-specific UIDefaults (border, padding)
-        initComboBoxDefaults(table);
+        runStep(table, 9, "combobox", preloaded, () -> initComboBoxDefaults(table));
 
         // 10. Set up label-specific UIDefaults
-        initLabelDefaults(table);
+        runStep(table, 10, "label", preloaded, () -> initLabelDefaults(table));
 
         // 11. Set up panel-specific UIDefaults (card mode shadow, arc)
-        initPanelDefaults(table);
+        runStep(table, 11, "panel", preloaded, () -> initPanelDefaults(table));
 
         // 12. Set up tabbed pane-specific UIDefaults (tab insets, underline height)
-        initTabbedPaneDefaults(table);
+        runStep(table, 12, "tabbedpane", preloaded, () -> initTabbedPaneDefaults(table));
 
         // 13. Set up tooltip-specific UIDefaults (border)
-        initToolTipDefaults(table);
+        runStep(table, 13, "tooltip", preloaded, () -> initToolTipDefaults(table));
 
         // 14. Set up progress bar-specific UIDefaults (border, arc)
-        initProgressBarDefaults(table);
+        runStep(table, 14, "progressbar", preloaded, () -> initProgressBarDefaults(table));
 
         // 15. Set up scrollbar-specific UIDefaults (thumb arc, width)
-        initScrollBarDefaults(table);
+        runStep(table, 15, "scrollbar", preloaded, () -> initScrollBarDefaults(table));
 
         // 16. Set up tree-specific UIDefaults (expand/collapse icons, row height)
-        initTreeDefaults(table);
+        runStep(table, 16, "tree", preloaded, () -> initTreeDefaults(table));
 
         // 17. Set up table-specific UIDefaults (alternate row color, borders)
-        initTableDefaults(table);
+        runStep(table, 17, "table", preloaded, () -> initTableDefaults(table));
+
+        // 18. Flatten translucent colors under the remote render profile
+        runStep(table, 18, "renderprofile", preloaded, () -> initRenderProfileDefaults(table));
+    }
+
+    /**
+     * Runs steps 4-18 for a preload against its staging table. Called off
+     * the EDT by {@link DwcDefaultsPreloader} on an instance of its own.
+     *
+     * @param staged         the staging table holding the token-mapped entries
+     * @param tokens         the loaded CSS tokens
+     * @param availableFonts the platform font family names, or null if unavailable
+     */
+    void initStagedDefaults(UIDefaults staged, CssTokenMap tokens, Set<String> availableFonts) {
+        tokenMap = tokens;
+        initComputedDefaults(staged, availableFonts, true);
+    }
+
+    /**
+     * Runs one numbered step of {@link #initComponentDefaults}, emitting a
+     * {@code dwc.DefaultsInit} JFR event and a startup report entry for it.
+     */
+    private static void runStep(UIDefaults table, int step, String name, boolean preloaded, Runnable work) {
+        runStep(table, step, name, preloaded, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Value-returning variant of {@link #runStep(UIDefaults, int, String, boolean, Runnable)}.
+     */
+    private static <T> T runStep(UIDefaults table, int step, String name, boolean preloaded, Supplier<T> work) {
+        DefaultsInitEvent event = null;
+        int sizeBefore = table.size();
+        if (JfrEvents.active()) {
+            event = new DefaultsInitEvent();
+            event.begin();
+        }
+        long start = System.nanoTime();
+        T result = work.get();
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.step = step;
+                event.name = name;
+                event.entriesAdded = table.size() - sizeBefore;
+                event.preloaded = preloaded;
+                event.commit();
+            }
+        }
+        if (StartupReport.ENABLED) {
+            StartupReport.recordSince(String.format("defaults/%02d-%s", step, name), start);
+        }
+        return result;
     }
 
     // ---- Public API ----
 
+    /**
+     * Prepares the token-derived defaults on background threads.
+     *
+     * <p>Loads the CSS theme, the token mapping and the platform font list
+     * concurrently, maps the tokens into a staging table and computes the
+     * component defaults (default font, focus ring colors, borders, icons)
+     * into it as well. The next activation of a {@code DwcLookAndFeel} (for
+     * example from {@code UIManager.setLookAndFeel}) consumes the prepared
+     * result and only puts the staged entries into its defaults table,
+     * keeping the EDT free while a splash screen is showing:</p>
+     * <pre>
+     *   DwcLookAndFeel.preload();
+     *   // ... show splash, other startup work ...
+     *   SwingUtilities.invokeLater(() -&gt; UIManager.setLookAndFeel(new DwcLookAndFeel()));
+     * </pre>
+     *
+     * <p>If the activation happens before the preload finishes, it waits for
+     * it. A preload is consumed by one activation, and is discarded if the
+     * {@code dwc.theme} or {@code dwc.mapping} system properties or the
+     * {@link RenderProfile} change in between. Calling this method again while a matching preload is pending
+     * returns the same future.</p>
+     *
+     * @return a future that completes when the defaults are prepared
+     */
+    public static CompletableFuture<Void> preload() {
+        return DwcDefaultsPreloader.start().thenApply(prepared -> null);
+    }
+
     /**
      * Returns the loaded CSS token map.
      *
@@ -182,7 +332,7 @@ public class DwcLookAndFeel extends BasicLookAndFeel {
      * by the mapping layer). If the family is present, resolves it from a CSS
      * font stack to a platform-available font family name.</p>
      */
-    private void initDefaultFont(UIDefaults table) {
+    private void initDefaultFont(UIDefaults table, Set<String> availableFonts, boolean fontsPreloaded) {
         Object familyObj = table.get("defaultFont.family");
         Object sizeObj = table.get("defaultFont.size");
 
@@ -194,7 +344,22 @@ public class DwcLookAndFeel extends BasicLookAndFeel {
         // Resolve font family from CSS font stack
         String family = "SansSerif"; // fallback
         if (familyObj instanceof String fontStack) {
-            family = resolveFontFamily(fontStack);
+            FontResolveEvent event = null;
+            if (JfrEvents.active()) {
+                event = new FontResolveEvent();
+                event.begin();
+            }
+            family = resolveFontFamily(fontStack, availableFonts);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.fontStack = fontStack;
+                    event.family = family;
+                    event.availableFamilies = availableFonts != null ? availableFonts.size() : 0;
+                    event.cacheHit = fontsPreloaded;
+                    event.commit();
+                }
+            }
         }
 
         // Resolve font size (DimensionValue was already converted to int by populator)
@@ -538,6 +703,31 @@ public class DwcLookAndFeel extends BasicLookAndFeel {
         LOG.fine("Initialized table defaults (alternateRowColor, scrollPaneBorder, focusCellHighlightBorder)");
     }
 
+    /**
+     * Under the {@link RenderProfile#REMOTE} profile, replaces every
+     * translucent color (focus rings, shadows) with its opaque blend over
+     * {@code Panel.background}, so it is painted as a solid fill instead of
+     * a blended one. Other profiles keep the theme colors.
+     */
+    private void initRenderProfileDefaults(UIDefaults table) {
+        RenderProfile profile = RenderProfile.current();
+        Color background = table.getColor("Panel.background");
+        if (profile.translucency() || background == null) {
+            return;
+        }
+        // Raw values: UIDefaults.get would resolve every LazyValue and ActiveValue
+        int flattened = 0;
+        for (Object o : table.entrySet().toArray()) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            if (entry.getValue() instanceof Color c && c.getAlpha() < 255) {
+                table.put(entry.getKey(), new ColorUIResource(StateColorResolver.blend(c, background, 1f)));
+                flattened++;
+            }
+        }
+        int count = flattened;
+        LOG.fine(() -> "Render profile " + profile + ": flattened " + count + " translucent colors");
+    }
+
     /**
      * Computes the focus ring color from CSS HSL tokens and stores it in UIDefaults.
      *
@@ -705,25 +895,19 @@ public class DwcLookAndFeel extends BasicLookAndFeel {
      *
      * <p>Splits the CSS font stack on commas, trims quotes from each candidate,
      * maps CSS generic names and platform-specific aliases to Java logical names,
-     * then checks {@link GraphicsEnvironment} for the first available match.</p>
+     * then checks the platform font families for the first available match.</p>
      *
-     * @param cssFontStack the CSS font-family value (e.g., "-apple-system, BlinkMacSystemFont, 'Roboto', sans-serif")
+     * @param cssFontStack   the CSS font-family value (e.g., "-apple-system, BlinkMacSystemFont, 'Roboto', sans-serif")
+     * @param availableFonts the platform font family names, or null if they could not be queried
      * @return the resolved Java font family name, or "SansSerif" as ultimate fallback
      */
-    private String resolveFontFamily(String cssFontStack) {
+    private String resolveFontFamily(String cssFontStack, Set<String> availableFonts) {
         // CSS generic name -> Java logical font name
         // Java logical fonts are guaranteed available: Dialog, DialogInput, Monospaced, Serif, SansSerif
         String[] candidates = cssFontStack.split(",");
 
-        // Get available system fonts (cached by JRE)
-        Set<String> availableFonts;
-        try {
-            availableFonts = Set.of(
-                GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames()
-            );
-        } catch (Exception e) {
+        if (availableFonts == null) {
             // Headless or other environment issue -- use fallback
-            LOG.fine("Could not query available fonts: " + e.getMessage());
             return "SansSerif";
         }
 
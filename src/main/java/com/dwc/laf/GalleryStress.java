@@ -0,0 +1,215 @@
+package com.dwc.laf;
+
+import com.dwc.laf.diagnostics.StressReport;
+
+import javax.swing.AbstractButton;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.JProgressBar;
+import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTable;
+import javax.swing.JTree;
+import javax.swing.JViewport;
+import javax.swing.RepaintManager;
+import javax.swing.Timer;
+import javax.swing.text.JTextComponent;
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.EventQueue;
+import java.awt.KeyboardFocusManager;
+import java.awt.Point;
+import java.awt.Toolkit;
+import java.awt.event.MouseEvent;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stress mode of {@link DwcComponentGallery}: drives automated interaction
+ * over a gallery whose sections are replicated, and reports frame times,
+ * EDT busy percentage, GC activity and EDT allocation when done.
+ *
+ * <p>Every timer tick (about 60 per second) moves a synthetic hover to the
+ * next button, text field or combo box and advances the determinate
+ * progress bars. Every few ticks it scrolls the gallery, moves the table
+ * and tree selections, transfers focus to the next component and switches
+ * tabs. Indeterminate progress bars animate on their own.</p>
+ *
+ * <p>Frames are timed by a {@code RepaintManager} that wraps each paint
+ * pass, busy time by an {@code EventQueue} that wraps each dispatched
+ * event. Both run on the EDT, which owns the {@link StressReport}.</p>
+ */
+final class GalleryStress {
+
+    private static final int TICK_MILLIS = 16;
+    private static final int SCROLL_STEP = 24;
+
+    private final JFrame frame;
+    private final int durationSeconds;
+    private final boolean json;
+    private final PrintStream out;
+    private final StressReport report = new StressReport();
+
+    private final List<JComponent> hoverables = new ArrayList<>();
+    private final List<JProgressBar> progressBars = new ArrayList<>();
+    private final List<JTabbedPane> tabbedPanes = new ArrayList<>();
+    private final List<JTable> tables = new ArrayList<>();
+    private final List<JTree> trees = new ArrayList<>();
+
+    private JComponent hovered;
+    private int hoverIndex;
+    private int scrollDirection = 1;
+    private long tick;
+
+    /**
+     * Creates a stress run over a realized gallery frame.
+     *
+     * @param frame           the gallery frame, with a scroll pane as content
+     * @param durationSeconds how long to drive the interaction
+     * @param json            whether to print the report as JSON
+     * @param out             the destination of the report
+     */
+    GalleryStress(JFrame frame, int durationSeconds, boolean json, PrintStream out) {
+        this.frame = frame;
+        this.durationSeconds = durationSeconds;
+        this.json = json;
+        this.out = out;
+        collect(frame.getContentPane());
+    }
+
+    private void collect(Container container) {
+        for (Component c : container.getComponents()) {
+            if (c instanceof AbstractButton || c instanceof JTextComponent || c instanceof JComboBox) {
+                hoverables.add((JComponent) c);
+            }
+            if (c instanceof JProgressBar pb && !pb.isIndeterminate()) {
+                progressBars.add(pb);
+            } else if (c instanceof JTabbedPane tabs) {
+                tabbedPanes.add(tabs);
+            } else if (c instanceof JTable table) {
+                tables.add(table);
+            } else if (c instanceof JTree tree) {
+                trees.add(tree);
+            }
+            if (c instanceof Container child && !(c instanceof JComboBox)) {
+                collect(child);
+            }
+        }
+    }
+
+    /**
+     * Installs the timing hooks and starts driving the gallery. Must be
+     * called on the EDT; exits the JVM after printing the report.
+     */
+    void start() {
+        RepaintManager.setCurrentManager(new RepaintManager() {
+            @Override
+            public void paintDirtyRegions() {
+                long start = System.nanoTime();
+                super.paintDirtyRegions();
+                report.recordFrame(System.nanoTime() - start);
+            }
+        });
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new EventQueue() {
+            @Override
+            protected void dispatchEvent(AWTEvent event) {
+                long start = System.nanoTime();
+                super.dispatchEvent(event);
+                report.recordBusy(System.nanoTime() - start);
+            }
+        });
+
+        report.begin();
+        long endNanos = System.nanoTime() + durationSeconds * 1_000_000_000L;
+        Timer timer = new Timer(TICK_MILLIS, null);
+        timer.addActionListener(e -> {
+            if (System.nanoTime() >= endNanos) {
+                timer.stop();
+                finish();
+            } else {
+                step();
+            }
+        });
+        timer.start();
+    }
+
+    /** Advances every interaction by one tick. */
+    void step() {
+        tick++;
+        hoverNext();
+        for (JProgressBar pb : progressBars) {
+            pb.setValue(pb.getValue() >= pb.getMaximum() ? pb.getMinimum() : pb.getValue() + 1);
+        }
+        if (tick % 2 == 0) {
+            scrollGallery();
+        }
+        if (tick % 5 == 0) {
+            for (JTable table : tables) {
+                int row = (int) (tick / 5 % table.getRowCount());
+                table.setRowSelectionInterval(row, row);
+                table.scrollRectToVisible(table.getCellRect(row, 0, true));
+            }
+            for (JTree tree : trees) {
+                int row = (int) (tick / 5 % tree.getRowCount());
+                tree.setSelectionRow(row);
+                if (tree.isCollapsed(row)) {
+                    tree.expandRow(row);
+                }
+            }
+        }
+        if (tick % 10 == 0) {
+            KeyboardFocusManager.getCurrentKeyboardFocusManager().focusNextComponent();
+        }
+        if (tick % 30 == 0) {
+            for (JTabbedPane tabs : tabbedPanes) {
+                tabs.setSelectedIndex((tabs.getSelectedIndex() + 1) % tabs.getTabCount());
+            }
+        }
+    }
+
+    /** Moves a synthetic mouse hover from the previous component to the next. */
+    private void hoverNext() {
+        if (hoverables.isEmpty()) {
+            return;
+        }
+        if (hovered != null) {
+            dispatchMouse(hovered, MouseEvent.MOUSE_EXITED);
+        }
+        hovered = hoverables.get(hoverIndex);
+        hoverIndex = (hoverIndex + 1) % hoverables.size();
+        dispatchMouse(hovered, MouseEvent.MOUSE_ENTERED);
+        dispatchMouse(hovered, MouseEvent.MOUSE_MOVED);
+    }
+
+    private static void dispatchMouse(JComponent c, int id) {
+        c.dispatchEvent(new MouseEvent(c, id, System.currentTimeMillis(), 0,
+                c.getWidth() / 2, c.getHeight() / 2, 0, false));
+    }
+
+    /** Scrolls the gallery down and back up, one step per call. */
+    private void scrollGallery() {
+        if (!(frame.getContentPane() instanceof JScrollPane scrollPane)) {
+            return;
+        }
+        JViewport viewport = scrollPane.getViewport();
+        int max = Math.max(0, viewport.getView().getHeight() - viewport.getHeight());
+        Point p = viewport.getViewPosition();
+        int y = p.y + scrollDirection * SCROLL_STEP;
+        if (y <= 0 || y >= max) {
+            scrollDirection = -scrollDirection;
+            y = Math.max(0, Math.min(y, max));
+        }
+        viewport.setViewPosition(new Point(p.x, y));
+    }
+
+    private void finish() {
+        report.end();
+        out.println(json ? report.toJson() : report.format("DWC gallery stress report"));
+        out.flush();
+        frame.dispose();
+        System.exit(0);
+    }
+}
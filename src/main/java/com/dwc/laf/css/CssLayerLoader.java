@@ -0,0 +1,333 @@
+package com.dwc.laf.css;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Loads an ordered list of CSS theme layers (files, directories and their
+ * {@code @import} chains) and merges their raw custom property declarations
+ * in cascade order.
+ *
+ * <p>Each layer is either a CSS file or a directory. A directory contributes
+ * all of its {@code *.css} files (non-recursive) sorted by file name. Every
+ * file's {@code @import} rules are followed relative to the importing file,
+ * and imported declarations are applied <em>before</em> the importing file's
+ * own declarations, matching CSS cascade order. Import cycles are broken and
+ * logged.</p>
+ *
+ * <p>Files are read (NIO) and tokenized concurrently on virtual threads. The
+ * parsed declarations of each file are cached by content hash, so re-loading
+ * after editing one file re-parses only that file. The merge itself is
+ * sequential and deterministic.</p>
+ *
+ * <p>Unreadable files are logged and contribute no tokens, mirroring the
+ * non-fatal override behavior of {@link CssThemeLoader}.</p>
+ */
+final class CssLayerLoader {
+
+    private static final Logger LOG = Logger.getLogger(CssLayerLoader.class.getName());
+
+    /** Maximum number of parsed files kept in the content-hash cache. */
+    private static final int MAX_CACHED_SHEETS = 512;
+
+    /**
+     * Parsed form of one CSS file: its custom property declarations and the
+     * unresolved targets of its {@code @import} rules.
+     */
+    record ParsedSheet(Map<String, String> declarations, List<String> imports) {
+    }
+
+    /**
+     * One file as it was read by a load: the size and content hash of the
+     * bytes that were parsed, and the modification time taken before reading.
+     */
+    record SourceFile(Path path, long size, long lastModifiedMillis, String hash) {
+    }
+
+    /**
+     * Outcome of loading a layer list.
+     *
+     * @param tokens      merged raw declarations in cascade order
+     * @param files       every file that contributed, in cascade order (imports first)
+     * @param sources     the contributing files as read, in the order of {@code files}
+     * @param missing     layers and {@code @import} targets that did not exist
+     * @param parsedFiles number of files that were tokenized (cache misses)
+     * @param cacheHits   number of files served from the content-hash cache
+     * @param bytesRead   total bytes read from disk
+     */
+    record Result(Map<String, String> tokens, List<Path> files,
+                  List<SourceFile> sources, List<Path> missing,
+                  int parsedFiles, int cacheHits, long bytesRead) {
+    }
+
+    /** Content hash -> parsed sheet, least recently used entries evicted first. */
+    private static final Map<String, ParsedSheet> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParsedSheet> eldest) {
+                    return size() > MAX_CACHED_SHEETS;
+                }
+            });
+
+    private CssLayerLoader() {
+        // utility class
+    }
+
+    /**
+     * Splits a layer specification (the value of {@code dwc.theme}) into paths.
+     * Entries are separated by commas or the platform path separator; blank
+     * entries are ignored.
+     *
+     * @param spec the layer specification, may be null
+     * @return the layer paths in the order given
+     */
+    static List<Path> parseSpec(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return List.of();
+        }
+        var layers = new ArrayList<Path>();
+        for (String entry : spec.split("[," + File.pathSeparator + "]")) {
+            String trimmed = entry.strip();
+            if (!trimmed.isEmpty()) {
+                layers.add(Path.of(trimmed));
+            }
+        }
+        return List.copyOf(layers);
+    }
+
+    /**
+     * Expands directory layers into their sorted {@code *.css} files.
+     *
+     * @param layers the layer paths
+     * @return the root files in cascade order (imports not yet followed)
+     */
+    static List<Path> expandLayers(List<Path> layers) {
+        var files = new ArrayList<Path>();
+        for (Path layer : layers) {
+            if (Files.isDirectory(layer)) {
+                try (Stream<Path> entries = Files.list(layer)) {
+                    entries.filter(p -> p.getFileName().toString().endsWith(".css"))
+                            .filter(Files::isRegularFile)
+                            .sorted()
+                            .forEach(files::add);
+                } catch (IOException e) {
+                    LOG.warning("Failed to list theme directory: " + layer + " - " + e.getMessage());
+                }
+            } else {
+                files.add(layer);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Loads and merges the given layers.
+     *
+     * @param layers files or directories in cascade order (later wins)
+     * @return the merged declarations and load statistics
+     */
+    static Result load(List<Path> layers) {
+        List<Path> roots = expandLayers(layers);
+        if (roots.isEmpty()) {
+            return new Result(Map.of(), List.of(), List.of(), List.of(), 0, 0, 0);
+        }
+
+        var session = new Session();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            session.executor = executor;
+            for (Path root : roots) {
+                session.submit(root);
+            }
+
+            var merged = new LinkedHashMap<String, String>();
+            var files = new ArrayList<Path>();
+            for (Path root : roots) {
+                session.flatten(root, new HashSet<>(), merged, files);
+            }
+            List<SourceFile> sources = files.stream().map(session.sources::get).toList();
+            List<Path> missing = session.missing.stream().sorted().toList();
+            return new Result(Collections.unmodifiableMap(merged), List.copyOf(files), sources, missing,
+                    session.parsed.get(), session.hits.get(), session.bytes.get());
+        }
+    }
+
+    /**
+     * Reads and tokenizes one file, consulting the content-hash cache.
+     *
+     * @return the parsed sheet, or null if the file could not be read
+     */
+    private static ParsedSheet readSheet(Path file, Session session) {
+        // The modification time is taken first: a write after it changes the
+        // time, so the recorded source never pairs new metadata with old content
+        long lastModified;
+        byte[] bytes;
+        try {
+            lastModified = Files.getLastModifiedTime(file).toMillis();
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            LOG.warning("Theme layer not found: " + file);
+            session.missing.add(file);
+            return null;
+        } catch (IOException e) {
+            LOG.warning("Failed to load theme layer: " + file + " - " + e.getMessage());
+            return null;
+        }
+        session.bytes.addAndGet(bytes.length);
+
+        String hash = contentHash(bytes);
+        session.sources.put(file, new SourceFile(file, bytes.length, lastModified, hash));
+        ParsedSheet sheet = cache.get(hash);
+        if (sheet != null) {
+            session.hits.incrementAndGet();
+            return sheet;
+        }
+
+        String css = new String(bytes, StandardCharsets.UTF_8);
+        if (!css.isEmpty() && css.charAt(0) == '\uFEFF') {
+            css = css.substring(1);
+        }
+        sheet = new ParsedSheet(CssTokenParser.parse(css), CssTokenParser.parseImports(css));
+        cache.put(hash, sheet);
+        session.parsed.incrementAndGet();
+        return sheet;
+    }
+
+    /**
+     * Returns the hex SHA-256 digest of the given bytes.
+     *
+     * @param bytes the content to hash
+     * @return the lowercase hex digest
+     */
+    static String contentHash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Resolves an {@code @import} target relative to the importing file.
+     *
+     * @return the resolved path, or null for remote URLs
+     */
+    private static Path resolveImport(Path importer, String target) {
+        if (target.contains("://")) {
+            return null;
+        }
+        if (target.startsWith("file:")) {
+            target = target.substring("file:".length());
+        }
+        Path parent = importer.toAbsolutePath().getParent();
+        return (parent != null ? parent.resolve(target) : Path.of(target)).normalize();
+    }
+
+    private static Path key(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Clears the parsed-sheet cache. Package-private for testing.
+     */
+    static void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * State for a single {@link #load} call: one future per distinct file,
+     * so each file is read at most once even if imported several times.
+     */
+    private static final class Session {
+        private final Map<Path, Future<ParsedSheet>> futures = new ConcurrentHashMap<>();
+        private final Map<Path, SourceFile> sources = new ConcurrentHashMap<>();
+        private final Set<Path> missing = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger parsed = new AtomicInteger();
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private ExecutorService executor;
+
+        /**
+         * Schedules a file for loading. Imports are scheduled from within the
+         * task before it completes, so by the time a sheet's future is done,
+         * the futures of all its imports exist.
+         */
+        void submit(Path file) {
+            futures.computeIfAbsent(key(file), k -> executor.submit(() -> {
+                ParsedSheet sheet = readSheet(k, this);
+                if (sheet != null) {
+                    for (String target : sheet.imports()) {
+                        Path resolved = resolveImport(k, target);
+                        if (resolved != null) {
+                            submit(resolved);
+                        }
+                    }
+                }
+                return sheet;
+            }));
+        }
+
+        /**
+         * Depth-first merge: a file's imports, in order, then its own declarations.
+         */
+        void flatten(Path file, Set<Path> stack, Map<String, String> merged, List<Path> files) {
+            Path k = key(file);
+            if (!stack.add(k)) {
+                LOG.warning("Circular @import ignored: " + k);
+                return;
+            }
+            ParsedSheet sheet = await(k);
+            if (sheet != null) {
+                for (String target : sheet.imports()) {
+                    Path resolved = resolveImport(k, target);
+                    if (resolved == null) {
+                        LOG.warning("Remote @import not supported, skipping: " + target);
+                        continue;
+                    }
+                    flatten(resolved, stack, merged, files);
+                }
+                merged.putAll(sheet.declarations());
+                files.add(k);
+            }
+            stack.remove(k);
+        }
+
+        private ParsedSheet await(Path k) {
+            Future<ParsedSheet> future = futures.get(k);
+            if (future == null) {
+                return null;
+            }
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                LOG.warning("Failed to load theme layer: " + k + " - " + e.getCause());
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.dwc.laf.css;
+
+import java.awt.Color;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Opt-in persistent cache of fully resolved and typed theme token tables.
+ *
+ * <p>Enabled by pointing the system property {@code dwc.themeCache} at a
+ * writable directory. Each entry holds the final token table for one
+ * configuration, keyed by the hash of the bundled theme, the hash of the
+ * expanded {@code dwc.theme} layer list and the hash of the
+ * {@code dwc.mapping} file. Launches that hit the cache skip parsing,
+ * {@code var()} resolution, {@code calc()} evaluation and typing.</p>
+ *
+ * <p>Every entry records the files that contributed to it (including
+ * {@code @import} targets) with the size, modification time and content
+ * hash of the bytes that were parsed, and the layers and imports that did
+ * not exist. An entry is only used if all sources are unchanged and none of
+ * the missing files has appeared; a size or mtime difference falls back to
+ * re-hashing the file, so touched-but-identical files still hit.</p>
+ *
+ * <p>The directory may be shared by many JVMs. Entries are written to a
+ * temporary file and atomically renamed into place, so readers see either
+ * the previous or the new complete entry, never a torn one. After each write
+ * the directory is trimmed to {@code dwc.themeCache.maxBytes} (default
+ * 16 MiB) by deleting least recently used entries; abandoned temporary files
+ * are removed as well.</p>
+ *
+ * <p>All failures are non-fatal: an unreadable or corrupt entry is treated as
+ * a miss and the theme is loaded normally.</p>
+ */
+final class CssThemeCache {
+
+    private static final Logger LOG = Logger.getLogger(CssThemeCache.class.getName());
+
+    /** System property naming the cache directory. */
+    static final String CACHE_DIR_PROPERTY = "dwc.themeCache";
+
+    /** System property overriding the directory size cap in bytes. */
+    static final String MAX_BYTES_PROPERTY = "dwc.themeCache.maxBytes";
+
+    /** Default directory size cap. */
+    static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    /** Bump when the entry format or the meaning of a typed value changes. */
+    private static final String FORMAT = "dwc-theme-cache\t2";
+
+    private static final String ENTRY_SUFFIX = ".dwctc";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** Temporary files older than this are considered abandoned by a crashed writer. */
+    private static final long STALE_TEMP_MILLIS = 60L * 60 * 1000;
+
+    private final Path dir;
+    private final long maxBytes;
+
+    /**
+     * Creates a cache rooted at the given directory.
+     *
+     * @param dir      the cache directory (created on first write)
+     * @param maxBytes the directory size cap
+     */
+    CssThemeCache(Path dir, long maxBytes) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cache configured by system properties, or null if
+     * {@code dwc.themeCache} is not set.
+     *
+     * @return the configured cache, or null if caching is disabled
+     */
+    static CssThemeCache fromSystemProperties() {
+        String dirSpec = System.getProperty(CACHE_DIR_PROPERTY);
+        if (dirSpec == null || dirSpec.isBlank()) {
+            return null;
+        }
+        long max = DEFAULT_MAX_BYTES;
+        String maxSpec = System.getProperty(MAX_BYTES_PROPERTY);
+        if (maxSpec != null && !maxSpec.isBlank()) {
+            try {
+                max = Long.parseLong(maxSpec.strip());
+            } catch (NumberFormatException e) {
+                LOG.warning("Invalid " + MAX_BYTES_PROPERTY + ": " + maxSpec);
+            }
+        }
+        return new CssThemeCache(Path.of(dirSpec.strip()), max);
+    }
+
+    /**
+     * Computes the cache key for one configuration.
+     *
+     * @param bundledCss  the bundled theme text
+     * @param roots       the expanded override layer files, in cascade order
+     * @param mappingPath the {@code dwc.mapping} value, or null
+     * @return the lowercase hex key
+     */
+    static String key(String bundledCss, List<Path> roots, String mappingPath) {
+        String bundledHash = CssLayerLoader.contentHash(bundledCss.getBytes(StandardCharsets.UTF_8));
+
+        var spec = new StringBuilder();
+        for (Path root : roots) {
+            spec.append(root.toAbsolutePath().normalize()).append('\n');
+        }
+        String overrideHash = CssLayerLoader.contentHash(spec.toString().getBytes(StandardCharsets.UTF_8));
+
+        String mappingHash = "-";
+        if (mappingPath != null && !mappingPath.isBlank()) {
+            try {
+                mappingHash = CssLayerLoader.contentHash(Files.readAllBytes(Path.of(mappingPath)));
+            } catch (IOException e) {
+                mappingHash = "missing";
+            }
+        }
+
+        String triple = FORMAT + '\n' + bundledHash + '\n' + overrideHash + '\n' + mappingHash;
+        return CssLayerLoader.contentHash(triple.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the cached token table for the key, if present and all of its
+     * source files are unchanged.
+     *
+     * @param key the key from {@link #key}
+     * @return the cached token map, or null on a miss
+     */
+    CssTokenMap lookup(String key) {
+        Path entry = dir.resolve(key + ENTRY_SUFFIX);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(entry, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            LOG.fine("Unreadable theme cache entry: " + entry + " - " + e.getMessage());
+            return null;
+        }
+
+        CssTokenMap tokens;
+        try {
+            tokens = decode(lines);
+        } catch (RuntimeException e) {
+            LOG.warning("Corrupt theme cache entry ignored: " + entry + " - " + e.getMessage());
+            return null;
+        }
+        if (tokens == null) {
+            return null;
+        }
+
+        try {
+            // Mark as recently used for the size-capped cleanup
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Read-only cache directory: still usable
+        }
+        return tokens;
+    }
+
+    /**
+     * Stores a token table under the key, then trims the directory.
+     *
+     * @param key    the key from {@link #key}
+     * @param layers the layer load the table was built from, whose recorded
+     *               sources and missing files validate the entry
+     * @param tokens the resolved and typed token table
+     */
+    void store(String key, CssLayerLoader.Result layers, CssTokenMap tokens) {
+        Path temp = null;
+        try {
+            Files.createDirectories(dir);
+            temp = Files.createTempFile(dir, key, TEMP_SUFFIX);
+            try (BufferedWriter w = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                encode(layers, tokens, w);
+            }
+            Path entry = dir.resolve(key + ENTRY_SUFFIX);
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+        } catch (IOException e) {
+            LOG.warning("Failed to write theme cache entry in " + dir + " - " + e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // picked up by a later cleanup
+                }
+            }
+        }
+        cleanup();
+    }
+
+    /**
+     * Deletes abandoned temporary files and, if the directory exceeds the
+     * size cap, the least recently used entries until it fits.
+     */
+    void cleanup() {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        var entries = new ArrayList<Path>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(p -> {
+                String name = p.getFileName().toString();
+                if (name.endsWith(ENTRY_SUFFIX)) {
+                    entries.add(p);
+                } else if (name.endsWith(TEMP_SUFFIX) && now - lastModified(p) > STALE_TEMP_MILLIS) {
+                    delete(p);
+                }
+            });
+        } catch (IOException e) {
+            LOG.fine("Failed to list theme cache directory: " + dir + " - " + e.getMessage());
+            return;
+        }
+
+        long total = 0;
+        Map<Path, Long> sizes = new LinkedHashMap<>();
+        for (Path p : entries) {
+            long size = size(p);
+            sizes.put(p, size);
+            total += size;
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+
+        // Snapshot mtimes so concurrent touches do not break the sort contract
+        Map<Path, Long> mtimes = new LinkedHashMap<>();
+        for (Path p : entries) {
+            mtimes.put(p, lastModified(p));
+        }
+        entries.sort(Comparator.comparingLong(mtimes::get));
+        for (Path p : entries) {
+            if (total <= maxBytes) {
+                break;
+            }
+            delete(p);
+            total -= sizes.get(p);
+        }
+    }
+
+    // ================================================================
+    // Entry format
+    // ================================================================
+
+    // Tab-separated lines, fields escaped with escape():
+    //   dwc-theme-cache  2
+    //   source  <size>  <mtime-millis>  <sha-256>  <path>   one per sheet parsed
+    //   missing <path>                                     one per @import target not found
+    //   token   <name>  <resolved>  <kind>  <payload...>
+    //   end     <token-count>
+    // Size, mtime and hash are those of the bytes the loader parsed.
+
+    private static void encode(CssLayerLoader.Result layers, CssTokenMap tokens, BufferedWriter w)
+            throws IOException {
+        w.write(FORMAT);
+        w.newLine();
+        for (CssLayerLoader.SourceFile source : layers.sources()) {
+            w.write(String.join("\t", "source",
+                    Long.toString(source.size()),
+                    Long.toString(source.lastModifiedMillis()),
+                    source.hash(),
+                    escape(source.path().toAbsolutePath().normalize().toString())));
+            w.newLine();
+        }
+        for (Path missing : layers.missing()) {
+            w.write("missing\t" + escape(missing.toAbsolutePath().normalize().toString()));
+            w.newLine();
+        }
+        int count = 0;
+        for (String name : tokens.propertyNames()) {
+            CssValue value = tokens.get(name).orElseThrow();
+            String typed = switch (value) {
+                case CssValue.ColorValue cv -> "C\t" + Integer.toHexString(cv.color().getRGB());
+                case CssValue.DimensionValue dv -> "D\t" + dv.value() + "\t" + escape(dv.unit());
+                case CssValue.IntegerValue iv -> "I\t" + iv.value();
+                case CssValue.FloatValue fv -> "F\t" + fv.value();
+                case CssValue.StringValue sv -> "S\t" + escape(sv.value());
+                case CssValue.RawValue rv -> "R\t" + escape(rv.raw());
+            };
+            w.write("token\t" + escape(name) + "\t" + escape(tokens.getRaw(name)) + "\t" + typed);
+            w.newLine();
+            count++;
+        }
+        w.write("end\t" + count);
+        w.newLine();
+    }
+
+    /**
+     * Decodes an entry, validating its sources.
+     *
+     * @return the token map, or null if a source changed or a missing file appeared
+     * @throws RuntimeException if the entry is malformed
+     */
+    private static CssTokenMap decode(List<String> lines) {
+        if (lines.isEmpty() || !lines.get(0).equals(FORMAT)) {
+            throw new IllegalArgumentException("unknown format");
+        }
+        var typed = new LinkedHashMap<String, CssValue>();
+        var raw = new LinkedHashMap<String, String>();
+        boolean complete = false;
+        for (int i = 1; i < lines.size(); i++) {
+            String[] f = lines.get(i).split("\t", -1);
+            switch (f[0]) {
+                case "source" -> {
+                    if (!sourceUnchanged(Path.of(unescape(f[4])), Long.parseLong(f[1]),
+                            Long.parseLong(f[2]), f[3])) {
+                        return null;
+                    }
+                }
+                case "missing" -> {
+                    if (Files.exists(Path.of(unescape(f[1])))) {
+                        return null;
+                    }
+                }
+                case "token" -> {
+                    String name = unescape(f[1]);
+                    raw.put(name, unescape(f[2]));
+                    typed.put(name, switch (f[3]) {
+                        case "C" -> new CssValue.ColorValue(new Color(Integer.parseUnsignedInt(f[4], 16), true));
+                        case "D" -> new CssValue.DimensionValue(Float.parseFloat(f[4]), unescape(f[5]));
+                        case "I" -> new CssValue.IntegerValue(Integer.parseInt(f[4]));
+                        case "F" -> new CssValue.FloatValue(Float.parseFloat(f[4]));
+                        case "S" -> new CssValue.StringValue(unescape(f[4]));
+                        case "R" -> new CssValue.RawValue(unescape(f[4]));
+                        default -> throw new IllegalArgumentException("unknown kind " + f[3]);
+                    });
+                }
+                case "end" -> {
+                    if (Integer.parseInt(f[1]) != typed.size()) {
+                        throw new IllegalArgumentException("token count mismatch");
+                    }
+                    complete = true;
+                }
+                default -> throw new IllegalArgumentException("unknown record " + f[0]);
+            }
+        }
+        if (!complete) {
+            throw new IllegalArgumentException("truncated");
+        }
+        return new CssTokenMap(typed, raw);
+    }
+
+    /**
+     * Checks a recorded source: size and mtime first, content hash if either differs.
+     */
+    private static boolean sourceUnchanged(Path source, long size, long mtime, String hash) {
+        try {
+            if (Files.size(source) == size
+                    && Files.getLastModifiedTime(source).toMillis() == mtime) {
+                return true;
+            }
+            return CssLayerLoader.contentHash(Files.readAllBytes(source)).equals(hash);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    static String escape(String s) {
+        if (s.indexOf('\\') == -1 && s.indexOf('\t') == -1
+                && s.indexOf('\n') == -1 && s.indexOf('\r') == -1) {
+            return s;
+        }
+        var sb = new StringBuilder(s.length() + 8);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static String unescape(String s) {
+        if (s.indexOf('\\') == -1) {
+            return s;
+        }
+        var sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char next = s.charAt(++i);
+                sb.append(switch (next) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> next;
+                });
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static long lastModified(Path p) {
+        try {
+            return Files.getLastModifiedTime(p).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long size(Path p) {
+        try {
+            return Files.size(p);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void delete(Path p) {
+        try {
+            Files.deleteIfExists(p);
+        } catch (IOException e) {
+            LOG.fine("Failed to delete theme cache file: " + p + " - " + e.getMessage());
+        }
+    }
+}
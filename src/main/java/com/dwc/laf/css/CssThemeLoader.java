@@ -1,11 +1,17 @@
 package com.dwc.laf.css;
 
+import com.dwc.laf.diagnostics.JfrEvents;
+import com.dwc.laf.diagnostics.PipelineStageEvent;
+import com.dwc.laf.diagnostics.StartupReport;
+import com.dwc.laf.diagnostics.ThemeLoadEvent;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -16,10 +22,21 @@ import java.util.logging.Logger;
  * merge override layer -> resolve var() references -> type values ->
  * wrap in {@link CssTokenMap}.</p>
  *
- * <p>Supports two layers: bundled defaults (from classpath) and one optional
- * external override (from file path specified via system property
- * {@code dwc.theme}). External override tokens replace matching keys;
- * bundled tokens provide defaults.</p>
+ * <p>Supports layered themes: bundled defaults (from classpath) followed by
+ * optional external override layers listed in the system property
+ * {@code dwc.theme}. The property accepts a comma-separated list of CSS
+ * files and directories; {@code @import} chains are followed (see
+ * {@link CssLayerLoader}). Later layers replace matching keys; bundled
+ * tokens provide defaults.</p>
+ *
+ * <p>If the system property {@code dwc.themeCache} names a directory, the
+ * resolved token table for an override configuration is persisted there and
+ * reused by later launches while the override files are unchanged (see
+ * {@link CssThemeCache}).</p>
+ *
+ * <p>Each load emits a {@code dwc.ThemeLoad} JFR event and one
+ * {@code dwc.PipelineStage} event per stage, and contributes to the
+ * {@code dwc.startupReport} table.</p>
  *
  * <p>Theme loading is startup-only. The returned {@link CssTokenMap} is
  * immutable and can be shared across threads.</p>
@@ -34,10 +51,17 @@ public final class CssThemeLoader {
     private static final String DEFAULT_THEME_RESOURCE = "com/dwc/laf/themes/default-light.css";
 
     /**
-     * System property name for specifying external CSS override file path.
+     * System property name for specifying external CSS override layers
+     * (comma-separated files and directories).
      */
     private static final String OVERRIDE_SYSTEM_PROPERTY = "dwc.theme";
 
+    /**
+     * System property naming the external token mapping file. Only its hash is
+     * used here, as part of the persistent cache key.
+     */
+    private static final String MAPPING_SYSTEM_PROPERTY = "dwc.mapping";
+
     private CssThemeLoader() {
         // utility class
     }
@@ -45,51 +69,83 @@ public final class CssThemeLoader {
     /**
      * Load the complete theme: bundled defaults + optional external override.
      *
-     * <p>External override path is read from the system property
-     * {@code dwc.theme}. If set, the file at that path is parsed and its
-     * tokens are merged on top of the bundled defaults (override wins for
-     * matching keys). If the override file cannot be read, a warning is
-     * logged and the bundled defaults are used alone.</p>
+     * <p>External override layers are read from the system property
+     * {@code dwc.theme}. If set, each listed file or directory is parsed
+     * (concurrently, with per-file caching) and the tokens are merged on top
+     * of the bundled defaults in cascade order (later layers win for matching
+     * keys). Layers that cannot be read are logged and skipped; if none can be
+     * read, the bundled defaults are used alone.</p>
+     *
+     * <p>When {@code dwc.themeCache} is also set, a valid cached token table
+     * is returned without running the pipeline, and a freshly built one is
+     * written back to the cache.</p>
      *
      * @return an immutable {@link CssTokenMap} with all tokens resolved and typed
      */
     public static CssTokenMap load() {
+        ThemeLoadEvent event = null;
+        if (JfrEvents.active()) {
+            event = new ThemeLoadEvent();
+            event.begin();
+        }
+        long startNanos = System.nanoTime();
+
         // 1. Load bundled default CSS from classpath
         String bundledCss = loadResource(DEFAULT_THEME_RESOURCE);
         if (bundledCss == null) {
             LOG.warning("Bundled default theme not found: " + DEFAULT_THEME_RESOURCE);
             bundledCss = "";
         }
+
+        // 2. With external layers, consult the persistent cache first
+        String overrideSpec = System.getProperty(OVERRIDE_SYSTEM_PROPERTY);
+        boolean hasOverride = overrideSpec != null && !overrideSpec.isBlank();
+        CssThemeCache cache = hasOverride ? CssThemeCache.fromSystemProperties() : null;
+        String cacheKey = null;
+        if (cache != null) {
+            cacheKey = CssThemeCache.key(bundledCss,
+                    CssLayerLoader.expandLayers(CssLayerLoader.parseSpec(overrideSpec)),
+                    System.getProperty(MAPPING_SYSTEM_PROPERTY));
+            CssTokenMap cached = cache.lookup(cacheKey);
+            if (cached != null) {
+                LOG.info("Loaded override theme from cache: " + overrideSpec
+                        + " (" + cached.size() + " tokens)");
+                commitLoad(event, startNanos, overrideSpec, cached, null, bundledCss, true);
+                return cached;
+            }
+        }
+
+        var stage = beginStage();
+        long stageStart = System.nanoTime();
         Map<String, String> rawTokens = CssTokenParser.parse(bundledCss);
+        endStage(stage, "parse", stageStart, 0, rawTokens.size());
 
-        // 2. Check for external override via system property
-        String overridePath = System.getProperty(OVERRIDE_SYSTEM_PROPERTY);
-        if (overridePath != null && !overridePath.isBlank()) {
-            try {
-                String overrideCss = Files.readString(Path.of(overridePath), StandardCharsets.UTF_8);
-                Map<String, String> overrideTokens = CssTokenParser.parse(overrideCss);
+        // 3. Merge external override layers
+        CssLayerLoader.Result layers = null;
+        if (hasOverride) {
+            stage = beginStage();
+            stageStart = System.nanoTime();
+            int bundledCount = rawTokens.size();
+            layers = CssLayerLoader.load(CssLayerLoader.parseSpec(overrideSpec));
+            if (!layers.files().isEmpty()) {
                 // Merge: override tokens replace matching bundled tokens
                 Map<String, String> merged = new LinkedHashMap<>(rawTokens);
-                merged.putAll(overrideTokens);
+                merged.putAll(layers.tokens());
                 rawTokens = merged;
-                LOG.info("Loaded override theme from: " + overridePath);
-            } catch (IOException e) {
-                LOG.warning("Failed to load override theme from: " + overridePath
-                        + " - " + e.getMessage());
+                LOG.info("Loaded override theme from: " + overrideSpec + " ("
+                        + layers.files().size() + " files, " + layers.parsedFiles()
+                        + " parsed, " + layers.cacheHits() + " cached)");
             }
+            endStage(stage, "override", stageStart, bundledCount, rawTokens.size());
         }
 
-        // 3. Resolve var() references
-        Map<String, String> resolved = CssVariableResolver.resolve(rawTokens);
-
-        // 4. Evaluate calc() expressions
-        Map<String, String> evaluated = CssCalcEvaluator.evaluate(resolved);
-
-        // 5. Type the resolved values
-        Map<String, CssValue> typed = CssValueTyper.type(evaluated);
-
-        // 6. Wrap in CssTokenMap
-        return new CssTokenMap(typed, evaluated);
+        // 4-7. Resolve, evaluate, type and wrap
+        CssTokenMap tokenMap = resolveAndType(rawTokens);
+        if (cache != null && layers != null && !layers.files().isEmpty()) {
+            cache.store(cacheKey, layers, tokenMap);
+        }
+        commitLoad(event, startNanos, overrideSpec, tokenMap, layers, bundledCss, false);
+        return tokenMap;
     }
 
     /**
@@ -140,11 +196,94 @@ public final class CssThemeLoader {
      * Internal pipeline: parse -> resolve -> evaluate calc() -> type -> wrap.
      */
     private static CssTokenMap buildTokenMap(String cssText) {
+        var stage = beginStage();
+        long stageStart = System.nanoTime();
         Map<String, String> rawTokens = CssTokenParser.parse(cssText);
+        endStage(stage, "parse", stageStart, 0, rawTokens.size());
+        return resolveAndType(rawTokens);
+    }
+
+    /**
+     * Pipeline tail shared by all entry points: resolve var() -> evaluate
+     * calc() -> type -> wrap. Each stage is timed.
+     */
+    private static CssTokenMap resolveAndType(Map<String, String> rawTokens) {
+        // Resolve var() references
+        var stage = beginStage();
+        long stageStart = System.nanoTime();
         Map<String, String> resolved = CssVariableResolver.resolve(rawTokens);
+        endStage(stage, "resolve", stageStart, rawTokens.size(), resolved.size());
+
+        // Evaluate calc() expressions
+        stage = beginStage();
+        stageStart = System.nanoTime();
         Map<String, String> evaluated = CssCalcEvaluator.evaluate(resolved);
+        endStage(stage, "calc", stageStart, resolved.size(), evaluated.size());
+
+        // Type the resolved values
+        stage = beginStage();
+        stageStart = System.nanoTime();
         Map<String, CssValue> typed = CssValueTyper.type(evaluated);
-        return new CssTokenMap(typed, evaluated);
+        endStage(stage, "type", stageStart, evaluated.size(), typed.size());
+
+        // Wrap in CssTokenMap
+        stage = beginStage();
+        stageStart = System.nanoTime();
+        CssTokenMap tokenMap = new CssTokenMap(typed, evaluated);
+        endStage(stage, "wrap", stageStart, typed.size(), tokenMap.size());
+        return tokenMap;
+    }
+
+    // ---- Instrumentation ----
+
+    private static PipelineStageEvent beginStage() {
+        if (!JfrEvents.active()) {
+            return null;
+        }
+        var event = new PipelineStageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a pipeline stage: commits its JFR event (if recording) and adds it
+     * to the startup report (if enabled). {@code event} is null while JFR is
+     * not initialized.
+     */
+    private static void endStage(PipelineStageEvent event, String stage, long startNanos,
+                                 int inputTokens, int outputTokens) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = stage;
+                event.inputTokens = inputTokens;
+                event.outputTokens = outputTokens;
+                event.commit();
+            }
+        }
+        StartupReport.recordSince("theme/" + stage, startNanos);
+    }
+
+    private static void commitLoad(ThemeLoadEvent event, long startNanos, String overrideSpec,
+                                   CssTokenMap tokenMap, CssLayerLoader.Result layers,
+                                   String bundledCss, boolean cacheHit) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.overrideSpec = overrideSpec;
+                event.tokenCount = tokenMap.size();
+                event.cacheHit = cacheHit;
+                event.bytesRead = bundledCss.getBytes(StandardCharsets.UTF_8).length;
+                if (layers != null) {
+                    event.overrideFiles = layers.files().size();
+                    event.parsedFiles = layers.parsedFiles();
+                    event.fileCacheHits = layers.cacheHits();
+                    event.bytesRead += layers.bytesRead();
+                }
+                event.commit();
+            }
+        }
+        StartupReport.recordSince(cacheHit ? "theme/total (cached)" : "theme/total", startNanos);
     }
 
     /**
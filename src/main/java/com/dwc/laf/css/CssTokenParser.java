@@ -1,7 +1,9 @@
 package com.dwc.laf.css;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -27,6 +29,8 @@ public final class CssTokenParser {
 
     private static final Logger LOG = Logger.getLogger(CssTokenParser.class.getName());
 
+    private static final String IMPORT_KEYWORD = "@import";
+
     private CssTokenParser() {
         // utility class
     }
@@ -54,6 +58,81 @@ public final class CssTokenParser {
         return Collections.unmodifiableMap(tokens);
     }
 
+    /**
+     * Extracts the targets of top-level {@code @import} rules, in source order.
+     *
+     * <p>Accepts the {@code @import url("x.css")}, {@code @import url(x.css)}
+     * and {@code @import "x.css"} forms. Trailing layer or media conditions
+     * are ignored -- the imported file is always applied. {@code @import}
+     * rules nested inside blocks are not recognized.</p>
+     *
+     * @param cssText the CSS text to scan; may be {@code null} or empty
+     * @return an unmodifiable list of import targets as written (unresolved)
+     */
+    public static List<String> parseImports(String cssText) {
+        if (cssText == null || cssText.isBlank()) {
+            return List.of();
+        }
+
+        String stripped = stripComments(cssText);
+        var imports = new ArrayList<String>();
+        int depth = 0;
+        int i = 0;
+        int len = stripped.length();
+        while (i < len) {
+            char c = stripped.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth = Math.max(0, depth - 1);
+            } else if (depth == 0 && stripped.startsWith(IMPORT_KEYWORD, i)) {
+                int end = findValueEnd(stripped, i + IMPORT_KEYWORD.length());
+                String target = extractImportTarget(
+                        stripped.substring(i + IMPORT_KEYWORD.length(), end).trim());
+                if (target != null) {
+                    imports.add(target);
+                } else {
+                    LOG.warning("Malformed @import rule: " + excerptFrom(stripped, i));
+                }
+                i = end + 1;
+                continue;
+            }
+            i++;
+        }
+        return Collections.unmodifiableList(imports);
+    }
+
+    /**
+     * Extracts the URL from the prelude of an {@code @import} rule
+     * (everything after the keyword up to the terminating semicolon).
+     *
+     * @return the unquoted target, or null if the prelude is malformed
+     */
+    private static String extractImportTarget(String prelude) {
+        String rest = prelude;
+        if (rest.startsWith("url(")) {
+            int close = rest.indexOf(')');
+            if (close == -1) {
+                return null;
+            }
+            rest = rest.substring(4, close).trim();
+            return unquote(rest);
+        }
+        if (rest.startsWith("\"") || rest.startsWith("'")) {
+            int close = rest.indexOf(rest.charAt(0), 1);
+            return close == -1 ? null : rest.substring(1, close);
+        }
+        return null;
+    }
+
+    private static String unquote(String s) {
+        if (s.length() >= 2 && (s.charAt(0) == '"' || s.charAt(0) == '\'')
+                && s.charAt(s.length() - 1) == s.charAt(0)) {
+            return s.substring(1, s.length() - 1);
+        }
+        return s.isEmpty() ? null : s;
+    }
+
     // ================================================================
     // Comment stripping
     // ================================================================
@@ -0,0 +1,31 @@
+package com.dwc.laf.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering one numbered step of
+ * {@code DwcLookAndFeel.initComponentDefaults}.
+ */
+@Name("dwc.DefaultsInit")
+@Label("DWC Defaults Init")
+@Category({"DWC", "Startup"})
+@Description("One step of populating the UIDefaults table")
+public class DefaultsInitEvent extends jdk.jfr.Event {
+
+    @Label("Step")
+    public int step;
+
+    @Label("Name")
+    public String name;
+
+    @Label("Entries Added")
+    @Description("UIDefaults entries added by this step")
+    public int entriesAdded;
+
+    @Label("Preloaded")
+    @Description("Whether the step ran for DwcLookAndFeel.preload() or copied its result")
+    public boolean preloaded;
+}
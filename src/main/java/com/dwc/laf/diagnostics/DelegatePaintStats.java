@@ -0,0 +1,61 @@
+package com.dwc.laf.diagnostics;
+
+/**
+ * Snapshot of the paint statistics for one delegate, painter or icon.
+ * Exposed as composite data through {@link PaintProfilerMXBean}.
+ */
+public final class DelegatePaintStats {
+
+    private final String delegate;
+    private final long count;
+    private final long totalNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    DelegatePaintStats(String delegate, long count, long totalNanos,
+                       long p50Nanos, long p99Nanos, long maxNanos) {
+        this.delegate = delegate;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /** @return the delegate name, e.g. {@code DwcButtonUI} */
+    public String getDelegate() {
+        return delegate;
+    }
+
+    /** @return the number of recorded paints */
+    public long getCount() {
+        return count;
+    }
+
+    /** @return the summed paint time in nanoseconds */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /** @return the approximate median paint time in nanoseconds */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /** @return the approximate 99th percentile paint time in nanoseconds */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /** @return the longest paint time in nanoseconds */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(java.util.Locale.ROOT, "%s{count=%d, p50=%.1fus, p99=%.1fus, max=%.1fus}",
+                delegate, count, p50Nanos / 1000.0, p99Nanos / 1000.0, maxNanos / 1000.0);
+    }
+}
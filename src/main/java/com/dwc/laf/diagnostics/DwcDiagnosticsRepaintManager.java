@@ -0,0 +1,366 @@
+package com.dwc.laf.diagnostics;
+
+import javax.management.ObjectName;
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Dialog;
+import java.awt.Frame;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Repaint manager that finds repaint storms: components that request
+ * repaints continuously although nothing visible changes, such as a hover
+ * flag stuck on or a progress timer running on a hidden tab.
+ *
+ * <p>Enabled with {@code -Ddwc.repaintDiagnostics=true}, which makes
+ * {@code DwcLookAndFeel} call {@link #install()}. When disabled the class
+ * is never instantiated and Swing's own repaint manager runs unchanged.</p>
+ *
+ * <p>Every {@code repaint()} request is counted per component, with its
+ * dirty area, in one-second intervals. A component is flagged for an
+ * interval when it requested at least
+ * {@code dwc.repaintDiagnostics.threshold} repaints (default 30) and the
+ * repaints were unprompted: it was not showing, or no mouse or key input
+ * arrived during the interval. While a component is flagged, the stacks of
+ * its repaint requests are captured, up to {@value #MAX_STACKS} distinct
+ * ones per component.</p>
+ *
+ * <p>The top offenders are exposed through the
+ * {@link RepaintDiagnosticsMXBean} registered as {@value #OBJECT_NAME}, and
+ * logged every {@code dwc.repaintDiagnostics.logInterval} seconds
+ * (default 10): at {@code WARNING} while components are flagged, otherwise
+ * at {@code FINE}.</p>
+ */
+public final class DwcDiagnosticsRepaintManager extends RepaintManager {
+
+    private static final Logger LOG = Logger.getLogger(DwcDiagnosticsRepaintManager.class.getName());
+
+    /** Whether repaint diagnostics are requested. Read once at class initialization. */
+    public static final boolean ENABLED = Boolean.getBoolean("dwc.repaintDiagnostics");
+
+    /** JMX object name of the repaint diagnostics MBean. */
+    public static final String OBJECT_NAME = "com.dwc.laf:type=RepaintDiagnostics";
+
+    /** Distinct stacks kept per flagged component. */
+    static final int MAX_STACKS = 3;
+
+    static final long INTERVAL_NANOS = 1_000_000_000L;
+
+    private static final int THRESHOLD = Math.max(1, Integer.getInteger("dwc.repaintDiagnostics.threshold", 30));
+    private static final int LOG_INTERVAL_SECONDS =
+            Math.max(1, Integer.getInteger("dwc.repaintDiagnostics.logInterval", 10));
+    private static final int TOP_OFFENDERS = 10;
+    private static final int STACK_DEPTH = 12;
+
+    private static final long INPUT_EVENTS = AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_MOTION_EVENT_MASK
+            | AWTEvent.MOUSE_WHEEL_EVENT_MASK | AWTEvent.KEY_EVENT_MASK;
+
+    private static DwcDiagnosticsRepaintManager installed;
+
+    /** Per-component counters; weak so that tracking never retains a component. */
+    private final Map<Component, Tracker> trackers = new WeakHashMap<>();
+    private volatile int threshold;
+    private volatile boolean inputSeen;
+    private long intervalStart;
+    private long totalRepaints;
+
+    DwcDiagnosticsRepaintManager(int threshold) {
+        this.threshold = Math.max(1, threshold);
+    }
+
+    /**
+     * Installs the diagnostics repaint manager, registers its MBean and
+     * starts the periodic log summary. Does nothing if already installed,
+     * or if the application has installed its own repaint manager, which is
+     * left in place.
+     */
+    public static synchronized void install() {
+        if (installed != null) {
+            return;
+        }
+        RepaintManager current = RepaintManager.currentManager((Component) null);
+        if (current.getClass() != RepaintManager.class) {
+            LOG.warning("Repaint diagnostics not installed: " + current.getClass().getName()
+                    + " is the current repaint manager");
+            return;
+        }
+        var manager = new DwcDiagnosticsRepaintManager(THRESHOLD);
+        RepaintManager.setCurrentManager(manager);
+        Toolkit.getDefaultToolkit().addAWTEventListener(e -> manager.inputEvent(), INPUT_EVENTS);
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(new Bean(manager), new ObjectName(OBJECT_NAME));
+        } catch (Exception e) {
+            LOG.warning("Failed to register " + OBJECT_NAME + " - " + e.getMessage());
+        }
+        ScheduledExecutorService logger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "DWC repaint diagnostics");
+            t.setDaemon(true);
+            return t;
+        });
+        logger.scheduleAtFixedRate(manager::logSummary,
+                LOG_INTERVAL_SECONDS, LOG_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        installed = manager;
+        LOG.info(() -> "Repaint diagnostics installed (threshold " + THRESHOLD + " repaints/s)");
+    }
+
+    @Override
+    public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+        if (c != null && w > 0 && h > 0) {
+            record(c, w, h, System.nanoTime());
+        }
+        super.addDirtyRegion(c, x, y, w, h);
+    }
+
+    /**
+     * Counts a repaint request. Package-private for testing with a fixed clock.
+     */
+    void record(Component c, int w, int h, long now) {
+        boolean hidden = !c.isShowing();
+        synchronized (trackers) {
+            if (intervalStart == 0) {
+                intervalStart = now;
+            } else if (now - intervalStart >= INTERVAL_NANOS) {
+                roll(now);
+            }
+            totalRepaints++;
+            Tracker t = trackers.computeIfAbsent(c, k -> new Tracker());
+            t.intervalRequests++;
+            t.total++;
+            t.dirtyPixels += (long) w * h;
+            if (hidden) {
+                t.intervalHidden++;
+                t.hidden++;
+            }
+            if (t.flagged && t.stacks.size() < MAX_STACKS) {
+                String stack = stack(new Throwable().getStackTrace());
+                if (!t.stacks.contains(stack)) {
+                    t.stacks.add(stack);
+                }
+            }
+        }
+    }
+
+    /** Notes a mouse or key event. Package-private for testing. */
+    void inputEvent() {
+        inputSeen = true;
+    }
+
+    /**
+     * Closes the current interval: computes each component's rate and flags
+     * unprompted components at or above the threshold. Package-private for
+     * testing with a fixed clock.
+     */
+    void roll(long now) {
+        synchronized (trackers) {
+            double seconds = Math.max(1.0, (now - intervalStart) / (double) INTERVAL_NANOS);
+            boolean unprompted = !inputSeen;
+            inputSeen = false;
+            int limit = threshold;
+            for (Tracker t : trackers.values()) {
+                t.rate = (int) Math.round(t.intervalRequests / seconds);
+                t.peakRate = Math.max(t.peakRate, t.rate);
+                t.flagged = t.rate >= limit && (unprompted || t.intervalHidden > 0);
+                if (t.flagged) {
+                    t.flaggedSeconds++;
+                }
+                t.intervalRequests = 0;
+                t.intervalHidden = 0;
+            }
+            intervalStart = now;
+        }
+    }
+
+    /**
+     * Returns the components with the most repaint activity: flagged ones
+     * first, then by flagged seconds, peak rate and total requests.
+     *
+     * @return up to ten offenders
+     */
+    public List<RepaintOffender> offenders() {
+        var result = new ArrayList<RepaintOffender>();
+        synchronized (trackers) {
+            trackers.forEach((c, t) -> result.add(new RepaintOffender(describe(c), t.rate, t.peakRate,
+                    t.total, t.hidden, t.dirtyPixels, t.flaggedSeconds, t.flagged, t.stacks)));
+        }
+        result.sort(Comparator.comparing(RepaintOffender::isFlagged)
+                .thenComparingLong(RepaintOffender::getFlaggedSeconds)
+                .thenComparingInt(RepaintOffender::getPeakRepaintsPerSecond)
+                .thenComparingLong(RepaintOffender::getTotalRepaints)
+                .reversed());
+        return result.size() > TOP_OFFENDERS ? List.copyOf(result.subList(0, TOP_OFFENDERS)) : result;
+    }
+
+    /**
+     * Formats the top offenders and their captured stacks.
+     *
+     * @return the summary text
+     */
+    public String summary() {
+        List<RepaintOffender> offenders = offenders();
+        long flagged = offenders.stream().filter(RepaintOffender::isFlagged).count();
+        var sb = new StringBuilder();
+        synchronized (trackers) {
+            sb.append(String.format(Locale.ROOT,
+                    "Repaint diagnostics: %d repaint requests, %d components tracked, %d flagged (>= %d/s)",
+                    totalRepaints, trackers.size(), flagged, threshold));
+        }
+        for (RepaintOffender o : offenders) {
+            sb.append(String.format(Locale.ROOT,
+                    "%n  %s %s: %d/s (peak %d/s), %d requests, %d hidden, %d dirty px, flagged %d s",
+                    o.isFlagged() ? "!" : " ", o.getComponent(), o.getRepaintsPerSecond(),
+                    o.getPeakRepaintsPerSecond(), o.getTotalRepaints(), o.getHiddenRepaints(),
+                    o.getDirtyPixels(), o.getFlaggedSeconds()));
+            for (String stack : o.getStacks()) {
+                sb.append(String.format("%n      repaint requested at%n%s", stack.indent(8).stripTrailing()));
+            }
+        }
+        return sb.toString();
+    }
+
+    private void logSummary() {
+        try {
+            long now = System.nanoTime();
+            synchronized (trackers) {
+                if (intervalStart != 0 && now - intervalStart >= INTERVAL_NANOS) {
+                    roll(now);
+                }
+            }
+            boolean flagged = offenders().stream().anyMatch(RepaintOffender::isFlagged);
+            Level level = flagged ? Level.WARNING : Level.FINE;
+            if (LOG.isLoggable(level)) {
+                LOG.log(level, summary());
+            }
+        } catch (RuntimeException e) {
+            LOG.log(Level.WARNING, "Repaint diagnostics summary failed", e);
+        }
+    }
+
+    /**
+     * Discards all collected statistics and stacks.
+     */
+    public void reset() {
+        synchronized (trackers) {
+            trackers.clear();
+            totalRepaints = 0;
+            intervalStart = 0;
+        }
+    }
+
+    /**
+     * Formats a repaint request stack, skipping the repaint plumbing frames
+     * of this class, {@code RepaintManager} and {@code repaint()} itself.
+     */
+    private static String stack(StackTraceElement[] frames) {
+        int start = 0;
+        while (start < frames.length && isRepaintPlumbing(frames[start])) {
+            start++;
+        }
+        var sb = new StringBuilder();
+        for (int i = start; i < Math.min(frames.length, start + STACK_DEPTH); i++) {
+            if (sb.length() > 0) {
+                sb.append('\n');
+            }
+            sb.append(frames[i]);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isRepaintPlumbing(StackTraceElement frame) {
+        String cls = frame.getClassName();
+        return cls.equals(DwcDiagnosticsRepaintManager.class.getName())
+                || cls.equals(RepaintManager.class.getName())
+                || frame.getMethodName().equals("repaint")
+                && (cls.equals(JComponent.class.getName()) || cls.equals(Component.class.getName()));
+    }
+
+    /**
+     * Describes a component by class, name, bounds and window title.
+     */
+    private static String describe(Component c) {
+        var sb = new StringBuilder(c.getClass().getName());
+        if (c.getName() != null) {
+            sb.append('[').append(c.getName()).append(']');
+        }
+        sb.append(String.format(Locale.ROOT, " %dx%d@%d,%d", c.getWidth(), c.getHeight(), c.getX(), c.getY()));
+        Window window = SwingUtilities.getWindowAncestor(c);
+        String title = window instanceof Frame f ? f.getTitle() : window instanceof Dialog d ? d.getTitle() : null;
+        if (title != null && !title.isEmpty()) {
+            sb.append(" in \"").append(title).append('"');
+        }
+        return sb.toString();
+    }
+
+    /** Repaint counters of one component. */
+    private static final class Tracker {
+        int intervalRequests;
+        int intervalHidden;
+        int rate;
+        int peakRate;
+        long total;
+        long hidden;
+        long dirtyPixels;
+        long flaggedSeconds;
+        boolean flagged;
+        final List<String> stacks = new ArrayList<>(MAX_STACKS);
+    }
+
+    /** MXBean view of an installed manager. Package-private for testing. */
+    static final class Bean implements RepaintDiagnosticsMXBean {
+        private final DwcDiagnosticsRepaintManager manager;
+
+        Bean(DwcDiagnosticsRepaintManager manager) {
+            this.manager = manager;
+        }
+
+        @Override
+        public List<RepaintOffender> getOffenders() {
+            return manager.offenders();
+        }
+
+        @Override
+        public long getTotalRepaints() {
+            synchronized (manager.trackers) {
+                return manager.totalRepaints;
+            }
+        }
+
+        @Override
+        public int getTrackedComponents() {
+            synchronized (manager.trackers) {
+                return manager.trackers.size();
+            }
+        }
+
+        @Override
+        public int getThreshold() {
+            return manager.threshold;
+        }
+
+        @Override
+        public void setThreshold(int threshold) {
+            manager.threshold = Math.max(1, threshold);
+        }
+
+        @Override
+        public void reset() {
+            manager.reset();
+        }
+    }
+}
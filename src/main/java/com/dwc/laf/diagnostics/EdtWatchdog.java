@@ -0,0 +1,510 @@
+package com.dwc.laf.diagnostics;
+
+import javax.management.ObjectName;
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.InvocationEvent;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * EDT responsiveness monitor that tells whether a slow frame was spent in
+ * the DWC look and feel or in the application.
+ *
+ * <p>Enabled with {@code -Ddwc.edtWatchdog=true}, which makes
+ * {@code DwcLookAndFeel} call {@link #install()}. The watchdog pushes an
+ * event queue that times every dispatch on the EDT and the time each event
+ * waited in the queue, and enables the {@link PaintProfiler} hooks of the
+ * DWC delegates, painters and icons, which report each paint here. Nested
+ * hooks are unwound so every paint is charged its exclusive time.</p>
+ *
+ * <p>A dispatch longer than {@code dwc.edtWatchdog.budget} milliseconds
+ * (default 50) is a slow frame: it is emitted as a {@code dwc.SlowFrame}
+ * JFR event while a recording is running and kept, with its delegates
+ * ordered by exclusive time, among the last {@value #MAX_SLOW_FRAMES} slow
+ * frames of the {@link EdtWatchdogMXBean} registered as
+ * {@value #OBJECT_NAME}. The MBean also exposes one-minute rolling
+ * histograms of dispatch duration, paint dispatch duration and queue
+ * latency. A dispatch that runs a nested event loop, such as a modal
+ * dialog, is measured up to its first nested event.</p>
+ *
+ * <p>When one dispatch runs longer than {@code dwc.edtWatchdog.stall}
+ * milliseconds (default 1000), a background thread captures the EDT stack
+ * once and logs it at {@code WARNING}, naming the topmost DWC or
+ * application frame.</p>
+ */
+public final class EdtWatchdog {
+
+    private static final Logger LOG = Logger.getLogger(EdtWatchdog.class.getName());
+
+    /** Whether the EDT watchdog is requested. Read once at class initialization. */
+    public static final boolean ENABLED = Boolean.getBoolean("dwc.edtWatchdog");
+
+    /** JMX object name of the watchdog MBean. */
+    public static final String OBJECT_NAME = "com.dwc.laf:type=EdtWatchdog";
+
+    /** Slow frames kept for the MBean. */
+    static final int MAX_SLOW_FRAMES = 20;
+
+    private static final int BUDGET_MILLIS = Math.max(1, Integer.getInteger("dwc.edtWatchdog.budget", 50));
+    private static final int STALL_MILLIS = Math.max(100, Integer.getInteger("dwc.edtWatchdog.stall", 1000));
+    private static final int WINDOW_SECONDS = 60;
+    private static final int MAX_BLAME = 5;
+    private static final int STACK_DEPTH = 30;
+    private static final int MAX_EVENT_LENGTH = 160;
+
+    /** Latencies above this are clock mismatches rather than queueing. */
+    private static final long MAX_LATENCY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static volatile EdtWatchdog installed;
+
+    // Frame state, confined to the dispatching thread.
+    private volatile Thread frameThread;
+    private boolean frameOpen;
+    private int dispatchDepth;
+    private AWTEvent frameEvent;
+    private long frameStart;
+    private long frameLatency;
+    private int paints;
+    private long lafNanos;
+
+    /** Completed hooks not yet enclosed by a later hook, for unwinding nesting. */
+    private long[] openStarts = new long[16];
+    private long[] openNanos = new long[16];
+    private int open;
+
+    /** Exclusive time and hook count per delegate in the current frame. */
+    private String[] delegates = new String[16];
+    private long[] delegateNanos = new long[16];
+    private int[] delegateHooks = new int[16];
+    private int delegateCount;
+
+    // State read by the MBean and the stall monitor.
+    private volatile long budgetNanos;
+    private final long stallNanos;
+    private final RollingHistogram dispatchHistogram = new RollingHistogram(WINDOW_SECONDS);
+    private final RollingHistogram paintHistogram = new RollingHistogram(WINDOW_SECONDS);
+    private final RollingHistogram latencyHistogram = new RollingHistogram(WINDOW_SECONDS);
+    private final Deque<SlowFrame> slowFrames = new ArrayDeque<>();
+    private final LongAdder slowFrameCount = new LongAdder();
+    private final LongAdder slowFrameLafNanos = new LongAdder();
+    private final LongAdder slowFrameAppNanos = new LongAdder();
+    private volatile long dispatchStart;
+    private volatile AWTEvent dispatchEvent;
+    private volatile String lastStall = "";
+    private long reportedStall;
+
+    EdtWatchdog(int budgetMillis, int stallMillis) {
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMillis));
+        this.stallNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, stallMillis));
+    }
+
+    /**
+     * Pushes the timing event queue, registers the MBean and starts the
+     * stall monitor. Does nothing if already installed.
+     */
+    public static synchronized void install() {
+        if (installed != null) {
+            return;
+        }
+        var watchdog = new EdtWatchdog(BUDGET_MILLIS, STALL_MILLIS);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new WatchdogQueue(watchdog));
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(new Bean(watchdog), new ObjectName(OBJECT_NAME));
+        } catch (Exception e) {
+            LOG.warning("Failed to register " + OBJECT_NAME + " - " + e.getMessage());
+        }
+        ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "DWC EDT watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(25, STALL_MILLIS / 4);
+        monitor.scheduleAtFixedRate(() -> watchdog.checkStall(System.nanoTime()),
+                period, period, TimeUnit.MILLISECONDS);
+        installed = watchdog;
+        LOG.info(() -> "EDT watchdog installed (budget " + BUDGET_MILLIS + " ms, stall "
+                + STALL_MILLIS + " ms)");
+    }
+
+    /**
+     * Receives a paint from the {@link PaintProfiler} hooks.
+     *
+     * @param delegate   the delegate, painter or icon name
+     * @param startNanos the {@link System#nanoTime()} reading taken before painting
+     * @param nanos      the paint duration
+     */
+    static void painted(String delegate, long startNanos, long nanos) {
+        EdtWatchdog watchdog = installed;
+        if (watchdog != null) {
+            watchdog.paint(delegate, startNanos, nanos);
+        }
+    }
+
+    /**
+     * Opens a frame for an event dispatch. If a frame is already open, its
+     * dispatch is running a nested event loop and the frame ends here.
+     * Package-private for testing with a fixed clock.
+     *
+     * @param event        the event being dispatched
+     * @param now          the {@link System#nanoTime()} reading
+     * @param latencyNanos the time the event waited in the queue, or -1 if unknown
+     */
+    void beginDispatch(AWTEvent event, long now, long latencyNanos) {
+        if (frameOpen) {
+            endFrame(now);
+        }
+        dispatchDepth++;
+        frameThread = Thread.currentThread();
+        frameEvent = event;
+        frameStart = now;
+        frameLatency = latencyNanos;
+        frameOpen = true;
+        paints = 0;
+        lafNanos = 0;
+        open = 0;
+        delegateCount = 0;
+        if (latencyNanos >= 0) {
+            latencyHistogram.add(latencyNanos, now);
+        }
+        dispatchEvent = event;
+        dispatchStart = now;
+    }
+
+    /**
+     * Closes the frame of the innermost dispatch. Package-private for
+     * testing with a fixed clock.
+     *
+     * @param now the {@link System#nanoTime()} reading
+     */
+    void endDispatch(long now) {
+        dispatchDepth--;
+        if (frameOpen) {
+            endFrame(now);
+        }
+        if (dispatchDepth > 0) {
+            // The enclosing dispatch resumes; its stall clock restarts
+            dispatchStart = now;
+        } else {
+            dispatchStart = 0;
+            dispatchEvent = null;
+        }
+    }
+
+    /**
+     * Charges a paint to the current frame. Hooks complete innermost first,
+     * so completed hooks that started after this one are its children and
+     * their time is subtracted from its own. Package-private for testing.
+     */
+    void paint(String delegate, long start, long nanos) {
+        if (!frameOpen || start < frameStart || Thread.currentThread() != frameThread) {
+            return;
+        }
+        long children = 0;
+        while (open > 0 && openStarts[open - 1] >= start) {
+            children += openNanos[--open];
+        }
+        if (open == openStarts.length) {
+            openStarts = Arrays.copyOf(openStarts, open * 2);
+            openNanos = Arrays.copyOf(openNanos, open * 2);
+        }
+        openStarts[open] = start;
+        openNanos[open] = nanos;
+        open++;
+
+        long self = Math.max(0, nanos - children);
+        paints++;
+        lafNanos += self;
+        charge(delegate, self);
+    }
+
+    private void charge(String delegate, long self) {
+        for (int i = 0; i < delegateCount; i++) {
+            if (delegates[i].equals(delegate)) {
+                delegateNanos[i] += self;
+                delegateHooks[i]++;
+                return;
+            }
+        }
+        if (delegateCount == delegates.length) {
+            delegates = Arrays.copyOf(delegates, delegateCount * 2);
+            delegateNanos = Arrays.copyOf(delegateNanos, delegateCount * 2);
+            delegateHooks = Arrays.copyOf(delegateHooks, delegateCount * 2);
+        }
+        delegates[delegateCount] = delegate;
+        delegateNanos[delegateCount] = self;
+        delegateHooks[delegateCount] = 1;
+        delegateCount++;
+    }
+
+    private void endFrame(long now) {
+        frameOpen = false;
+        long duration = now - frameStart;
+        dispatchHistogram.add(duration, now);
+        if (paints > 0) {
+            paintHistogram.add(duration, now);
+        }
+        if (duration > budgetNanos) {
+            slowFrame(duration);
+        }
+        frameEvent = null;
+    }
+
+    private void slowFrame(long duration) {
+        long laf = Math.min(lafNanos, duration);
+        var frame = new SlowFrame(System.currentTimeMillis(), describe(frameEvent), duration,
+                Math.max(0, frameLatency), laf, paints, blame());
+        slowFrameCount.increment();
+        slowFrameLafNanos.add(laf);
+        slowFrameAppNanos.add(duration - laf);
+        synchronized (slowFrames) {
+            slowFrames.addFirst(frame);
+            if (slowFrames.size() > MAX_SLOW_FRAMES) {
+                slowFrames.removeLast();
+            }
+        }
+        LOG.fine(() -> "Slow frame: " + frame);
+
+        if (JfrEvents.active()) {
+            var event = new SlowFrameEvent();
+            if (event.shouldCommit()) {
+                event.event = frame.getEvent();
+                event.dispatchDuration = duration;
+                event.dispatchLatency = frame.getLatencyNanos();
+                event.lafDuration = laf;
+                event.appDuration = duration - laf;
+                event.paints = paints;
+                event.topDelegate = delegateCount > 0 ? frame.getBlame().get(0) : null;
+                event.blame = String.join(", ", frame.getBlame());
+                event.commit();
+            }
+        }
+    }
+
+    /** Returns the delegates of the current frame by exclusive time, longest first. */
+    private List<String> blame() {
+        var order = new ArrayList<Integer>(delegateCount);
+        for (int i = 0; i < delegateCount; i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> Long.compare(delegateNanos[b], delegateNanos[a]));
+        var result = new ArrayList<String>(Math.min(MAX_BLAME, delegateCount));
+        for (int i = 0; i < Math.min(MAX_BLAME, delegateCount); i++) {
+            int d = order.get(i);
+            result.add(String.format(Locale.ROOT, "%s %.1f ms x%d",
+                    delegates[d], delegateNanos[d] / 1e6, delegateHooks[d]));
+        }
+        return result;
+    }
+
+    /**
+     * Captures the EDT stack once if the current dispatch has run longer
+     * than the stall threshold. Called from the monitor thread;
+     * package-private for testing with a fixed clock.
+     */
+    void checkStall(long now) {
+        long start = dispatchStart;
+        Thread edt = frameThread;
+        if (start == 0 || edt == null || start == reportedStall || now - start < stallNanos) {
+            return;
+        }
+        reportedStall = start;
+        AWTEvent event = dispatchEvent;
+        String report = stallReport(edt.getStackTrace(), (now - start) / 1_000_000,
+                event != null ? event.getClass().getName() : "unknown event");
+        lastStall = report;
+        LOG.warning(report);
+    }
+
+    private static String stallReport(StackTraceElement[] stack, long millis, String event) {
+        String blocked = null;
+        var frames = new StringBuilder();
+        int shown = 0;
+        for (StackTraceElement e : stack) {
+            String cls = e.getClassName();
+            if (cls.equals(EdtWatchdog.class.getName()) || cls.startsWith(EdtWatchdog.class.getName() + "$")) {
+                continue;
+            }
+            if (blocked == null && !isPlatform(cls)) {
+                blocked = (cls.startsWith("com.dwc.laf.") ? "DWC " : "application ") + e;
+            }
+            if (shown++ < STACK_DEPTH) {
+                frames.append("\n\tat ").append(e);
+            }
+        }
+        return "EDT blocked for " + millis + " ms dispatching " + event + ", in "
+                + (blocked != null ? blocked : "platform code") + frames;
+    }
+
+    private static boolean isPlatform(String cls) {
+        return cls.startsWith("java.") || cls.startsWith("javax.") || cls.startsWith("sun.")
+                || cls.startsWith("jdk.") || cls.startsWith("com.sun.");
+    }
+
+    /**
+     * Returns the time an event waited in the queue, from its creation
+     * timestamp.
+     *
+     * @return the latency in nanoseconds, or -1 if the event has no timestamp
+     */
+    static long latencyNanos(AWTEvent event, long nowMillis) {
+        long when;
+        if (event instanceof InputEvent e) {
+            when = e.getWhen();
+        } else if (event instanceof InvocationEvent e) {
+            when = e.getWhen();
+        } else if (event instanceof ActionEvent e) {
+            when = e.getWhen();
+        } else {
+            return -1;
+        }
+        long millis = nowMillis - when;
+        if (when <= 0 || millis > MAX_LATENCY_MILLIS) {
+            return -1;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+    }
+
+    private static String describe(AWTEvent event) {
+        if (event == null) {
+            return "unknown event";
+        }
+        String params = event.paramString();
+        if (params.length() > MAX_EVENT_LENGTH) {
+            params = params.substring(0, MAX_EVENT_LENGTH) + "...";
+        }
+        Object source = event.getSource();
+        String on = source == null ? "null" : source.getClass().getSimpleName();
+        if (source instanceof Component c && c.getName() != null) {
+            on += "[" + c.getName() + "]";
+        }
+        return event.getClass().getSimpleName() + "[" + params + "] on " + on;
+    }
+
+    /**
+     * Returns the most recent slow frames, newest first.
+     *
+     * @return up to {@value #MAX_SLOW_FRAMES} slow frames
+     */
+    public List<SlowFrame> slowFrames() {
+        synchronized (slowFrames) {
+            return List.copyOf(slowFrames);
+        }
+    }
+
+    /**
+     * Discards all collected histograms, slow frames and stall reports.
+     */
+    public void reset() {
+        dispatchHistogram.reset();
+        paintHistogram.reset();
+        latencyHistogram.reset();
+        synchronized (slowFrames) {
+            slowFrames.clear();
+        }
+        slowFrameCount.reset();
+        slowFrameLafNanos.reset();
+        slowFrameAppNanos.reset();
+        lastStall = "";
+    }
+
+    /** Event queue that reports each dispatch to the watchdog. Package-private for testing. */
+    static final class WatchdogQueue extends EventQueue {
+        private final EdtWatchdog watchdog;
+
+        WatchdogQueue(EdtWatchdog watchdog) {
+            this.watchdog = watchdog;
+        }
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            watchdog.beginDispatch(event, System.nanoTime(),
+                    latencyNanos(event, System.currentTimeMillis()));
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                watchdog.endDispatch(System.nanoTime());
+            }
+        }
+    }
+
+    /** MXBean view of a watchdog. Package-private for testing. */
+    static final class Bean implements EdtWatchdogMXBean {
+        private final EdtWatchdog watchdog;
+
+        Bean(EdtWatchdog watchdog) {
+            this.watchdog = watchdog;
+        }
+
+        @Override
+        public Map<String, Long> getDispatchHistogram() {
+            return watchdog.dispatchHistogram.snapshot(System.nanoTime());
+        }
+
+        @Override
+        public Map<String, Long> getPaintHistogram() {
+            return watchdog.paintHistogram.snapshot(System.nanoTime());
+        }
+
+        @Override
+        public Map<String, Long> getLatencyHistogram() {
+            return watchdog.latencyHistogram.snapshot(System.nanoTime());
+        }
+
+        @Override
+        public List<SlowFrame> getSlowFrames() {
+            return watchdog.slowFrames();
+        }
+
+        @Override
+        public long getSlowFrameCount() {
+            return watchdog.slowFrameCount.sum();
+        }
+
+        @Override
+        public long getSlowFrameLafNanos() {
+            return watchdog.slowFrameLafNanos.sum();
+        }
+
+        @Override
+        public long getSlowFrameAppNanos() {
+            return watchdog.slowFrameAppNanos.sum();
+        }
+
+        @Override
+        public String getLastStall() {
+            return watchdog.lastStall;
+        }
+
+        @Override
+        public int getBudgetMillis() {
+            return (int) TimeUnit.NANOSECONDS.toMillis(watchdog.budgetNanos);
+        }
+
+        @Override
+        public void setBudgetMillis(int budgetMillis) {
+            watchdog.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMillis));
+        }
+
+        @Override
+        public void reset() {
+            watchdog.reset();
+        }
+    }
+}
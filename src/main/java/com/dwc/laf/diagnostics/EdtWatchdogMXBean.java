@@ -0,0 +1,92 @@
+package com.dwc.laf.diagnostics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface of the EDT watchdog, registered as
+ * {@value EdtWatchdog#OBJECT_NAME} when {@code dwc.edtWatchdog} is enabled.
+ */
+public interface EdtWatchdogMXBean {
+
+    /**
+     * Returns the histogram of event dispatch durations over the last
+     * minute.
+     *
+     * @return bucket label (e.g. {@code <16ms}) to count
+     */
+    Map<String, Long> getDispatchHistogram();
+
+    /**
+     * Returns the histogram of the durations of dispatches that painted
+     * DWC components over the last minute.
+     *
+     * @return bucket label to count
+     */
+    Map<String, Long> getPaintHistogram();
+
+    /**
+     * Returns the histogram of the time events waited in the queue before
+     * being dispatched, over the last minute.
+     *
+     * @return bucket label to count
+     */
+    Map<String, Long> getLatencyHistogram();
+
+    /**
+     * Returns the most recent dispatches over the frame budget, newest
+     * first.
+     *
+     * @return the recent slow frames
+     */
+    List<SlowFrame> getSlowFrames();
+
+    /**
+     * Returns the number of dispatches over the frame budget.
+     *
+     * @return the slow frame count
+     */
+    long getSlowFrameCount();
+
+    /**
+     * Returns the summed exclusive time of the DWC paint hooks in slow
+     * frames.
+     *
+     * @return the look and feel time in nanoseconds
+     */
+    long getSlowFrameLafNanos();
+
+    /**
+     * Returns the summed time of slow frames outside the DWC paint hooks.
+     *
+     * @return the application time in nanoseconds
+     */
+    long getSlowFrameAppNanos();
+
+    /**
+     * Returns the EDT stack captured during the most recent stall, or an
+     * empty string if the EDT has not stalled.
+     *
+     * @return the stall report
+     */
+    String getLastStall();
+
+    /**
+     * Returns the dispatch duration above which a frame is reported.
+     *
+     * @return the budget in milliseconds
+     */
+    int getBudgetMillis();
+
+    /**
+     * Sets the dispatch duration above which a frame is reported.
+     *
+     * @param budgetMillis the budget in milliseconds, at least 1
+     */
+    void setBudgetMillis(int budgetMillis);
+
+    /**
+     * Discards all collected histograms and slow frames.
+     */
+    void reset();
+}
@@ -0,0 +1,29 @@
+package com.dwc.laf.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering resolution of the CSS font stack to a platform font family.
+ */
+@Name("dwc.FontResolve")
+@Label("DWC Font Resolve")
+@Category({"DWC", "Startup"})
+@Description("Resolving the CSS font-family stack to an installed font")
+public class FontResolveEvent extends jdk.jfr.Event {
+
+    @Label("Font Stack")
+    public String fontStack;
+
+    @Label("Resolved Family")
+    public String family;
+
+    @Label("Available Families")
+    public int availableFamilies;
+
+    @Label("Font List Cached")
+    @Description("Whether the platform font list was queried ahead of time by preload()")
+    public boolean cacheHit;
+}
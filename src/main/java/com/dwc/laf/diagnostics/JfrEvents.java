@@ -0,0 +1,43 @@
+package com.dwc.laf.diagnostics;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Guard for the DWC JFR events.
+ *
+ * <p>Loading the first {@link jdk.jfr.Event} subclass initializes the JFR
+ * event machinery, which costs hundreds of milliseconds on a cold JVM even
+ * when nothing is recording. Instrumented code therefore only instantiates
+ * event classes once the flight recorder has been initialized (by
+ * {@code -XX:StartFlightRecording}, {@code jcmd JFR.start} or the
+ * {@code jdk.jfr} API); until then the events cost one static check.</p>
+ *
+ * <p>Runtimes linked without the {@code jdk.jfr} module (jlink images) have
+ * no flight recorder; there the events are never active.</p>
+ */
+public final class JfrEvents {
+
+    /** Whether the {@code jdk.jfr} module is present in the runtime. */
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private JfrEvents() {
+        // utility class
+    }
+
+    /**
+     * Returns whether DWC events should be created.
+     *
+     * @return true once the flight recorder is initialized; false if the
+     *         runtime has no {@code jdk.jfr} module
+     */
+    public static boolean active() {
+        if (!AVAILABLE) {
+            return false;
+        }
+        try {
+            return FlightRecorder.isInitialized();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
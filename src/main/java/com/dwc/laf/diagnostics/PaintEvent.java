@@ -0,0 +1,42 @@
+package com.dwc.laf.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Sampled JFR event for one paint by a DWC delegate, painter or icon.
+ *
+ * <p>Committed as an instant event carrying the measured duration, because
+ * the sampling decision is made after painting. Only emitted while
+ * {@link PaintProfiler#ENABLED} and JFR are both active.</p>
+ */
+@Name("dwc.Paint")
+@Label("DWC Paint")
+@Category({"DWC", "Painting"})
+@Description("Sampled paint of a DWC delegate, painter or icon")
+@StackTrace(false)
+public class PaintEvent extends jdk.jfr.Event {
+
+    @Label("Delegate")
+    public String delegate;
+
+    @Label("Component Class")
+    public String componentClass;
+
+    @Label("Variant")
+    public String variant;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Paint Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long paintDuration;
+}
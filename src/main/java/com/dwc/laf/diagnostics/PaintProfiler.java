@@ -0,0 +1,290 @@
+package com.dwc.laf.diagnostics;
+
+import javax.management.ObjectName;
+import java.awt.Component;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Per-delegate paint profiler for the DWC delegates, painters and icons.
+ *
+ * <p>Enabled with {@code -Ddwc.paintProfile=true}. Instrumented code guards
+ * every hook with the static final {@link #ENABLED} flag, so when profiling
+ * is off the JIT removes the hooks entirely:</p>
+ * <pre>
+ *   long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+ *   ... paint ...
+ *   if (PaintProfiler.ENABLED) {
+ *       PaintProfiler.record("DwcButtonUI", variant, c, start);
+ *   }
+ * </pre>
+ *
+ * <p>When enabled, each paint updates per-delegate counters and a
+ * logarithmic duration histogram (about 19% bucket resolution), exposed
+ * with p50/p99 and cache hit ratios through the {@link PaintProfilerMXBean}
+ * registered as {@value #OBJECT_NAME}. In addition, every
+ * {@code dwc.paintProfile.sampleInterval}-th paint (default 16) and every
+ * paint of 1 ms or longer is emitted as a {@code dwc.Paint} JFR event while
+ * a recording is running.</p>
+ *
+ * <p>Durations of nested hooks overlap: a delegate's time includes the
+ * painters and icons it calls.</p>
+ *
+ * <p>The hooks are also active when only {@link EdtWatchdog} is enabled;
+ * then paints are forwarded to the watchdog for slow-frame attribution and
+ * no statistics are collected here.</p>
+ */
+public final class PaintProfiler {
+
+    private static final Logger LOG = Logger.getLogger(PaintProfiler.class.getName());
+
+    private static final boolean PROFILING = Boolean.getBoolean("dwc.paintProfile");
+
+    /**
+     * Whether the paint hooks are active: paint profiling or the EDT
+     * watchdog is enabled. Read once at class initialization.
+     */
+    public static final boolean ENABLED = PROFILING || EdtWatchdog.ENABLED;
+
+    /** JMX object name of the profiler MBean. */
+    public static final String OBJECT_NAME = "com.dwc.laf:type=PaintProfiler";
+
+    private static final int SAMPLE_INTERVAL = Math.max(1, Integer.getInteger("dwc.paintProfile.sampleInterval", 16));
+
+    /** Paints at least this long are always emitted as JFR events. */
+    private static final long SLOW_PAINT_NANOS = 1_000_000;
+
+    private static final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder[]> caches = new ConcurrentHashMap<>();
+    private static final AtomicLong sampleCounter = new AtomicLong();
+
+    static {
+        if (PROFILING) {
+            try {
+                ManagementFactory.getPlatformMBeanServer()
+                        .registerMBean(new Bean(), new ObjectName(OBJECT_NAME));
+            } catch (Exception e) {
+                LOG.warning("Failed to register " + OBJECT_NAME + " - " + e.getMessage());
+            }
+        }
+    }
+
+    private PaintProfiler() {
+        // utility class
+    }
+
+    /**
+     * Records a paint of a component.
+     *
+     * @param delegate   the delegate, painter or icon name
+     * @param variant    the style variant (e.g. button type), or null
+     * @param c          the component painted, may be null
+     * @param startNanos the {@link System#nanoTime()} reading taken before painting
+     */
+    public static void record(String delegate, Object variant, Component c, long startNanos) {
+        record(delegate, variant, c,
+                c != null ? c.getWidth() : 0, c != null ? c.getHeight() : 0, startNanos);
+    }
+
+    /**
+     * Records a paint with an explicit painted size (for painters and icons).
+     *
+     * @param delegate   the delegate, painter or icon name
+     * @param variant    the style variant, or null
+     * @param c          the component painted for, may be null
+     * @param width      the painted width
+     * @param height     the painted height
+     * @param startNanos the {@link System#nanoTime()} reading taken before painting
+     */
+    public static void record(String delegate, Object variant, Component c,
+                              int width, int height, long startNanos) {
+        if (!ENABLED) {
+            return;
+        }
+        long nanos = System.nanoTime() - startNanos;
+        if (EdtWatchdog.ENABLED) {
+            EdtWatchdog.painted(delegate, startNanos, nanos);
+        }
+        if (!PROFILING) {
+            return;
+        }
+        add(delegate, nanos);
+
+        if ((sampleCounter.incrementAndGet() % SAMPLE_INTERVAL == 0 || nanos >= SLOW_PAINT_NANOS)
+                && JfrEvents.active()) {
+            var event = new PaintEvent();
+            if (event.shouldCommit()) {
+                event.delegate = delegate;
+                event.componentClass = c != null ? c.getClass().getName() : null;
+                event.variant = variant != null ? variant.toString() : null;
+                event.width = width;
+                event.height = height;
+                event.paintDuration = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Counts a lookup in a paint cache.
+     *
+     * @param cache the cache name, e.g. {@code ShadowPainter}
+     * @param hit   whether the lookup was served from the cache
+     */
+    public static void cacheLookup(String cache, boolean hit) {
+        if (!PROFILING) {
+            return;
+        }
+        countLookup(cache, hit);
+    }
+
+    /**
+     * Returns the current statistics, ordered by total time, longest first.
+     *
+     * @return the per-delegate statistics
+     */
+    public static List<DelegatePaintStats> snapshot() {
+        var result = new ArrayList<DelegatePaintStats>();
+        stats.forEach((name, s) -> result.add(s.snapshot(name)));
+        result.sort(Comparator.comparingLong(DelegatePaintStats::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Returns the hit ratio of each instrumented cache.
+     *
+     * @return cache name to hit ratio (0..1), sorted by name
+     */
+    public static Map<String, Double> cacheHitRatios() {
+        var result = new TreeMap<String, Double>();
+        caches.forEach((name, counts) -> {
+            long hits = counts[0].sum();
+            long total = hits + counts[1].sum();
+            result.put(name, total == 0 ? 0.0 : (double) hits / total);
+        });
+        return result;
+    }
+
+    /**
+     * Discards all collected statistics.
+     */
+    public static void reset() {
+        stats.clear();
+        caches.clear();
+    }
+
+    // ---- Package-private for testing (bypass ENABLED) ----
+
+    static void add(String delegate, long nanos) {
+        stats.computeIfAbsent(delegate, k -> new Stats()).add(nanos);
+    }
+
+    static void countLookup(String cache, boolean hit) {
+        caches.computeIfAbsent(cache, k -> new LongAdder[] {new LongAdder(), new LongAdder()})[hit ? 0 : 1]
+                .increment();
+    }
+
+    /**
+     * Maps a duration to its histogram bucket: four sub-buckets per power of two.
+     */
+    static int bucket(long nanos) {
+        if (nanos < 4) {
+            return (int) Math.max(0, nanos);
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (msb - 2)) & 3;
+        return msb * 4 + sub;
+    }
+
+    /**
+     * Returns a representative duration (bucket midpoint) for a bucket index.
+     */
+    static long bucketValue(int bucket) {
+        if (bucket < 4) {
+            return bucket;
+        }
+        int msb = bucket / 4;
+        int sub = bucket % 4;
+        long lower = (long) (4 + sub) << (msb - 2);
+        long width = 1L << (msb - 2);
+        return lower + width / 2;
+    }
+
+    /** Counters for one delegate. */
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(256);
+
+        void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+            histogram.incrementAndGet(bucket(nanos));
+        }
+
+        DelegatePaintStats snapshot(String name) {
+            long[] counts = new long[histogram.length()];
+            long n = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = histogram.get(i);
+                n += counts[i];
+            }
+            return new DelegatePaintStats(name, n, total.sum(),
+                    percentile(counts, n, 0.50), percentile(counts, n, 0.99), max.get());
+        }
+
+        private static long percentile(long[] counts, long n, double p) {
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(p * n);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketValue(i);
+                }
+            }
+            return bucketValue(counts.length - 1);
+        }
+    }
+
+    /** MXBean view of the static profiler state. Package-private for testing. */
+    static final class Bean implements PaintProfilerMXBean {
+        @Override
+        public List<DelegatePaintStats> getDelegateStats() {
+            return snapshot();
+        }
+
+        @Override
+        public Map<String, Double> getCacheHitRatios() {
+            return new LinkedHashMap<>(cacheHitRatios());
+        }
+
+        @Override
+        public long getTotalPaints() {
+            long total = 0;
+            for (DelegatePaintStats s : snapshot()) {
+                total += s.getCount();
+            }
+            return total;
+        }
+
+        @Override
+        public void reset() {
+            PaintProfiler.reset();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dwc.laf.diagnostics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface of the paint profiler, registered as
+ * {@value PaintProfiler#OBJECT_NAME} when {@code dwc.paintProfile} is enabled.
+ */
+public interface PaintProfilerMXBean {
+
+    /**
+     * Returns paint statistics per delegate, painter and icon, ordered by total time.
+     *
+     * @return the per-delegate statistics
+     */
+    List<DelegatePaintStats> getDelegateStats();
+
+    /**
+     * Returns the hit ratio (0..1) of each instrumented paint cache.
+     *
+     * @return cache name to hit ratio
+     */
+    Map<String, Double> getCacheHitRatios();
+
+    /**
+     * Returns the total number of recorded paints.
+     *
+     * @return the paint count
+     */
+    long getTotalPaints();
+
+    /**
+     * Discards all collected statistics.
+     */
+    void reset();
+}
@@ -0,0 +1,26 @@
+package com.dwc.laf.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering one stage of the CSS token pipeline
+ * (parse, override, resolve, calc, type, wrap).
+ */
+@Name("dwc.PipelineStage")
+@Label("DWC Pipeline Stage")
+@Category({"DWC", "Startup"})
+@Description("One stage of the CSS token pipeline")
+public class PipelineStageEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Input Tokens")
+    public int inputTokens;
+
+    @Label("Output Tokens")
+    public int outputTokens;
+}
@@ -0,0 +1,54 @@
+package com.dwc.laf.diagnostics;
+
+import java.util.List;
+
+/**
+ * Management interface of the repaint diagnostics, registered as
+ * {@value DwcDiagnosticsRepaintManager#OBJECT_NAME} when
+ * {@code dwc.repaintDiagnostics} is enabled.
+ */
+public interface RepaintDiagnosticsMXBean {
+
+    /**
+     * Returns the components with the most repaint activity, flagged
+     * components first.
+     *
+     * @return the top offenders
+     */
+    List<RepaintOffender> getOffenders();
+
+    /**
+     * Returns the total number of repaint requests seen.
+     *
+     * @return the repaint request count
+     */
+    long getTotalRepaints();
+
+    /**
+     * Returns the number of components currently tracked.
+     *
+     * @return the tracked component count
+     */
+    int getTrackedComponents();
+
+    /**
+     * Returns the repaints per second above which an unprompted component
+     * is flagged.
+     *
+     * @return the threshold
+     */
+    int getThreshold();
+
+    /**
+     * Sets the repaints per second above which an unprompted component is
+     * flagged.
+     *
+     * @param threshold the threshold, at least 1
+     */
+    void setThreshold(int threshold);
+
+    /**
+     * Discards all collected statistics and stacks.
+     */
+    void reset();
+}
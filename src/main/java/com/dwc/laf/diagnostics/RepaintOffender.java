@@ -0,0 +1,88 @@
+package com.dwc.laf.diagnostics;
+
+import java.util.List;
+
+/**
+ * Snapshot of the repaint activity of one component, as tracked by
+ * {@link DwcDiagnosticsRepaintManager}. Exposed as composite data through
+ * {@link RepaintDiagnosticsMXBean}.
+ */
+public final class RepaintOffender {
+
+    private final String component;
+    private final int repaintsPerSecond;
+    private final int peakRepaintsPerSecond;
+    private final long totalRepaints;
+    private final long hiddenRepaints;
+    private final long dirtyPixels;
+    private final long flaggedSeconds;
+    private final boolean flagged;
+    private final List<String> stacks;
+
+    RepaintOffender(String component, int repaintsPerSecond, int peakRepaintsPerSecond,
+                    long totalRepaints, long hiddenRepaints, long dirtyPixels,
+                    long flaggedSeconds, boolean flagged, List<String> stacks) {
+        this.component = component;
+        this.repaintsPerSecond = repaintsPerSecond;
+        this.peakRepaintsPerSecond = peakRepaintsPerSecond;
+        this.totalRepaints = totalRepaints;
+        this.hiddenRepaints = hiddenRepaints;
+        this.dirtyPixels = dirtyPixels;
+        this.flaggedSeconds = flaggedSeconds;
+        this.flagged = flagged;
+        this.stacks = List.copyOf(stacks);
+    }
+
+    /** @return the component class, name, bounds and window title */
+    public String getComponent() {
+        return component;
+    }
+
+    /** @return the repaint requests in the last completed second */
+    public int getRepaintsPerSecond() {
+        return repaintsPerSecond;
+    }
+
+    /** @return the highest repaint requests per second seen */
+    public int getPeakRepaintsPerSecond() {
+        return peakRepaintsPerSecond;
+    }
+
+    /** @return the number of repaint requests since tracking started */
+    public long getTotalRepaints() {
+        return totalRepaints;
+    }
+
+    /** @return the repaint requests made while the component was not showing */
+    public long getHiddenRepaints() {
+        return hiddenRepaints;
+    }
+
+    /** @return the summed area of the requested dirty regions in pixels */
+    public long getDirtyPixels() {
+        return dirtyPixels;
+    }
+
+    /** @return the number of seconds in which the component was flagged */
+    public long getFlaggedSeconds() {
+        return flaggedSeconds;
+    }
+
+    /** @return whether the component was flagged in the last completed second */
+    public boolean isFlagged() {
+        return flagged;
+    }
+
+    /** @return distinct stacks that requested repaints while flagged */
+    public List<String> getStacks() {
+        return stacks;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(java.util.Locale.ROOT,
+                "%s{%d/s, peak=%d/s, total=%d, hidden=%d, dirtyPixels=%d, flaggedSeconds=%d}",
+                component, repaintsPerSecond, peakRepaintsPerSecond, totalRepaints,
+                hiddenRepaints, dirtyPixels, flaggedSeconds);
+    }
+}
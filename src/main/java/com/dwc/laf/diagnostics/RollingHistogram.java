@@ -0,0 +1,131 @@
+package com.dwc.laf.diagnostics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Millisecond histogram over a sliding window of one-second slots, used by
+ * {@link EdtWatchdog} for dispatch latency and duration. Buckets are
+ * aligned to frame budgets (16 ms and 33 ms for 60 and 30 fps) rather than
+ * powers of two, so the counts read directly as dropped frames.
+ */
+final class RollingHistogram {
+
+    /** Upper bounds of the buckets in milliseconds; the last bucket is open. */
+    static final long[] BOUNDS_MILLIS = {1, 2, 4, 8, 16, 33, 50, 100, 250, 500, 1000};
+
+    static final long SLOT_NANOS = 1_000_000_000L;
+
+    private final int slots;
+    private final long[] slotIds;
+    private final long[][] counts;
+
+    /**
+     * @param windowSeconds the length of the window in seconds
+     */
+    RollingHistogram(int windowSeconds) {
+        this.slots = Math.max(1, windowSeconds);
+        this.slotIds = new long[slots];
+        this.counts = new long[slots][BOUNDS_MILLIS.length + 1];
+        Arrays.fill(slotIds, -1);
+    }
+
+    /**
+     * Counts a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     * @param now   the {@link System#nanoTime()} reading at which it ended
+     */
+    synchronized void add(long nanos, long now) {
+        long slot = Math.floorDiv(now, SLOT_NANOS);
+        int index = (int) Math.floorMod(slot, (long) slots);
+        if (slotIds[index] != slot) {
+            slotIds[index] = slot;
+            Arrays.fill(counts[index], 0);
+        }
+        counts[index][bucket(nanos)]++;
+    }
+
+    /**
+     * Returns the counts within the window ending at {@code now}.
+     *
+     * @param now the {@link System#nanoTime()} reading
+     * @return the bucket counts, the last one for durations of 1 s and above
+     */
+    synchronized long[] counts(long now) {
+        long current = Math.floorDiv(now, SLOT_NANOS);
+        long[] result = new long[BOUNDS_MILLIS.length + 1];
+        for (int i = 0; i < slots; i++) {
+            if (slotIds[i] > current - slots && slotIds[i] <= current) {
+                for (int b = 0; b < result.length; b++) {
+                    result[b] += counts[i][b];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the counts within the window keyed by bucket label, e.g.
+     * {@code <16ms} or {@code >=1000ms}.
+     *
+     * @param now the {@link System#nanoTime()} reading
+     * @return the labelled counts in bucket order
+     */
+    Map<String, Long> snapshot(long now) {
+        long[] c = counts(now);
+        var result = new LinkedHashMap<String, Long>();
+        for (int b = 0; b < c.length; b++) {
+            result.put(label(b), c[b]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given percentile.
+     *
+     * @param p   the percentile, 0..1
+     * @param now the {@link System#nanoTime()} reading
+     * @return the bucket bound in milliseconds, or -1 for the open bucket
+     *         and 0 when the window is empty
+     */
+    long percentileMillis(double p, long now) {
+        long[] c = counts(now);
+        long n = 0;
+        for (long count : c) {
+            n += count;
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(p * n);
+        long seen = 0;
+        for (int b = 0; b < BOUNDS_MILLIS.length; b++) {
+            seen += c[b];
+            if (seen >= rank) {
+                return BOUNDS_MILLIS[b];
+            }
+        }
+        return -1;
+    }
+
+    synchronized void reset() {
+        Arrays.fill(slotIds, -1);
+    }
+
+    static int bucket(long nanos) {
+        for (int b = 0; b < BOUNDS_MILLIS.length; b++) {
+            if (nanos < BOUNDS_MILLIS[b] * 1_000_000) {
+                return b;
+            }
+        }
+        return BOUNDS_MILLIS.length;
+    }
+
+    static String label(int bucket) {
+        return bucket < BOUNDS_MILLIS.length
+                ? "<" + BOUNDS_MILLIS[bucket] + "ms"
+                : ">=" + BOUNDS_MILLIS[BOUNDS_MILLIS.length - 1] + "ms";
+    }
+}
@@ -0,0 +1,77 @@
+package com.dwc.laf.diagnostics;
+
+import java.util.List;
+
+/**
+ * Snapshot of one event dispatch that exceeded the {@link EdtWatchdog}
+ * frame budget. Exposed as composite data through {@link EdtWatchdogMXBean}.
+ */
+public final class SlowFrame {
+
+    private final long timestamp;
+    private final String event;
+    private final long durationNanos;
+    private final long latencyNanos;
+    private final long lafNanos;
+    private final int paints;
+    private final List<String> blame;
+
+    SlowFrame(long timestamp, String event, long durationNanos, long latencyNanos,
+              long lafNanos, int paints, List<String> blame) {
+        this.timestamp = timestamp;
+        this.event = event;
+        this.durationNanos = durationNanos;
+        this.latencyNanos = latencyNanos;
+        this.lafNanos = lafNanos;
+        this.paints = paints;
+        this.blame = List.copyOf(blame);
+    }
+
+    /** @return the wall clock time at which the dispatch ended, in epoch milliseconds */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /** @return the dispatched event class, parameters and source */
+    public String getEvent() {
+        return event;
+    }
+
+    /** @return the dispatch duration in nanoseconds */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /** @return the time between posting and dispatching the event in nanoseconds, or 0 if unknown */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /** @return the exclusive time spent in DWC paint hooks in nanoseconds */
+    public long getLafNanos() {
+        return lafNanos;
+    }
+
+    /** @return the dispatch time outside DWC paint hooks in nanoseconds */
+    public long getAppNanos() {
+        return durationNanos - lafNanos;
+    }
+
+    /** @return the number of DWC paint hooks that ran during the dispatch */
+    public int getPaints() {
+        return paints;
+    }
+
+    /** @return the delegates by exclusive time, longest first, e.g. {@code DwcTableUI 12.3 ms x40} */
+    public List<String> getBlame() {
+        return blame;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(java.util.Locale.ROOT,
+                "%s{%.1fms, latency=%.1fms, laf=%.1fms, app=%.1fms, paints=%d, blame=%s}",
+                event, durationNanos / 1e6, latencyNanos / 1e6, lafNanos / 1e6,
+                getAppNanos() / 1e6, paints, blame);
+    }
+}
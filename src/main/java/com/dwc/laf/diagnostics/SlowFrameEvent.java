@@ -0,0 +1,56 @@
+package com.dwc.laf.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one event dispatch on the EDT that exceeded the
+ * {@link EdtWatchdog} frame budget, with its time split between the DWC
+ * delegates and the rest of the dispatch.
+ *
+ * <p>Committed as an instant event at the end of the dispatch. Only emitted
+ * while {@link EdtWatchdog#ENABLED} and JFR are both active.</p>
+ */
+@Name("dwc.SlowFrame")
+@Label("DWC Slow Frame")
+@Category({"DWC", "Responsiveness"})
+@Description("EDT event dispatch over the frame budget, attributed to DWC delegates")
+@StackTrace(false)
+public class SlowFrameEvent extends jdk.jfr.Event {
+
+    @Label("Event")
+    public String event;
+
+    @Label("Dispatch Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long dispatchDuration;
+
+    @Label("Dispatch Latency")
+    @Description("Time between posting the event and dispatching it")
+    @Timespan(Timespan.NANOSECONDS)
+    public long dispatchLatency;
+
+    @Label("Look and Feel Time")
+    @Description("Exclusive time in DWC delegates, painters and icons")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lafDuration;
+
+    @Label("Application Time")
+    @Description("Dispatch time outside DWC paint hooks")
+    @Timespan(Timespan.NANOSECONDS)
+    public long appDuration;
+
+    @Label("Paints")
+    public int paints;
+
+    @Label("Top Delegate")
+    public String topDelegate;
+
+    @Label("Blame")
+    @Description("DWC delegates by exclusive time, longest first")
+    public String blame;
+}
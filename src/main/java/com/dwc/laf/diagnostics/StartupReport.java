@@ -0,0 +1,121 @@
+package com.dwc.laf.diagnostics;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Collects startup phase timings and prints them as a table at the end of
+ * L&amp;F activation.
+ *
+ * <p>Enabled with {@code -Ddwc.startupReport=true}. When disabled,
+ * {@link #record} returns immediately; callers that need a clock reading
+ * only for the report should check {@link #ENABLED} first.</p>
+ *
+ * <p>Phases are named {@code group/phase} (for example {@code theme/resolve}
+ * or {@code defaults/05-button}). Nested phases are reported individually,
+ * so durations of a group and its members overlap. Phases recorded on
+ * background threads (see {@code DwcLookAndFeel.preload()}) are included.</p>
+ */
+public final class StartupReport {
+
+    /** Whether startup timings are collected. Read once at class initialization. */
+    public static final boolean ENABLED = Boolean.getBoolean("dwc.startupReport");
+
+    private record Entry(String phase, long nanos, String thread) {
+    }
+
+    private static final List<Entry> entries = new ArrayList<>();
+
+    private StartupReport() {
+        // utility class
+    }
+
+    /**
+     * Records the duration of a phase.
+     *
+     * @param phase the phase name
+     * @param nanos the duration in nanoseconds
+     */
+    public static void record(String phase, long nanos) {
+        if (ENABLED) {
+            add(phase, nanos);
+        }
+    }
+
+    /**
+     * Adds a phase regardless of {@link #ENABLED}. Package-private for testing.
+     */
+    static void add(String phase, long nanos) {
+        String thread = Thread.currentThread().getName();
+        synchronized (entries) {
+            entries.add(new Entry(phase, nanos, thread));
+        }
+    }
+
+    /**
+     * Records the duration of a phase that started at the given
+     * {@link System#nanoTime()} reading.
+     *
+     * @param phase      the phase name
+     * @param startNanos the start time
+     */
+    public static void recordSince(String phase, long startNanos) {
+        if (ENABLED) {
+            record(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Formats the collected phases as a table sorted by duration, longest first.
+     *
+     * @param title the table heading
+     * @return the formatted table
+     */
+    public static String format(String title) {
+        List<Entry> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries);
+        }
+        snapshot.sort(Comparator.comparingLong(Entry::nanos).reversed());
+
+        int width = "phase".length();
+        for (Entry e : snapshot) {
+            width = Math.max(width, e.phase().length());
+        }
+        var sb = new StringBuilder();
+        sb.append(title).append('\n');
+        sb.append(String.format(Locale.ROOT, "  %-" + width + "s %10s  %s%n", "phase", "ms", "thread"));
+        for (Entry e : snapshot) {
+            sb.append(String.format(Locale.ROOT, "  %-" + width + "s %10.2f  %s%n",
+                    e.phase(), e.nanos() / 1_000_000.0, e.thread()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Prints the table to the given stream and clears the collected phases,
+     * so a later activation starts a fresh report. Does nothing when disabled.
+     *
+     * @param title the table heading
+     * @param out   the destination stream
+     */
+    public static void printAndReset(String title, PrintStream out) {
+        if (!ENABLED) {
+            return;
+        }
+        out.print(format(title));
+        reset();
+    }
+
+    /**
+     * Clears the collected phases.
+     */
+    public static void reset() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
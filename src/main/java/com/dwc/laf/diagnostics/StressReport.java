@@ -0,0 +1,184 @@
+package com.dwc.laf.diagnostics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Collects the figures of a UI stress run: frame times, event dispatch
+ * thread (EDT) busy time, garbage collections and EDT allocation.
+ *
+ * <p>A frame is one {@code RepaintManager} paint pass; busy time is the
+ * time spent dispatching events, including those frames. {@link #begin()}
+ * and {@link #end()} take the GC and allocation baselines and must be
+ * called on the EDT, as must {@link #recordFrame} and {@link #recordBusy}.
+ * The report is printed as a table with {@link #format(String)} or as a
+ * JSON object with {@link #toJson()}.</p>
+ */
+public final class StressReport {
+
+    private long[] frames = new long[1024];
+    private int frameCount;
+    private long busyNanos;
+
+    private long startNanos;
+    private long endNanos;
+    private long gcCount;
+    private long gcMillis;
+    private long allocatedBytes;
+
+    /**
+     * Starts the measurement: takes the wall clock, GC and allocation
+     * baselines. Must be called on the EDT.
+     */
+    public void begin() {
+        frameCount = 0;
+        busyNanos = 0;
+        gcCount = -totalGcCount();
+        gcMillis = -totalGcMillis();
+        allocatedBytes = -currentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+        endNanos = 0;
+    }
+
+    /**
+     * Ends the measurement. Must be called on the EDT.
+     */
+    public void end() {
+        endNanos = System.nanoTime();
+        gcCount += totalGcCount();
+        gcMillis += totalGcMillis();
+        allocatedBytes += currentThreadAllocatedBytes();
+    }
+
+    /**
+     * Records the duration of one frame.
+     *
+     * @param nanos the paint pass duration in nanoseconds
+     */
+    public void recordFrame(long nanos) {
+        if (frameCount == frames.length) {
+            frames = Arrays.copyOf(frames, frameCount * 2);
+        }
+        frames[frameCount++] = nanos;
+    }
+
+    /**
+     * Records time the EDT spent dispatching an event.
+     *
+     * @param nanos the dispatch duration in nanoseconds
+     */
+    public void recordBusy(long nanos) {
+        busyNanos += nanos;
+    }
+
+    /**
+     * Returns the number of recorded frames.
+     *
+     * @return the frame count
+     */
+    public int frameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns a frame time percentile using the nearest-rank method.
+     *
+     * @param percent the percentile, 0 to 100
+     * @return the frame time in nanoseconds, or 0 without frames
+     */
+    public long percentile(double percent) {
+        if (frameCount == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(frames, frameCount);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percent / 100.0 * frameCount);
+        return sorted[Math.max(0, Math.min(rank, frameCount) - 1)];
+    }
+
+    private double elapsedSeconds() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return Math.max(1, end - startNanos) / 1e9;
+    }
+
+    private double busyPercent() {
+        return Math.min(100, busyNanos / 1e9 / elapsedSeconds() * 100);
+    }
+
+    private double allocationMbPerSecond() {
+        return allocatedBytes / (1024.0 * 1024.0) / elapsedSeconds();
+    }
+
+    /**
+     * Formats the report as a table.
+     *
+     * @param title the table heading
+     * @return the formatted report
+     */
+    public String format(String title) {
+        var sb = new StringBuilder();
+        sb.append(title).append('\n');
+        line(sb, "duration", "%.1f s", elapsedSeconds());
+        line(sb, "frames", "%d (%.1f fps)", frameCount, frameCount / elapsedSeconds());
+        line(sb, "frame p50", "%.2f ms", percentile(50) / 1e6);
+        line(sb, "frame p90", "%.2f ms", percentile(90) / 1e6);
+        line(sb, "frame p99", "%.2f ms", percentile(99) / 1e6);
+        line(sb, "frame max", "%.2f ms", percentile(100) / 1e6);
+        line(sb, "EDT busy", "%.1f %%", busyPercent());
+        line(sb, "GC", "%d collections, %d ms", gcCount, gcMillis);
+        line(sb, "EDT allocation", "%.1f MB/s", allocationMbPerSecond());
+        return sb.toString();
+    }
+
+    private static void line(StringBuilder sb, String name, String format, Object... args) {
+        sb.append(String.format(Locale.ROOT, "  %-15s ", name))
+                .append(String.format(Locale.ROOT, format, args))
+                .append('\n');
+    }
+
+    /**
+     * Formats the report as a single JSON object. Times are in milliseconds.
+     *
+     * @return the JSON text
+     */
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"durationSeconds\": %.3f, \"frames\": %d, \"fps\": %.2f, "
+                        + "\"frameMillis\": {\"p50\": %.3f, \"p90\": %.3f, \"p99\": %.3f, \"max\": %.3f}, "
+                        + "\"edtBusyPercent\": %.2f, \"gcCount\": %d, \"gcMillis\": %d, "
+                        + "\"edtAllocatedBytes\": %d, \"edtAllocationMbPerSecond\": %.2f}",
+                elapsedSeconds(), frameCount, frameCount / elapsedSeconds(),
+                percentile(50) / 1e6, percentile(90) / 1e6, percentile(99) / 1e6, percentile(100) / 1e6,
+                busyPercent(), gcCount, gcMillis, allocatedBytes, allocationMbPerSecond());
+    }
+
+    // ---- JVM counters ----
+
+    private static long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long totalGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean sun
+                && sun.isThreadAllocatedMemorySupported()) {
+            return Math.max(0, sun.getCurrentThreadAllocatedBytes());
+        }
+        return 0;
+    }
+}
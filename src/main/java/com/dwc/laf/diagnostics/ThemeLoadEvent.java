@@ -0,0 +1,43 @@
+package com.dwc.laf.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering one {@code CssThemeLoader.load()} call, from reading the
+ * bundled theme to the finished token map.
+ */
+@Name("dwc.ThemeLoad")
+@Label("DWC Theme Load")
+@Category({"DWC", "Startup"})
+@Description("Loading, resolving and typing the CSS theme tokens")
+public class ThemeLoadEvent extends jdk.jfr.Event {
+
+    @Label("Override Layers")
+    @Description("Value of the dwc.theme system property, or null")
+    public String overrideSpec;
+
+    @Label("Token Count")
+    public int tokenCount;
+
+    @Label("Override Files")
+    public int overrideFiles;
+
+    @Label("Parsed Files")
+    @Description("Override files tokenized in this load (file cache misses)")
+    public int parsedFiles;
+
+    @Label("File Cache Hits")
+    public int fileCacheHits;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytesRead;
+
+    @Label("Persistent Cache Hit")
+    @Description("Whether the token table came from the dwc.themeCache directory")
+    public boolean cacheHit;
+}
@@ -0,0 +1,72 @@
+package com.dwc.laf.painting;
+
+import javax.swing.JComponent;
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+
+/**
+ * Paints the parent's background around a rounded shape, so that components
+ * with rounded corners can stay opaque.
+ *
+ * <p>Non-opaque components make Swing repaint the nearest opaque ancestor
+ * under every repaint of the component, and prevent {@code JViewport} from
+ * blitting when they fill the view. With the UIDefaults key
+ * {@code Component.opaqueCorners} set to {@code true} (or the system property
+ * {@code -Ddwc.opaqueCorners=true}), the DWC delegates install their
+ * components as opaque and paint the color returned by
+ * {@link #parentBackground(Component)} beneath their rounded shape, so the
+ * four corners and the focus ring margin show the parent's color.</p>
+ *
+ * <p>The fill is exact only over a parent with a uniform background color; a
+ * parent painting a gradient or image shows a solid color in the corners.</p>
+ */
+public final class CornerFillPainter {
+
+    private CornerFillPainter() {
+        // Non-instantiable utility class
+    }
+
+    /**
+     * Returns the background color visible behind a component: the
+     * background of the nearest opaque ancestor or card-mode panel
+     * ({@code "dwc.panelStyle" = "card"}), whose rounded fill is what children
+     * sit on. Falls back to {@code Panel.background} for components without
+     * such an ancestor.
+     *
+     * @param c the component
+     * @return the effective parent background, or null if none is known
+     */
+    public static Color parentBackground(Component c) {
+        for (Component p = c.getParent(); p != null; p = p.getParent()) {
+            boolean card = p instanceof JComponent jc
+                    && "card".equals(jc.getClientProperty("dwc.panelStyle"));
+            if ((card || p.isOpaque()) && p.getBackground() != null) {
+                return p.getBackground();
+            }
+        }
+        return UIManager.getColor("Panel.background");
+    }
+
+    /**
+     * Fills a component's bounds with the effective parent background,
+     * before the component paints its rounded shape on top.
+     *
+     * <p>The whole bounds are filled, not only the corners: the shape's
+     * antialiased edge and translucent (disabled) fills blend with what is
+     * underneath, which must be the parent color rather than stale buffer
+     * contents. A single {@code fillRect} is still far cheaper than
+     * repainting the ancestors.</p>
+     *
+     * @param g the graphics context
+     * @param c the component being painted
+     */
+    public static void paintParentBackground(Graphics g, JComponent c) {
+        Color color = parentBackground(c);
+        if (color != null) {
+            g.setColor(color);
+            g.fillRect(0, 0, c.getWidth(), c.getHeight());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.dwc.laf.painting;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.geom.Path2D;
@@ -44,6 +46,7 @@ public final class FocusRingPainter {
         if (ringColor == null || ringWidth <= 0) {
             return;
         }
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
 
         Object[] saved = PaintUtils.setupPaintingHints(g);
         try {
@@ -67,5 +70,9 @@ public final class FocusRingPainter {
         } finally {
             PaintUtils.restorePaintingHints(g, saved);
         }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("FocusRingPainter", null, null,
+                    Math.round(width + ringWidth * 2), Math.round(height + ringWidth * 2), start);
+        }
     }
 }
@@ -0,0 +1,240 @@
+package com.dwc.laf.painting;
+
+import com.dwc.laf.diagnostics.PaintProfiler;
+
+import javax.swing.JComponent;
+import javax.swing.plaf.basic.BasicGraphicsUtils;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.PrintGraphics;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextAttribute;
+import java.awt.print.PrinterGraphics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches laid-out glyphs of the short strings DWC delegates draw over and
+ * over: button, tab and label texts, placeholders and progress strings.
+ *
+ * <p>{@code drawString} maps characters to glyphs and positions them on
+ * every call. This cache keeps the resulting {@link GlyphVector}, its
+ * advance width and the mnemonic underline geometry per (string, font,
+ * {@link FontRenderContext}, mnemonic index), so a repaint of an unchanged
+ * string is a single {@code drawGlyphVector}. The cache holds at most
+ * {@value #CAPACITY} strings and evicts the least recently used one.</p>
+ *
+ * <p>Only simple text is cached: strings containing combining marks,
+ * right-to-left or other complex scripts, fonts with layout attributes
+ * (kerning, ligatures), numeric shaping and printing all fall back to
+ * {@link BasicGraphicsUtils#drawStringUnderlineCharAt}, which lays them out
+ * with {@code TextLayout}.</p>
+ *
+ * <p>The cache is off by default; set {@code -Ddwc.glyphCache=true} to
+ * enable it. Without it every string takes the fallback.</p>
+ */
+public final class GlyphCache {
+
+    /** Whether glyphs are cached; set {@code -Ddwc.glyphCache=true} to enable. */
+    public static final boolean ENABLED = Boolean.getBoolean("dwc.glyphCache");
+
+    /** Effective switch, initialized from {@link #ENABLED}. */
+    private static boolean enabled = ENABLED;
+
+    /** Maximum number of cached strings. */
+    static final int CAPACITY = 4096;
+
+    private GlyphCache() {
+        // Non-instantiable utility class
+    }
+
+    /**
+     * Cache key containing all parameters that affect the glyph layout.
+     * Uses record auto-generated {@code hashCode} and {@code equals}.
+     */
+    record GlyphKey(String text, Font font, FontRenderContext frc, int mnemonicIndex) {
+    }
+
+    /** Laid-out glyphs with their rounded advance and underline geometry. */
+    private record Glyphs(GlyphVector vector, int width, int underlineX, int underlineWidth) {
+    }
+
+    /** Least recently used glyphs, guarded by its own monitor. */
+    private static final Map<GlyphKey, Glyphs> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<GlyphKey, Glyphs> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    /**
+     * Draws a string in the graphics context's font and color, underlining
+     * one character, like {@link BasicGraphicsUtils#drawStringUnderlineCharAt}.
+     *
+     * <p>When a component is given, its text antialiasing client properties
+     * are applied and numeric shaping is honored, as for the text of Swing's
+     * own label and button delegates.</p>
+     *
+     * @param c             the component the text belongs to, or null
+     * @param g             the graphics context
+     * @param text          the string to draw
+     * @param mnemonicIndex the index of the character to underline, or -1
+     * @param x             the x coordinate of the baseline start
+     * @param y             the y coordinate of the baseline
+     */
+    public static void drawString(JComponent c, Graphics2D g, String text,
+            int mnemonicIndex, int x, int y) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        if (!isCacheable(c, g, text)) {
+            if (c != null) {
+                BasicGraphicsUtils.drawStringUnderlineCharAt(c, g, text, mnemonicIndex, x, y);
+            } else {
+                BasicGraphicsUtils.drawStringUnderlineCharAt(g, text, mnemonicIndex, x, y);
+            }
+            return;
+        }
+
+        Object aaHint = c != null ? c.getClientProperty(RenderingHints.KEY_TEXT_ANTIALIASING) : null;
+        Object oldAA = null;
+        Object oldContrast = null;
+        if (aaHint != null) {
+            oldAA = g.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, aaHint);
+            Object contrast = c.getClientProperty(RenderingHints.KEY_TEXT_LCD_CONTRAST);
+            if (contrast != null) {
+                oldContrast = g.getRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST);
+                g.setRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST, contrast);
+            }
+        }
+        try {
+            int underlined = mnemonicIndex >= 0 && mnemonicIndex < text.length() ? mnemonicIndex : -1;
+            Glyphs glyphs = glyphs(text, g.getFont(), g.getFontRenderContext(), underlined);
+            g.drawGlyphVector(glyphs.vector(), x, y);
+            if (underlined >= 0) {
+                g.fillRect(x + glyphs.underlineX(), y + 1, glyphs.underlineWidth(), 1);
+            }
+        } finally {
+            if (aaHint != null) {
+                g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, oldAA);
+                if (oldContrast != null) {
+                    g.setRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST, oldContrast);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the advance width of a string, as
+     * {@code g.getFontMetrics(font).stringWidth(text)} would.
+     *
+     * @param g    the graphics context providing the render context
+     * @param font the font the string is drawn in
+     * @param text the string
+     * @return the width in pixels
+     */
+    public static int stringWidth(Graphics2D g, Font font, String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        if (!enabled || !isSimple(font, text)) {
+            return g.getFontMetrics(font).stringWidth(text);
+        }
+        return glyphs(text, font, g.getFontRenderContext(), -1).width();
+    }
+
+    private static Glyphs glyphs(String text, Font font, FontRenderContext frc, int mnemonicIndex) {
+        GlyphKey key = new GlyphKey(text, font, frc, mnemonicIndex);
+        Glyphs glyphs;
+        synchronized (cache) {
+            glyphs = cache.get(key);
+        }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.cacheLookup("GlyphCache", glyphs != null);
+        }
+        if (glyphs == null) {
+            glyphs = layout(text, font, frc, mnemonicIndex);
+            synchronized (cache) {
+                cache.put(key, glyphs);
+            }
+        }
+        return glyphs;
+    }
+
+    private static Glyphs layout(String text, Font font, FontRenderContext frc, int mnemonicIndex) {
+        // Simple text maps one character to one glyph, so glyph positions
+        // index the characters directly
+        GlyphVector vector = font.createGlyphVector(frc, text);
+        int width = round(vector.getGlyphPosition(vector.getNumGlyphs()).getX());
+        int underlineX = 0;
+        int underlineWidth = 0;
+        if (mnemonicIndex >= 0) {
+            double start = vector.getGlyphPosition(mnemonicIndex).getX();
+            double end = vector.getGlyphPosition(mnemonicIndex + 1).getX();
+            underlineX = round(start);
+            underlineWidth = round(end - start);
+        }
+        return new Glyphs(vector, width, underlineX, underlineWidth);
+    }
+
+    /** Rounds an advance the way {@code FontMetrics.stringWidth} does. */
+    private static int round(double advance) {
+        return (int) (0.5 + advance);
+    }
+
+    private static boolean isCacheable(JComponent c, Graphics2D g, String text) {
+        return enabled
+                && !(g instanceof PrinterGraphics) && !(g instanceof PrintGraphics)
+                && (c == null || c.getClientProperty(TextAttribute.NUMERIC_SHAPING) == null)
+                && isSimple(g.getFont(), text);
+    }
+
+    /**
+     * Returns whether a string lays out one glyph per character, left to
+     * right, without shaping: no font layout attributes, and only Latin,
+     * Greek, Cyrillic and Armenian characters without combining marks.
+     * Cyrillic has its own combining marks, U+0483 to U+0489.
+     */
+    static boolean isSimple(Font font, String text) {
+        if (font == null || font.hasLayoutAttributes()) {
+            return false;
+        }
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char ch = text.charAt(i);
+            if (ch >= 0x0300 && (ch < 0x0370 || ch >= 0x0590
+                    || (ch >= 0x0483 && ch <= 0x0489))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of cached strings. Package-private for testing.
+     */
+    static int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Turns caching on or off regardless of {@link #ENABLED}.
+     * Package-private for testing.
+     */
+    static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Clears the glyph cache. Package-private for testing.
+     */
+    static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
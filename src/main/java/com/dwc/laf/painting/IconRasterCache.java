@@ -0,0 +1,120 @@
+package com.dwc.laf.painting;
+
+import com.dwc.laf.diagnostics.PaintProfiler;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Caches small vector icons as device-resolution rasters.
+ *
+ * <p>Icons painted once per row -- tree chevrons and node icons -- are
+ * rendered once per (icon, color, size, scale) combination into a
+ * {@link BufferedImage} and afterwards drawn with a single
+ * {@code drawImage}, instead of setting up antialiasing, building paths and
+ * stroking them on every paint. Entries are held by {@link SoftReference},
+ * like the {@link ShadowPainter} cache.</p>
+ *
+ * <p>Rasters are only used when the graphics transform is a plain
+ * translate/scale with equal x and y scale; rotated or sheared contexts
+ * fall back to painting the vector icon directly.</p>
+ */
+public final class IconRasterCache {
+
+    private IconRasterCache() {
+        // Non-instantiable utility class
+    }
+
+    /**
+     * Cache key containing all parameters that affect the raster.
+     * Uses record auto-generated {@code hashCode} and {@code equals}.
+     */
+    record IconCacheKey(Object icon, int colorRgb, int width, int height, float scale) {
+    }
+
+    /** Thread-safe raster cache with memory-sensitive entries. */
+    private static final ConcurrentHashMap<IconCacheKey, SoftReference<BufferedImage>> cache =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Paints an icon from its cached raster, rendering the raster first if
+     * needed.
+     *
+     * <p>The painter draws the icon at the origin of a {@code width x height}
+     * logical area; it must produce the same output for the same
+     * {@code icon} and {@code color}.</p>
+     *
+     * @param g       the graphics context
+     * @param x       the x coordinate of the icon
+     * @param y       the y coordinate of the icon
+     * @param width   the logical icon width
+     * @param height  the logical icon height
+     * @param icon    an identifier of the icon shape (an enum constant or string)
+     * @param color   the icon color, part of the cache key
+     * @param painter paints the vector icon at the origin
+     */
+    public static void paint(Graphics2D g, int x, int y, int width, int height,
+            Object icon, Color color, Consumer<Graphics2D> painter) {
+        AffineTransform tx = g.getTransform();
+        if (!isScaleOnly(tx)) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                g2.translate(x, y);
+                painter.accept(g2);
+            } finally {
+                g2.dispose();
+            }
+            return;
+        }
+
+        float scale = (float) tx.getScaleX();
+        IconCacheKey key = new IconCacheKey(icon, color != null ? color.getRGB() : 0, width, height, scale);
+        BufferedImage raster = null;
+        SoftReference<BufferedImage> ref = cache.get(key);
+        if (ref != null) {
+            raster = ref.get();
+        }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.cacheLookup("IconRasterCache", raster != null);
+        }
+
+        if (raster == null) {
+            raster = HiDpiUtils.createHiDpiImage(g, width, height);
+            Graphics2D ig = raster.createGraphics();
+            try {
+                ig.scale((double) raster.getWidth() / width, (double) raster.getHeight() / height);
+                painter.accept(ig);
+            } finally {
+                ig.dispose();
+            }
+            cache.put(key, new SoftReference<>(raster));
+        }
+
+        // Draw at logical dimensions; Graphics2D transform handles HiDPI scaling
+        g.drawImage(raster, x, y, width, height, null);
+    }
+
+    private static boolean isScaleOnly(AffineTransform tx) {
+        int type = tx.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE);
+        return type == AffineTransform.TYPE_IDENTITY && tx.getScaleX() > 0;
+    }
+
+    /**
+     * Returns the number of cached rasters. Package-private for testing.
+     */
+    static int size() {
+        return cache.size();
+    }
+
+    /**
+     * Clears the raster cache. Package-private for testing.
+     */
+    static void clearCache() {
+        cache.clear();
+    }
+}
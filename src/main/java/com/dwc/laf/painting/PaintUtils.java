@@ -16,6 +16,9 @@ import java.awt.geom.RoundRectangle2D;
  * <p>All methods are stateless static utilities that save and restore Graphics2D
  * state when they modify rendering hints. Callers of {@link #paintOutline} are
  * responsible for managing hints themselves.</p>
+ *
+ * <p>Under the {@link RenderProfile#REMOTE} profile, shapes are snapped to
+ * whole pixels and painted without antialiasing.</p>
  */
 public final class PaintUtils {
 
@@ -23,9 +26,23 @@ public final class PaintUtils {
         // Non-instantiable utility class
     }
 
+    /**
+     * Returns the {@link RenderingHints#KEY_ANTIALIASING} value for shapes
+     * under the current {@link RenderProfile}.
+     *
+     * @return {@code VALUE_ANTIALIAS_ON}, or {@code VALUE_ANTIALIAS_OFF} for
+     *         the remote profile
+     */
+    public static Object shapeAntialiasing() {
+        return RenderProfile.current().antialiasing()
+                ? RenderingHints.VALUE_ANTIALIAS_ON
+                : RenderingHints.VALUE_ANTIALIAS_OFF;
+    }
+
     /**
      * Saves the current antialiasing and stroke control rendering hints, then
-     * enables antialiasing and stroke normalization.
+     * enables antialiasing (as chosen by {@link #shapeAntialiasing()}) and
+     * stroke normalization.
      *
      * @param g the graphics context to configure
      * @return a two-element array of the previous hint values (may contain nulls)
@@ -35,8 +52,7 @@ public final class PaintUtils {
             g.getRenderingHint(RenderingHints.KEY_ANTIALIASING),
             g.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL)
         };
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                           RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, shapeAntialiasing());
         g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL,
                            RenderingHints.VALUE_STROKE_NORMALIZE);
         return saved;
@@ -67,6 +83,9 @@ public final class PaintUtils {
      *       to {@code min(w, h)}</li>
      * </ul>
      *
+     * <p>Under the remote render profile the bounds and arc are rounded to
+     * whole pixels first, so unantialiased edges do not jitter.</p>
+     *
      * @param x   the x coordinate
      * @param y   the y coordinate
      * @param w   the width
@@ -75,6 +94,13 @@ public final class PaintUtils {
      * @return the appropriate shape
      */
     public static Shape createRoundedShape(float x, float y, float w, float h, float arc) {
+        if (!RenderProfile.current().antialiasing()) {
+            x = Math.round(x);
+            y = Math.round(y);
+            w = Math.round(w);
+            h = Math.round(h);
+            arc = Math.round(arc);
+        }
         if (arc <= 0) {
             return new Rectangle2D.Float(x, y, w, h);
         }
@@ -0,0 +1,137 @@
+package com.dwc.laf.painting;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+
+/**
+ * Paints rounded progress tracks and fills without {@link java.awt.geom.Area}
+ * boolean operations.
+ *
+ * <p>A fill that shares the track's height (or width, for vertical bars) and
+ * corner arc and lies inside the track's bounds is itself inside the rounded
+ * track as soon as it is at least one clamped arc long, so it is filled as
+ * its own rounded shape. Shorter fills are painted by filling the track
+ * shape clipped to the fill rectangle, which keeps the track's curved edge
+ * and needs only an integer rectangle clip. Either way a fill costs one
+ * antialiased {@code fill} call.</p>
+ *
+ * <p>Graphics2D rendering hints are saved before painting and restored
+ * afterward.</p>
+ */
+public final class ProgressPainter {
+
+    private ProgressPainter() {
+        // Non-instantiable utility class
+    }
+
+    /**
+     * Paints a track and a fill covering {@code fillStart..fillStart+fillLength}
+     * along the bar's main axis.
+     *
+     * @param g          the graphics context
+     * @param x          the track x coordinate
+     * @param y          the track y coordinate
+     * @param width      the track width
+     * @param height     the track height
+     * @param arc        the corner arc diameter (clamped to the track size)
+     * @param track      the track color; if {@code null}, no track is painted
+     * @param fill       the fill color; if {@code null}, no fill is painted
+     * @param horizontal whether the bar fills along the x axis
+     * @param fillStart  the offset of the fill from the track's left (or top) edge
+     * @param fillLength the length of the fill; nothing is filled if not positive
+     */
+    public static void paintBar(Graphics2D g, int x, int y, int width, int height, float arc,
+            Color track, Color fill, boolean horizontal, int fillStart, int fillLength) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        Object[] saved = PaintUtils.setupPaintingHints(g);
+        Shape trackShape = PaintUtils.createRoundedShape(x, y, width, height, arc);
+        if (track != null) {
+            g.setColor(track);
+            g.fill(trackShape);
+        }
+
+        int start = Math.max(0, fillStart);
+        int length = Math.min(fillLength, (horizontal ? width : height) - start);
+        if (fill != null && length > 0) {
+            g.setColor(fill);
+            float clampedArc = Math.min(arc, Math.min(width, height));
+            if (horizontal) {
+                fillInside(g, trackShape, x + start, y, length, height, arc, length >= clampedArc);
+            } else {
+                fillInside(g, trackShape, x, y + start, width, length, arc, length >= clampedArc);
+            }
+        }
+        PaintUtils.restorePaintingHints(g, saved);
+    }
+
+    /**
+     * Paints a determinate bar: the fill grows from the left for horizontal
+     * bars and from the bottom for vertical bars, as in {@code JProgressBar}.
+     *
+     * @param g          the graphics context
+     * @param x          the track x coordinate
+     * @param y          the track y coordinate
+     * @param width      the track width
+     * @param height     the track height
+     * @param arc        the corner arc diameter
+     * @param track      the track color
+     * @param fill       the fill color
+     * @param horizontal whether the bar is horizontal
+     * @param amountFull the filled length in pixels
+     */
+    public static void paintDeterminate(Graphics2D g, int x, int y, int width, int height, float arc,
+            Color track, Color fill, boolean horizontal, int amountFull) {
+        int start = horizontal ? 0 : height - amountFull;
+        paintBar(g, x, y, width, height, arc, track, fill, horizontal, start, amountFull);
+    }
+
+    private static void fillInside(Graphics2D g, Shape trackShape,
+            int fx, int fy, int fw, int fh, float arc, boolean roundedFits) {
+        if (roundedFits) {
+            g.fill(PaintUtils.createRoundedShape(fx, fy, fw, fh, arc));
+            return;
+        }
+        Shape oldClip = g.getClip();
+        g.clipRect(fx, fy, fw, fh);
+        g.fill(trackShape);
+        g.setClip(oldClip);
+    }
+
+    /**
+     * Returns {@link Color#BLACK} or {@link Color#WHITE} for maximum contrast
+     * against the given background color, using W3C relative luminance.
+     *
+     * <p>The threshold of 0.4 ensures white text on medium-dark fills (primary
+     * blue L~0.13, danger red, success green) and black text on light fills
+     * (warning amber L~0.74, track gray).</p>
+     *
+     * @param bg the background color to contrast against
+     * @return black if the background is light, white if the background is dark
+     */
+    public static Color contrastTextColor(Color bg) {
+        double r = linearize(bg.getRed() / 255.0);
+        double g = linearize(bg.getGreen() / 255.0);
+        double b = linearize(bg.getBlue() / 255.0);
+        double luminance = 0.2126 * r + 0.7152 * g + 0.0722 * b;
+        return luminance > 0.4 ? Color.BLACK : Color.WHITE;
+    }
+
+    /**
+     * Linearizes an sRGB channel value (0.0 to 1.0) to linear RGB.
+     *
+     * <p>Applies the standard sRGB transfer function inverse: values at or below
+     * 0.04045 are divided by 12.92; values above use the power curve
+     * {@code ((v + 0.055) / 1.055) ^ 2.4}.</p>
+     *
+     * @param srgb the sRGB channel value in [0.0, 1.0]
+     * @return the linearized value
+     */
+    private static double linearize(double srgb) {
+        return srgb <= 0.04045
+                ? srgb / 12.92
+                : Math.pow((srgb + 0.055) / 1.055, 2.4);
+    }
+}
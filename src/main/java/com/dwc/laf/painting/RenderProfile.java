@@ -0,0 +1,151 @@
+package com.dwc.laf.painting;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Rendering fidelity of the DWC painters and delegates.
+ *
+ * <p>{@link #FULL} paints the DWC design as specified. {@link #REMOTE} is
+ * for sessions where the screen is transferred over the network (X11
+ * forwarding, RDP, VNC), where every antialiased edge, translucent pixel and
+ * blurred shadow image costs pixel transfers instead of cheap fill requests:
+ * it paints no shadows, fills pixel-snapped shapes without antialiasing,
+ * flattens translucent theme colors into opaque ones and switches state
+ * colors without transitions. Layout metrics are identical in both
+ * profiles, so switching never moves a component.</p>
+ *
+ * <p>The profile is chosen with {@code -Ddwc.renderProfile=full|remote|auto}
+ * (default {@code full}); {@code auto} selects {@link #REMOTE} when the
+ * environment indicates a remote session (see {@link #detect}). Theme colors
+ * are flattened when the look and feel is installed, so a profile set with
+ * {@link #setCurrent} takes full effect at the next
+ * {@code UIManager.setLookAndFeel}.</p>
+ */
+public enum RenderProfile {
+
+    /** The full DWC rendering: antialiasing, shadows, translucency, transitions. */
+    FULL(true, true, true, true),
+
+    /** Low-fidelity rendering for remote display sessions. */
+    REMOTE(false, false, false, false);
+
+    private static final Logger LOG = Logger.getLogger(RenderProfile.class.getName());
+
+    private static volatile RenderProfile current = fromProperty(
+            System.getProperty("dwc.renderProfile"), System.getenv());
+
+    private final boolean antialiasing;
+    private final boolean shadows;
+    private final boolean translucency;
+    private final boolean transitions;
+
+    RenderProfile(boolean antialiasing, boolean shadows, boolean translucency, boolean transitions) {
+        this.antialiasing = antialiasing;
+        this.shadows = shadows;
+        this.translucency = translucency;
+        this.transitions = transitions;
+    }
+
+    /**
+     * Returns the active profile.
+     *
+     * @return the current render profile
+     */
+    public static RenderProfile current() {
+        return current;
+    }
+
+    /**
+     * Sets the active profile. Components must be repainted, and the look
+     * and feel reinstalled for theme colors to follow.
+     *
+     * @param profile the new profile
+     */
+    public static void setCurrent(RenderProfile profile) {
+        current = Objects.requireNonNull(profile, "profile");
+    }
+
+    /** @return whether shapes are filled and stroked with antialiasing */
+    public boolean antialiasing() {
+        return antialiasing;
+    }
+
+    /** @return whether box shadows are painted */
+    public boolean shadows() {
+        return shadows;
+    }
+
+    /** @return whether translucent theme colors are kept rather than flattened */
+    public boolean translucency() {
+        return translucency;
+    }
+
+    /** @return whether state colors change with transition animations */
+    public boolean transitions() {
+        return transitions;
+    }
+
+    /**
+     * Resolves the {@code dwc.renderProfile} setting.
+     *
+     * @param value the property value: {@code full}, {@code remote},
+     *              {@code auto} or null for the default
+     * @param env   the environment, consulted for {@code auto}
+     * @return the selected profile
+     */
+    static RenderProfile fromProperty(String value, Map<String, String> env) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "full":
+                return FULL;
+            case "remote":
+                return REMOTE;
+            case "auto":
+                RenderProfile detected = detect(env);
+                if (detected == REMOTE) {
+                    LOG.info("Remote display session detected, using the remote render profile");
+                }
+                return detected;
+            default:
+                LOG.warning("Unknown dwc.renderProfile '" + value + "', using full");
+                return FULL;
+        }
+    }
+
+    /**
+     * Detects a remote display session from environment hints: an RDP
+     * session name on Windows ({@code SESSIONNAME=RDP-*}), an xrdp or VNC
+     * session ({@code XRDP_SESSION}, {@code VNCDESKTOP}), an X11 display on
+     * another host ({@code DISPLAY=host:n}, as set by {@code ssh -X}), or a
+     * display used from an SSH login.
+     *
+     * @param env the environment variables
+     * @return {@link #REMOTE} if any hint is present, otherwise {@link #FULL}
+     */
+    static RenderProfile detect(Map<String, String> env) {
+        String session = env.get("SESSIONNAME");
+        if (session != null && session.regionMatches(true, 0, "RDP-", 0, 4)) {
+            return REMOTE;
+        }
+        if (env.containsKey("XRDP_SESSION") || env.containsKey("VNCDESKTOP")) {
+            return REMOTE;
+        }
+        String display = env.get("DISPLAY");
+        if (display != null && !display.isEmpty()) {
+            int colon = display.lastIndexOf(':');
+            String host = colon > 0 ? display.substring(0, colon) : "";
+            if (!host.isEmpty() && !host.equals("unix") && !host.startsWith("/")) {
+                return REMOTE;
+            }
+            if (env.containsKey("SSH_CONNECTION") || env.containsKey("SSH_CLIENT")) {
+                return REMOTE;
+            }
+        }
+        return FULL;
+    }
+}
@@ -1,5 +1,7 @@
 package com.dwc.laf.painting;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
@@ -18,6 +20,9 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p>The Gaussian blur uses a two-pass separable {@link ConvolveOp} with
  * {@code EDGE_ZERO_FILL} for soft shadow edges that fade to transparent.</p>
+ *
+ * <p>No shadows are painted under the {@link RenderProfile#REMOTE} profile;
+ * callers keep reserving the shadow space so layout does not change.</p>
  */
 public final class ShadowPainter {
 
@@ -61,9 +66,10 @@ public final class ShadowPainter {
     public static void paintShadow(Graphics2D g, float x, float y,
             float width, float height, float arc, float blurRadius,
             float offsetX, float offsetY, Color shadowColor) {
-        if (shadowColor == null || blurRadius <= 0) {
+        if (shadowColor == null || blurRadius <= 0 || !RenderProfile.current().shadows()) {
             return;
         }
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
 
         // Clamp blur radius to practical desktop limit
         blurRadius = Math.min(blurRadius, MAX_BLUR_RADIUS);
@@ -83,6 +89,9 @@ public final class ShadowPainter {
         if (ref != null) {
             shadowImage = ref.get();
         }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.cacheLookup("ShadowPainter", shadowImage != null);
+        }
 
         // Cache miss: create and blur the shadow image
         if (shadowImage == null) {
@@ -106,6 +115,9 @@ public final class ShadowPainter {
                 (int) (x + offsetX - padding),
                 (int) (y + offsetY - padding),
                 imageWidth, imageHeight, null);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("ShadowPainter", null, null, imageWidth, imageHeight, start);
+        }
     }
 
     /**
@@ -81,6 +81,24 @@ public final class StateColorResolver {
         g.setComposite(oldComposite);
     }
 
+    /**
+     * Returns the opaque color produced by painting {@code color} at the given
+     * opacity over an opaque {@code background}. The color's own alpha is
+     * applied as well.
+     *
+     * @param color      the painted color
+     * @param background the color beneath; its alpha is ignored
+     * @param opacity    the additional opacity, clamped to [0.0, 1.0]
+     * @return the blended opaque color
+     */
+    public static Color blend(Color color, Color background, float opacity) {
+        float a = Math.max(0f, Math.min(1f, opacity)) * color.getAlpha() / 255f;
+        return new Color(
+                Math.round(color.getRed() * a + background.getRed() * (1 - a)),
+                Math.round(color.getGreen() * a + background.getGreen() * (1 - a)),
+                Math.round(color.getBlue() * a + background.getBlue() * (1 - a)));
+    }
+
     private static Color coalesce(Color primary, Color fallback) {
         return primary != null ? primary : fallback;
     }
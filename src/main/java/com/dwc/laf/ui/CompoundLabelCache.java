@@ -0,0 +1,156 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.diagnostics.PaintProfiler;
+
+import javax.swing.Icon;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import java.awt.FontMetrics;
+import java.awt.Insets;
+import java.awt.Rectangle;
+
+/**
+ * Per-component cache of {@link SwingUtilities#layoutCompoundLabel} results.
+ *
+ * <p>Buttons, labels and tabs lay out the same text and icon on every paint
+ * and every container layout. A component's cache keeps its last two
+ * results -- typically the paint layout and the preferred-size layout --
+ * keyed by everything the layout reads: text, font metrics, icon and its
+ * size, alignments, text positions, icon-text gap, view rectangle and
+ * component orientation. A hit copies the stored icon and text rectangles
+ * and returns the stored (possibly ellipsis-clipped) text without measuring
+ * anything.</p>
+ *
+ * <p>Because the key holds every input, any change -- from a property
+ * change, a new border or insets, or a resize -- simply misses and lays out
+ * again; there is no separate invalidation to forget. HTML text is never
+ * cached, as its layout depends on the component's {@code View}.</p>
+ *
+ * <p>The cache is stored as a client property, so it works with shared as
+ * well as per-component delegates. Like all Swing layout it must be used on
+ * the event dispatch thread.</p>
+ */
+final class CompoundLabelCache {
+
+    private static final String CLIENT_KEY = "DwcCompoundLabelCache";
+
+    /** Scratch rectangles and insets for callers without their own. */
+    final Rectangle viewR = new Rectangle();
+    final Rectangle iconR = new Rectangle();
+    final Rectangle textR = new Rectangle();
+    final Insets insets = new Insets(0, 0, 0, 0);
+
+    private final Entry[] entries;
+    private int next;
+
+    /**
+     * Creates a cache holding the given number of layouts.
+     *
+     * @param capacity the number of layouts kept, replaced round-robin
+     */
+    CompoundLabelCache(int capacity) {
+        entries = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+        }
+    }
+
+    /**
+     * Returns the cache of a component, creating it on first use.
+     *
+     * @param c the component
+     * @return the component's cache
+     */
+    static CompoundLabelCache of(JComponent c) {
+        if (c.getClientProperty(CLIENT_KEY) instanceof CompoundLabelCache cache) {
+            return cache;
+        }
+        CompoundLabelCache cache = new CompoundLabelCache(2);
+        c.putClientProperty(CLIENT_KEY, cache);
+        return cache;
+    }
+
+    /**
+     * Same contract as {@link SwingUtilities#layoutCompoundLabel(JComponent,
+     * FontMetrics, String, Icon, int, int, int, int, Rectangle, Rectangle,
+     * Rectangle, int)}, answered from the cache when the inputs are unchanged.
+     */
+    String layout(JComponent c, FontMetrics fm, String text, Icon icon,
+            int verticalAlignment, int horizontalAlignment,
+            int verticalTextPosition, int horizontalTextPosition,
+            Rectangle viewR, Rectangle iconR, Rectangle textR, int textIconGap) {
+        // Swing's layout offsets into the rectangles it is given, so reused
+        // scratch rectangles must start out empty
+        iconR.setBounds(0, 0, 0, 0);
+        textR.setBounds(0, 0, 0, 0);
+        if (c.getClientProperty("html") != null) {
+            return SwingUtilities.layoutCompoundLabel(c, fm, text, icon,
+                    verticalAlignment, horizontalAlignment,
+                    verticalTextPosition, horizontalTextPosition,
+                    viewR, iconR, textR, textIconGap);
+        }
+
+        int iconWidth = icon != null ? icon.getIconWidth() : 0;
+        int iconHeight = icon != null ? icon.getIconHeight() : 0;
+        boolean leftToRight = c.getComponentOrientation().isLeftToRight();
+        int alignments = verticalAlignment | horizontalAlignment << 8
+                | verticalTextPosition << 16 | horizontalTextPosition << 24;
+
+        for (Entry e : entries) {
+            if (e.fm == fm && e.icon == icon && e.iconWidth == iconWidth && e.iconHeight == iconHeight
+                    && e.alignments == alignments && e.gap == textIconGap
+                    && e.leftToRight == leftToRight && e.view.equals(viewR)
+                    && (e.text == text || (e.text != null && e.text.equals(text)))) {
+                if (PaintProfiler.ENABLED) {
+                    PaintProfiler.cacheLookup("CompoundLabelCache", true);
+                }
+                iconR.setBounds(e.iconResult);
+                textR.setBounds(e.textResult);
+                return e.clipped;
+            }
+        }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.cacheLookup("CompoundLabelCache", false);
+        }
+
+        String clipped = SwingUtilities.layoutCompoundLabel(c, fm, text, icon,
+                verticalAlignment, horizontalAlignment,
+                verticalTextPosition, horizontalTextPosition,
+                viewR, iconR, textR, textIconGap);
+
+        Entry e = entries[next];
+        next = (next + 1) % entries.length;
+        e.text = text;
+        e.fm = fm;
+        e.icon = icon;
+        e.iconWidth = iconWidth;
+        e.iconHeight = iconHeight;
+        e.alignments = alignments;
+        e.gap = textIconGap;
+        e.leftToRight = leftToRight;
+        e.view.setBounds(viewR);
+        e.iconResult.setBounds(iconR);
+        e.textResult.setBounds(textR);
+        e.clipped = clipped;
+        return clipped;
+    }
+
+    /** One cached layout: its inputs and results. */
+    private static final class Entry {
+        // Key
+        String text;
+        FontMetrics fm;
+        Icon icon;
+        int iconWidth;
+        int iconHeight;
+        int alignments;
+        int gap;
+        boolean leftToRight;
+        final Rectangle view = new Rectangle(-1, -1, -1, -1);
+
+        // Result
+        final Rectangle iconResult = new Rectangle();
+        final Rectangle textResult = new Rectangle();
+        String clipped;
+    }
+}
@@ -0,0 +1,128 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.painting.CornerFillPainter;
+import com.dwc.laf.painting.StateColorResolver;
+
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opaque disabled-state colors of the current theme: each state color
+ * pre-blended at {@code Component.disabledOpacity} over the opaque color
+ * beneath it.
+ *
+ * <p>Painting a disabled control under a reduced-opacity
+ * {@code AlphaComposite} reads back every destination pixel it covers, which
+ * is slow on software pipelines and forces pixel transfers instead of fill
+ * requests on remote X11 displays. Filling with the blended opaque color
+ * gives the same pixels as a plain fill. The palette is built by
+ * {@link ThemeStyles} once per theme generation, with every theme color
+ * already blended over {@code Panel.background}; pairs over other
+ * backgrounds (card panels, application colors, the control's own disabled
+ * fill beneath its text) are blended on first use and kept for the rest of
+ * the generation.</p>
+ *
+ * <p>Only opaque colors beneath are known exactly. Delegates fall back to
+ * compositing when {@link #over} answers null, and always for icons
+ * supplied by the application, whose pixels are not known.</p>
+ */
+final class DisabledColors {
+
+    /** Upper bound of the blended pairs kept per theme generation. */
+    static final int MAX_CACHED = 1024;
+
+    private final float opacity;
+    private final Map<Long, Color> blended = new ConcurrentHashMap<>();
+
+    private DisabledColors(float opacity) {
+        this.opacity = opacity;
+    }
+
+    /**
+     * Returns the palette of the current theme.
+     */
+    static DisabledColors current() {
+        return ThemeStyles.get(DisabledColors.class, DisabledColors::load);
+    }
+
+    private static DisabledColors load() {
+        float opacity = 0.6f;
+        if (UIManager.get("Component.disabledOpacity") instanceof Number num) {
+            opacity = num.floatValue();
+        }
+        DisabledColors palette = new DisabledColors(opacity);
+
+        // Theme build time: blend every theme color over the panel background
+        Color panel = UIManager.getColor("Panel.background");
+        if (isOpaque(panel)) {
+            for (Object value : UIManager.getLookAndFeelDefaults().values().toArray()) {
+                if (value instanceof Color color) {
+                    palette.over(color, panel);
+                }
+            }
+        }
+        return palette;
+    }
+
+    /**
+     * Returns the opacity disabled controls are painted at.
+     */
+    float opacity() {
+        return opacity;
+    }
+
+    /**
+     * Returns the opaque color produced by painting {@code color} at the
+     * disabled opacity over {@code under}.
+     *
+     * @param color the state color; its own alpha is applied as well
+     * @param under the color beneath
+     * @return the blended opaque color, or null if {@code color} is null or
+     *         {@code under} is null or translucent, and the caller must composite
+     */
+    Color over(Color color, Color under) {
+        if (color == null || !isOpaque(under)) {
+            return null;
+        }
+        long key = ((long) color.getRGB() << 32) | (under.getRGB() & 0xFFFFFFFFL);
+        Color result = blended.get(key);
+        if (result == null) {
+            result = StateColorResolver.blend(color, under, opacity);
+            if (blended.size() < MAX_CACHED) {
+                blended.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether colors can be blended over {@code under}, or the
+     * caller must composite.
+     *
+     * @param under the color beneath, or null if unknown
+     * @return true if {@code under} is known and opaque
+     */
+    static boolean isOpaque(Color under) {
+        return under != null && under.getAlpha() == 255;
+    }
+
+    /**
+     * Returns the color a component without its own rounded fill paints
+     * over: its background if it is opaque, otherwise the effective parent
+     * background.
+     *
+     * @param c the component
+     * @return the color beneath, or null if none is known
+     */
+    static Color beneath(Component c) {
+        return c.isOpaque() ? c.getBackground() : CornerFillPainter.parentBackground(c);
+    }
+
+    /** Returns the number of blended pairs held, for tests. */
+    int size() {
+        return blended.size();
+    }
+}
@@ -0,0 +1,419 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.painting.RenderProfile;
+
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.DisplayMode;
+import java.awt.Frame;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Shared animation engine for the DWC delegates.
+ *
+ * <p>All running animations are driven by one Swing {@link Timer} that
+ * fires at the default screen's refresh rate (60 Hz when the rate is
+ * unknown or the environment is headless), so fifty animating components
+ * cost one timer event per frame rather than fifty timers. Each tick
+ * advances every animation and the animations queue their dirty regions
+ * through {@link #repaint}, so everything that changed in a frame is painted
+ * in one flush.</p>
+ *
+ * <p>{@link #repaint} also serves state changes outside animations, so a
+ * hover or focus change posts only the regions it touches. A
+ * {@code RepaintManager} keeps one dirty rectangle per component, so the
+ * four sides of a border ring would merge into the whole component and
+ * repaint its middle, and for non-opaque components the parent beneath it.
+ * The flush therefore paints regions that cover less than half of their
+ * union one at a time with {@link JComponent#paintImmediately}, which
+ * paints just that strip of the component and what lies beneath it.
+ * Denser regions are posted to the {@code RepaintManager} as one dirty
+ * rectangle and painted in its next coalesced pass.</p>
+ *
+ * <p>Animations of components that are not showing, or whose frame is
+ * iconified, are suspended: they stay registered but are not ticked, and
+ * while every animation is suspended the timer drops to a slow poll. Color
+ * transitions are not suspended but finished: they jump to their target
+ * and are unregistered, so a window disposed during a hover transition is
+ * not kept reachable. The timer stops when no animations remain.</p>
+ *
+ * <p>{@link #color} interpolates state colors (hover, focus) over the CSS
+ * transition durations from the theme ({@code --dwc-transition-fast} and
+ * {@code --dwc-transition}, mapped to {@code Component.transitionFastDuration}
+ * and {@code Component.transitionDuration}). Animations can be turned off
+ * with the system property {@code -Ddwc.animations=false}, in which case
+ * state colors switch instantly; they also switch instantly under the
+ * remote {@link RenderProfile}.</p>
+ *
+ * <p>Like the rest of Swing, the engine must only be used on the event
+ * dispatch thread.</p>
+ */
+public final class DwcAnimator {
+
+    private static final Logger LOG = Logger.getLogger(DwcAnimator.class.getName());
+
+    /** Whether animations run; set {@code -Ddwc.animations=false} to disable. */
+    public static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("dwc.animations"));
+
+    /** Client property holding a component's color transitions. */
+    private static final String TRANSITIONS_KEY = "DwcAnimator.transitions";
+
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    private static final int SUSPENDED_POLL_MILLIS = 250;
+
+    /** Running animations and their components, in start order. EDT-confined. */
+    private static final Map<Animation, JComponent> animations = new LinkedHashMap<>();
+
+    /** Regions queued by {@link #repaint} until the next flush. EDT-confined. */
+    private static final Map<JComponent, List<Rectangle>> pendingRegions = new LinkedHashMap<>();
+    private static boolean flushScheduled;
+
+    private static Timer timer;
+    private static int frameMillis;
+
+    private DwcAnimator() {
+        // Non-instantiable utility class
+    }
+
+    /**
+     * One running animation, advanced once per frame.
+     */
+    @FunctionalInterface
+    public interface Animation {
+
+        /**
+         * Advances the animation to the given time.
+         *
+         * @param nowNanos the frame time, from {@link System#nanoTime()}
+         * @return true to keep running, false when the animation is finished
+         */
+        boolean tick(long nowNanos);
+    }
+
+    /**
+     * Starts an animation for a component. Starting an animation that is
+     * already running has no effect.
+     *
+     * @param c         the animated component; the animation is suspended
+     *                  while it is not showing
+     * @param animation the animation
+     */
+    public static void start(JComponent c, Animation animation) {
+        if (animations.putIfAbsent(animation, c) == null) {
+            ensureTimer();
+            if (!timer.isRunning()) {
+                timer.setDelay(frameMillis);
+                timer.start();
+            }
+        }
+    }
+
+    /**
+     * Stops an animation. Stopping an animation that is not running has no
+     * effect.
+     *
+     * @param animation the animation
+     */
+    public static void stop(Animation animation) {
+        animations.remove(animation);
+        if (animations.isEmpty() && timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Returns a state color that follows {@code target} with a transition.
+     *
+     * <p>Delegates call this while painting with the color for the
+     * component's current state. The first call for a key returns the target;
+     * when the target later changes, the returned color moves from the color
+     * currently shown to the new target over {@code durationMillis} with an
+     * ease-in-out curve, and the component is repainted every frame until the
+     * transition ends. Components that are not showing switch instantly.</p>
+     *
+     * @param c              the component being painted
+     * @param key            identifies the color within the component
+     * @param target         the color for the component's current state
+     * @param durationMillis the transition duration; 0 switches instantly
+     * @param dirty          the regions to repaint each frame; none for the
+     *                       whole component
+     * @return the color to paint with
+     */
+    public static Color color(JComponent c, Object key, Color target,
+            int durationMillis, Rectangle... dirty) {
+        return color(c, key, target, durationMillis, System.nanoTime(), dirty);
+    }
+
+    static Color color(JComponent c, Object key, Color target,
+            int durationMillis, long now, Rectangle... dirty) {
+        if (!ENABLED || target == null) {
+            return target;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Object, ColorTransition> transitions =
+                (Map<Object, ColorTransition>) c.getClientProperty(TRANSITIONS_KEY);
+        if (transitions == null) {
+            transitions = new HashMap<>();
+            c.putClientProperty(TRANSITIONS_KEY, transitions);
+        }
+        ColorTransition t = transitions.get(key);
+        if (t == null) {
+            transitions.put(key, new ColorTransition(c, target));
+            return target;
+        }
+        if (!target.equals(t.to)) {
+            if (durationMillis <= 0 || !c.isShowing() || !RenderProfile.current().transitions()) {
+                t.snap(target);
+            } else {
+                t.retarget(target, now, durationMillis * 1_000_000L, dirty);
+            }
+        }
+        return t.valueAt(now);
+    }
+
+    /**
+     * Queues regions of a component for repainting. All regions queued while
+     * handling one event, or during one animation frame, are flushed
+     * together right afterwards.
+     *
+     * @param c       the component
+     * @param regions the regions, in the component's coordinates
+     */
+    public static void repaint(JComponent c, Rectangle... regions) {
+        List<Rectangle> queued = pendingRegions.computeIfAbsent(c, k -> new ArrayList<>(4));
+        for (Rectangle r : regions) {
+            if (!r.isEmpty()) {
+                queued.add(r);
+            }
+        }
+        if (!flushScheduled) {
+            flushScheduled = true;
+            SwingUtilities.invokeLater(DwcAnimator::flush);
+        }
+    }
+
+    /**
+     * Paints sparse queued regions strip by strip and posts the others to
+     * the {@code RepaintManager}. Package-private for testing.
+     */
+    static void flush() {
+        flushScheduled = false;
+        if (pendingRegions.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<JComponent, List<Rectangle>>> entries = new ArrayList<>(pendingRegions.entrySet());
+        pendingRegions.clear();
+
+        for (Map.Entry<JComponent, List<Rectangle>> e : entries) {
+            JComponent c = e.getKey();
+            List<Rectangle> regions = e.getValue();
+            if (regions.isEmpty()) {
+                continue;
+            }
+            Rectangle union = new Rectangle(regions.get(0));
+            long area = 0;
+            for (Rectangle r : regions) {
+                union.add(r);
+                area += (long) r.width * r.height;
+            }
+            if (regions.size() > 1 && area * 2 < (long) union.width * union.height) {
+                // Merged, the strips would repaint the whole component
+                for (Rectangle r : regions) {
+                    c.paintImmediately(r.x, r.y, r.width, r.height);
+                }
+            } else {
+                RepaintManager.currentManager(c).addDirtyRegion(c,
+                        union.x, union.y, union.width, union.height);
+            }
+        }
+    }
+
+    /**
+     * Returns a transition duration from the defaults table.
+     *
+     * @param key      the UIDefaults key, e.g. {@code Component.transitionDuration}
+     * @param fallback the duration used if the key is missing
+     * @return the duration in milliseconds
+     */
+    public static int durationMillis(String key, int fallback) {
+        Object value = UIManager.get(key);
+        return value instanceof Number n ? n.intValue() : fallback;
+    }
+
+    /**
+     * Advances every animation whose component is visible to the given
+     * time, and finishes the color transitions of hidden components.
+     * Package-private for testing.
+     */
+    static void tick(long now) {
+        int suspended = 0;
+        List<Map.Entry<Animation, JComponent>> snapshot = new ArrayList<>(animations.entrySet());
+        for (Map.Entry<Animation, JComponent> e : snapshot) {
+            if (!isSuspended(e.getValue())) {
+                if (!e.getKey().tick(now)) {
+                    animations.remove(e.getKey());
+                }
+            } else if (e.getKey() instanceof ColorTransition t) {
+                t.finish();
+                animations.remove(t);
+            } else {
+                suspended++;
+            }
+        }
+        flush();
+        if (timer == null) {
+            return;
+        }
+        if (animations.isEmpty()) {
+            timer.stop();
+        } else {
+            timer.setDelay(suspended == animations.size() ? SUSPENDED_POLL_MILLIS : frameMillis);
+        }
+    }
+
+    /**
+     * Returns true if a component's animations should not run: it is not
+     * showing, or its frame is iconified. Package-private for testing.
+     */
+    static boolean isSuspended(JComponent c) {
+        if (c == null || !c.isShowing()) {
+            return true;
+        }
+        Window w = SwingUtilities.getWindowAncestor(c);
+        return w instanceof Frame f && (f.getExtendedState() & Frame.ICONIFIED) != 0;
+    }
+
+    /**
+     * Returns the number of registered animations. Package-private for testing.
+     */
+    static int activeCount() {
+        return animations.size();
+    }
+
+    private static void ensureTimer() {
+        if (timer == null) {
+            frameMillis = 1000 / refreshRate();
+            timer = new Timer(frameMillis, e -> tick(System.nanoTime()));
+            timer.setCoalesce(true);
+            LOG.fine(() -> "Animation timer created (" + frameMillis + " ms per frame)");
+        }
+    }
+
+    private static int refreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return DEFAULT_REFRESH_RATE;
+        }
+        try {
+            DisplayMode mode = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDisplayMode();
+            int rate = mode.getRefreshRate();
+            if (rate != DisplayMode.REFRESH_RATE_UNKNOWN) {
+                return Math.max(30, Math.min(240, rate));
+            }
+        } catch (RuntimeException ex) {
+            LOG.fine(() -> "Display refresh rate unavailable: " + ex);
+        }
+        return DEFAULT_REFRESH_RATE;
+    }
+
+    /**
+     * Interpolates between two colors; {@code fraction} is 0..1.
+     * Package-private for testing.
+     */
+    static Color interpolate(Color from, Color to, float fraction) {
+        if (fraction <= 0f) {
+            return from;
+        }
+        if (fraction >= 1f) {
+            return to;
+        }
+        return new Color(
+                mix(from.getRed(), to.getRed(), fraction),
+                mix(from.getGreen(), to.getGreen(), fraction),
+                mix(from.getBlue(), to.getBlue(), fraction),
+                mix(from.getAlpha(), to.getAlpha(), fraction));
+    }
+
+    private static int mix(int a, int b, float fraction) {
+        return Math.round(a + (b - a) * fraction);
+    }
+
+    /** CSS {@code ease-in-out}, approximated by a smoothstep curve. */
+    private static float ease(float t) {
+        return t * t * (3f - 2f * t);
+    }
+
+    /**
+     * A color moving towards a target state color.
+     */
+    private static final class ColorTransition implements Animation {
+        private final JComponent component;
+        private Color from;
+        private Color to;
+        private long startNanos;
+        private long durationNanos;
+        private Rectangle[] dirty;
+
+        ColorTransition(JComponent component, Color initial) {
+            this.component = component;
+            this.from = initial;
+            this.to = initial;
+        }
+
+        void snap(Color target) {
+            from = to = target;
+            durationNanos = 0;
+            stop(this);
+        }
+
+        /** Ends the transition at its target without repainting. */
+        void finish() {
+            from = to;
+            durationNanos = 0;
+        }
+
+        void retarget(Color target, long now, long duration, Rectangle[] dirtyArea) {
+            from = valueAt(now);
+            to = target;
+            startNanos = now;
+            durationNanos = duration;
+            dirty = dirtyArea;
+            start(component, this);
+        }
+
+        Color valueAt(long now) {
+            if (durationNanos <= 0) {
+                return to;
+            }
+            float t = (float) (now - startNanos) / durationNanos;
+            return interpolate(from, to, ease(Math.max(0f, Math.min(1f, t))));
+        }
+
+        @Override
+        public boolean tick(long now) {
+            if (dirty != null && dirty.length > 0) {
+                repaint(component, dirty);
+            } else {
+                repaint(component, new Rectangle(0, 0, component.getWidth(), component.getHeight()));
+            }
+            if (now - startNanos >= durationNanos) {
+                finish();
+                return false;
+            }
+            return true;
+        }
+    }
+}
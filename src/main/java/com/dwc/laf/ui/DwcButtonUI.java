@@ -1,6 +1,9 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.CornerFillPainter;
 import com.dwc.laf.painting.FocusRingPainter;
+import com.dwc.laf.painting.GlyphCache;
 import com.dwc.laf.painting.PaintUtils;
 import com.dwc.laf.painting.StateColorResolver;
 
@@ -9,12 +12,10 @@ import javax.swing.ButtonModel;
 import javax.swing.Icon;
 import javax.swing.JComponent;
 import javax.swing.LookAndFeel;
-import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
 import javax.swing.plaf.basic.BasicButtonUI;
-import javax.swing.plaf.basic.BasicGraphicsUtils;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -45,10 +46,17 @@ import java.util.Map;
  *
  * <p>Five visual states are rendered: normal, hover, pressed, focused, and
  * disabled. Colors are resolved by {@link StateColorResolver} based on
- * the button's current state. Disabled state paints at reduced opacity.</p>
+ * the button's current state. Disabled state paints at reduced opacity,
+ * with colors pre-blended by {@link DisabledColors}.</p>
+ *
+ * <p>Buttons are non-opaque so their rounded corners show the parent. With
+ * {@code Component.opaqueCorners} enabled they are opaque instead and paint
+ * the parent background beneath the rounded shape ({@link CornerFillPainter}),
+ * which bounds a button repaint to the button itself.</p>
  *
  * <p>Each JButton gets its own instance (not a shared singleton) to allow
- * per-component state caching in future phases.</p>
+ * per-component state caching; the theme-derived colors and dimensions are
+ * a {@link Style} shared by all instances.</p>
  */
 public class DwcButtonUI extends BasicButtonUI {
 
@@ -63,20 +71,80 @@ public class DwcButtonUI extends BasicButtonUI {
             Color focusRingColor
     ) {}
 
-    // Variant color map keyed by variant name
-    private Map<String, VariantColors> variantColors;
+    /**
+     * The theme-wide button style, built once per theme generation by
+     * {@link ThemeStyles} and shared by all button delegates.
+     */
+    private record Style(
+            Map<String, VariantColors> variantColors,
+            Color disabledText,
+            int arc,
+            int focusWidth,
+            int borderWidth,
+            int minimumWidth,
+            float disabledOpacity,
+            boolean opaqueCorners
+    ) {
+
+        private static Style load() {
+            // Build variant color map
+            Map<String, VariantColors> variantColors = new HashMap<>();
+            List<String> variants = List.of("default", "primary", "success", "danger", "warning", "info");
+            for (String variant : variants) {
+                // UIDefaults prefix: "default" variant uses "Button" (no suffix),
+                // "primary" uses "Button.default" (Swing convention: default button = primary),
+                // others use "Button.{variant}"
+                String prefix = switch (variant) {
+                    case "default" -> "Button";
+                    case "primary" -> "Button.default";
+                    default -> "Button." + variant;
+                };
+
+                Color bg = UIManager.getColor(prefix + ".background");
+                Color fg = UIManager.getColor(prefix + ".foreground");
+                Color hoverBg = UIManager.getColor(prefix + ".hoverBackground");
+                Color pressedBg = UIManager.getColor(prefix + ".pressedBackground");
+
+                // Focus ring: "default" uses global, others use variant-specific
+                Color focusRing = switch (variant) {
+                    case "default" -> UIManager.getColor("Component.focusRingColor");
+                    case "primary" -> {
+                        Color c2 = UIManager.getColor("Component.focusRingColor.primary");
+                        yield c2 != null ? c2 : UIManager.getColor("Component.focusRingColor");
+                    }
+                    default -> {
+                        Color c2 = UIManager.getColor("Component.focusRingColor." + variant);
+                        yield c2 != null ? c2 : UIManager.getColor("Component.focusRingColor");
+                    }
+                };
 
-    // Disabled text color
-    private Color disabledText;
+                variantColors.put(variant, new VariantColors(bg, fg, hoverBg, pressedBg, focusRing));
+            }
 
-    // Dimensions
-    private int arc;
-    private int focusWidth;
-    private int borderWidth;
-    private int minimumWidth;
+            int minimumWidth = UIManager.getInt("Button.minimumWidth");
+            if (minimumWidth <= 0) {
+                minimumWidth = 72;
+            }
+
+            // Disabled opacity
+            float disabledOpacity = 0.6f;
+            if (UIManager.get("Component.disabledOpacity") instanceof Number num) {
+                disabledOpacity = num.floatValue();
+            }
 
-    // Opacity
-    private float disabledOpacity;
+            return new Style(Map.copyOf(variantColors),
+                    UIManager.getColor("Button.disabledText"),
+                    UIManager.getInt("Button.arc"),
+                    UIManager.getInt("Component.focusWidth"),
+                    UIManager.getInt("Component.borderWidth"),
+                    minimumWidth,
+                    disabledOpacity,
+                    UIManager.getBoolean("Component.opaqueCorners"));
+        }
+    }
+
+    // Shared theme style (variant colors, dimensions, opacity)
+    private Style style;
 
     /**
      * Creates a new {@code DwcButtonUI} instance for the given component.
@@ -93,65 +161,14 @@ public class DwcButtonUI extends BasicButtonUI {
     protected void installDefaults(AbstractButton b) {
         super.installDefaults(b);
 
-        // Build variant color map
-        variantColors = new HashMap<>();
-        List<String> variants = List.of("default", "primary", "success", "danger", "warning", "info");
-        for (String variant : variants) {
-            // UIDefaults prefix: "default" variant uses "Button" (no suffix),
-            // "primary" uses "Button.default" (Swing convention: default button = primary),
-            // others use "Button.{variant}"
-            String prefix = switch (variant) {
-                case "default" -> "Button";
-                case "primary" -> "Button.default";
-                default -> "Button." + variant;
-            };
-
-            Color bg = UIManager.getColor(prefix + ".background");
-            Color fg = UIManager.getColor(prefix + ".foreground");
-            Color hoverBg = UIManager.getColor(prefix + ".hoverBackground");
-            Color pressedBg = UIManager.getColor(prefix + ".pressedBackground");
-
-            // Focus ring: "default" uses global, others use variant-specific
-            Color focusRing = switch (variant) {
-                case "default" -> UIManager.getColor("Component.focusRingColor");
-                case "primary" -> {
-                    Color c2 = UIManager.getColor("Component.focusRingColor.primary");
-                    yield c2 != null ? c2 : UIManager.getColor("Component.focusRingColor");
-                }
-                default -> {
-                    Color c2 = UIManager.getColor("Component.focusRingColor." + variant);
-                    yield c2 != null ? c2 : UIManager.getColor("Component.focusRingColor");
-                }
-            };
-
-            variantColors.put(variant, new VariantColors(bg, fg, hoverBg, pressedBg, focusRing));
-        }
-
-        // Disabled text
-        disabledText = UIManager.getColor("Button.disabledText");
-
-        // Dimensions
-        arc = UIManager.getInt("Button.arc");
-        focusWidth = UIManager.getInt("Component.focusWidth");
-        borderWidth = UIManager.getInt("Component.borderWidth");
-        minimumWidth = UIManager.getInt("Button.minimumWidth");
-        if (minimumWidth <= 0) {
-            minimumWidth = 72;
-        }
-
-        // Disabled opacity
-        Object opacityObj = UIManager.get("Component.disabledOpacity");
-        if (opacityObj instanceof Number num) {
-            disabledOpacity = num.floatValue();
-        } else {
-            disabledOpacity = 0.6f;
-        }
+        style = ThemeStyles.get(Style.class, Style::load);
 
         // Enable rollover for hover state tracking
         b.setRolloverEnabled(true);
 
-        // Set opaque to false (respects UIResource contract)
-        LookAndFeel.installProperty(b, "opaque", false);
+        // Non-opaque for rounded corners, unless corners are filled with the
+        // parent background (respects UIResource contract)
+        LookAndFeel.installProperty(b, "opaque", style.opaqueCorners());
 
         // Install DwcButtonBorder if the current border is null or a UIResource
         if (b.getBorder() == null || b.getBorder() instanceof UIResource) {
@@ -164,6 +181,21 @@ public class DwcButtonUI extends BasicButtonUI {
         super.uninstallDefaults(b);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        if (style.opaqueCorners() && c.isOpaque()) {
+            // Parent color under the rounded shape instead of a rectangular background fill
+            CornerFillPainter.paintParentBackground(g, c);
+            paint(g, c);
+        } else {
+            super.update(g, c);
+        }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcButtonUI", c.getClientProperty("dwc.buttonType"), c, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         AbstractButton b = (AbstractButton) c;
@@ -172,9 +204,12 @@ public class DwcButtonUI extends BasicButtonUI {
             int width = c.getWidth();
             int height = c.getHeight();
             String variant = getVariant(b);
+            Map<String, VariantColors> variantColors = style.variantColors();
             VariantColors vc = variantColors.getOrDefault(variant, variantColors.get("default"));
 
-            int fw = focusWidth;
+            int fw = style.focusWidth();
+            int arc = style.arc();
+            float disabledOpacity = style.disabledOpacity();
 
             // Content area (inside focus ring reservation)
             float cx = fw;
@@ -187,30 +222,40 @@ public class DwcButtonUI extends BasicButtonUI {
             // Swing's default rectangular fill doesn't paint under our rounded
             // corners. BBj ties opaque→contentAreaFilled, so checking that
             // flag here would skip our own background painting.
+            // Disabled: opaque pre-blended colors over a known background,
+            // compositing only when the color beneath is unknown
             Color bg = resolveBackground(b);
-            if (!b.isEnabled()) {
+            DisabledColors disabled = b.isEnabled() ? null : DisabledColors.current();
+            Color under = disabled != null ? beneath(b) : null;
+            boolean composite = disabled != null && !DisabledColors.isOpaque(under);
+            if (composite) {
                 StateColorResolver.paintWithOpacity(g2, disabledOpacity, () -> {
                     PaintUtils.paintRoundedBackground(g2, cx, cy, cw, ch, arc, bg);
                 });
+            } else if (disabled != null && bg != null) {
+                Color fill = disabled.over(bg, under);
+                PaintUtils.paintRoundedBackground(g2, cx, cy, cw, ch, arc, fill);
+                under = fill;
             } else {
                 PaintUtils.paintRoundedBackground(g2, cx, cy, cw, ch, arc, bg);
             }
 
             // 2. Border painted by DwcButtonBorder (not here)
 
-            // 3. Layout icon + text
+            // 3. Layout icon + text (cached until text, font, icon, alignment or size change)
             g2.setFont(b.getFont());
             FontMetrics fm = g2.getFontMetrics();
-            Rectangle viewRect = new Rectangle();
-            Rectangle iconRect = new Rectangle();
-            Rectangle textRect = new Rectangle();
-            Insets insets = b.getInsets();
+            CompoundLabelCache layout = CompoundLabelCache.of(b);
+            Rectangle viewRect = layout.viewR;
+            Rectangle iconRect = layout.iconR;
+            Rectangle textRect = layout.textR;
+            Insets insets = b.getInsets(layout.insets);
             viewRect.x = insets.left;
             viewRect.y = insets.top;
             viewRect.width = width - (insets.left + insets.right);
             viewRect.height = height - (insets.top + insets.bottom);
 
-            String text = SwingUtilities.layoutCompoundLabel(
+            String text = layout.layout(
                     c, fm, b.getText(), b.getIcon(),
                     b.getVerticalAlignment(), b.getHorizontalAlignment(),
                     b.getVerticalTextPosition(), b.getHorizontalTextPosition(),
@@ -237,13 +282,18 @@ public class DwcButtonUI extends BasicButtonUI {
                 Color fg = resolveForeground(b);
                 if (!b.isEnabled()) {
                     VariantColors defVc = variantColors.get("default");
+                    Color disabledText = style.disabledText();
                     fg = disabledText != null ? disabledText
                             : (defVc != null ? defVc.foreground() : fg);
-                    g2.setComposite(AlphaComposite.getInstance(
-                            AlphaComposite.SRC_OVER, disabledOpacity));
+                    if (composite) {
+                        g2.setComposite(AlphaComposite.getInstance(
+                                AlphaComposite.SRC_OVER, disabledOpacity));
+                    } else if (fg != null) {
+                        fg = disabled.over(fg, under);
+                    }
                 }
                 g2.setColor(fg);
-                BasicGraphicsUtils.drawStringUnderlineCharAt(g2, text,
+                GlyphCache.drawString(null, g2, text,
                         b.getDisplayedMnemonicIndex(),
                         textRect.x, textRect.y + fm.getAscent());
             }
@@ -261,11 +311,22 @@ public class DwcButtonUI extends BasicButtonUI {
         }
     }
 
+    /**
+     * Returns the color beneath the button's rounded background: the parent
+     * background, unless {@code update} fills an opaque button's bounds with
+     * its own background.
+     */
+    private Color beneath(AbstractButton b) {
+        return b.isOpaque() && !style.opaqueCorners()
+                ? b.getBackground() : CornerFillPainter.parentBackground(b);
+    }
+
     /**
      * Resolves the background color based on button state and variant.
      */
     private Color resolveBackground(AbstractButton b) {
         String variant = getVariant(b);
+        Map<String, VariantColors> variantColors = style.variantColors();
         VariantColors vc = variantColors.getOrDefault(variant, variantColors.get("default"));
         return StateColorResolver.resolve(b, vc.background(), null, null,
                 vc.hoverBackground(), vc.pressedBackground());
@@ -276,6 +337,7 @@ public class DwcButtonUI extends BasicButtonUI {
      */
     private Color resolveForeground(AbstractButton b) {
         String variant = getVariant(b);
+        Map<String, VariantColors> variantColors = style.variantColors();
         VariantColors vc = variantColors.getOrDefault(variant, variantColors.get("default"));
         VariantColors defVc = variantColors.get("default");
         Color fg = vc.foreground();
@@ -288,7 +350,7 @@ public class DwcButtonUI extends BasicButtonUI {
      */
     private String getVariant(AbstractButton b) {
         Object prop = b.getClientProperty("dwc.buttonType");
-        if (prop instanceof String s && variantColors.containsKey(s)) {
+        if (prop instanceof String s && style.variantColors().containsKey(s)) {
             return s;
         }
         return "default";
@@ -316,15 +378,15 @@ public class DwcButtonUI extends BasicButtonUI {
 
     @Override
     public Dimension getPreferredSize(JComponent c) {
-        Dimension d = super.getPreferredSize(c);
+        AbstractButton b = (AbstractButton) c;
+        Dimension d = preferredButtonSize(b);
         if (d == null) {
             return null;
         }
 
         // Enforce minimum width only if the button has text (not icon-only)
-        AbstractButton b = (AbstractButton) c;
         if (b.getText() != null && !b.getText().isEmpty()) {
-            d.width = Math.max(d.width, minimumWidth);
+            d.width = Math.max(d.width, style.minimumWidth());
         }
 
         // Enforce minimum height (DWC --dwc-size-m = 2.25rem = 36px)
@@ -337,4 +399,32 @@ public class DwcButtonUI extends BasicButtonUI {
     public Dimension getMinimumSize(JComponent c) {
         return getPreferredSize(c);
     }
+
+    /**
+     * Same as {@code BasicGraphicsUtils.getPreferredButtonSize}, with the
+     * text and icon layout answered by the button's {@link CompoundLabelCache}.
+     */
+    private static Dimension preferredButtonSize(AbstractButton b) {
+        if (b.getComponentCount() > 0) {
+            return null;
+        }
+        String text = b.getText();
+        CompoundLabelCache layout = CompoundLabelCache.of(b);
+        Rectangle iconR = layout.iconR;
+        Rectangle textR = layout.textR;
+        layout.viewR.setBounds(0, 0, Short.MAX_VALUE, Short.MAX_VALUE);
+        layout.layout(b, b.getFontMetrics(b.getFont()), text, b.getIcon(),
+                b.getVerticalAlignment(), b.getHorizontalAlignment(),
+                b.getVerticalTextPosition(), b.getHorizontalTextPosition(),
+                layout.viewR, iconR, textR, text == null ? 0 : b.getIconTextGap());
+
+        // Size of the union of the icon and text rectangles plus the insets
+        int x1 = Math.min(iconR.x, textR.x);
+        int y1 = Math.min(iconR.y, textR.y);
+        int x2 = Math.max(iconR.x + iconR.width, textR.x + textR.width);
+        int y2 = Math.max(iconR.y + iconR.height, textR.y + textR.height);
+        Insets insets = b.getInsets(layout.insets);
+        return new Dimension(x2 - x1 + insets.left + insets.right,
+                y2 - y1 + insets.top + insets.bottom);
+    }
 }
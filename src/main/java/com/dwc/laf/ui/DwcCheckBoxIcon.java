@@ -1,5 +1,6 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
 import com.dwc.laf.painting.FocusRingPainter;
 import com.dwc.laf.painting.PaintUtils;
 import com.dwc.laf.painting.StateColorResolver;
@@ -41,6 +42,7 @@ public class DwcCheckBoxIcon implements javax.swing.Icon {
 
     @Override
     public void paintIcon(Component c, Graphics g, int x, int y) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
         AbstractButton b = (AbstractButton) c;
         ButtonModel model = b.getModel();
 
@@ -85,15 +87,26 @@ public class DwcCheckBoxIcon implements javax.swing.Icon {
 
         Graphics2D g2 = (Graphics2D) g.create();
         try {
-            // Disabled opacity
-            if (!enabled) {
-                Object opacityObj = UIManager.get("Component.disabledOpacity");
-                float opacity = opacityObj instanceof Number num ? num.floatValue() : 0.6f;
-                StateColorResolver.paintWithOpacity(g2, opacity, () -> {
-                    paintIndicator(g2, bx, by, arc, bw, bgColor, borderColor, selected);
+            // Disabled: opaque colors pre-blended over the background beneath,
+            // compositing only when it is unknown
+            Color markColor = UIManager.getColor("CheckBox.icon.checkmarkColor");
+            if (markColor == null) {
+                markColor = Color.WHITE;
+            }
+            DisabledColors disabled = enabled ? null : DisabledColors.current();
+            Color under = disabled != null ? DisabledColors.beneath(c) : null;
+            if (disabled != null && !DisabledColors.isOpaque(under)) {
+                Color mark = markColor;
+                StateColorResolver.paintWithOpacity(g2, disabled.opacity(), () -> {
+                    paintIndicator(g2, bx, by, arc, bw, bgColor, borderColor, selected, mark);
                 });
+            } else if (disabled != null) {
+                Color bg = disabled.over(bgColor, under);
+                Color surface = bg != null ? bg : under;
+                paintIndicator(g2, bx, by, arc, bw, bg, disabled.over(borderColor, surface),
+                        selected, disabled.over(markColor, surface));
             } else {
-                paintIndicator(g2, bx, by, arc, bw, bgColor, borderColor, selected);
+                paintIndicator(g2, bx, by, arc, bw, bgColor, borderColor, selected, markColor);
             }
 
             // Focus ring
@@ -105,10 +118,14 @@ public class DwcCheckBoxIcon implements javax.swing.Icon {
         } finally {
             g2.dispose();
         }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcCheckBoxIcon", null, c, getIconWidth(), getIconHeight(), start);
+        }
     }
 
     private void paintIndicator(Graphics2D g2, float bx, float by, int arc,
-            int bw, Color bgColor, Color borderColor, boolean selected) {
+            int bw, Color bgColor, Color borderColor, boolean selected,
+            Color markColor) {
         // Paint background
         PaintUtils.paintRoundedBackground(g2, bx, by, ICON_SIZE, ICON_SIZE, arc, bgColor);
 
@@ -122,10 +139,9 @@ public class DwcCheckBoxIcon implements javax.swing.Icon {
 
         // Paint checkmark when selected
         if (selected) {
-            Color checkColor = UIManager.getColor("CheckBox.icon.checkmarkColor");
-            g2.setColor(checkColor != null ? checkColor : Color.WHITE);
+            g2.setColor(markColor);
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                    RenderingHints.VALUE_ANTIALIAS_ON);
+                    PaintUtils.shapeAntialiasing());
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL,
                     RenderingHints.VALUE_STROKE_NORMALIZE);
 
@@ -1,10 +1,13 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+
 import javax.swing.AbstractButton;
 import javax.swing.JComponent;
 import javax.swing.LookAndFeel;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicRadioButtonUI;
+import java.awt.Graphics;
 
 /**
  * A custom {@link javax.swing.plaf.ButtonUI} delegate for JCheckBox that
@@ -42,4 +45,13 @@ public class DwcCheckBoxUI extends BasicRadioButtonUI {
         LookAndFeel.installProperty(b, "opaque", false);
         b.setRolloverEnabled(true);
     }
+
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        super.update(g, c);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcCheckBoxUI", null, c, start);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.CornerFillPainter;
 import com.dwc.laf.painting.FocusRingPainter;
 import com.dwc.laf.painting.PaintUtils;
 import com.dwc.laf.painting.StateColorResolver;
@@ -34,8 +36,8 @@ import java.awt.geom.Path2D;
  *
  * <p>The paint pipeline in {@link #paint(Graphics, JComponent)} follows this order:
  * <ol>
- *   <li>Apply disabled opacity (if not enabled)</li>
- *   <li>Paint rounded background (inside focus ring reservation)</li>
+ *   <li>Paint rounded background (inside focus ring reservation), in an
+ *       opaque color pre-blended by {@link DisabledColors} if not enabled</li>
  *   <li>Call {@code super.paint()} for current value text/icon</li>
  *   <li>Paint focus ring (when component has focus)</li>
  * </ol>
@@ -43,7 +45,8 @@ import java.awt.geom.Path2D;
  * <p>Hover state is tracked via a {@link MouseListener} that sets the
  * {@code "DwcTextFieldUI.hover"} client property, which is read by
  * {@link DwcTextFieldBorder} for border color resolution (same pattern as
- * Phase 5 TextField).</p>
+ * Phase 5 TextField). The border color change is eased by {@link DwcAnimator},
+ * and a hover change repaints only the border ring regions.</p>
  *
  * <p>Each JComboBox gets its own instance (not a shared singleton) to prevent
  * hover state leaking between combo boxes.</p>
@@ -67,6 +70,7 @@ public class DwcComboBoxUI extends BasicComboBoxUI {
 
     // Disabled opacity
     private float disabledOpacity;
+    private boolean opaqueCorners;
 
     // State tracking
     private boolean hover;
@@ -87,7 +91,9 @@ public class DwcComboBoxUI extends BasicComboBoxUI {
         super.installDefaults();
 
         // Required for rounded corners; prevents rectangular background artifact.
-        LookAndFeel.installProperty(comboBox, "opaque", false);
+        // In opaque-corners mode the parent background is painted beneath instead.
+        opaqueCorners = UIManager.getBoolean("Component.opaqueCorners");
+        LookAndFeel.installProperty(comboBox, "opaque", opaqueCorners);
 
         // Cache all colors from UIManager
         background = UIManager.getColor("ComboBox.background");
@@ -129,14 +135,14 @@ public class DwcComboBoxUI extends BasicComboBoxUI {
             public void mouseEntered(MouseEvent e) {
                 hover = true;
                 comboBox.putClientProperty("DwcTextFieldUI.hover", Boolean.TRUE);
-                comboBox.repaint();
+                DwcAnimator.repaint(comboBox, DwcTextFieldBorder.ringRegions(comboBox));
             }
 
             @Override
             public void mouseExited(MouseEvent e) {
                 hover = false;
                 comboBox.putClientProperty("DwcTextFieldUI.hover", null);
-                comboBox.repaint();
+                DwcAnimator.repaint(comboBox, DwcTextFieldBorder.ringRegions(comboBox));
             }
         };
         comboBox.addMouseListener(hoverListener);
@@ -156,6 +162,21 @@ public class DwcComboBoxUI extends BasicComboBoxUI {
         return new DwcComboBoxArrowButton();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        if (opaqueCorners && c.isOpaque()) {
+            // Parent color under the rounded shape instead of a rectangular background fill
+            CornerFillPainter.paintParentBackground(g, c);
+            paint(g, c);
+        } else {
+            super.update(g, c);
+        }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcComboBoxUI", null, c, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         Graphics2D g2 = (Graphics2D) g.create();
@@ -166,9 +187,17 @@ public class DwcComboBoxUI extends BasicComboBoxUI {
             float ph = c.getHeight() - focusWidth * 2f;
 
             if (!c.isEnabled()) {
-                StateColorResolver.paintWithOpacity(g2, disabledOpacity, () -> {
-                    PaintUtils.paintRoundedBackground(g2, px, py, pw, ph, arc, background);
-                });
+                // Opaque pre-blended fill, compositing only over an unknown background
+                Color under = opaqueCorners || !c.isOpaque()
+                        ? CornerFillPainter.parentBackground(c) : c.getBackground();
+                Color fill = DisabledColors.current().over(background, under);
+                if (fill != null) {
+                    PaintUtils.paintRoundedBackground(g2, px, py, pw, ph, arc, fill);
+                } else {
+                    StateColorResolver.paintWithOpacity(g2, disabledOpacity, () -> {
+                        PaintUtils.paintRoundedBackground(g2, px, py, pw, ph, arc, background);
+                    });
+                }
             } else {
                 // Paint rounded background
                 PaintUtils.paintRoundedBackground(g2, px, py, pw, ph, arc, background);
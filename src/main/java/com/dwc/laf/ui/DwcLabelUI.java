@@ -1,15 +1,23 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.CornerFillPainter;
+import com.dwc.laf.painting.GlyphCache;
+
+import javax.swing.Icon;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.LookAndFeel;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
+import javax.swing.plaf.UIResource;
 import javax.swing.plaf.basic.BasicLabelUI;
 import java.awt.AlphaComposite;
 import java.awt.Color;
+import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 
 /**
  * A custom {@link javax.swing.plaf.LabelUI} delegate that renders JLabel
@@ -22,57 +30,124 @@ import java.awt.Graphics2D;
  * This delegate overrides only the disabled text painting; all other
  * layout, icon, and mnemonic handling is inherited from BasicLabelUI.</p>
  *
- * <p>Each JLabel gets its own instance (not a shared singleton) for
- * consistency with the per-component pattern used by all DWC delegates.</p>
+ * <p>With {@code Component.opaqueCorners} enabled, labels are installed
+ * opaque and fill their bounds with the effective parent background from
+ * {@link CornerFillPainter} (a card's color inside card panels), unless the
+ * application has set its own background.</p>
+ *
+ * <p>The delegate keeps no per-component state, so like
+ * {@code BasicLabelUI} all labels share one instance. Its theme values are
+ * a {@link Style} built once per theme generation by {@link ThemeStyles};
+ * every install refreshes the reference, so a theme change applies when the
+ * component tree is updated.</p>
  */
 public class DwcLabelUI extends BasicLabelUI {
 
-    /** Cached disabled opacity from UIDefaults. */
-    private float disabledOpacity;
+    /**
+     * The theme-wide label style.
+     *
+     * @param disabledOpacity the alpha of disabled text
+     * @param opaqueCorners   whether labels are opaque and filled with the
+     *                        parent background
+     */
+    private record Style(float disabledOpacity, boolean opaqueCorners) {
+
+        private static Style load() {
+            float disabledOpacity = 0.6f;
+            if (UIManager.get("Component.disabledOpacity") instanceof Number num) {
+                disabledOpacity = num.floatValue();
+            }
+            return new Style(disabledOpacity, UIManager.getBoolean("Component.opaqueCorners"));
+        }
+    }
+
+    private static final DwcLabelUI sharedInstance = new DwcLabelUI();
+
+    /** The style of the current theme, refreshed by every install. */
+    private Style style;
 
     /**
-     * Creates a new per-component DwcLabelUI instance.
+     * Returns the DwcLabelUI instance shared by all labels.
      *
      * @param c the component (unused, required by the L&F contract)
-     * @return a new DwcLabelUI instance
+     * @return the shared DwcLabelUI instance
      */
     public static ComponentUI createUI(JComponent c) {
-        return new DwcLabelUI();
+        return sharedInstance;
     }
 
     @Override
     protected void installDefaults(JLabel l) {
         super.installDefaults(l);
-        LookAndFeel.installProperty(l, "opaque", false);
+        style = ThemeStyles.get(Style.class, Style::load);
+        LookAndFeel.installProperty(l, "opaque", style.opaqueCorners());
+    }
 
-        // Cache disabled opacity
-        Object opacityObj = UIManager.get("Component.disabledOpacity");
-        if (opacityObj instanceof Number num) {
-            disabledOpacity = num.floatValue();
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        if (style.opaqueCorners() && c.isOpaque() && c.getBackground() instanceof UIResource) {
+            CornerFillPainter.paintParentBackground(g, c);
+            paint(g, c);
         } else {
-            disabledOpacity = 0.6f;
+            super.update(g, c);
         }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcLabelUI", null, c, start);
+        }
+    }
+
+    /**
+     * Answers the text and icon layout from the label's
+     * {@link CompoundLabelCache}, so repaints and preferred-size queries of
+     * an unchanged label do not measure its text again.
+     */
+    @Override
+    protected String layoutCL(JLabel label, FontMetrics fontMetrics, String text, Icon icon,
+            Rectangle viewR, Rectangle iconR, Rectangle textR) {
+        return CompoundLabelCache.of(label).layout(label, fontMetrics, text, icon,
+                label.getVerticalAlignment(), label.getHorizontalAlignment(),
+                label.getVerticalTextPosition(), label.getHorizontalTextPosition(),
+                viewR, iconR, textR, label.getIconTextGap());
+    }
+
+    /**
+     * Paints enabled text from the {@link GlyphCache}, applying the label's
+     * text antialiasing client properties like {@code BasicLabelUI}.
+     */
+    @Override
+    protected void paintEnabledText(JLabel l, Graphics g, String s, int textX, int textY) {
+        g.setColor(l.getForeground());
+        GlyphCache.drawString(l, (Graphics2D) g, s, l.getDisplayedMnemonicIndex(), textX, textY);
     }
 
     /**
      * Paints disabled text at reduced opacity instead of the default chiseled
-     * light/dark text effect. Uses the label's normal foreground color with
-     * an alpha composite applied.
+     * light/dark text effect. Uses the label's normal foreground color,
+     * pre-blended over the background beneath by {@link DisabledColors}, or
+     * with an alpha composite applied when that background is unknown.
      */
     @Override
     protected void paintDisabledText(JLabel l, Graphics g, String s,
             int textX, int textY) {
         Graphics2D g2 = (Graphics2D) g;
-        java.awt.Composite oldComposite = g2.getComposite();
-        g2.setComposite(AlphaComposite.getInstance(
-                AlphaComposite.SRC_OVER, disabledOpacity));
 
         // Use the label's foreground (not a separate disabled color)
         Color fg = l.getForeground();
-        g2.setColor(fg);
-        javax.swing.plaf.basic.BasicGraphicsUtils.drawStringUnderlineCharAt(
-                g2, s, l.getDisplayedMnemonicIndex(), textX, textY);
+        Color under = l.isOpaque() && !(style.opaqueCorners() && l.getBackground() instanceof UIResource)
+                ? l.getBackground() : CornerFillPainter.parentBackground(l);
+        Color blended = DisabledColors.current().over(fg, under);
+        if (blended != null) {
+            g2.setColor(blended);
+            GlyphCache.drawString(null, g2, s, l.getDisplayedMnemonicIndex(), textX, textY);
+            return;
+        }
 
+        java.awt.Composite oldComposite = g2.getComposite();
+        g2.setComposite(AlphaComposite.getInstance(
+                AlphaComposite.SRC_OVER, style.disabledOpacity()));
+        g2.setColor(fg);
+        GlyphCache.drawString(null, g2, s, l.getDisplayedMnemonicIndex(), textX, textY);
         g2.setComposite(oldComposite);
     }
 }
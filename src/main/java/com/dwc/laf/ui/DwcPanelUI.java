@@ -1,5 +1,7 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.CornerFillPainter;
 import com.dwc.laf.painting.PaintUtils;
 import com.dwc.laf.painting.ShadowPainter;
 
@@ -23,90 +25,125 @@ import java.awt.Graphics2D;
  * <ul>
  *   <li>A box shadow behind the component using {@link ShadowPainter}</li>
  *   <li>A rounded background fill using {@link PaintUtils#paintRoundedBackground}</li>
- *   <li>Non-opaque rendering so rounded corners show through</li>
+ *   <li>Non-opaque rendering so rounded corners show through -- or, with
+ *       {@code Component.opaqueCorners} enabled, opaque rendering over the
+ *       parent background from {@link CornerFillPainter}</li>
  *   <li>Extra insets to accommodate the shadow extent</li>
  * </ul>
  *
- * <p>Each JPanel gets its own instance (not a shared singleton) for consistency
- * with the per-component pattern used by all DWC delegates.</p>
+ * <p>The delegate keeps no per-component state, so like
+ * {@code BasicPanelUI} all panels share one instance. Its theme values are
+ * a {@link Style} built once per theme generation by {@link ThemeStyles}
+ * and refreshed by every install.</p>
  */
 public class DwcPanelUI extends BasicPanelUI {
 
-    // Cached UIDefaults values
-    private Color background;
-    private int arc;
-    private int focusWidth;
-    private Color shadowColor;
-    private int shadowBlurRadius;
-    private int shadowOffsetY;
+    /**
+     * The theme-wide panel and card style.
+     */
+    private record Style(
+            Color background,
+            int arc,
+            int focusWidth,
+            Color shadowColor,
+            int shadowBlurRadius,
+            int shadowOffsetY,
+            boolean opaqueCorners
+    ) {
+
+        private static Style load() {
+            int arc = UIManager.getInt("Panel.arc");
+            if (arc <= 0) {
+                arc = UIManager.getInt("Component.arc");
+            }
+            if (arc <= 0) {
+                arc = 8;
+            }
+
+            Color shadowColor = UIManager.getColor("Panel.shadowColor");
+            if (shadowColor == null) {
+                shadowColor = new Color(0, 0, 0, 40);
+            }
+
+            int shadowBlurRadius = UIManager.getInt("Panel.shadowBlurRadius");
+            if (shadowBlurRadius <= 0) {
+                shadowBlurRadius = 6;
+            }
+
+            int shadowOffsetY = UIManager.getInt("Panel.shadowOffsetY");
+            if (shadowOffsetY <= 0) {
+                shadowOffsetY = 2;
+            }
+
+            return new Style(UIManager.getColor("Panel.background"), arc,
+                    UIManager.getInt("Component.focusWidth"), shadowColor,
+                    shadowBlurRadius, shadowOffsetY,
+                    UIManager.getBoolean("Component.opaqueCorners"));
+        }
+    }
+
+    private static final DwcPanelUI sharedInstance = new DwcPanelUI();
+
+    /** The style of the current theme, refreshed by every install. */
+    private Style style;
 
     /**
-     * Creates a new per-component DwcPanelUI instance.
+     * Returns the DwcPanelUI instance shared by all panels.
      *
      * @param c the component (unused, required by the L&F contract)
-     * @return a new DwcPanelUI instance
+     * @return the shared DwcPanelUI instance
      */
     public static ComponentUI createUI(JComponent c) {
-        return new DwcPanelUI();
+        return sharedInstance;
     }
 
     @Override
     protected void installDefaults(JPanel p) {
         super.installDefaults(p);
-
-        // Cache Panel-specific UIDefaults
-        background = UIManager.getColor("Panel.background");
-        arc = UIManager.getInt("Panel.arc");
-        if (arc <= 0) {
-            arc = UIManager.getInt("Component.arc");
-        }
-        if (arc <= 0) {
-            arc = 8;
-        }
-
-        focusWidth = UIManager.getInt("Component.focusWidth");
-
-        shadowColor = UIManager.getColor("Panel.shadowColor");
-        if (shadowColor == null) {
-            shadowColor = new Color(0, 0, 0, 40);
-        }
-
-        shadowBlurRadius = UIManager.getInt("Panel.shadowBlurRadius");
-        if (shadowBlurRadius <= 0) {
-            shadowBlurRadius = 6;
-        }
-
-        shadowOffsetY = UIManager.getInt("Panel.shadowOffsetY");
-        if (shadowOffsetY <= 0) {
-            shadowOffsetY = 2;
-        }
+        style = ThemeStyles.get(Style.class, Style::load);
     }
 
     @Override
     public void update(Graphics g, JComponent c) {
-        if (!isCardMode(c)) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        if (isCardMode(c)) {
+            paintCard(g, c);
+        } else {
             // Normal mode: standard opaque fill + paint
             super.update(g, c);
-            return;
         }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcPanelUI", c.getClientProperty("dwc.panelStyle"), c, start);
+        }
+    }
 
-        // Card mode: non-opaque rounded background with shadow
-        if (c.isOpaque()) {
+    /**
+     * Card mode: rounded background with shadow, then the regular paint. The
+     * card is made non-opaque, or in opaque-corners mode stays opaque and
+     * paints the parent background beneath the shadow.
+     */
+    private void paintCard(Graphics g, JComponent c) {
+        if (style.opaqueCorners()) {
+            if (c.isOpaque()) {
+                CornerFillPainter.paintParentBackground(g, c);
+            }
+        } else if (c.isOpaque()) {
             c.setOpaque(false);
         }
 
         int w = c.getWidth();
         int h = c.getHeight();
-        int fw = focusWidth;
+        int fw = style.focusWidth();
+        int arc = style.arc();
 
         Graphics2D g2 = (Graphics2D) g.create();
         try {
             // 1. Paint shadow
             ShadowPainter.paintShadow(g2, fw, fw, w - fw * 2, h - fw * 2,
-                    arc, shadowBlurRadius, 0, shadowOffsetY, shadowColor);
+                    arc, style.shadowBlurRadius(), 0, style.shadowOffsetY(), style.shadowColor());
 
             // 2. Paint rounded background
-            Color bg = c.getBackground() != null ? c.getBackground() : background;
+            Color bg = c.getBackground() != null ? c.getBackground() : style.background();
             PaintUtils.paintRoundedBackground(g2, fw, fw,
                     w - fw * 2, h - fw * 2, arc, bg);
         } finally {
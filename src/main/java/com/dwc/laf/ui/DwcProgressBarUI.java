@@ -1,6 +1,8 @@
 package com.dwc.laf.ui;
 
-import com.dwc.laf.painting.PaintUtils;
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.GlyphCache;
+import com.dwc.laf.painting.ProgressPainter;
 import com.dwc.laf.painting.StateColorResolver;
 
 import javax.swing.JComponent;
@@ -15,8 +17,6 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
 import java.awt.Rectangle;
-import java.awt.Shape;
-import java.awt.geom.Area;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,17 +35,81 @@ import java.util.Map;
  * </ul>
  *
  * <p>Both determinate and indeterminate modes are supported with rounded painting.
- * Indeterminate mode uses BasicProgressBarUI's animation timer for the bouncing bar.</p>
+ * Indeterminate mode advances BasicProgressBarUI's bouncing-box frames from the
+ * shared {@link DwcAnimator} timer instead of a Swing {@code Timer} per bar, at
+ * the {@code ProgressBar.repaintInterval} frame rate (50 ms by default).
+ * Fills are kept inside the rounded track by {@link ProgressPainter}, which
+ * uses a rectangle clip instead of {@link java.awt.geom.Area} intersections,
+ * so an animation frame allocates no geometry beyond the two rounded shapes.</p>
  *
- * <p>Each JProgressBar gets its own instance (not a shared singleton).</p>
+ * <p>Each JProgressBar gets its own instance (not a shared singleton); the
+ * theme-derived colors are a {@link Style} shared by all instances.</p>
  */
 public class DwcProgressBarUI extends BasicProgressBarUI {
 
-    private Color foreground;
-    private Color background;
-    private int arc;
-    private float disabledOpacity;
-    private Map<String, Color> variantForegrounds;
+    /**
+     * The theme-wide progress bar style, built once per theme generation by
+     * {@link ThemeStyles} and shared by all progress bar delegates and
+     * {@link DwcProgressCellRenderer}s.
+     *
+     * @param variantForegrounds fill colors keyed by {@code dwc.progressType}
+     */
+    record Style(
+            Color foreground,
+            Color background,
+            int arc,
+            int repaintInterval,
+            float disabledOpacity,
+            Map<String, Color> variantForegrounds
+    ) {
+
+        /**
+         * Returns the style of the current theme.
+         */
+        static Style current() {
+            return ThemeStyles.get(Style.class, Style::load);
+        }
+
+        private static Style load() {
+            int repaintInterval = UIManager.getInt("ProgressBar.repaintInterval");
+            if (repaintInterval <= 0) {
+                repaintInterval = 50;
+            }
+
+            // Disabled opacity
+            float disabledOpacity = 0.6f;
+            if (UIManager.get("Component.disabledOpacity") instanceof Number num) {
+                disabledOpacity = num.floatValue();
+            }
+
+            // Build variant foreground map
+            Map<String, Color> variantForegrounds = new HashMap<>();
+            String[] variants = {"success", "danger", "warning", "info"};
+            for (String variant : variants) {
+                Color c = UIManager.getColor("ProgressBar." + variant + ".foreground");
+                if (c != null) {
+                    variantForegrounds.put(variant, c);
+                }
+            }
+
+            return new Style(UIManager.getColor("ProgressBar.foreground"),
+                    UIManager.getColor("ProgressBar.background"),
+                    UIManager.getInt("ProgressBar.arc"),
+                    repaintInterval,
+                    disabledOpacity,
+                    Map.copyOf(variantForegrounds));
+        }
+    }
+
+    // Shared theme style (colors, arc, animation interval, opacity)
+    private Style style;
+
+    /** Reused by every indeterminate frame to receive the bouncing box bounds. */
+    private final Rectangle boxRect = new Rectangle();
+
+    /** Advances the indeterminate animation from the shared timer. */
+    private final DwcAnimator.Animation indeterminateAnimation = this::advanceFrames;
+    private long lastFrameNanos = -1;
 
     /**
      * Creates a new {@code DwcProgressBarUI} instance for the given component.
@@ -61,27 +125,54 @@ public class DwcProgressBarUI extends BasicProgressBarUI {
     protected void installDefaults() {
         super.installDefaults();
 
-        foreground = UIManager.getColor("ProgressBar.foreground");
-        background = UIManager.getColor("ProgressBar.background");
-        arc = UIManager.getInt("ProgressBar.arc");
+        style = Style.current();
+    }
 
-        // Disabled opacity
-        Object opacityObj = UIManager.get("Component.disabledOpacity");
-        if (opacityObj instanceof Number num) {
-            disabledOpacity = num.floatValue();
-        } else {
-            disabledOpacity = 0.6f;
-        }
+    /**
+     * Registers the indeterminate animation with the shared {@link DwcAnimator}
+     * timer instead of starting a Swing {@code Timer} for this bar.
+     */
+    @Override
+    protected void startAnimationTimer() {
+        lastFrameNanos = -1;
+        DwcAnimator.start(progressBar, indeterminateAnimation);
+    }
+
+    @Override
+    protected void stopAnimationTimer() {
+        DwcAnimator.stop(indeterminateAnimation);
+    }
 
-        // Build variant foreground map
-        variantForegrounds = new HashMap<>();
-        String[] variants = {"success", "danger", "warning", "info"};
-        for (String variant : variants) {
-            Color c = UIManager.getColor("ProgressBar." + variant + ".foreground");
-            if (c != null) {
-                variantForegrounds.put(variant, c);
+    /**
+     * Steps the bouncing box by the number of repaint intervals elapsed since
+     * the last step; each step repaints only the old and new box bounds.
+     */
+    private boolean advanceFrames(long now) {
+        if (progressBar == null || !progressBar.isIndeterminate()) {
+            return false;
+        }
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = now;
+            return true;
+        }
+        long interval = Math.max(1, style.repaintInterval()) * 1_000_000L;
+        long frames = (now - lastFrameNanos) / interval;
+        if (frames > 0) {
+            lastFrameNanos += frames * interval;
+            for (long i = Math.min(frames, getFrameCount()); i > 0; i--) {
+                incrementAnimationIndex();
             }
         }
+        return true;
+    }
+
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        super.update(g, c);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcProgressBarUI", c.getClientProperty("dwc.progressType"), c, start);
+        }
     }
 
     @Override
@@ -99,51 +190,47 @@ public class DwcProgressBarUI extends BasicProgressBarUI {
 
         Graphics2D g2 = (Graphics2D) g.create();
         try {
-            if (!pb.isEnabled()) {
-                StateColorResolver.paintWithOpacity(g2, disabledOpacity, () -> {
-                    paintDeterminateContent(g2, pb, x, y, width, height);
+            // Disabled: opaque colors pre-blended over the background beneath,
+            // compositing only when it is unknown
+            DisabledColors disabled = pb.isEnabled() ? null : DisabledColors.current();
+            Color under = disabled != null ? DisabledColors.beneath(pb) : null;
+            if (disabled != null && !DisabledColors.isOpaque(under)) {
+                StateColorResolver.paintWithOpacity(g2, style.disabledOpacity(), () -> {
+                    paintDeterminateContent(g2, pb, x, y, width, height, null, null);
                 });
             } else {
-                paintDeterminateContent(g2, pb, x, y, width, height);
+                paintDeterminateContent(g2, pb, x, y, width, height, disabled, under);
             }
         } finally {
             g2.dispose();
         }
     }
 
+    /**
+     * Paints the determinate track, fill and string.
+     *
+     * @param disabled the palette to pre-blend colors with, or null to paint
+     *                 the theme colors
+     * @param under    the opaque color beneath the bar when {@code disabled} is set
+     */
     private void paintDeterminateContent(Graphics2D g2, JProgressBar pb,
-                                          int x, int y, int width, int height) {
-        Object[] saved = PaintUtils.setupPaintingHints(g2);
-
-        // Paint track background
-        Shape trackShape = PaintUtils.createRoundedShape(x, y, width, height, arc);
-        g2.setColor(background);
-        g2.fill(trackShape);
-
-        // Paint fill bar
-        int amountFull = getAmountFull(pb.getInsets(), width, height);
-        if (amountFull > 0) {
-            Color fillColor = resolveVariantColor(pb);
-            g2.setColor(fillColor);
-
-            // Create fill shape and clip to track for rounded corners
-            Shape fillShape;
-            if (pb.getOrientation() == JProgressBar.HORIZONTAL) {
-                fillShape = PaintUtils.createRoundedShape(x, y, amountFull, height, arc);
-            } else {
-                fillShape = PaintUtils.createRoundedShape(x, y + height - amountFull,
-                        width, amountFull, arc);
-            }
-            Area fillArea = new Area(fillShape);
-            fillArea.intersect(new Area(trackShape));
-            g2.fill(fillArea);
+                                          int x, int y, int width, int height,
+                                          DisabledColors disabled, Color under) {
+        Color track = style.background();
+        Color fill = resolveVariantColor(pb);
+        if (disabled != null) {
+            track = disabled.over(track, under);
+            fill = disabled.over(fill, track != null ? track : under);
         }
 
-        PaintUtils.restorePaintingHints(g2, saved);
+        // Track and fill; the fill is clipped to the rounded track by ProgressPainter
+        int amountFull = getAmountFull(pb.getInsets(), width, height);
+        ProgressPainter.paintDeterminate(g2, x, y, width, height, style.arc(), track,
+                fill, pb.getOrientation() == JProgressBar.HORIZONTAL, amountFull);
 
         // Paint percentage text if requested
         if (pb.isStringPainted()) {
-            paintString(g2, pb, x, y, width, height, amountFull);
+            paintString(g2, pb, x, y, width, height, amountFull, disabled, track, fill);
         }
     }
 
@@ -162,46 +249,52 @@ public class DwcProgressBarUI extends BasicProgressBarUI {
 
         Graphics2D g2 = (Graphics2D) g.create();
         try {
-            if (!pb.isEnabled()) {
-                StateColorResolver.paintWithOpacity(g2, disabledOpacity, () -> {
-                    paintIndeterminateContent(g2, pb, x, y, width, height);
+            // Disabled: opaque colors pre-blended over the background beneath,
+            // compositing only when it is unknown
+            DisabledColors disabled = pb.isEnabled() ? null : DisabledColors.current();
+            Color under = disabled != null ? DisabledColors.beneath(pb) : null;
+            if (disabled != null && !DisabledColors.isOpaque(under)) {
+                StateColorResolver.paintWithOpacity(g2, style.disabledOpacity(), () -> {
+                    paintIndeterminateContent(g2, pb, x, y, width, height, null, null);
                 });
             } else {
-                paintIndeterminateContent(g2, pb, x, y, width, height);
+                paintIndeterminateContent(g2, pb, x, y, width, height, disabled, under);
             }
         } finally {
             g2.dispose();
         }
     }
 
+    /**
+     * Paints the indeterminate track, bouncing box and string.
+     *
+     * @param disabled the palette to pre-blend colors with, or null to paint
+     *                 the theme colors
+     * @param under    the opaque color beneath the bar when {@code disabled} is set
+     */
     private void paintIndeterminateContent(Graphics2D g2, JProgressBar pb,
-                                            int x, int y, int width, int height) {
-        Object[] saved = PaintUtils.setupPaintingHints(g2);
-
-        // Paint track background
-        Shape trackShape = PaintUtils.createRoundedShape(x, y, width, height, arc);
-        g2.setColor(background);
-        g2.fill(trackShape);
+                                            int x, int y, int width, int height,
+                                            DisabledColors disabled, Color under) {
+        Color track = style.background();
+        Color fill = resolveVariantColor(pb);
+        if (disabled != null) {
+            track = disabled.over(track, under);
+            fill = disabled.over(fill, track != null ? track : under);
+        }
 
-        // Paint bouncing bar
-        Rectangle boxRect = new Rectangle();
+        // Track and bouncing box; the box is clipped to the rounded track by ProgressPainter
         Rectangle box = getBox(boxRect);
+        boolean horizontal = pb.getOrientation() == JProgressBar.HORIZONTAL;
         if (box != null) {
-            Color fillColor = resolveVariantColor(pb);
-            g2.setColor(fillColor);
-
-            Shape bouncingShape = PaintUtils.createRoundedShape(
-                    box.x, box.y, box.width, box.height, arc);
-            Area bounceArea = new Area(bouncingShape);
-            bounceArea.intersect(new Area(trackShape));
-            g2.fill(bounceArea);
+            ProgressPainter.paintBar(g2, x, y, width, height, style.arc(), track,
+                    fill, horizontal, horizontal ? box.x - x : box.y - y, horizontal ? box.width : box.height);
+        } else {
+            ProgressPainter.paintBar(g2, x, y, width, height, style.arc(), track, null, horizontal, 0, 0);
         }
 
-        PaintUtils.restorePaintingHints(g2, saved);
-
         // Paint percentage text if requested
         if (pb.isStringPainted()) {
-            paintString(g2, pb, x, y, width, height, 0);
+            paintString(g2, pb, x, y, width, height, 0, disabled, track, fill);
         }
     }
 
@@ -211,17 +304,19 @@ public class DwcProgressBarUI extends BasicProgressBarUI {
      * <p>Text color is chosen dynamically based on the dominant background area's
      * luminance: white text on dark fills (primary blue, danger red, success green)
      * and black text on light fills (warning amber, track gray). The dominant area
-     * is whichever of the fill or track covers more than half the bar.</p>
+     * is whichever of the fill or track covers more than half the bar. When
+     * disabled, the chosen color is pre-blended over the painted track or fill.</p>
      */
     private void paintString(Graphics2D g2, JProgressBar pb,
-                              int x, int y, int width, int height, int amountFull) {
+                              int x, int y, int width, int height, int amountFull,
+                              DisabledColors disabled, Color track, Color fill) {
         String text = pb.getString();
         if (text == null || text.isEmpty()) {
             return;
         }
 
         FontMetrics fm = g2.getFontMetrics(pb.getFont());
-        int textWidth = fm.stringWidth(text);
+        int textWidth = GlyphCache.stringWidth(g2, pb.getFont(), text);
         int textHeight = fm.getAscent();
 
         int textX = x + (width - textWidth) / 2;
@@ -235,45 +330,15 @@ public class DwcProgressBarUI extends BasicProgressBarUI {
         boolean fillDominant = (pb.getOrientation() == JProgressBar.HORIZONTAL)
                 ? amountFull > width / 2
                 : amountFull > height / 2;
-        Color bgForContrast = fillDominant ? fillColor : background;
-        g2.setColor(contrastTextColor(bgForContrast));
-
-        g2.drawString(text, textX, textY);
-    }
-
-    /**
-     * Returns {@link Color#BLACK} or {@link Color#WHITE} for maximum contrast
-     * against the given background color, using W3C relative luminance.
-     *
-     * <p>The threshold of 0.4 ensures white text on medium-dark fills (primary
-     * blue L~0.13, danger red, success green) and black text on light fills
-     * (warning amber L~0.74, track gray).</p>
-     *
-     * @param bg the background color to contrast against
-     * @return black if the background is light, white if the background is dark
-     */
-    private Color contrastTextColor(Color bg) {
-        double r = linearize(bg.getRed() / 255.0);
-        double g = linearize(bg.getGreen() / 255.0);
-        double b = linearize(bg.getBlue() / 255.0);
-        double luminance = 0.2126 * r + 0.7152 * g + 0.0722 * b;
-        return luminance > 0.4 ? Color.BLACK : Color.WHITE;
-    }
+        Color bgForContrast = fillDominant ? fillColor : style.background();
+        Color textColor = ProgressPainter.contrastTextColor(bgForContrast);
+        if (disabled != null) {
+            Color blended = disabled.over(textColor, fillDominant && fill != null ? fill : track);
+            textColor = blended != null ? blended : textColor;
+        }
+        g2.setColor(textColor);
 
-    /**
-     * Linearizes an sRGB channel value (0.0 to 1.0) to linear RGB.
-     *
-     * <p>Applies the standard sRGB transfer function inverse: values at or below
-     * 0.04045 are divided by 12.92; values above use the power curve
-     * {@code ((v + 0.055) / 1.055) ^ 2.4}.</p>
-     *
-     * @param srgb the sRGB channel value in [0.0, 1.0]
-     * @return the linearized value
-     */
-    private double linearize(double srgb) {
-        return srgb <= 0.04045
-                ? srgb / 12.92
-                : Math.pow((srgb + 0.055) / 1.055, 2.4);
+        GlyphCache.drawString(null, g2, text, -1, textX, textY);
     }
 
     /**
@@ -281,10 +346,10 @@ public class DwcProgressBarUI extends BasicProgressBarUI {
      */
     private Color resolveVariantColor(JProgressBar pb) {
         Object prop = pb.getClientProperty("dwc.progressType");
-        if (prop instanceof String variant && variantForegrounds.containsKey(variant)) {
-            return variantForegrounds.get(variant);
+        if (prop instanceof String variant && style.variantForegrounds().containsKey(variant)) {
+            return style.variantForegrounds().get(variant);
         }
-        return foreground;
+        return style.foreground();
     }
 
     @Override
@@ -0,0 +1,268 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.GlyphCache;
+import com.dwc.laf.painting.ProgressPainter;
+
+import javax.swing.JComponent;
+import javax.swing.JTable;
+import javax.swing.UIManager;
+import javax.swing.table.TableCellRenderer;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.util.Map;
+
+/**
+ * Table cell renderer that paints a DWC progress bar directly from a numeric
+ * cell value, without a {@code JProgressBar} per cell.
+ *
+ * <p>It follows the {@link DwcProgressBarUI} visual rules: a rounded
+ * {@code ProgressBar.background} track, a {@code ProgressBar.foreground}
+ * fill (or the {@code ProgressBar.<variant>.foreground} color selected by
+ * the {@code "dwc.progressType"} client property, e.g.
+ * {@code renderer.putClientProperty("dwc.progressType", "success")}), the
+ * {@code ProgressBar.arc} corner arc, and a centered percentage string in
+ * black or white depending on the luminance of the dominant area.</p>
+ *
+ * <p>A cell value that is a {@link Number} is mapped onto the renderer's
+ * minimum..maximum range (0..100 by default); any other value paints an
+ * empty track. Per-cell variants can be supplied by overriding
+ * {@link #getVariant(JTable, Object, int, int)}.</p>
+ *
+ * <p>Painting goes through {@link ProgressPainter}, so a bar costs two
+ * antialiased fills and no {@link java.awt.geom.Area} operations. Colors are
+ * taken from the progress bar style shared with {@link DwcProgressBarUI} in
+ * {@link #updateUI()} (which {@code JTable} forwards on theme changes), and,
+ * like {@code DefaultTableCellRenderer}, the renderer is a rubber stamp
+ * whose {@code validate}, {@code revalidate}, {@code repaint} and
+ * {@code firePropertyChange} are no-ops. The bar is transparent around its
+ * track, so {@link DwcTableUI}'s row bands show through.</p>
+ */
+public class DwcProgressCellRenderer extends JComponent implements TableCellRenderer {
+
+    private static final int PAD_X = 6;
+    private static final int PAD_Y = 4;
+
+    private final int minimum;
+    private final int maximum;
+    private boolean stringPainted = true;
+
+    // Resolved style, refreshed by updateUI()
+    private Color trackColor;
+    private Color defaultFill;
+    private int arc;
+    private Map<String, Color> variantForegrounds;
+
+    // Current cell
+    private double fraction;
+    private Color fillColor;
+    private String text;
+
+    /**
+     * Creates a renderer for values from 0 to 100.
+     */
+    public DwcProgressCellRenderer() {
+        this(0, 100);
+    }
+
+    /**
+     * Creates a renderer for values in the given range.
+     *
+     * @param minimum the value painted as an empty bar
+     * @param maximum the value painted as a full bar
+     */
+    public DwcProgressCellRenderer(int minimum, int maximum) {
+        if (maximum <= minimum) {
+            throw new IllegalArgumentException("maximum must be greater than minimum");
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        setOpaque(false);
+        updateUI();
+    }
+
+    @Override
+    public void updateUI() {
+        DwcProgressBarUI.Style style = DwcProgressBarUI.Style.current();
+        trackColor = style.background();
+        defaultFill = style.foreground();
+        arc = style.arc();
+        variantForegrounds = style.variantForegrounds();
+    }
+
+    /**
+     * Sets whether the percentage string is painted on the bar.
+     *
+     * @param stringPainted true to paint the percentage (the default)
+     */
+    public void setStringPainted(boolean stringPainted) {
+        this.stringPainted = stringPainted;
+    }
+
+    /**
+     * Returns whether the percentage string is painted on the bar.
+     *
+     * @return true if the percentage is painted
+     */
+    public boolean isStringPainted() {
+        return stringPainted;
+    }
+
+    @Override
+    public Component getTableCellRendererComponent(JTable table, Object value,
+            boolean isSelected, boolean hasFocus, int row, int column) {
+        fraction = fractionOf(value);
+        Object variant = getVariant(table, value, row, column);
+        fillColor = variant != null ? variantForegrounds.getOrDefault(variant, defaultFill) : defaultFill;
+        text = stringPainted ? formatText(fraction) : null;
+        if (table != null && table.getFont() != getFont()) {
+            setFont(table.getFont());
+        }
+        return this;
+    }
+
+    /**
+     * Returns the style variant for a cell. The default returns the
+     * renderer's {@code "dwc.progressType"} client property.
+     *
+     * @param table  the table
+     * @param value  the cell value
+     * @param row    the view row
+     * @param column the view column
+     * @return the variant name ({@code success}, {@code danger}, {@code warning},
+     *         {@code info}), or null for the default fill
+     */
+    protected Object getVariant(JTable table, Object value, int row, int column) {
+        return getClientProperty("dwc.progressType");
+    }
+
+    /**
+     * Formats the percentage string for a fraction.
+     *
+     * @param fraction the completed fraction, 0..1
+     * @return the string painted on the bar
+     */
+    protected String formatText(double fraction) {
+        return Math.round(fraction * 100) + "%";
+    }
+
+    /**
+     * Returns the completed fraction (0..1) for a cell value.
+     *
+     * @param value the cell value
+     * @return the value's position in the minimum..maximum range, clamped
+     *         to 0..1, or 0 if the value is not a {@link Number}
+     */
+    double fractionOf(Object value) {
+        if (!(value instanceof Number n)) {
+            return 0;
+        }
+        double f = (n.doubleValue() - minimum) / (maximum - minimum);
+        return f <= 0 ? 0 : Math.min(f, 1);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        paintBar((Graphics2D) g, PAD_X, PAD_Y, getWidth() - 2 * PAD_X, getHeight() - 2 * PAD_Y,
+                fraction, trackColor, fillColor, arc, text);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcProgressCellRenderer", null, this, start);
+        }
+    }
+
+    /**
+     * Paints a horizontal DWC progress bar with the current theme colors.
+     *
+     * <p>This is the painter behind the renderer, usable wherever many bars
+     * are drawn without components (lists, custom grids, overlays). The text
+     * is drawn in the graphics context's current font.</p>
+     *
+     * @param g        the graphics context
+     * @param bounds   the bar bounds
+     * @param fraction the completed fraction, clamped to 0..1
+     * @param variant  the style variant name, or null for the default fill
+     * @param text     the string to center on the bar, or null for none
+     */
+    public static void paintProgress(Graphics2D g, Rectangle bounds, double fraction,
+            Object variant, String text) {
+        DwcProgressBarUI.Style style = DwcProgressBarUI.Style.current();
+        paintBar(g, bounds.x, bounds.y, bounds.width, bounds.height,
+                Math.max(0, Math.min(fraction, 1)),
+                style.background(), variantColor(style, variant), style.arc(), text);
+    }
+
+    private static void paintBar(Graphics2D g, int x, int y, int width, int height, double fraction,
+            Color track, Color fill, int arc, String text) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        int amountFull = (int) Math.round(width * fraction);
+        ProgressPainter.paintDeterminate(g, x, y, width, height, arc, track, fill, true, amountFull);
+
+        if (text != null && !text.isEmpty()) {
+            // Contrast against whichever area covers more than half the bar
+            Color behind = amountFull > width / 2 ? fill : track;
+            g.setColor(behind != null ? ProgressPainter.contrastTextColor(behind) : Color.BLACK);
+            FontMetrics fm = g.getFontMetrics();
+            int textX = x + (width - GlyphCache.stringWidth(g, g.getFont(), text)) / 2;
+            int textY = y + (height - fm.getHeight()) / 2 + fm.getAscent();
+            GlyphCache.drawString(null, g, text, -1, textX, textY);
+        }
+    }
+
+    /**
+     * Looks up a variant fill color in the shared style, then in the current
+     * defaults for variants beyond the built-in ones.
+     */
+    private static Color variantColor(DwcProgressBarUI.Style style, Object variant) {
+        if (variant instanceof String name) {
+            Color c = style.variantForegrounds().get(name);
+            if (c == null) {
+                c = UIManager.getColor("ProgressBar." + name + ".foreground");
+            }
+            if (c != null) {
+                return c;
+            }
+        }
+        return style.foreground();
+    }
+
+    // ---- Rubber-stamp overrides, as in DefaultTableCellRenderer ----
+
+    @Override
+    public void invalidate() {
+    }
+
+    @Override
+    public void validate() {
+    }
+
+    @Override
+    public void revalidate() {
+    }
+
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+    }
+
+    @Override
+    public void repaint(Rectangle r) {
+    }
+
+    @Override
+    public void repaint() {
+    }
+
+    @Override
+    protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
+    }
+
+    @Override
+    public void firePropertyChange(String propertyName, boolean oldValue, boolean newValue) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
 import com.dwc.laf.painting.FocusRingPainter;
 import com.dwc.laf.painting.PaintUtils;
 import com.dwc.laf.painting.StateColorResolver;
@@ -41,6 +42,7 @@ public class DwcRadioButtonIcon implements javax.swing.Icon {
 
     @Override
     public void paintIcon(Component c, Graphics g, int x, int y) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
         AbstractButton b = (AbstractButton) c;
         ButtonModel model = b.getModel();
 
@@ -84,15 +86,26 @@ public class DwcRadioButtonIcon implements javax.swing.Icon {
 
         Graphics2D g2 = (Graphics2D) g.create();
         try {
-            // Disabled opacity
-            if (!enabled) {
-                Object opacityObj = UIManager.get("Component.disabledOpacity");
-                float opacity = opacityObj instanceof Number num ? num.floatValue() : 0.6f;
-                StateColorResolver.paintWithOpacity(g2, opacity, () -> {
-                    paintIndicator(g2, bx, by, bw, bgColor, borderColor, selected);
+            // Disabled: opaque colors pre-blended over the background beneath,
+            // compositing only when it is unknown
+            Color markColor = UIManager.getColor("RadioButton.icon.dotColor");
+            if (markColor == null) {
+                markColor = Color.WHITE;
+            }
+            DisabledColors disabled = enabled ? null : DisabledColors.current();
+            Color under = disabled != null ? DisabledColors.beneath(c) : null;
+            if (disabled != null && !DisabledColors.isOpaque(under)) {
+                Color mark = markColor;
+                StateColorResolver.paintWithOpacity(g2, disabled.opacity(), () -> {
+                    paintIndicator(g2, bx, by, bw, bgColor, borderColor, selected, mark);
                 });
+            } else if (disabled != null) {
+                Color bg = disabled.over(bgColor, under);
+                Color surface = bg != null ? bg : under;
+                paintIndicator(g2, bx, by, bw, bg, disabled.over(borderColor, surface),
+                        selected, disabled.over(markColor, surface));
             } else {
-                paintIndicator(g2, bx, by, bw, bgColor, borderColor, selected);
+                paintIndicator(g2, bx, by, bw, bgColor, borderColor, selected, markColor);
             }
 
             // Focus ring (circular)
@@ -104,10 +117,14 @@ public class DwcRadioButtonIcon implements javax.swing.Icon {
         } finally {
             g2.dispose();
         }
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcRadioButtonIcon", null, c, getIconWidth(), getIconHeight(), start);
+        }
     }
 
     private void paintIndicator(Graphics2D g2, float bx, float by, int bw,
-            Color bgColor, Color borderColor, boolean selected) {
+            Color bgColor, Color borderColor, boolean selected,
+            Color markColor) {
         // Paint circular background (arc = ICON_SIZE for full circle)
         PaintUtils.paintRoundedBackground(g2, bx, by, ICON_SIZE, ICON_SIZE, ICON_SIZE, bgColor);
 
@@ -121,10 +138,9 @@ public class DwcRadioButtonIcon implements javax.swing.Icon {
 
         // Paint center dot when selected
         if (selected) {
-            Color dotColor = UIManager.getColor("RadioButton.icon.dotColor");
-            g2.setColor(dotColor != null ? dotColor : Color.WHITE);
+            g2.setColor(markColor);
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                    RenderingHints.VALUE_ANTIALIAS_ON);
+                    PaintUtils.shapeAntialiasing());
 
             float dotX = bx + (ICON_SIZE - DOT_DIAMETER) / 2f;
             float dotY = by + (ICON_SIZE - DOT_DIAMETER) / 2f;
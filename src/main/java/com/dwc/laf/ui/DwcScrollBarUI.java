@@ -1,5 +1,6 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
 import com.dwc.laf.painting.PaintUtils;
 
 import javax.swing.JButton;
@@ -110,6 +111,15 @@ public class DwcScrollBarUI extends BasicScrollBarUI {
 
     // ---- Painting ----
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        super.update(g, c);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcScrollBarUI", null, c, start);
+        }
+    }
+
     @Override
     protected void paintTrack(Graphics g, JComponent c, Rectangle trackBounds) {
         Graphics2D g2 = (Graphics2D) g.create();
@@ -1,13 +1,16 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
 import com.dwc.laf.painting.FocusRingPainter;
+import com.dwc.laf.painting.GlyphCache;
 import com.dwc.laf.painting.PaintUtils;
 import com.dwc.laf.painting.StateColorResolver;
 
+import javax.swing.Icon;
 import javax.swing.JComponent;
+import javax.swing.SwingConstants;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
-import javax.swing.plaf.basic.BasicGraphicsUtils;
 import javax.swing.plaf.basic.BasicTabbedPaneUI;
 import java.awt.AlphaComposite;
 import java.awt.Color;
@@ -17,6 +20,8 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
 import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A custom {@link javax.swing.plaf.TabbedPaneUI} delegate that paints
@@ -26,7 +31,8 @@ import java.awt.Rectangle;
  * <p>Tab states:
  * <ul>
  *   <li><b>Normal:</b> transparent background, body-text foreground</li>
- *   <li><b>Hover:</b> subtle background tint, lighter text color</li>
+ *   <li><b>Hover:</b> subtle background tint that fades in and out through
+ *       {@link DwcAnimator}, lighter text color</li>
  *   <li><b>Selected:</b> primary-colored underline indicator, primary foreground</li>
  *   <li><b>Disabled:</b> reduced opacity, muted underline color</li>
  * </ul>
@@ -47,6 +53,7 @@ public class DwcTabbedPaneUI extends BasicTabbedPaneUI {
 
     // Background colors
     private Color hoverBackground;
+    private Color hoverBackgroundClear;
     private Color contentAreaColor;
 
     // Focus
@@ -55,10 +62,14 @@ public class DwcTabbedPaneUI extends BasicTabbedPaneUI {
     // Dimensions
     private int underlineHeight;
     private int tabArc;
+    private int transitionMillis;
 
     // Opacity
     private float disabledOpacity;
 
+    /** Per-tab label layouts, indexed by tab. */
+    private final List<CompoundLabelCache> tabLayouts = new ArrayList<>();
+
     /**
      * Creates a new {@code DwcTabbedPaneUI} instance for the given component.
      * Returns a per-component instance (not a shared singleton).
@@ -82,6 +93,8 @@ public class DwcTabbedPaneUI extends BasicTabbedPaneUI {
         underlineColor = UIManager.getColor("TabbedPane.underlineColor");
         disabledUnderlineColor = UIManager.getColor("TabbedPane.disabledUnderlineColor");
         hoverBackground = UIManager.getColor("TabbedPane.hoverBackground");
+        hoverBackgroundClear = hoverBackground != null
+                ? new Color(hoverBackground.getRGB() & 0x00FFFFFF, true) : null;
         contentAreaColor = UIManager.getColor("TabbedPane.contentAreaColor");
         focusRingColor = UIManager.getColor("Component.focusRingColor");
 
@@ -102,6 +115,9 @@ public class DwcTabbedPaneUI extends BasicTabbedPaneUI {
         // Tab arc for hover background rounding
         tabArc = UIManager.getInt("Component.arc");
 
+        // Hover tint fades in and out over the fast CSS transition
+        transitionMillis = DwcAnimator.durationMillis("Component.transitionFastDuration", 150);
+
         // Tab insets for padding
         tabInsets = new Insets(8, 16, 8, 16);
 
@@ -109,6 +125,15 @@ public class DwcTabbedPaneUI extends BasicTabbedPaneUI {
         contentBorderInsets = new Insets(0, 0, 0, 0);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        super.update(g, c);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcTabbedPaneUI", null, c, start);
+        }
+    }
+
     @Override
     protected void paintTabBackground(Graphics g, int tabPlacement,
             int tabIndex, int x, int y, int w, int h, boolean isSelected) {
@@ -117,24 +142,25 @@ public class DwcTabbedPaneUI extends BasicTabbedPaneUI {
             return;
         }
 
-        // Hovered tabs: paint rounded background tint
-        if (getRolloverTab() == tabIndex) {
-            if (hoverBackground != null) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                try {
-                    int inset = 2;
-                    PaintUtils.paintRoundedBackground(g2,
-                            x + inset, y + inset,
-                            w - inset * 2, h - inset * 2,
-                            tabArc, hoverBackground);
-                } finally {
-                    g2.dispose();
-                }
-            }
+        // Hover tint: fades in on the hovered tab and out on the one left behind
+        if (hoverBackground == null) {
             return;
         }
-
-        // Normal tabs: transparent (no background)
+        Color target = getRolloverTab() == tabIndex ? hoverBackground : hoverBackgroundClear;
+        Rectangle dirty = tabIndex < rects.length ? rects[tabIndex] : null;
+        Color tint = DwcAnimator.color(tabPane, tabIndex, target, transitionMillis, dirty);
+        if (tint.getAlpha() > 0) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                int inset = 2;
+                PaintUtils.paintRoundedBackground(g2,
+                        x + inset, y + inset,
+                        w - inset * 2, h - inset * 2,
+                        tabArc, tint);
+            } finally {
+                g2.dispose();
+            }
+        }
     }
 
     @Override
@@ -258,6 +284,37 @@ public class DwcTabbedPaneUI extends BasicTabbedPaneUI {
         }
     }
 
+    /**
+     * Lays out a tab's icon and title like {@code BasicTabbedPaneUI}, but
+     * answers unchanged tabs from a per-tab {@link CompoundLabelCache}
+     * instead of measuring the title on every paint. HTML titles use the
+     * default layout.
+     */
+    @Override
+    protected void layoutLabel(int tabPlacement, FontMetrics metrics, int tabIndex,
+            String title, Icon icon, Rectangle tabRect, Rectangle iconRect,
+            Rectangle textRect, boolean isSelected) {
+        if (getTextViewForTab(tabIndex) != null) {
+            super.layoutLabel(tabPlacement, metrics, tabIndex, title, icon,
+                    tabRect, iconRect, textRect, isSelected);
+            return;
+        }
+        while (tabLayouts.size() <= tabIndex) {
+            tabLayouts.add(new CompoundLabelCache(1));
+        }
+        tabLayouts.get(tabIndex).layout(tabPane, metrics, title, icon,
+                SwingConstants.CENTER, SwingConstants.CENTER,
+                SwingConstants.CENTER, SwingConstants.TRAILING,
+                tabRect, iconRect, textRect, textIconGap);
+
+        int xNudge = getTabLabelShiftX(tabPlacement, tabIndex, isSelected);
+        int yNudge = getTabLabelShiftY(tabPlacement, tabIndex, isSelected);
+        iconRect.x += xNudge;
+        iconRect.y += yNudge;
+        textRect.x += xNudge;
+        textRect.y += yNudge;
+    }
+
     @Override
     protected void paintText(Graphics g, int tabPlacement, Font font,
             FontMetrics metrics, int tabIndex, String title,
@@ -290,7 +347,7 @@ public class DwcTabbedPaneUI extends BasicTabbedPaneUI {
             }
 
             int mnemonicIndex = tabPane.getDisplayedMnemonicIndexAt(tabIndex);
-            BasicGraphicsUtils.drawStringUnderlineCharAt(g2,
+            GlyphCache.drawString(null, g2,
                     title, mnemonicIndex,
                     textRect.x, textRect.y + metrics.getAscent());
         } finally {
@@ -1,11 +1,13 @@
 package com.dwc.laf.ui;
 
-import javax.swing.BorderFactory;
 import javax.swing.JTable;
 import javax.swing.UIManager;
+import javax.swing.border.Border;
+import javax.swing.plaf.BorderUIResource;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Font;
 
 /**
  * Custom table cell renderer that provides alternating row striping and
@@ -13,33 +15,94 @@ import java.awt.Component;
  *
  * <p>Even rows use {@code Table.background}, odd rows use
  * {@code Table.alternateRowColor} (mapped from {@code --dwc-surface-3}).
- * Selected rows use {@code Table.selectionBackground} and
+ * Selected rows use the table's selection colors, which {@link DwcTableUI}
+ * installs from {@code Table.selectionBackground} and
  * {@code Table.selectionForeground} (mapped from primary color tokens).</p>
  *
+ * <p>In a table painted by {@link DwcTableUI} the row backgrounds are drawn
+ * by the delegate as full-width bands, so the renderer is transparent and
+ * only paints its text. It falls back to opaque cell backgrounds for
+ * selected cells the delegate does not band (cell or column selection) and
+ * when used with another table UI.</p>
+ *
  * <p>The focus border is replaced with a simple empty border for a cleaner
  * modern appearance.</p>
+ *
+ * <p>The renderer is built for high-volume tables: the striping colors are
+ * resolved once and refreshed in {@link #updateUI()} (which {@code JTable}
+ * forwards on theme changes), the cell border is a shared constant, and the
+ * font is only reassigned when the table font changes, so rendering a cell
+ * performs no {@code UIManager} lookups and no allocations. Like its
+ * superclass, it is a rubber stamp: {@code invalidate}, {@code validate},
+ * {@code revalidate}, {@code repaint} and {@code firePropertyChange} are
+ * no-ops inherited from {@link DefaultTableCellRenderer}.</p>
  */
 public class DwcTableCellRenderer extends DefaultTableCellRenderer {
 
+    /** Shared cell padding; borders are immutable and safe to share. */
+    private static final Border CELL_BORDER = new BorderUIResource.EmptyBorderUIResource(2, 6, 2, 6);
+
+    // No field initializers: updateUI() runs from the superclass constructor
+    private Color rowBackground;
+    private Color alternateRowBackground;
+
+    /**
+     * Creates the renderer and resolves the striping colors.
+     */
+    public DwcTableCellRenderer() {
+        setBorder(CELL_BORDER);
+    }
+
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        rowBackground = UIManager.getColor("Table.background");
+        alternateRowBackground = UIManager.getColor("Table.alternateRowColor");
+    }
+
     @Override
     public Component getTableCellRendererComponent(JTable table, Object value,
             boolean isSelected, boolean hasFocus, int row, int column) {
-        super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+        if (table == null || isDropTarget(table, row, column)) {
+            // Rare paths: the superclass handles drop highlighting
+            setOpaque(true);
+            super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            setBorder(CELL_BORDER);
+            return this;
+        }
 
+        boolean banded = table.getUI() instanceof DwcTableUI;
         if (isSelected) {
-            setBackground(UIManager.getColor("Table.selectionBackground"));
-            setForeground(UIManager.getColor("Table.selectionForeground"));
+            setBackground(table.getSelectionBackground());
+            setForeground(table.getSelectionForeground());
+            setOpaque(!banded || !DwcTableUI.paintsSelectionBands(table));
         } else {
-            Color bg = (row % 2 == 0)
-                    ? UIManager.getColor("Table.background")
-                    : UIManager.getColor("Table.alternateRowColor");
+            Color bg = (row % 2 == 0) ? rowBackground : alternateRowBackground;
             setBackground(bg != null ? bg : table.getBackground());
             setForeground(table.getForeground());
+            setOpaque(!banded);
+        }
+
+        Font font = table.getFont();
+        if (font != getFont()) {
+            setFont(font);
         }
 
         // Remove focus border for cleaner look
-        setBorder(BorderFactory.createEmptyBorder(2, 6, 2, 6));
+        if (getBorder() != CELL_BORDER) {
+            setBorder(CELL_BORDER);
+        }
 
+        setValue(value);
         return this;
     }
+
+    /**
+     * Returns whether the cell is the current drop target of a drag-and-drop.
+     */
+    private static boolean isDropTarget(JTable table, int row, int column) {
+        JTable.DropLocation drop = table.getDropLocation();
+        return drop != null && !drop.isInsertRow() && !drop.isInsertColumn()
+                && drop.getRow() == row && drop.getColumn() == column;
+    }
 }
@@ -4,6 +4,7 @@ import javax.swing.BorderFactory;
 import javax.swing.JTable;
 import javax.swing.SwingConstants;
 import javax.swing.UIManager;
+import javax.swing.border.Border;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.Color;
 import java.awt.Component;
@@ -17,30 +18,70 @@ import java.awt.Font;
  * color. A bottom separator is painted using a compound border with
  * {@code TableHeader.bottomSeparatorColor} (mapped from
  * {@code --dwc-color-default-dark}).</p>
+ *
+ * <p>Colors and the border are resolved in {@link #updateUI()}; the bold
+ * font is derived once per table font, so rendering a header cell neither
+ * allocates fonts or borders nor looks anything up in the defaults.</p>
  */
 public class DwcTableHeaderRenderer extends DefaultTableCellRenderer {
 
-    @Override
-    public Component getTableCellRendererComponent(JTable table, Object value,
-            boolean isSelected, boolean hasFocus, int row, int column) {
-        super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
-
-        Color fg = UIManager.getColor("TableHeader.foreground");
-        setForeground(fg != null ? fg : table.getForeground());
+    // No field initializers: updateUI() runs from the superclass constructor
+    private Color headerForeground;
+    private Color headerBackground;
+    private Border headerBorder;
+    private Font baseFont;
+    private Font boldFont;
 
-        setFont(table.getFont().deriveFont(Font.BOLD));
-        setHorizontalAlignment(SwingConstants.LEADING);
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        headerForeground = UIManager.getColor("TableHeader.foreground");
+        headerBackground = UIManager.getColor("control");
 
         Color separatorColor = UIManager.getColor("TableHeader.bottomSeparatorColor");
         if (separatorColor == null) {
             separatorColor = Color.GRAY;
         }
-        setBorder(BorderFactory.createCompoundBorder(
+        headerBorder = BorderFactory.createCompoundBorder(
                 BorderFactory.createMatteBorder(0, 0, 1, 0, separatorColor),
-                BorderFactory.createEmptyBorder(4, 6, 4, 6)));
+                BorderFactory.createEmptyBorder(4, 6, 4, 6));
+    }
+
+    @Override
+    public Component getTableCellRendererComponent(JTable table, Object value,
+            boolean isSelected, boolean hasFocus, int row, int column) {
+        if (table == null) {
+            // Rare path: a header without a table; the superclass handles it
+            super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            setBorder(headerBorder);
+            setBackground(headerBackground);
+            return this;
+        }
+
+        // Set the cached state directly: the superclass would look up its
+        // borders and colors in the defaults for every cell
+        Color foreground = headerForeground != null ? headerForeground : table.getForeground();
+        if (foreground != getForeground()) {
+            setForeground(foreground);
+        }
 
-        setBackground(UIManager.getColor("control"));
+        Font font = table.getFont();
+        if (font != baseFont) {
+            baseFont = font;
+            boldFont = font.deriveFont(Font.BOLD);
+        }
+        if (boldFont != getFont()) {
+            setFont(boldFont);
+        }
+        setHorizontalAlignment(SwingConstants.LEADING);
+        if (getBorder() != headerBorder) {
+            setBorder(headerBorder);
+        }
+        if (getBackground() != headerBackground) {
+            setBackground(headerBackground);
+        }
 
+        setValue(value);
         return this;
     }
 }
@@ -1,10 +1,18 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+
 import javax.swing.JComponent;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicTableUI;
+import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
 
 /**
  * Custom UI delegate for JTable that provides a modern DWC-styled appearance.
@@ -14,11 +22,18 @@ import java.awt.Dimension;
  * both cells ({@link DwcTableCellRenderer}) and headers
  * ({@link DwcTableHeaderRenderer}).</p>
  *
- * <p>No paint() override is needed -- all visual customization is handled
- * through the renderer-based approach for maintainability.</p>
+ * <p>Row backgrounds are painted by the delegate, not by the renderers:
+ * {@link #paint(Graphics, JComponent)} fills one full-width band per visible
+ * row in the dirty region -- {@code Table.alternateRowColor} on odd rows and
+ * the selection background on selected rows -- before the cells are painted.
+ * Cells then render transparently on top, so striping also applies to
+ * application renderers. A cell is only painted opaque where the delegate
+ * cannot draw its background as a row band (cell or column selection).</p>
  */
 public class DwcTableUI extends BasicTableUI {
 
+    private Color alternateRowColor;
+
     public static ComponentUI createUI(JComponent c) {
         return new DwcTableUI();
     }
@@ -48,10 +63,94 @@ public class DwcTableUI extends BasicTableUI {
         // Set selection colors from UIDefaults
         table.setSelectionBackground(UIManager.getColor("Table.selectionBackground"));
         table.setSelectionForeground(UIManager.getColor("Table.selectionForeground"));
+
+        alternateRowColor = UIManager.getColor("Table.alternateRowColor");
     }
 
     @Override
     protected void uninstallDefaults() {
         super.uninstallDefaults();
     }
+
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        super.update(g, c);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcTableUI", null, c, start);
+        }
+    }
+
+    @Override
+    public void paint(Graphics g, JComponent c) {
+        paintRowBands(g);
+        super.paint(g, c);
+    }
+
+    /**
+     * Returns whether selected rows of the table are painted as full-width
+     * bands, which is the case in plain row selection mode.
+     *
+     * @param table the table
+     * @return true if selection backgrounds are painted per row
+     */
+    static boolean paintsSelectionBands(JTable table) {
+        return table.getRowSelectionAllowed() && !table.getColumnSelectionAllowed();
+    }
+
+    /**
+     * Fills the alternate-row and selection bands of the rows intersecting
+     * the clip, one {@code fillRect} per banded row. Even, unselected rows
+     * keep the table background painted by {@code update}.
+     */
+    private void paintRowBands(Graphics g) {
+        int rowCount = table.getRowCount();
+        if (rowCount == 0 || table.getColumnCount() == 0) {
+            return;
+        }
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, table.getWidth(), table.getHeight());
+        }
+
+        int first = table.rowAtPoint(new Point(0, clip.y));
+        if (first < 0) {
+            if (clip.y >= table.getHeight()) {
+                return;
+            }
+            first = 0;
+        }
+        int last = table.rowAtPoint(new Point(0, clip.y + clip.height - 1));
+        if (last < 0) {
+            last = rowCount - 1;
+        }
+
+        // One snapshot of the selection range, so rows outside it skip the model
+        boolean selectionBands = paintsSelectionBands(table);
+        ListSelectionModel selection = table.getSelectionModel();
+        int minSelected = selectionBands ? selection.getMinSelectionIndex() : -1;
+        int maxSelected = selectionBands ? selection.getMaxSelectionIndex() : -1;
+        Color selectionBackground = table.getSelectionBackground();
+
+        int y = table.getCellRect(first, 0, true).y;
+        Color current = null;
+        for (int row = first; row <= last; row++) {
+            int height = table.getRowHeight(row);
+            Color band;
+            if (minSelected >= 0 && row >= minSelected && row <= maxSelected
+                    && selection.isSelectedIndex(row)) {
+                band = selectionBackground;
+            } else {
+                band = (row % 2 != 0) ? alternateRowColor : null;
+            }
+            if (band != null) {
+                if (band != current) {
+                    g.setColor(band);
+                    current = band;
+                }
+                g.fillRect(clip.x, y, clip.width, height);
+            }
+            y += height;
+        }
+    }
 }
@@ -11,6 +11,7 @@ import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
+import java.awt.Rectangle;
 
 /**
  * Custom border for DWC-styled text fields that reserves space for the focus ring
@@ -30,7 +31,9 @@ import java.awt.Insets;
  *
  * <p>Hover state is communicated via a client property
  * {@code "DwcTextFieldUI.hover"} (Boolean) set by the {@code DwcTextFieldUI}
- * delegate's mouse listener, since {@link JTextComponent} has no rollover model.</p>
+ * delegate's mouse listener, since {@link JTextComponent} has no rollover model.
+ * Color changes are eased over the theme's fast transition duration by
+ * {@link DwcAnimator}.</p>
  *
  * <p>Application code can override the default margin by calling
  * {@link JTextComponent#setMargin(Insets)} with a non-{@link javax.swing.plaf.UIResource}
@@ -41,6 +44,14 @@ public class DwcTextFieldBorder extends AbstractBorder {
 
     private static final Insets DEFAULT_MARGIN = new Insets(2, 6, 2, 6);
 
+    /** Client property caching a component's ring regions for its current size. */
+    private static final String RING_KEY = "DwcTextFieldBorder.ring";
+
+    /** Ring regions computed for one component size and geometry. */
+    private record Ring(int width, int height, int focusWidth, int borderWidth, int arc,
+            Rectangle[] regions) {
+    }
+
     @Override
     public Insets getBorderInsets(Component c, Insets insets) {
         int focusWidth = UIManager.getInt("Component.focusWidth");
@@ -83,6 +94,11 @@ public class DwcTextFieldBorder extends AbstractBorder {
         if (borderColor == null) {
             return;
         }
+        if (c instanceof JComponent jc) {
+            borderColor = DwcAnimator.color(jc, "border", borderColor,
+                    DwcAnimator.durationMillis("Component.transitionFastDuration", 150),
+                    ringRegions(jc));
+        }
 
         Graphics2D g2 = (Graphics2D) g.create();
         try {
@@ -97,4 +113,48 @@ public class DwcTextFieldBorder extends AbstractBorder {
             g2.dispose();
         }
     }
+
+    /**
+     * Returns the regions that change when the border or focus ring changes
+     * color: four strips along the edges, each covering the focus ring
+     * margin, the outline and the rounded corners inside it. Components too
+     * small for separate strips get a single region covering their bounds.
+     *
+     * <p>The regions are cached on the component until its size or the
+     * border geometry changes; callers must not modify them.</p>
+     *
+     * @param c the component with this border
+     * @return the ring regions, in the component's coordinates
+     */
+    static Rectangle[] ringRegions(JComponent c) {
+        int width = c.getWidth();
+        int height = c.getHeight();
+        int focusWidth = UIManager.getInt("Component.focusWidth");
+        int borderWidth = UIManager.getInt("Component.borderWidth");
+        int arc = UIManager.getInt("TextField.arc");
+
+        if (c.getClientProperty(RING_KEY) instanceof Ring ring
+                && ring.width() == width && ring.height() == height
+                && ring.focusWidth() == focusWidth && ring.borderWidth() == borderWidth
+                && ring.arc() == arc) {
+            return ring.regions();
+        }
+
+        // Focus ring margin, then the outline or the corner curve, whichever
+        // reaches further in, plus one pixel of antialiasing
+        int band = focusWidth + Math.max(borderWidth, (arc + 1) / 2) + 1;
+        Rectangle[] regions;
+        if (band * 2 >= Math.min(width, height)) {
+            regions = new Rectangle[] {new Rectangle(0, 0, width, height)};
+        } else {
+            regions = new Rectangle[] {
+                new Rectangle(0, 0, width, band),
+                new Rectangle(0, height - band, width, band),
+                new Rectangle(0, band, band, height - band * 2),
+                new Rectangle(width - band, band, band, height - band * 2)
+            };
+        }
+        c.putClientProperty(RING_KEY, new Ring(width, height, focusWidth, borderWidth, arc, regions));
+        return regions;
+    }
 }
@@ -1,6 +1,9 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.CornerFillPainter;
 import com.dwc.laf.painting.FocusRingPainter;
+import com.dwc.laf.painting.GlyphCache;
 import com.dwc.laf.painting.PaintUtils;
 
 import javax.swing.JComponent;
@@ -41,7 +44,12 @@ import java.awt.event.MouseListener;
  *
  * <p>Hover state is tracked via a {@link MouseListener} that sets the
  * {@code "DwcTextFieldUI.hover"} client property, which is read by
- * {@link DwcTextFieldBorder} for border color resolution.</p>
+ * {@link DwcTextFieldBorder} for border color resolution. Background and
+ * border colors move between states over the theme's fast transition
+ * duration, driven by the shared {@link DwcAnimator} timer. Hover and focus
+ * changes repaint only the border ring regions unless the background
+ * changes too, so the parent beneath the non-opaque field is not repainted
+ * across its whole area.</p>
  *
  * <p>Each JTextField gets its own instance (not a shared singleton) to prevent
  * hover state leaking between text fields.</p>
@@ -60,9 +68,11 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
     private int arc;
     private int focusWidth;
     private int borderWidth;
+    private int transitionMillis;
 
     // Disabled opacity
     private float disabledOpacity;
+    private boolean opaqueCorners;
 
     // State tracking
     private boolean hover;
@@ -85,8 +95,10 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
         super.installDefaults();
 
         // Required for rounded corners; prevents rectangular background artifact.
+        // In opaque-corners mode the parent background is painted beneath instead.
         // Use installProperty so application-set values are preserved (UIResource contract).
-        LookAndFeel.installProperty(getComponent(), "opaque", false);
+        opaqueCorners = UIManager.getBoolean("Component.opaqueCorners");
+        LookAndFeel.installProperty(getComponent(), "opaque", opaqueCorners);
 
         // Cache all colors from UIManager
         background = UIManager.getColor("TextField.background");
@@ -100,6 +112,7 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
         arc = UIManager.getInt("TextField.arc");
         focusWidth = UIManager.getInt("Component.focusWidth");
         borderWidth = UIManager.getInt("Component.borderWidth");
+        transitionMillis = DwcAnimator.durationMillis("Component.transitionFastDuration", 150);
 
         // Disabled opacity -- UIManager.getFloat returns 0 if key missing
         Object opacityObj = UIManager.get("Component.disabledOpacity");
@@ -125,14 +138,14 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
             public void mouseEntered(MouseEvent e) {
                 hover = true;
                 c.putClientProperty("DwcTextFieldUI.hover", Boolean.TRUE);
-                c.repaint();
+                repaintStateChange(c, !c.hasFocus());
             }
 
             @Override
             public void mouseExited(MouseEvent e) {
                 hover = false;
                 c.putClientProperty("DwcTextFieldUI.hover", Boolean.FALSE);
-                c.repaint();
+                repaintStateChange(c, !c.hasFocus());
             }
         };
         c.addMouseListener(hoverListener);
@@ -141,17 +154,34 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
         focusRepaintListener = new FocusListener() {
             @Override
             public void focusGained(FocusEvent e) {
-                c.repaint();
+                repaintStateChange(c, hover);
             }
 
             @Override
             public void focusLost(FocusEvent e) {
-                c.repaint();
+                repaintStateChange(c, hover);
             }
         };
         c.addFocusListener(focusRepaintListener);
     }
 
+    /**
+     * Repaints what a hover or focus change alters. The border and focus ring
+     * only touch the ring regions from {@link DwcTextFieldBorder#ringRegions};
+     * the whole field is repainted only when the change also switches
+     * between background colors that differ.
+     *
+     * @param c                the text component
+     * @param affectsHoverFill whether the change toggles the hover background
+     */
+    private void repaintStateChange(JTextComponent c, boolean affectsHoverFill) {
+        if (affectsHoverFill && hoverBackground != null && !hoverBackground.equals(background)) {
+            c.repaint();
+        } else {
+            DwcAnimator.repaint(c, DwcTextFieldBorder.ringRegions(c));
+        }
+    }
+
     @Override
     protected void uninstallListeners() {
         super.uninstallListeners();
@@ -167,10 +197,20 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
         }
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        super.update(g, c);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcTextFieldUI", null, c, start);
+        }
+    }
+
     /**
      * Overridden as a no-op. Since opaque=false, {@code BasicTextUI.paintSafely()}
-     * will not call this. But override defensively -- if something else calls it,
-     * we don't want a rectangular fill.
+     * will not call this; in opaque-corners mode the parent background has
+     * already been painted at the start of {@link #paintSafely(Graphics)}.
+     * Either way we don't want a rectangular fill.
      */
     @Override
     protected void paintBackground(Graphics g) {
@@ -181,9 +221,21 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
     protected void paintSafely(Graphics g) {
         JTextComponent c = getComponent();
 
-        // Handle disabled state: wrap entire paint in reduced opacity
+        // Opaque-corners mode: parent color beneath everything, at full opacity
+        if (opaqueCorners && c.isOpaque()) {
+            CornerFillPainter.paintParentBackground(g, c);
+        }
+
+        // Handle disabled state: the background and placeholder are painted in
+        // opaque pre-blended colors, and only the document text, painted by the
+        // views in the disabled text color, at reduced opacity. Over an unknown
+        // background the entire paint is wrapped in reduced opacity instead.
+        Color bg = resolveBackground(c);
+        DisabledColors disabled = c.isEnabled() ? null : DisabledColors.current();
+        Color disabledBg = disabled != null
+                ? disabled.over(bg, CornerFillPainter.parentBackground(c)) : null;
         Composite oldComposite = null;
-        if (!c.isEnabled() && g instanceof Graphics2D g2d) {
+        if (disabled != null && disabledBg == null && g instanceof Graphics2D g2d) {
             oldComposite = g2d.getComposite();
             g2d.setComposite(AlphaComposite.SrcOver.derive(disabledOpacity));
         }
@@ -193,10 +245,9 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
             Graphics2D g2 = (Graphics2D) g.create();
             try {
                 Object[] saved = PaintUtils.setupPaintingHints(g2);
-                Color bg = resolveBackground(c);
                 PaintUtils.paintRoundedBackground(g2, focusWidth, focusWidth,
                         c.getWidth() - focusWidth * 2, c.getHeight() - focusWidth * 2,
-                        arc, bg);
+                        arc, disabledBg != null ? disabledBg : bg);
                 PaintUtils.restorePaintingHints(g2, saved);
             } finally {
                 g2.dispose();
@@ -206,13 +257,20 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
         // Step 2: Call super.paintSafely with the ORIGINAL Graphics object.
         // CRITICAL: Do NOT pass a g.create() clone to super. BasicTextUI.paintSafely()
         // sets up clip regions and accesses the component -- it needs the original context.
-        super.paintSafely(g);
+        if (disabledBg != null && g instanceof Graphics2D g2d) {
+            Composite textComposite = g2d.getComposite();
+            g2d.setComposite(AlphaComposite.SrcOver.derive(disabledOpacity));
+            super.paintSafely(g);
+            g2d.setComposite(textComposite);
+        } else {
+            super.paintSafely(g);
+        }
 
         // Step 3: Paint placeholder text (after super, layers correctly when document is empty)
         {
             Graphics2D g2 = (Graphics2D) g.create();
             try {
-                paintPlaceholder(g2, c);
+                paintPlaceholder(g2, c, disabledBg != null ? disabled : null, disabledBg);
             } finally {
                 g2.dispose();
             }
@@ -240,25 +298,31 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
     }
 
     /**
-     * Resolves the correct background color based on component state.
+     * Resolves the background color for the component state, transitioning
+     * from the previous state's color through {@link DwcAnimator}.
      *
      * @param c the text component
-     * @return the background color for the current state
+     * @return the background color to paint
      */
     private Color resolveBackground(JTextComponent c) {
-        if (hover && !c.hasFocus()) {
-            return hoverBackground != null ? hoverBackground : background;
+        Color target = background;
+        if (hover && !c.hasFocus() && hoverBackground != null) {
+            target = hoverBackground;
         }
-        return background;
+        return DwcAnimator.color(c, "background", target, transitionMillis);
     }
 
     /**
      * Paints placeholder text when the document is empty.
      *
-     * @param g2 the graphics context
-     * @param c  the text component
+     * @param g2       the graphics context
+     * @param c        the text component
+     * @param disabled the disabled palette if the placeholder is pre-blended
+     *                 over {@code under}, otherwise null
+     * @param under    the disabled background beneath the placeholder
      */
-    private void paintPlaceholder(Graphics2D g2, JTextComponent c) {
+    private void paintPlaceholder(Graphics2D g2, JTextComponent c,
+            DisabledColors disabled, Color under) {
         if (c.getDocument().getLength() > 0) {
             return;
         }
@@ -270,7 +334,7 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
 
         // Set color
         Color color = placeholderForeground != null ? placeholderForeground : Color.GRAY;
-        g2.setColor(color);
+        g2.setColor(disabled != null ? disabled.over(color, under) : color);
 
         // Set font
         g2.setFont(c.getFont());
@@ -292,7 +356,7 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
 
         // Clip to available width
         int availWidth = c.getWidth() - insets.left - insets.right;
-        if (fm.stringWidth(placeholder) > availWidth && availWidth > 0) {
+        if (GlyphCache.stringWidth(g2, g2.getFont(), placeholder) > availWidth && availWidth > 0) {
             // Truncate placeholder with ellipsis to fit available width
             String ellipsis = "...";
             int ellipsisWidth = fm.stringWidth(ellipsis);
@@ -308,7 +372,7 @@ public class DwcTextFieldUI extends BasicTextFieldUI {
             }
         }
 
-        g2.drawString(placeholder, x, y);
+        GlyphCache.drawString(null, g2, placeholder, -1, x, y);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
 import com.dwc.laf.painting.PaintUtils;
 
 import javax.swing.JComponent;
@@ -21,30 +22,44 @@ import java.awt.Graphics2D;
  * skips its default background fill. This class paints the rounded background
  * first, then delegates text rendering to {@code super.paint()}.</p>
  *
- * <p>Each JToolTip gets its own instance (not a shared singleton).</p>
+ * <p>The delegate keeps no per-component state, so like
+ * {@code BasicToolTipUI} all tooltips share one instance; the background
+ * color is read once per theme generation through {@link ThemeStyles}.</p>
  */
 public class DwcToolTipUI extends BasicToolTipUI {
 
-    private Color background;
-    private Color foreground;
-    private int arc = DwcToolTipBorder.ARC;
+    /**
+     * The theme-wide tooltip style.
+     *
+     * @param background the rounded background color
+     */
+    private record Style(Color background) {
+
+        private static Style load() {
+            return new Style(UIManager.getColor("ToolTip.background"));
+        }
+    }
+
+    private static final DwcToolTipUI sharedInstance = new DwcToolTipUI();
+
+    /** The style of the current theme, refreshed by every install. */
+    private Style style;
 
     /**
-     * Creates a new {@code DwcToolTipUI} instance for the given component.
+     * Returns the {@code DwcToolTipUI} instance shared by all tooltips.
      *
      * @param c the component (unused, required by L&F contract)
-     * @return a new DwcToolTipUI instance
+     * @return the shared DwcToolTipUI instance
      */
     public static ComponentUI createUI(JComponent c) {
-        return new DwcToolTipUI();
+        return sharedInstance;
     }
 
     @Override
     protected void installDefaults(JComponent c) {
         super.installDefaults(c);
 
-        background = UIManager.getColor("ToolTip.background");
-        foreground = UIManager.getColor("ToolTip.foreground");
+        style = ThemeStyles.get(Style.class, Style::load);
 
         // Non-opaque: BasicToolTipUI.paint() will skip background fill
         LookAndFeel.installProperty(c, "opaque", false);
@@ -55,6 +70,15 @@ public class DwcToolTipUI extends BasicToolTipUI {
         }
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        super.update(g, c);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcToolTipUI", null, c, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         Graphics2D g2 = (Graphics2D) g.create();
@@ -68,7 +92,8 @@ public class DwcToolTipUI extends BasicToolTipUI {
             float ih = c.getHeight() - shadowSize * 2;
 
             // Paint rounded background
-            PaintUtils.paintRoundedBackground(g2, ix, iy, iw, ih, arc, background);
+            PaintUtils.paintRoundedBackground(g2, ix, iy, iw, ih, DwcToolTipBorder.ARC,
+                    style.background());
         } finally {
             g2.dispose();
         }
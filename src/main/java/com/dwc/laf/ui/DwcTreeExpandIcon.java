@@ -1,5 +1,7 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.IconRasterCache;
 import com.dwc.laf.painting.PaintUtils;
 
 import javax.swing.Icon;
@@ -20,11 +22,18 @@ import java.awt.geom.Path2D;
  *
  * <p>The icon color is read from {@code UIManager.getColor("Tree.expandedIcon.color")}
  * with a fallback to {@link Color#DARK_GRAY}.</p>
+ *
+ * <p>The chevron is painted through {@link IconRasterCache}, so each shape is
+ * stroked once per color and scale and then blitted on every tree row.</p>
  */
 public class DwcTreeExpandIcon implements Icon {
 
     private static final int SIZE = 12;
 
+    /** Raster cache identifiers of the two chevron shapes. */
+    private static final String RASTER_EXPANDED = "DwcTreeExpandIcon.expanded";
+    private static final String RASTER_COLLAPSED = "DwcTreeExpandIcon.collapsed";
+
     private final boolean expanded;
 
     /**
@@ -38,40 +47,43 @@ public class DwcTreeExpandIcon implements Icon {
 
     @Override
     public void paintIcon(Component c, Graphics g, int x, int y) {
-        Graphics2D g2 = (Graphics2D) g.create();
-        try {
-            Object[] saved = PaintUtils.setupPaintingHints(g2);
-
-            Color color = UIManager.getColor("Tree.expandedIcon.color");
-            if (color == null) {
-                color = Color.DARK_GRAY;
-            }
-            g2.setColor(color);
-
-            float cx = x + SIZE / 2f;
-            float cy = y + SIZE / 2f;
-            float arrowSize = 5f;
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        Color color = UIManager.getColor("Tree.expandedIcon.color");
+        Color chevronColor = color != null ? color : Color.DARK_GRAY;
+        IconRasterCache.paint((Graphics2D) g, x, y, SIZE, SIZE,
+                expanded ? RASTER_EXPANDED : RASTER_COLLAPSED, chevronColor,
+                g2 -> paintChevron(g2, chevronColor));
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcTreeExpandIcon", expanded ? "expanded" : "collapsed", c, SIZE, SIZE, start);
+        }
+    }
 
-            Path2D.Float arrow = new Path2D.Float();
-            if (expanded) {
-                // Downward chevron (v)
-                arrow.moveTo(cx - arrowSize / 2, cy - arrowSize / 4);
-                arrow.lineTo(cx, cy + arrowSize / 4);
-                arrow.lineTo(cx + arrowSize / 2, cy - arrowSize / 4);
-            } else {
-                // Rightward chevron (>)
-                arrow.moveTo(cx - arrowSize / 4, cy - arrowSize / 2);
-                arrow.lineTo(cx + arrowSize / 4, cy);
-                arrow.lineTo(cx - arrowSize / 4, cy + arrowSize / 2);
-            }
+    /**
+     * Paints the chevron at the origin of the icon area.
+     */
+    private void paintChevron(Graphics2D g2, Color color) {
+        PaintUtils.setupPaintingHints(g2);
+        g2.setColor(color);
 
-            g2.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-            g2.draw(arrow);
+        float cx = SIZE / 2f;
+        float cy = SIZE / 2f;
+        float arrowSize = 5f;
 
-            PaintUtils.restorePaintingHints(g2, saved);
-        } finally {
-            g2.dispose();
+        Path2D.Float arrow = new Path2D.Float();
+        if (expanded) {
+            // Downward chevron (v)
+            arrow.moveTo(cx - arrowSize / 2, cy - arrowSize / 4);
+            arrow.lineTo(cx, cy + arrowSize / 4);
+            arrow.lineTo(cx + arrowSize / 2, cy - arrowSize / 4);
+        } else {
+            // Rightward chevron (>)
+            arrow.moveTo(cx - arrowSize / 4, cy - arrowSize / 2);
+            arrow.lineTo(cx + arrowSize / 4, cy);
+            arrow.lineTo(cx - arrowSize / 4, cy + arrowSize / 2);
         }
+
+        g2.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g2.draw(arrow);
     }
 
     @Override
@@ -1,5 +1,7 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+import com.dwc.laf.painting.IconRasterCache;
 import com.dwc.laf.painting.PaintUtils;
 
 import javax.swing.Icon;
@@ -27,7 +29,9 @@ import java.awt.geom.Path2D;
  * with a fallback to {@link Color#DARK_GRAY}, matching the expand/collapse chevron
  * icon for visual consistency.</p>
  *
- * <p>Icon size is 16x16 pixels (standard Swing tree node icon size).</p>
+ * <p>Icon size is 16x16 pixels (standard Swing tree node icon size). Each
+ * type is stroked once per color and scale into an {@link IconRasterCache}
+ * raster, which is then drawn for every row.</p>
  */
 public class DwcTreeNodeIcon implements Icon {
 
@@ -60,26 +64,21 @@ public class DwcTreeNodeIcon implements Icon {
 
     @Override
     public void paintIcon(Component c, Graphics g, int x, int y) {
-        Graphics2D g2 = (Graphics2D) g.create();
-        try {
-            Object[] saved = PaintUtils.setupPaintingHints(g2);
-
-            Color color = UIManager.getColor("Tree.expandedIcon.color");
-            if (color == null) {
-                color = Color.DARK_GRAY;
-            }
-            g2.setColor(color);
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        Color color = UIManager.getColor("Tree.expandedIcon.color");
+        Color iconColor = color != null ? color : Color.DARK_GRAY;
+        IconRasterCache.paint((Graphics2D) g, x, y, SIZE, SIZE, type, iconColor, g2 -> {
+            PaintUtils.setupPaintingHints(g2);
+            g2.setColor(iconColor);
             g2.setStroke(STROKE);
-
             switch (type) {
-                case FOLDER_CLOSED -> paintFolderClosed(g2, x, y);
-                case FOLDER_OPEN -> paintFolderOpen(g2, x, y);
-                case FILE -> paintFile(g2, x, y);
+                case FOLDER_CLOSED -> paintFolderClosed(g2, 0, 0);
+                case FOLDER_OPEN -> paintFolderOpen(g2, 0, 0);
+                case FILE -> paintFile(g2, 0, 0);
             }
-
-            PaintUtils.restorePaintingHints(g2, saved);
-        } finally {
-            g2.dispose();
+        });
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcTreeNodeIcon", type, c, SIZE, SIZE, start);
         }
     }
 
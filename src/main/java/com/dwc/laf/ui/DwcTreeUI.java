@@ -1,17 +1,18 @@
 package com.dwc.laf.ui;
 
+import com.dwc.laf.diagnostics.PaintProfiler;
+
 import javax.swing.JComponent;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicTreeUI;
 import javax.swing.tree.DefaultTreeCellRenderer;
 import javax.swing.tree.TreeCellRenderer;
-import javax.swing.tree.TreePath;
+import javax.swing.tree.TreeSelectionModel;
 import java.awt.Color;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Insets;
 import java.awt.Rectangle;
+import java.beans.PropertyChangeListener;
 
 /**
  * A custom {@link javax.swing.plaf.TreeUI} delegate that paints JTree components
@@ -26,14 +27,28 @@ import java.awt.Rectangle;
  *   <li>No connecting lines between nodes for clean modern look</li>
  * </ul>
  *
+ * <p>Selection backgrounds are painted before the rows, as one rectangle per
+ * contiguous run of selected rows within the clip, using a single snapshot
+ * of the selection model's row range.</p>
+ *
+ * <p>For very large models, set the client property
+ * {@code tree.putClientProperty("dwc.largeModel", Boolean.TRUE)}. The
+ * delegate then enables {@link javax.swing.JTree#setLargeModel(boolean)},
+ * which together with the fixed 24px row height lets the tree use a
+ * fixed-height layout cache that does not measure every expanded node.</p>
+ *
  * <p>Each JTree gets its own instance (not a shared singleton).</p>
  */
 public class DwcTreeUI extends BasicTreeUI {
 
+    /** Client property enabling large-model mode. */
+    public static final String LARGE_MODEL_PROPERTY = "dwc.largeModel";
+
     private Color selectionBackground;
     private Color selectionForeground;
     private Color foreground;
     private Color background;
+    private PropertyChangeListener largeModelListener;
 
     /**
      * Creates a new {@code DwcTreeUI} instance for the given component.
@@ -61,9 +76,10 @@ public class DwcTreeUI extends BasicTreeUI {
         // Set row height
         int rowHeight = UIManager.getInt("Tree.rowHeight");
         tree.setRowHeight(rowHeight > 0 ? rowHeight : 24);
+        updateLargeModel();
 
         // Configure DefaultTreeCellRenderer to not paint opaque grey backgrounds.
-        // Our paintRow() handles selection; the renderer should be transparent.
+        // Our paint() handles selection; the renderer should be transparent.
         TreeCellRenderer renderer = tree.getCellRenderer();
         if (renderer instanceof DefaultTreeCellRenderer dtcr) {
             Color bg = UIManager.getColor("Tree.background");
@@ -88,24 +104,99 @@ public class DwcTreeUI extends BasicTreeUI {
     }
 
     @Override
-    protected void paintRow(Graphics g, Rectangle clipBounds, Insets insets,
-                             Rectangle bounds, TreePath path, int row,
-                             boolean isExpanded, boolean hasBeenExpanded, boolean isLeaf) {
-        // Paint full-width selection background for selected nodes
-        if (tree.isPathSelected(path)) {
-            Graphics2D g2 = (Graphics2D) g.create();
-            try {
-                g2.setColor(selectionBackground != null
-                        ? selectionBackground
-                        : UIManager.getColor("Tree.selectionBackground"));
-                g2.fillRect(0, bounds.y, tree.getWidth(), bounds.height);
-            } finally {
-                g2.dispose();
+    protected void installListeners() {
+        super.installListeners();
+        largeModelListener = e -> {
+            if (LARGE_MODEL_PROPERTY.equals(e.getPropertyName())) {
+                updateLargeModel();
+            }
+        };
+        tree.addPropertyChangeListener(largeModelListener);
+    }
+
+    @Override
+    protected void uninstallListeners() {
+        super.uninstallListeners();
+        if (largeModelListener != null) {
+            tree.removePropertyChangeListener(largeModelListener);
+            largeModelListener = null;
+        }
+    }
+
+    /**
+     * Applies the {@value #LARGE_MODEL_PROPERTY} client property. Large-model
+     * layout requires a fixed row height, which {@link #installDefaults()}
+     * always sets.
+     */
+    private void updateLargeModel() {
+        if (Boolean.TRUE.equals(tree.getClientProperty(LARGE_MODEL_PROPERTY))) {
+            if (tree.getRowHeight() <= 0) {
+                tree.setRowHeight(24);
             }
+            tree.setLargeModel(true);
+        } else if (tree.isLargeModel()) {
+            tree.setLargeModel(false);
         }
+    }
 
-        // Let BasicTreeUI paint the node content on top of our selection background
-        super.paintRow(g, clipBounds, insets, bounds, path, row,
-                isExpanded, hasBeenExpanded, isLeaf);
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = PaintProfiler.ENABLED ? System.nanoTime() : 0L;
+        super.update(g, c);
+        if (PaintProfiler.ENABLED) {
+            PaintProfiler.record("DwcTreeUI", null, c, start);
+        }
+    }
+
+    @Override
+    public void paint(Graphics g, JComponent c) {
+        paintSelectionRuns(g);
+        super.paint(g, c);
+    }
+
+    /**
+     * Fills the selection background of the selected rows intersecting the
+     * clip, merging contiguous selected rows into a single full-width
+     * rectangle. Rows outside the selection model's min/max row range are
+     * never queried.
+     */
+    private void paintSelectionRuns(Graphics g) {
+        TreeSelectionModel selection = tree.getSelectionModel();
+        if (selection == null || selection.isSelectionEmpty() || tree.getRowCount() == 0) {
+            return;
+        }
+        int minSelected = selection.getMinSelectionRow();
+        int maxSelected = selection.getMaxSelectionRow();
+        if (minSelected < 0) {
+            return;
+        }
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, tree.getWidth(), tree.getHeight());
+        }
+
+        int first = Math.max(minSelected, tree.getClosestRowForLocation(0, clip.y));
+        int last = Math.min(maxSelected, tree.getClosestRowForLocation(0, clip.y + clip.height - 1));
+        if (first > last) {
+            return;
+        }
+
+        g.setColor(selectionBackground != null
+                ? selectionBackground
+                : UIManager.getColor("Tree.selectionBackground"));
+        int runStart = -1;
+        for (int row = first; row <= last + 1; row++) {
+            boolean selected = row <= last && selection.isRowSelected(row);
+            if (selected && runStart < 0) {
+                runStart = row;
+            } else if (!selected && runStart >= 0) {
+                Rectangle top = tree.getRowBounds(runStart);
+                Rectangle bottom = tree.getRowBounds(row - 1);
+                if (top != null && bottom != null) {
+                    g.fillRect(clip.x, top.y, clip.width, bottom.y + bottom.height - top.y);
+                }
+                runStart = -1;
+            }
+        }
     }
 }
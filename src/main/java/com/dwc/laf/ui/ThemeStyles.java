@@ -0,0 +1,105 @@
+package com.dwc.laf.ui;
+
+import javax.swing.ActionMap;
+import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+import java.beans.PropertyChangeListener;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Style data resolved from {@code UIDefaults} once per theme generation and
+ * shared by every delegate instance.
+ *
+ * <p>A delegate describes its style as an immutable record with a loader
+ * that reads {@code UIManager}; {@link #get} answers the record built for
+ * the current generation, so installing the delegate on thousands of
+ * components performs the lookups and allocations once. A new generation
+ * starts when the look-and-feel defaults are replaced (a new look and feel
+ * or theme is installed) or when a value changes through
+ * {@code UIManager.put}.</p>
+ *
+ * <p>Styles are built and read on the EDT; access is synchronized only so
+ * that an off-EDT lookup cannot corrupt the cache.</p>
+ */
+final class ThemeStyles {
+
+    private static final Map<Class<?>, Object> styles = new HashMap<>();
+
+    /**
+     * Starts a new generation when a value in an observed defaults table
+     * changes. Swing itself puts the delegate classes it loads
+     * ({@code UIDefaults.getUIClass}) and the shared action maps of the
+     * basic delegates into the tables while installing components; those
+     * entries are not style and are ignored.
+     */
+    private static final PropertyChangeListener invalidator = e -> {
+        if (!(e.getNewValue() instanceof Class) && !(e.getNewValue() instanceof ActionMap)) {
+            invalidate();
+        }
+    };
+
+    /** The look-and-feel defaults the cached styles were built from. */
+    private static UIDefaults lafDefaults;
+
+    /** The developer defaults table ({@code UIManager.getDefaults()}) being observed. */
+    private static UIDefaults defaults;
+
+    private ThemeStyles() {
+        // Non-instantiable utility class
+    }
+
+    /**
+     * Returns the style of the given type for the current theme generation,
+     * building it with {@code loader} on first use.
+     *
+     * @param type   the style record type, used as the cache key
+     * @param loader builds the style from {@code UIManager}
+     * @param <T>    the style type
+     * @return the shared style
+     */
+    static synchronized <T> T get(Class<T> type, Supplier<T> loader) {
+        checkDefaults();
+        Object style = styles.get(type);
+        if (style == null) {
+            style = loader.get();
+            styles.put(type, style);
+        }
+        return type.cast(style);
+    }
+
+    /**
+     * Discards all shared styles; the next {@link #get} rebuilds them.
+     */
+    static synchronized void invalidate() {
+        styles.clear();
+    }
+
+    /**
+     * Starts a new generation if the defaults tables have been replaced
+     * since the styles were built, and listens to the current ones.
+     */
+    private static void checkDefaults() {
+        UIDefaults currentLaf = UIManager.getLookAndFeelDefaults();
+        UIDefaults current = UIManager.getDefaults();
+        if (currentLaf == lafDefaults && current == defaults) {
+            return;
+        }
+        if (lafDefaults != null) {
+            lafDefaults.removePropertyChangeListener(invalidator);
+        }
+        if (defaults != null) {
+            defaults.removePropertyChangeListener(invalidator);
+        }
+        lafDefaults = currentLaf;
+        defaults = current;
+        if (lafDefaults != null) {
+            lafDefaults.addPropertyChangeListener(invalidator);
+        }
+        if (defaults != null && defaults != lafDefaults) {
+            defaults.addPropertyChangeListener(invalidator);
+        }
+        invalidate();
+    }
+}
@@ -1,20 +1,41 @@
 package com.dwc.laf;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JProgressBar;
+import javax.swing.JRadioButton;
+import javax.swing.JTabbedPane;
+import javax.swing.JTextField;
+import javax.swing.JToolTip;
 import javax.swing.LookAndFeel;
+import javax.swing.UIDefaults;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
 import javax.swing.plaf.ColorUIResource;
 import javax.swing.plaf.FontUIResource;
 import javax.swing.plaf.InsetsUIResource;
 import java.awt.Color;
+import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Insets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import com.dwc.laf.painting.RenderProfile;
+import com.dwc.laf.painting.StateColorResolver;
 import com.dwc.laf.ui.DwcTextFieldBorder;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -123,6 +144,11 @@ class DwcLookAndFeelTest {
         assertNotNull(focusWidth, "Component.focusWidth should be populated");
         assertInstanceOf(Integer.class, focusWidth,
                 "Component.focusWidth should be an Integer");
+
+        assertEquals(150, UIManager.get("Component.transitionFastDuration"),
+                "--dwc-transition-fast (150ms) should map to milliseconds");
+        assertEquals(250, UIManager.get("Component.transitionDuration"),
+                "--dwc-transition resolves through var(--dwc-transition-medium)");
     }
 
     // ---- Test 6: Font population ----
@@ -473,4 +499,166 @@ class DwcLookAndFeelTest {
         assertEquals("com.dwc.laf.ui.DwcTabbedPaneUI", tabbedPaneUI,
                 "TabbedPaneUI should be registered to DwcTabbedPaneUI");
     }
+
+    // ---- Test 33: Preloaded defaults match synchronous activation ----
+
+    @Test
+    void lafPreloadProducesSameDefaults() throws Exception {
+        activateDwcLaf();
+        Object syncPrimary = UIManager.get("Button.default.background");
+        Object syncFont = UIManager.get("defaultFont");
+        String[] computed = {"Component.focusRingColor", "Button.font", "ComboBox.font",
+                "CheckBox.background", "Panel.arc", "Tree.textBackground", "Table.alternateRowColor"};
+        List<Object> syncComputed = new ArrayList<>();
+        for (String key : computed) {
+            syncComputed.add(UIManager.get(key));
+        }
+
+        DwcLookAndFeel.preload().get(30, TimeUnit.SECONDS);
+        activateDwcLaf();
+
+        assertEquals(syncPrimary, UIManager.get("Button.default.background"),
+                "Preloaded activation should map the same token values");
+        assertEquals(syncFont, UIManager.get("defaultFont"),
+                "Preloaded activation should resolve the same default font");
+        for (int i = 0; i < computed.length; i++) {
+            assertEquals(syncComputed.get(i), UIManager.get(computed[i]),
+                    "Preloaded activation should compute the same " + computed[i]);
+        }
+        assertNotNull(((DwcLookAndFeel) UIManager.getLookAndFeel()).getTokenMap());
+    }
+
+    // ---- Test 34: Preload is consumed by exactly one activation ----
+
+    @Test
+    void lafPreloadConsumedOnce() throws Exception {
+        DwcLookAndFeel.preload().get(30, TimeUnit.SECONDS);
+        assertNotNull(DwcDefaultsPreloader.take(), "Completed preload should be available");
+        assertNull(DwcDefaultsPreloader.take(), "Preload should only be taken once");
+    }
+
+    // ---- Test 35: Preload discarded when configuration changes ----
+
+    @Test
+    void lafPreloadDiscardedOnConfigChange() throws Exception {
+        DwcLookAndFeel.preload().get(30, TimeUnit.SECONDS);
+        System.setProperty("dwc.mapping", "does-not-exist.properties");
+        try {
+            assertNull(DwcDefaultsPreloader.take(),
+                    "Preload for a different dwc.mapping should be discarded");
+        } finally {
+            System.clearProperty("dwc.mapping");
+        }
+    }
+
+    // ---- Test 36: Each defaults step emits a JFR event ----
+
+    @Test
+    void lafEmitsDefaultsInitEvents(@TempDir Path dir) throws Exception {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.enable("dwc.DefaultsInit");
+            recording.start();
+            activateDwcLaf();
+            recording.stop();
+            Path file = dir.resolve("activation.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<Integer> steps = events.stream()
+                .filter(e -> e.getEventType().getName().equals("dwc.DefaultsInit"))
+                .map(e -> e.getInt("step")).toList();
+        assertEquals(18, steps.size(), "One event per initComponentDefaults step");
+        assertEquals(1, steps.get(0));
+        assertEquals(18, steps.get(17));
+    }
+
+    // ---- Test 37: Remote render profile flattens translucent colors ----
+
+    @Test
+    void lafRemoteProfileFlattensTranslucentColors() throws Exception {
+        activateDwcLaf();
+        Color ring = UIManager.getColor("Component.focusRingColor");
+        assertTrue(ring.getAlpha() < 255, "Full profile keeps the translucent focus ring");
+
+        RenderProfile.setCurrent(RenderProfile.REMOTE);
+        try {
+            activateDwcLaf();
+            Color flat = UIManager.getColor("Component.focusRingColor");
+            assertEquals(255, flat.getAlpha());
+            assertEquals(StateColorResolver.blend(ring, UIManager.getColor("Panel.background"), 1f), flat);
+            assertInstanceOf(ColorUIResource.class, flat);
+        } finally {
+            RenderProfile.setCurrent(RenderProfile.FULL);
+        }
+    }
+
+    // ---- Test 38: Remote render profile keeps layout metrics ----
+
+    @Test
+    void lafRemoteProfileKeepsLayoutMetrics() throws Exception {
+        activateDwcLaf();
+        List<Dimension> full = preferredSizes();
+
+        RenderProfile.setCurrent(RenderProfile.REMOTE);
+        try {
+            activateDwcLaf();
+            assertEquals(full, preferredSizes(), "Profiles must not change component sizes");
+        } finally {
+            RenderProfile.setCurrent(RenderProfile.FULL);
+        }
+    }
+
+    // ---- Test 39: Remote render profile leaves lazy defaults unresolved ----
+
+    @Test
+    void lafRemoteProfileKeepsLazyValues() throws Exception {
+        RenderProfile.setCurrent(RenderProfile.REMOTE);
+        try {
+            activateDwcLaf();
+            long lazy = UIManager.getLookAndFeelDefaults().entrySet().stream()
+                    .filter(e -> e.getValue() instanceof UIDefaults.LazyValue)
+                    .count();
+            assertTrue(lazy > 0, "Flattening must not resolve lazy defaults");
+        } finally {
+            RenderProfile.setCurrent(RenderProfile.FULL);
+        }
+    }
+
+    // ---- Test 40: Preload stages the computed defaults off the EDT ----
+
+    @Test
+    void lafPreloadStagesComputedDefaults() throws Exception {
+        DwcLookAndFeel.preload().get(30, TimeUnit.SECONDS);
+        DwcDefaultsPreloader.Prepared prepared = DwcDefaultsPreloader.take();
+        assertNotNull(prepared);
+        assertNotNull(prepared.staged().get("defaultFont"), "Step 4 runs in the preload");
+        assertNotNull(prepared.staged().get("Component.focusRingColor"), "Step 5 runs in the preload");
+        assertNotNull(prepared.staged().get("Tree.expandedIcon"), "Step 16 runs in the preload");
+
+        DwcLookAndFeel.preload().get(30, TimeUnit.SECONDS);
+        RenderProfile.setCurrent(RenderProfile.REMOTE);
+        try {
+            assertNull(DwcDefaultsPreloader.take(),
+                    "Preload flattened for another render profile should be discarded");
+        } finally {
+            RenderProfile.setCurrent(RenderProfile.FULL);
+        }
+    }
+
+    private static List<Dimension> preferredSizes() {
+        var tip = new JToolTip();
+        tip.setTipText("Tip");
+        var tabs = new JTabbedPane();
+        tabs.addTab("One", new JLabel("Content"));
+        return List.of(new JButton("OK").getPreferredSize(),
+                new JTextField("text", 12).getPreferredSize(),
+                new JComboBox<>(new String[] {"Alpha", "Beta"}).getPreferredSize(),
+                new JCheckBox("Check").getPreferredSize(),
+                new JRadioButton("Radio").getPreferredSize(),
+                new JProgressBar().getPreferredSize(),
+                tip.getPreferredSize(),
+                tabs.getPreferredSize());
+    }
 }
@@ -0,0 +1,170 @@
+package com.dwc.laf.css;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CssLayerLoader")
+class CssLayerLoaderTest {
+
+    @BeforeEach
+    void clearCache() {
+        CssLayerLoader.clearCache();
+    }
+
+    // ---- 1. Layer specification ----
+
+    @Nested
+    @DisplayName("Layer specification")
+    class Spec {
+
+        @Test
+        @DisplayName("comma-separated entries are split and trimmed")
+        void splitsCommaList() {
+            List<Path> layers = CssLayerLoader.parseSpec(" a.css , dir ,, b.css");
+            assertEquals(List.of(Path.of("a.css"), Path.of("dir"), Path.of("b.css")), layers);
+        }
+
+        @Test
+        @DisplayName("null or blank spec yields no layers")
+        void blankSpec() {
+            assertTrue(CssLayerLoader.parseSpec(null).isEmpty());
+            assertTrue(CssLayerLoader.parseSpec("   ").isEmpty());
+        }
+    }
+
+    // ---- 2. Cascade order ----
+
+    @Nested
+    @DisplayName("Cascade order")
+    class CascadeOrder {
+
+        @Test
+        @DisplayName("later layers override earlier layers")
+        void laterLayerWins(@TempDir Path dir) throws IOException {
+            Path a = write(dir, "a.css", ":root { --x: 1; --y: 1; }");
+            Path b = write(dir, "b.css", ":root { --y: 2; }");
+
+            var result = CssLayerLoader.load(List.of(a, b));
+            assertEquals("1", result.tokens().get("--x"));
+            assertEquals("2", result.tokens().get("--y"));
+        }
+
+        @Test
+        @DisplayName("directory layers contribute *.css files sorted by name")
+        void directoryExpansion(@TempDir Path dir) throws IOException {
+            Path themes = Files.createDirectory(dir.resolve("themes"));
+            write(themes, "20-button.css", ":root { --x: button; }");
+            write(themes, "10-base.css", ":root { --x: base; --base: yes; }");
+            write(themes, "notes.txt", ":root { --x: ignored; }");
+
+            var result = CssLayerLoader.load(List.of(themes));
+            assertEquals("button", result.tokens().get("--x"));
+            assertEquals("yes", result.tokens().get("--base"));
+            assertEquals(2, result.files().size());
+        }
+
+        @Test
+        @DisplayName("imported declarations apply before the importing file's own")
+        void importsBeforeOwnDeclarations(@TempDir Path dir) throws IOException {
+            write(dir, "tokens.css", ":root { --x: imported; --only-imported: 1; }");
+            Path main = write(dir, "main.css", "@import 'tokens.css';\n:root { --x: main; }");
+
+            var result = CssLayerLoader.load(List.of(main));
+            assertEquals("main", result.tokens().get("--x"));
+            assertEquals("1", result.tokens().get("--only-imported"));
+            assertEquals(List.of(dir.resolve("tokens.css").toAbsolutePath().normalize(),
+                    main.toAbsolutePath().normalize()), result.files());
+        }
+
+        @Test
+        @DisplayName("nested import chains resolve relative to each importing file")
+        void nestedImports(@TempDir Path dir) throws IOException {
+            Path sub = Files.createDirectory(dir.resolve("sub"));
+            write(sub, "leaf.css", ":root { --leaf: 1; }");
+            write(sub, "mid.css", "@import url(leaf.css);\n:root { --mid: 1; }");
+            Path main = write(dir, "main.css", "@import url(\"sub/mid.css\");");
+
+            var result = CssLayerLoader.load(List.of(main));
+            assertEquals("1", result.tokens().get("--leaf"));
+            assertEquals("1", result.tokens().get("--mid"));
+        }
+
+        @Test
+        @DisplayName("circular imports are broken without failing the load")
+        void circularImports(@TempDir Path dir) throws IOException {
+            write(dir, "a.css", "@import 'b.css';\n:root { --a: 1; }");
+            write(dir, "b.css", "@import 'a.css';\n:root { --b: 1; }");
+
+            var result = CssLayerLoader.load(List.of(dir.resolve("a.css")));
+            assertEquals("1", result.tokens().get("--a"));
+            assertEquals("1", result.tokens().get("--b"));
+        }
+
+        @Test
+        @DisplayName("many layers merge deterministically")
+        void deterministicMerge(@TempDir Path dir) throws IOException {
+            for (int i = 0; i < 50; i++) {
+                write(dir, String.format("%02d.css", i), ":root { --x: " + i + "; --f" + i + ": 1; }");
+            }
+            var result = CssLayerLoader.load(List.of(dir));
+            assertEquals("49", result.tokens().get("--x"));
+            assertEquals(51, result.tokens().size());
+        }
+    }
+
+    // ---- 3. Per-file cache ----
+
+    @Nested
+    @DisplayName("Per-file cache")
+    class PerFileCache {
+
+        @Test
+        @DisplayName("re-loading after editing one file re-parses only that file")
+        void reparsesOnlyChangedFile(@TempDir Path dir) throws IOException {
+            write(dir, "a.css", ":root { --a: 1; }");
+            write(dir, "b.css", ":root { --b: 1; }");
+            write(dir, "c.css", ":root { --c: 1; }");
+
+            var first = CssLayerLoader.load(List.of(dir));
+            assertEquals(3, first.parsedFiles());
+            assertEquals(0, first.cacheHits());
+
+            write(dir, "b.css", ":root { --b: 2; }");
+            var second = CssLayerLoader.load(List.of(dir));
+            assertEquals(1, second.parsedFiles());
+            assertEquals(2, second.cacheHits());
+            assertEquals("2", second.tokens().get("--b"));
+        }
+    }
+
+    // ---- 4. Missing files ----
+
+    @Nested
+    @DisplayName("Missing files")
+    class MissingFiles {
+
+        @Test
+        @DisplayName("unreadable layers and imports are skipped")
+        void missingSkipped(@TempDir Path dir) throws IOException {
+            Path main = write(dir, "main.css", "@import 'missing.css';\n:root { --x: 1; }");
+
+            var result = CssLayerLoader.load(List.of(dir.resolve("nope.css"), main));
+            assertEquals("1", result.tokens().get("--x"));
+            assertEquals(1, result.files().size());
+        }
+    }
+
+    private static Path write(Path dir, String name, String css) throws IOException {
+        return Files.writeString(dir.resolve(name), css);
+    }
+}
@@ -0,0 +1,236 @@
+package com.dwc.laf.css;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CssThemeCache")
+class CssThemeCacheTest {
+
+    private static final String CSS = ":root { --c: rgba(10, 20, 30, 0.5); --d: 0.875rem; --i: 700;"
+            + " --f: 1.25; --s: \"Roboto\", sans-serif; --r: calc(var(--missing) * 2); }";
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty("dwc.theme");
+        System.clearProperty(CssThemeCache.CACHE_DIR_PROPERTY);
+        System.clearProperty(CssThemeCache.MAX_BYTES_PROPERTY);
+    }
+
+    // ---- 1. Round trip ----
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("every value kind survives store and lookup")
+        void allKinds() throws IOException {
+            Path source = write("theme.css", CSS);
+            CssTokenMap original = CssThemeLoader.loadFromString(CSS);
+            var cache = new CssThemeCache(dir.resolve("cache"), CssThemeCache.DEFAULT_MAX_BYTES);
+
+            cache.store("k", CssLayerLoader.load(List.of(source)), original);
+            CssTokenMap cached = cache.lookup("k");
+
+            assertNotNull(cached);
+            assertEquals(original.propertyNames(), cached.propertyNames());
+            for (String name : original.propertyNames()) {
+                assertEquals(original.get(name), cached.get(name), name);
+                assertEquals(original.getRaw(name), cached.getRaw(name), name);
+            }
+            assertEquals(new Color(10, 20, 30, 128), cached.getColor("--c").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("tabs, newlines and backslashes are escaped")
+        void escaping() {
+            String s = "a\tb\\c\nd\re";
+            assertEquals(s, CssThemeCache.unescape(CssThemeCache.escape(s)));
+            assertFalse(CssThemeCache.escape(s).contains("\t"));
+        }
+
+        @Test
+        @DisplayName("missing entry is a miss")
+        void missingEntry() {
+            assertNull(new CssThemeCache(dir, CssThemeCache.DEFAULT_MAX_BYTES).lookup("absent"));
+        }
+    }
+
+    // ---- 2. Validation ----
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("changed source content invalidates the entry")
+        void changedSource() throws IOException {
+            Path source = write("theme.css", CSS);
+            var cache = new CssThemeCache(dir.resolve("cache"), CssThemeCache.DEFAULT_MAX_BYTES);
+            cache.store("k", CssLayerLoader.load(List.of(source)), CssThemeLoader.loadFromString(CSS));
+
+            write("theme.css", ":root { --c: red; }");
+            assertNull(cache.lookup("k"));
+        }
+
+        @Test
+        @DisplayName("touched source with identical content still hits")
+        void touchedSource() throws IOException {
+            Path source = write("theme.css", CSS);
+            var cache = new CssThemeCache(dir.resolve("cache"), CssThemeCache.DEFAULT_MAX_BYTES);
+            cache.store("k", CssLayerLoader.load(List.of(source)), CssThemeLoader.loadFromString(CSS));
+
+            Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+            assertNotNull(cache.lookup("k"));
+        }
+
+        @Test
+        @DisplayName("deleted source invalidates the entry")
+        void deletedSource() throws IOException {
+            Path source = write("theme.css", CSS);
+            var cache = new CssThemeCache(dir.resolve("cache"), CssThemeCache.DEFAULT_MAX_BYTES);
+            cache.store("k", CssLayerLoader.load(List.of(source)), CssThemeLoader.loadFromString(CSS));
+
+            Files.delete(source);
+            assertNull(cache.lookup("k"));
+        }
+
+        @Test
+        @DisplayName("records the content that was parsed, not the file at store time")
+        void storesParsedContent() throws IOException {
+            Path source = write("theme.css", CSS);
+            var cache = new CssThemeCache(dir.resolve("cache"), CssThemeCache.DEFAULT_MAX_BYTES);
+            CssLayerLoader.Result layers = CssLayerLoader.load(List.of(source));
+
+            write("theme.css", ":root { --c: red; }");
+            cache.store("k", layers, CssThemeLoader.loadFromString(CSS));
+            assertNull(cache.lookup("k"), "tokens parsed from the old content must not be served");
+        }
+
+        @Test
+        @DisplayName("an @import target that appears invalidates the entry")
+        void appearedImport() throws IOException {
+            Path source = write("theme.css", "@import \"extra.css\";\n" + CSS);
+            var cache = new CssThemeCache(dir.resolve("cache"), CssThemeCache.DEFAULT_MAX_BYTES);
+            CssLayerLoader.Result layers = CssLayerLoader.load(List.of(source));
+            assertEquals(List.of(dir.resolve("extra.css").toAbsolutePath().normalize()), layers.missing());
+            cache.store("k", layers, CssThemeLoader.loadFromString(CSS));
+            assertNotNull(cache.lookup("k"));
+
+            write("extra.css", ":root { --c: red; }");
+            assertNull(cache.lookup("k"));
+        }
+
+        @Test
+        @DisplayName("truncated entry is treated as a miss")
+        void truncatedEntry() throws IOException {
+            Path source = write("theme.css", CSS);
+            Path cacheDir = dir.resolve("cache");
+            var cache = new CssThemeCache(cacheDir, CssThemeCache.DEFAULT_MAX_BYTES);
+            cache.store("k", CssLayerLoader.load(List.of(source)), CssThemeLoader.loadFromString(CSS));
+
+            Path entry = cacheDir.resolve("k.dwctc");
+            List<String> lines = Files.readAllLines(entry);
+            Files.write(entry, lines.subList(0, lines.size() - 1));
+            assertNull(cache.lookup("k"));
+        }
+
+        @Test
+        @DisplayName("key changes with the layer list and the bundled theme")
+        void keyInputs() {
+            String k1 = CssThemeCache.key("a", List.of(Path.of("x.css")), null);
+            assertEquals(k1, CssThemeCache.key("a", List.of(Path.of("x.css")), null));
+            assertNotEquals(k1, CssThemeCache.key("b", List.of(Path.of("x.css")), null));
+            assertNotEquals(k1, CssThemeCache.key("a", List.of(Path.of("y.css")), null));
+        }
+    }
+
+    // ---- 3. Cleanup ----
+
+    @Nested
+    @DisplayName("Cleanup")
+    class Cleanup {
+
+        @Test
+        @DisplayName("least recently used entries are removed beyond the size cap")
+        void sizeCap() throws IOException {
+            Path source = write("theme.css", CSS);
+            Path cacheDir = dir.resolve("cache");
+            CssTokenMap tokens = CssThemeLoader.loadFromString(CSS);
+            new CssThemeCache(cacheDir, Long.MAX_VALUE).store("old", CssLayerLoader.load(List.of(source)), tokens);
+            Files.setLastModifiedTime(cacheDir.resolve("old.dwctc"), FileTime.fromMillis(1_000));
+            long entrySize = Files.size(cacheDir.resolve("old.dwctc"));
+
+            new CssThemeCache(cacheDir, entrySize + entrySize / 2).store("new", CssLayerLoader.load(List.of(source)), tokens);
+
+            assertFalse(Files.exists(cacheDir.resolve("old.dwctc")));
+            assertTrue(Files.exists(cacheDir.resolve("new.dwctc")));
+        }
+
+        @Test
+        @DisplayName("abandoned temporary files are removed")
+        void staleTemp() throws IOException {
+            Path cacheDir = Files.createDirectories(dir.resolve("cache"));
+            Path temp = Files.writeString(cacheDir.resolve("abc123.tmp"), "partial");
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(1_000));
+
+            new CssThemeCache(cacheDir, CssThemeCache.DEFAULT_MAX_BYTES).cleanup();
+            assertFalse(Files.exists(temp));
+        }
+    }
+
+    // ---- 4. Loader integration ----
+
+    @Nested
+    @DisplayName("CssThemeLoader integration")
+    class LoaderIntegration {
+
+        @Test
+        @DisplayName("second load is served from the cache and matches the first")
+        void loaderUsesCache() throws IOException {
+            Path source = write("override.css", ":root { --dwc-color-primary-50: #ff0000; }");
+            Path cacheDir = dir.resolve("cache");
+            System.setProperty("dwc.theme", source.toString());
+            System.setProperty(CssThemeCache.CACHE_DIR_PROPERTY, cacheDir.toString());
+
+            CssTokenMap first = CssThemeLoader.load();
+            try (Stream<Path> entries = Files.list(cacheDir)) {
+                assertEquals(1, entries.filter(p -> p.toString().endsWith(".dwctc")).count());
+            }
+            CssTokenMap second = CssThemeLoader.load();
+
+            assertEquals(first.size(), second.size());
+            assertEquals(Color.RED, second.getColor("--dwc-color-primary-50").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("no cache entry is written without an override")
+        void noOverrideNoEntry() {
+            Path cacheDir = dir.resolve("cache");
+            System.setProperty(CssThemeCache.CACHE_DIR_PROPERTY, cacheDir.toString());
+
+            CssThemeLoader.load();
+            assertFalse(Files.exists(cacheDir));
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+}
@@ -1,5 +1,8 @@
 package com.dwc.laf.css;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,6 +13,7 @@ import java.awt.Color;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -358,4 +362,39 @@ class CssThemeLoaderTest {
                     "Expected 200+ tokens from real theme, got: " + map.size());
         }
     }
+
+    // ---- Instrumentation ----
+
+    @Nested
+    @DisplayName("JFR instrumentation")
+    class Instrumentation {
+
+        @Test
+        @DisplayName("load emits dwc.ThemeLoad and one dwc.PipelineStage per stage")
+        void emitsEvents(@TempDir Path dir) throws IOException {
+            List<RecordedEvent> events;
+            try (var recording = new Recording()) {
+                recording.enable("dwc.ThemeLoad");
+                recording.enable("dwc.PipelineStage");
+                recording.start();
+                CssThemeLoader.load();
+                recording.stop();
+                Path file = dir.resolve("load.jfr");
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            }
+
+            List<RecordedEvent> loads = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("dwc.ThemeLoad")).toList();
+            assertEquals(1, loads.size());
+            assertTrue(loads.get(0).getInt("tokenCount") > 200);
+            assertTrue(loads.get(0).getLong("bytesRead") > 0);
+            assertFalse(loads.get(0).getBoolean("cacheHit"));
+
+            List<String> stages = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("dwc.PipelineStage"))
+                    .map(e -> e.getString("stage")).toList();
+            assertEquals(List.of("parse", "resolve", "calc", "type", "wrap"), stages);
+        }
+    }
 }
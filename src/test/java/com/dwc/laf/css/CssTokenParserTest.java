@@ -499,6 +499,45 @@ class CssTokenParserTest {
         }
     }
 
+    // ----------------------------------------------------------------
+    // @import extraction
+    // ----------------------------------------------------------------
+
+    @Nested
+    @DisplayName("@import extraction")
+    class ImportExtraction {
+
+        @Test
+        @DisplayName("extracts url(), quoted url() and bare string forms in order")
+        void allForms() {
+            var css = "@import url(\"a.css\");\n@import url(b.css);\n@import 'c.css' screen;\n"
+                    + ":root { --x: 1; }";
+            assertEquals(java.util.List.of("a.css", "b.css", "c.css"),
+                    CssTokenParser.parseImports(css));
+        }
+
+        @Test
+        @DisplayName("ignores commented-out imports")
+        void ignoresComments() {
+            var css = "/* @import 'skip.css'; */ @import 'keep.css';";
+            assertEquals(java.util.List.of("keep.css"), CssTokenParser.parseImports(css));
+        }
+
+        @Test
+        @DisplayName("import rules do not leak into declarations")
+        void importsNotDeclarations() {
+            var css = "@import 'a.css';\n:root { --x: 1; }";
+            assertEquals(Map.of("--x", "1"), CssTokenParser.parse(css));
+        }
+
+        @Test
+        @DisplayName("null and blank input yield no imports")
+        void nullInput() {
+            assertTrue(CssTokenParser.parseImports(null).isEmpty());
+            assertTrue(CssTokenParser.parseImports("  ").isEmpty());
+        }
+    }
+
     // ----------------------------------------------------------------
     // Helper
     // ----------------------------------------------------------------
@@ -0,0 +1,197 @@
+package com.dwc.laf.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.swing.JPanel;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DwcDiagnosticsRepaintManager")
+class DwcDiagnosticsRepaintManagerTest {
+
+    private static final long SECOND = DwcDiagnosticsRepaintManager.INTERVAL_NANOS;
+
+    private final DwcDiagnosticsRepaintManager manager = new DwcDiagnosticsRepaintManager(30);
+
+    /** A panel that reports itself as showing, as if realized in a window. */
+    private static final class ShowingPanel extends JPanel {
+        ShowingPanel(String name) {
+            setName(name);
+            setSize(100, 20);
+        }
+
+        @Override
+        public boolean isShowing() {
+            return true;
+        }
+    }
+
+    /** Records {@code count} repaints of {@code c} spread over the second starting at {@code start}. */
+    private void repaint(JPanel c, int count, long start) {
+        for (int i = 0; i < count; i++) {
+            manager.record(c, c.getWidth(), c.getHeight(), start + i * (SECOND / count));
+        }
+    }
+
+    // ---- 1. Detection ----
+
+    @Nested
+    @DisplayName("Detection")
+    class Detection {
+
+        @Test
+        @DisplayName("flags a showing component repainting above the threshold without input")
+        void flagsUnpromptedStorm() {
+            var hover = new ShowingPanel("hover");
+            repaint(hover, 60, 1);
+            manager.roll(1 + SECOND);
+
+            RepaintOffender offender = manager.offenders().get(0);
+            assertTrue(offender.isFlagged());
+            assertEquals(60, offender.getRepaintsPerSecond());
+            assertEquals(60L * 100 * 20, offender.getDirtyPixels());
+            assertEquals(1, offender.getFlaggedSeconds());
+            assertTrue(offender.getComponent().contains("[hover]"), offender.getComponent());
+        }
+
+        @Test
+        @DisplayName("does not flag a showing component repainting in response to input")
+        void inputPromptedRepaintsAreNotFlagged() {
+            var hover = new ShowingPanel("hover");
+            repaint(hover, 60, 1);
+            manager.inputEvent();
+            manager.roll(1 + SECOND);
+
+            RepaintOffender offender = manager.offenders().get(0);
+            assertFalse(offender.isFlagged());
+            assertEquals(60, offender.getPeakRepaintsPerSecond());
+        }
+
+        @Test
+        @DisplayName("flags a hidden component even while input arrives")
+        void hiddenRepaintsAreFlagged() {
+            var hiddenTab = new JPanel();
+            hiddenTab.setSize(200, 10);
+            repaint(hiddenTab, 40, 1);
+            manager.inputEvent();
+            manager.roll(1 + SECOND);
+
+            RepaintOffender offender = manager.offenders().get(0);
+            assertTrue(offender.isFlagged());
+            assertEquals(40, offender.getHiddenRepaints());
+        }
+
+        @Test
+        @DisplayName("does not flag repaints below the threshold")
+        void belowThreshold() {
+            repaint(new ShowingPanel("progress"), 20, 1);
+            manager.roll(1 + SECOND);
+            assertFalse(manager.offenders().get(0).isFlagged());
+        }
+
+        @Test
+        @DisplayName("clears the flag once the storm stops")
+        void flagClears() {
+            var hover = new ShowingPanel("hover");
+            repaint(hover, 60, 1);
+            manager.roll(1 + SECOND);
+            manager.roll(1 + 2 * SECOND);
+
+            RepaintOffender offender = manager.offenders().get(0);
+            assertFalse(offender.isFlagged());
+            assertEquals(0, offender.getRepaintsPerSecond());
+            assertEquals(1, offender.getFlaggedSeconds());
+        }
+    }
+
+    // ---- 2. Reporting ----
+
+    @Nested
+    @DisplayName("Reporting")
+    class Reporting {
+
+        @Test
+        @DisplayName("captures distinct repaint stacks only while flagged")
+        void capturesStacks() {
+            var hover = new ShowingPanel("hover");
+            repaint(hover, 60, 1);
+            assertTrue(manager.offenders().get(0).getStacks().isEmpty(), "not flagged yet");
+
+            manager.roll(1 + SECOND);
+            repaint(hover, 10, 1 + SECOND);
+            List<String> stacks = manager.offenders().get(0).getStacks();
+            assertEquals(1, stacks.size(), "repeated requests from one site are one stack");
+            assertTrue(stacks.get(0).contains("DwcDiagnosticsRepaintManagerTest"), stacks.get(0));
+            assertFalse(stacks.get(0).contains("DwcDiagnosticsRepaintManager.record"), stacks.get(0));
+        }
+
+        @Test
+        @DisplayName("orders flagged components first")
+        void flaggedFirst() {
+            var busy = new ShowingPanel("busy");
+            var hidden = new JPanel();
+            hidden.setName("hidden");
+            hidden.setSize(10, 10);
+            repaint(busy, 25, 1);
+            repaint(hidden, 30, 1);
+            manager.roll(1 + SECOND);
+
+            List<RepaintOffender> offenders = manager.offenders();
+            assertTrue(offenders.get(0).getComponent().contains("[hidden]"));
+            assertFalse(offenders.get(1).isFlagged());
+        }
+
+        @Test
+        @DisplayName("summary lists offenders and the threshold")
+        void summary() {
+            repaint(new ShowingPanel("hover"), 60, 1);
+            manager.roll(1 + SECOND);
+            String summary = manager.summary();
+            assertTrue(summary.contains("60 repaint requests, 1 components tracked, 1 flagged (>= 30/s)"), summary);
+            assertTrue(summary.contains("[hover]"), summary);
+        }
+
+        @Test
+        @DisplayName("is not installed unless dwc.repaintDiagnostics is set")
+        void disabledByDefault() {
+            assertFalse(DwcDiagnosticsRepaintManager.ENABLED, "tests run without -Ddwc.repaintDiagnostics");
+        }
+    }
+
+    // ---- 3. MXBean ----
+
+    @Nested
+    @DisplayName("MXBean")
+    class MXBean {
+
+        @Test
+        @DisplayName("offenders are exposed as open data")
+        void openData() throws Exception {
+            repaint(new ShowingPanel("hover"), 60, 1);
+            manager.roll(1 + SECOND);
+
+            var server = MBeanServerFactory.newMBeanServer();
+            var name = new ObjectName(DwcDiagnosticsRepaintManager.OBJECT_NAME);
+            server.registerMBean(new DwcDiagnosticsRepaintManager.Bean(manager), name);
+
+            CompositeData[] offenders = (CompositeData[]) server.getAttribute(name, "Offenders");
+            assertEquals(1, offenders.length);
+            assertEquals(true, offenders[0].get("flagged"));
+            assertEquals(60L, server.getAttribute(name, "TotalRepaints"));
+            assertEquals(1, server.getAttribute(name, "TrackedComponents"));
+
+            server.setAttribute(name, new Attribute("Threshold", 100));
+            assertEquals(100, server.getAttribute(name, "Threshold"));
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "TotalRepaints"));
+        }
+    }
+}
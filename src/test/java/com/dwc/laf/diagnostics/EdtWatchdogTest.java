@@ -0,0 +1,278 @@
+package com.dwc.laf.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import javax.swing.JButton;
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.InvocationEvent;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EdtWatchdog")
+class EdtWatchdogTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final EdtWatchdog watchdog = new EdtWatchdog(50, 1000);
+
+    private static AWTEvent event() {
+        return new InvocationEvent(Toolkit.getDefaultToolkit(), () -> { });
+    }
+
+    // ---- 1. Attribution ----
+
+    @Nested
+    @DisplayName("Attribution")
+    class Attribution {
+
+        @Test
+        @DisplayName("does not report a dispatch within the budget")
+        void fastFrame() {
+            watchdog.beginDispatch(event(), 0, -1);
+            watchdog.paint("DwcButtonUI", 1 * MS, 5 * MS);
+            watchdog.endDispatch(40 * MS);
+            assertTrue(watchdog.slowFrames().isEmpty());
+        }
+
+        @Test
+        @DisplayName("charges nested hooks their exclusive time")
+        void exclusiveTime() {
+            watchdog.beginDispatch(event(), 0, 3 * MS);
+            // DwcTableUI paints 10..40 ms, its renderer's DwcLabelUI 15..35 ms,
+            // and a FocusRingPainter inside the label 20..25 ms
+            watchdog.paint("FocusRingPainter", 20 * MS, 5 * MS);
+            watchdog.paint("DwcLabelUI", 15 * MS, 20 * MS);
+            watchdog.paint("DwcTableUI", 10 * MS, 30 * MS);
+            watchdog.paint("DwcScrollBarUI", 50 * MS, 4 * MS);
+            watchdog.endDispatch(100 * MS);
+
+            SlowFrame frame = watchdog.slowFrames().get(0);
+            assertEquals(100 * MS, frame.getDurationNanos());
+            assertEquals(3 * MS, frame.getLatencyNanos());
+            assertEquals(34 * MS, frame.getLafNanos(), "nested time must not be counted twice");
+            assertEquals(66 * MS, frame.getAppNanos());
+            assertEquals(4, frame.getPaints());
+            assertEquals(List.of("DwcLabelUI 15.0 ms x1", "DwcTableUI 10.0 ms x1",
+                    "FocusRingPainter 5.0 ms x1", "DwcScrollBarUI 4.0 ms x1"), frame.getBlame());
+        }
+
+        @Test
+        @DisplayName("sums repeated paints of one delegate")
+        void repeatedPaints() {
+            watchdog.beginDispatch(event(), 0, -1);
+            for (int i = 0; i < 40; i++) {
+                watchdog.paint("DwcLabelUI", i * 2 * MS, 2 * MS);
+            }
+            watchdog.endDispatch(90 * MS);
+            assertEquals(List.of("DwcLabelUI 80.0 ms x40"), watchdog.slowFrames().get(0).getBlame());
+        }
+
+        @Test
+        @DisplayName("ignores paints outside a dispatch and on other threads")
+        void ignoresForeignPaints() throws Exception {
+            watchdog.paint("DwcButtonUI", 0, 10 * MS);
+            watchdog.beginDispatch(event(), 0, -1);
+            Thread offscreen = new Thread(() -> watchdog.paint("DwcButtonUI", 1 * MS, 80 * MS));
+            offscreen.start();
+            offscreen.join();
+            watchdog.endDispatch(100 * MS);
+
+            SlowFrame frame = watchdog.slowFrames().get(0);
+            assertEquals(0, frame.getPaints());
+            assertEquals(100 * MS, frame.getAppNanos());
+        }
+
+        @Test
+        @DisplayName("ends a frame when its dispatch runs a nested event loop")
+        void nestedEventLoop() {
+            watchdog.beginDispatch(event(), 0, -1);
+            watchdog.beginDispatch(event(), 10 * MS, -1);
+            watchdog.endDispatch(20 * MS);
+            watchdog.endDispatch(5000 * MS);
+            assertTrue(watchdog.slowFrames().isEmpty(), "the modal wait is not a slow frame");
+        }
+
+        @Test
+        @DisplayName("keeps the most recent slow frames, newest first")
+        void boundedHistory() {
+            for (int i = 0; i < EdtWatchdog.MAX_SLOW_FRAMES + 5; i++) {
+                watchdog.beginDispatch(event(), 0, -1);
+                watchdog.endDispatch((60 + i) * MS);
+            }
+            List<SlowFrame> frames = watchdog.slowFrames();
+            assertEquals(EdtWatchdog.MAX_SLOW_FRAMES, frames.size());
+            assertEquals((60 + EdtWatchdog.MAX_SLOW_FRAMES + 4) * MS, frames.get(0).getDurationNanos());
+        }
+
+        @Test
+        @DisplayName("describes the dispatched event and its source")
+        void describesEvent() {
+            var button = new JButton();
+            button.setName("save");
+            watchdog.beginDispatch(new ActionEvent(button, ActionEvent.ACTION_PERFORMED, "save"), 0, -1);
+            watchdog.endDispatch(60 * MS);
+            String event = watchdog.slowFrames().get(0).getEvent();
+            assertTrue(event.startsWith("ActionEvent[ACTION_PERFORMED"), event);
+            assertTrue(event.endsWith(" on JButton[save]"), event);
+        }
+    }
+
+    // ---- 2. Measurement ----
+
+    @Nested
+    @DisplayName("Measurement")
+    class Measurement {
+
+        @Test
+        @DisplayName("derives queue latency from the event timestamp")
+        void latency() {
+            var event = new ActionEvent(new Object(), ActionEvent.ACTION_PERFORMED, "x", 1000, 0);
+            assertEquals(250 * MS, EdtWatchdog.latencyNanos(event, 1250));
+            assertEquals(-1, EdtWatchdog.latencyNanos(new ActionEvent(new Object(), 0, "x", 0, 0), 1250));
+            assertEquals(-1, EdtWatchdog.latencyNanos(new AWTEvent(new Object(), 0) { }, 1250));
+        }
+
+        @Test
+        @DisplayName("histograms roll over a sliding window")
+        void rollingWindow() {
+            var histogram = new RollingHistogram(60);
+            long second = RollingHistogram.SLOT_NANOS;
+            histogram.add(10 * MS, 0);
+            histogram.add(40 * MS, 30 * second);
+            histogram.add(2000 * MS, 30 * second);
+
+            Map<String, Long> counts = histogram.snapshot(30 * second);
+            assertEquals(1L, counts.get("<16ms"));
+            assertEquals(1L, counts.get("<50ms"));
+            assertEquals(1L, counts.get(">=1000ms"));
+            assertEquals(-1, histogram.percentileMillis(0.99, 30 * second));
+
+            counts = histogram.snapshot(60 * second);
+            assertEquals(0L, counts.get("<16ms"), "the first minute has left the window");
+            assertEquals(1L, counts.get("<50ms"));
+            assertEquals(50, histogram.percentileMillis(0.5, 60 * second));
+        }
+
+        @Test
+        @DisplayName("times dispatches through the watchdog event queue")
+        void watchdogQueue() throws Exception {
+            var queue = new EdtWatchdog.WatchdogQueue(watchdog);
+            queue.dispatchEvent(new InvocationEvent(this, () -> {
+                long start = System.nanoTime();
+                sleep(70);
+                watchdog.paint("DwcButtonUI", start, 20 * MS);
+            }));
+
+            SlowFrame frame = watchdog.slowFrames().get(0);
+            assertTrue(frame.getDurationNanos() >= 70 * MS, frame.toString());
+            assertEquals(20 * MS, frame.getLafNanos());
+            assertTrue(frame.getEvent().startsWith("InvocationEvent["), frame.getEvent());
+        }
+
+        @Test
+        @DisplayName("is not installed unless dwc.edtWatchdog is set")
+        void disabledByDefault() {
+            assertFalse(EdtWatchdog.ENABLED, "tests run without -Ddwc.edtWatchdog");
+        }
+    }
+
+    // ---- 3. Stalls ----
+
+    @Nested
+    @DisplayName("Stalls")
+    class Stalls {
+
+        @Test
+        @DisplayName("captures the EDT stack once per stalled dispatch")
+        void capturesStall() {
+            var bean = new EdtWatchdog.Bean(watchdog);
+            watchdog.beginDispatch(event(), 1, -1);
+            watchdog.checkStall(1 + 500 * MS);
+            assertEquals("", bean.getLastStall(), "below the stall threshold");
+
+            watchdog.checkStall(1 + 1500 * MS);
+            String stall = bean.getLastStall();
+            assertTrue(stall.startsWith("EDT blocked for 1500 ms dispatching java.awt.event.InvocationEvent"),
+                    stall);
+            assertTrue(stall.contains("in DWC com.dwc.laf.diagnostics.EdtWatchdogTest"), stall);
+            assertFalse(stall.contains("EdtWatchdog.checkStall"), stall);
+
+            watchdog.reset();
+            watchdog.checkStall(1 + 3000 * MS);
+            assertEquals("", bean.getLastStall(), "a stall is reported once");
+        }
+
+        @Test
+        @DisplayName("does not report an idle EDT")
+        void idle() {
+            watchdog.beginDispatch(event(), 1, -1);
+            watchdog.endDispatch(2);
+            watchdog.checkStall(5000 * MS);
+            assertEquals("", new EdtWatchdog.Bean(watchdog).getLastStall());
+        }
+    }
+
+    // ---- 4. MXBean ----
+
+    @Nested
+    @DisplayName("MXBean")
+    class MXBean {
+
+        @Test
+        @DisplayName("slow frames and histograms are exposed as open data")
+        void openData() throws Exception {
+            long now = System.nanoTime();
+            watchdog.beginDispatch(event(), now, 2 * MS);
+            watchdog.paint("DwcTableUI", now, 30 * MS);
+            watchdog.endDispatch(now + 80 * MS);
+            watchdog.beginDispatch(event(), now + 80 * MS, -1);
+            watchdog.endDispatch(now + 85 * MS);
+
+            var server = MBeanServerFactory.newMBeanServer();
+            var name = new ObjectName(EdtWatchdog.OBJECT_NAME);
+            server.registerMBean(new EdtWatchdog.Bean(watchdog), name);
+
+            CompositeData[] frames = (CompositeData[]) server.getAttribute(name, "SlowFrames");
+            assertEquals(1, frames.length);
+            assertEquals(30 * MS, frames[0].get("lafNanos"));
+            assertEquals(50 * MS, frames[0].get("appNanos"));
+            assertEquals(1L, server.getAttribute(name, "SlowFrameCount"));
+            assertEquals(30 * MS, server.getAttribute(name, "SlowFrameLafNanos"));
+            assertEquals(50 * MS, server.getAttribute(name, "SlowFrameAppNanos"));
+
+            TabularData dispatch = (TabularData) server.getAttribute(name, "DispatchHistogram");
+            assertEquals(1L, dispatch.get(new Object[] {"<8ms"}).get("value"));
+            assertEquals(1L, dispatch.get(new Object[] {"<100ms"}).get("value"));
+            TabularData paint = (TabularData) server.getAttribute(name, "PaintHistogram");
+            assertEquals(0L, paint.get(new Object[] {"<8ms"}).get("value"));
+            TabularData latency = (TabularData) server.getAttribute(name, "LatencyHistogram");
+            assertEquals(1L, latency.get(new Object[] {"<4ms"}).get("value"));
+
+            server.setAttribute(name, new Attribute("BudgetMillis", 100));
+            assertEquals(100, server.getAttribute(name, "BudgetMillis"));
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "SlowFrameCount"));
+            assertEquals(0, ((CompositeData[]) server.getAttribute(name, "SlowFrames")).length);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.dwc.laf.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PaintProfiler")
+class PaintProfilerTest {
+
+    @AfterEach
+    void reset() {
+        PaintProfiler.reset();
+    }
+
+    // ---- 1. Histogram ----
+
+    @Nested
+    @DisplayName("Histogram")
+    class Histogram {
+
+        @Test
+        @DisplayName("bucket midpoints stay within 25% of the recorded value")
+        void bucketResolution() {
+            for (long nanos = 4; nanos < 10_000_000_000L; nanos = nanos * 3 / 2 + 1) {
+                long value = PaintProfiler.bucketValue(PaintProfiler.bucket(nanos));
+                assertEquals(nanos, value, nanos * 0.25, "nanos=" + nanos);
+            }
+        }
+
+        @Test
+        @DisplayName("buckets are monotonic in duration")
+        void monotonic() {
+            int previous = -1;
+            for (long nanos = 0; nanos < 100_000; nanos += 7) {
+                int bucket = PaintProfiler.bucket(nanos);
+                assertTrue(bucket >= previous);
+                previous = bucket;
+            }
+        }
+
+        @Test
+        @DisplayName("p50 and p99 reflect the distribution")
+        void percentiles() {
+            for (int i = 0; i < 98; i++) {
+                PaintProfiler.add("DwcButtonUI", 10_000);
+            }
+            PaintProfiler.add("DwcButtonUI", 5_000_000);
+            PaintProfiler.add("DwcButtonUI", 5_000_000);
+
+            DelegatePaintStats stats = PaintProfiler.snapshot().get(0);
+            assertEquals("DwcButtonUI", stats.getDelegate());
+            assertEquals(100, stats.getCount());
+            assertEquals(10_000, stats.getP50Nanos(), 2_500);
+            assertEquals(5_000_000, stats.getP99Nanos(), 1_250_000);
+            assertEquals(5_000_000, stats.getMaxNanos());
+        }
+    }
+
+    // ---- 2. Aggregation ----
+
+    @Nested
+    @DisplayName("Aggregation")
+    class Aggregation {
+
+        @Test
+        @DisplayName("snapshot is ordered by total time")
+        void orderedByTotal() {
+            PaintProfiler.add("DwcLabelUI", 1_000);
+            PaintProfiler.add("DwcTableUI", 900_000);
+            List<DelegatePaintStats> stats = PaintProfiler.snapshot();
+            assertEquals("DwcTableUI", stats.get(0).getDelegate());
+            assertEquals("DwcLabelUI", stats.get(1).getDelegate());
+        }
+
+        @Test
+        @DisplayName("cache hit ratio counts hits over lookups")
+        void cacheRatio() {
+            PaintProfiler.countLookup("ShadowPainter", true);
+            PaintProfiler.countLookup("ShadowPainter", true);
+            PaintProfiler.countLookup("ShadowPainter", true);
+            PaintProfiler.countLookup("ShadowPainter", false);
+            assertEquals(0.75, PaintProfiler.cacheHitRatios().get("ShadowPainter"), 1e-9);
+        }
+
+        @Test
+        @DisplayName("record is a no-op unless dwc.paintProfile is set")
+        void disabledByDefault() {
+            assertFalse(PaintProfiler.ENABLED, "tests run without -Ddwc.paintProfile");
+            PaintProfiler.record("DwcButtonUI", null, null, System.nanoTime());
+            assertTrue(PaintProfiler.snapshot().isEmpty());
+        }
+    }
+
+    // ---- 3. MXBean ----
+
+    @Nested
+    @DisplayName("MXBean")
+    class MXBean {
+
+        @Test
+        @DisplayName("statistics are exposed as open data")
+        void openData() throws Exception {
+            PaintProfiler.add("DwcButtonUI", 20_000);
+            PaintProfiler.countLookup("ShadowPainter", true);
+
+            var server = MBeanServerFactory.newMBeanServer();
+            var name = new ObjectName(PaintProfiler.OBJECT_NAME);
+            server.registerMBean(new PaintProfiler.Bean(), name);
+
+            CompositeData[] stats = (CompositeData[]) server.getAttribute(name, "DelegateStats");
+            assertEquals(1, stats.length);
+            assertEquals("DwcButtonUI", stats[0].get("delegate"));
+            assertEquals(1L, stats[0].get("count"));
+            assertEquals(1L, server.getAttribute(name, "TotalPaints"));
+            assertEquals(1, ((TabularData) server.getAttribute(name, "CacheHitRatios")).size());
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "TotalPaints"));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.dwc.laf.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StartupReport")
+class StartupReportTest {
+
+    @AfterEach
+    void reset() {
+        StartupReport.reset();
+    }
+
+    @Test
+    @DisplayName("phases are listed longest first")
+    void sortedByDuration() {
+        StartupReport.add("theme/parse", 2_000_000);
+        StartupReport.add("defaults/05-button", 9_000_000);
+        StartupReport.add("theme/resolve", 4_000_000);
+
+        String table = StartupReport.format("Report");
+        int button = table.indexOf("defaults/05-button");
+        int resolve = table.indexOf("theme/resolve");
+        int parse = table.indexOf("theme/parse");
+        assertTrue(table.startsWith("Report"));
+        assertTrue(button > 0 && button < resolve && resolve < parse, table);
+        assertTrue(table.contains("9.00"), table);
+    }
+
+    @Test
+    @DisplayName("reset clears collected phases")
+    void resetClears() {
+        StartupReport.add("theme/parse", 1_000_000);
+        StartupReport.reset();
+        assertFalse(StartupReport.format("Report").contains("theme/parse"));
+    }
+
+    @Test
+    @DisplayName("record is a no-op unless dwc.startupReport is set")
+    void disabledByDefault() {
+        assertFalse(StartupReport.ENABLED, "tests run without -Ddwc.startupReport");
+        StartupReport.record("theme/parse", 1_000_000);
+        assertFalse(StartupReport.format("Report").contains("theme/parse"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.dwc.laf.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StressReport")
+class StressReportTest {
+
+    private static StressReport reportWithFrames(int count) {
+        var report = new StressReport();
+        report.begin();
+        for (int i = 1; i <= count; i++) {
+            report.recordFrame(i * 1_000_000L);
+        }
+        report.end();
+        return report;
+    }
+
+    @Test
+    @DisplayName("percentiles use the nearest rank")
+    void percentiles() {
+        var report = reportWithFrames(2000);
+        assertEquals(2000, report.frameCount(), "frame storage grows past its initial capacity");
+        assertEquals(1000_000_000L, report.percentile(50));
+        assertEquals(1980_000_000L, report.percentile(99));
+        assertEquals(2000_000_000L, report.percentile(100));
+        assertEquals(0, new StressReport().percentile(50));
+    }
+
+    @Test
+    @DisplayName("table lists frame times, EDT busy, GC and allocation")
+    void table() {
+        var report = reportWithFrames(10);
+        String table = report.format("Stress");
+        assertTrue(table.startsWith("Stress"), table);
+        for (String row : new String[] {"frames", "frame p50", "frame p99", "EDT busy", "GC", "EDT allocation"}) {
+            assertTrue(table.contains(row), row + " missing in " + table);
+        }
+        assertTrue(table.contains("5.00 ms"), table);
+    }
+
+    @Test
+    @DisplayName("JSON report is a single object with the same figures")
+    void json() {
+        var report = reportWithFrames(10);
+        report.recordBusy(1_000);
+        String json = report.toJson();
+        assertTrue(json.startsWith("{") && json.endsWith("}"), json);
+        assertTrue(json.contains("\"frames\": 10"), json);
+        assertTrue(json.contains("\"p50\": 5.000"), json);
+        assertTrue(json.contains("\"gcCount\": "), json);
+        assertTrue(json.contains("\"edtAllocatedBytes\": "), json);
+    }
+}
@@ -0,0 +1,63 @@
+package com.dwc.laf.painting;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CornerFillPainterTest {
+
+    @Test
+    void testParentBackgroundSkipsNonOpaqueAncestors() {
+        JPanel outer = new JPanel();
+        outer.setOpaque(true);
+        outer.setBackground(Color.RED);
+        JPanel inner = new JPanel();
+        inner.setOpaque(false);
+        inner.setBackground(Color.BLUE);
+        JButton button = new JButton();
+        outer.add(inner);
+        inner.add(button);
+
+        assertEquals(Color.RED, CornerFillPainter.parentBackground(button));
+    }
+
+    @Test
+    void testParentBackgroundUsesCardPanel() {
+        JPanel outer = new JPanel();
+        outer.setBackground(Color.RED);
+        JPanel card = new JPanel();
+        card.putClientProperty("dwc.panelStyle", "card");
+        card.setOpaque(false);
+        card.setBackground(Color.GREEN);
+        JButton button = new JButton();
+        outer.add(card);
+        card.add(button);
+
+        assertEquals(Color.GREEN, CornerFillPainter.parentBackground(button));
+    }
+
+    @Test
+    void testPaintParentBackgroundFillsBounds() {
+        JPanel parent = new JPanel();
+        parent.setBackground(Color.RED);
+        JButton button = new JButton();
+        parent.add(button);
+        button.setSize(20, 10);
+
+        BufferedImage img = new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        try {
+            CornerFillPainter.paintParentBackground(g, button);
+        } finally {
+            g.dispose();
+        }
+        assertEquals(Color.RED.getRGB(), img.getRGB(0, 0));
+        assertEquals(Color.RED.getRGB(), img.getRGB(19, 9));
+    }
+}
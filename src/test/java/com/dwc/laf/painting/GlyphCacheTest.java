@@ -0,0 +1,123 @@
+package com.dwc.laf.painting;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.plaf.basic.BasicGraphicsUtils;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.TextAttribute;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlyphCacheTest {
+
+    private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 13);
+
+    @BeforeEach
+    void enableCache() {
+        GlyphCache.clearCache();
+        GlyphCache.setEnabled(true);
+    }
+
+    @AfterEach
+    void restoreCache() {
+        GlyphCache.setEnabled(GlyphCache.ENABLED);
+        GlyphCache.clearCache();
+    }
+
+    private static BufferedImage render(boolean cached, String text, int mnemonicIndex) {
+        BufferedImage img = new BufferedImage(200, 30, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(FONT);
+        g.setColor(Color.BLACK);
+        if (cached) {
+            GlyphCache.drawString(null, g, text, mnemonicIndex, 5, 20);
+        } else {
+            BasicGraphicsUtils.drawStringUnderlineCharAt(g, text, mnemonicIndex, 5, 20);
+        }
+        g.dispose();
+        return img;
+    }
+
+    private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "Pixel at " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void testDrawString_matchesSwingRendering() {
+        assertSamePixels(render(false, "Save changes", 0), render(true, "Save changes", 0));
+        assertSamePixels(render(false, "Cancel", 3), render(true, "Cancel", 3));
+        assertSamePixels(render(false, "42%", -1), render(true, "42%", -1));
+    }
+
+    @Test
+    void testDrawString_cachesOncePerKey() {
+        for (int i = 0; i < 5; i++) {
+            render(true, "OK", -1);
+        }
+        assertEquals(1, GlyphCache.size(), "Repeated string should be laid out once");
+
+        render(true, "OK", 0);
+        assertEquals(2, GlyphCache.size(), "Mnemonic index is part of the key");
+    }
+
+    @Test
+    void testStringWidth_matchesFontMetrics() {
+        BufferedImage img = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        for (String s : new String[] {"A", "Label 17", "Wide WWW text", "iiiii"}) {
+            assertEquals(g.getFontMetrics(FONT).stringWidth(s), GlyphCache.stringWidth(g, FONT, s), s);
+        }
+        assertEquals(0, GlyphCache.stringWidth(g, FONT, ""));
+        g.dispose();
+    }
+
+    @Test
+    void testComplexText_isNotCached() {
+        assertFalse(GlyphCache.isSimple(FONT, "שלום"), "Hebrew is right-to-left");
+        assertFalse(GlyphCache.isSimple(FONT, "é"), "Combining marks need shaping");
+        assertFalse(GlyphCache.isSimple(FONT.deriveFont(Map.of(TextAttribute.KERNING, TextAttribute.KERNING_ON)),
+                "AV"), "Kerning needs TextLayout");
+        assertFalse(GlyphCache.isSimple(FONT, "Ж\u0483"), "Cyrillic combining marks need shaping");
+        assertFalse(GlyphCache.isSimple(FONT, "\u0489"), "Cyrillic combining marks need shaping");
+        assertTrue(GlyphCache.isSimple(FONT, "Straße Δ Ж\u0482\u048A"));
+
+        render(true, "שלום", -1);
+        assertEquals(0, GlyphCache.size());
+    }
+
+    @Test
+    void testDisabled_fallsBackToSwing() {
+        assertFalse(GlyphCache.ENABLED, "The cache is opt-in");
+        GlyphCache.setEnabled(false);
+
+        assertSamePixels(render(false, "Save changes", 0), render(true, "Save changes", 0));
+        BufferedImage img = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        assertEquals(g.getFontMetrics(FONT).stringWidth("OK"), GlyphCache.stringWidth(g, FONT, "OK"));
+        g.dispose();
+        assertEquals(0, GlyphCache.size());
+    }
+
+    @Test
+    void testCache_isBounded() {
+        BufferedImage img = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        for (int i = 0; i <= GlyphCache.CAPACITY; i++) {
+            GlyphCache.stringWidth(g, FONT, "Label " + i);
+        }
+        g.dispose();
+        assertEquals(GlyphCache.CAPACITY, GlyphCache.size());
+    }
+}
@@ -0,0 +1,87 @@
+package com.dwc.laf.painting;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IconRasterCacheTest {
+
+    @BeforeEach
+    @AfterEach
+    void clearCache() {
+        IconRasterCache.clearCache();
+    }
+
+    @Test
+    void testPaint_rendersOncePerKey() {
+        BufferedImage img = new BufferedImage(100, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        AtomicInteger renders = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            IconRasterCache.paint(g, i * 16, 2, 12, 12, "square", Color.RED, ig -> {
+                renders.incrementAndGet();
+                ig.setColor(Color.RED);
+                ig.fillRect(0, 0, 12, 12);
+            });
+        }
+        g.dispose();
+
+        assertEquals(1, renders.get(), "Raster should be rendered once and reused");
+        assertEquals(1, IconRasterCache.size());
+        assertEquals(Color.RED.getRGB(), img.getRGB(4 * 16 + 6, 8), "Cached raster should be drawn at each position");
+    }
+
+    @Test
+    void testPaint_colorAndScaleAreKeyed() {
+        BufferedImage img = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+
+        IconRasterCache.paint(g, 0, 0, 12, 12, "square", Color.RED, ig -> ig.fillRect(0, 0, 12, 12));
+        IconRasterCache.paint(g, 0, 0, 12, 12, "square", Color.BLUE, ig -> ig.fillRect(0, 0, 12, 12));
+        g.scale(2, 2);
+        IconRasterCache.paint(g, 0, 0, 12, 12, "square", Color.BLUE, ig -> ig.fillRect(0, 0, 12, 12));
+        g.dispose();
+
+        assertEquals(3, IconRasterCache.size());
+    }
+
+    @Test
+    void testPaint_hiDpiRasterCoversScaledArea() {
+        BufferedImage img = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.scale(2, 2);
+
+        IconRasterCache.paint(g, 2, 2, 12, 12, "square", Color.GREEN, ig -> {
+            ig.setColor(Color.GREEN);
+            ig.fillRect(0, 0, 12, 12);
+        });
+        g.dispose();
+
+        assertEquals(Color.GREEN.getRGB(), img.getRGB(4, 4));
+        assertEquals(Color.GREEN.getRGB(), img.getRGB(27, 27));
+        assertEquals(0, img.getRGB(29, 29) >>> 24, "Nothing should be drawn outside the icon");
+    }
+
+    @Test
+    void testPaint_rotatedContextPaintsDirectly() {
+        BufferedImage img = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.rotate(Math.PI / 4, 20, 20);
+        AtomicInteger renders = new AtomicInteger();
+
+        IconRasterCache.paint(g, 14, 14, 12, 12, "square", Color.RED, ig -> renders.incrementAndGet());
+        IconRasterCache.paint(g, 14, 14, 12, 12, "square", Color.RED, ig -> renders.incrementAndGet());
+        g.dispose();
+
+        assertEquals(2, renders.get(), "Rotated contexts should bypass the cache");
+        assertEquals(0, IconRasterCache.size());
+    }
+}
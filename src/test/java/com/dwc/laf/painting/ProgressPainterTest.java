@@ -0,0 +1,91 @@
+package com.dwc.laf.painting;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgressPainterTest {
+
+    private static final Color TRACK = new Color(220, 220, 220);
+    private static final Color FILL = new Color(0, 90, 200);
+
+    @Test
+    void testPaintDeterminate_halfFill() {
+        BufferedImage img = paint(200, 20, true, 100);
+
+        assertEquals(FILL.getRGB(), img.getRGB(50, 10), "Left half should be filled");
+        assertEquals(TRACK.getRGB(), img.getRGB(150, 10), "Right half should show the track");
+    }
+
+    @Test
+    void testPaintDeterminate_fullFillStaysInsideTrack() {
+        BufferedImage img = paint(200, 20, true, 200);
+
+        assertEquals(FILL.getRGB(), img.getRGB(100, 10));
+        assertEquals(0, img.getRGB(0, 0) >>> 24, "Rounded corner should stay transparent");
+        assertEquals(0, img.getRGB(199, 19) >>> 24, "Rounded corner should stay transparent");
+    }
+
+    @Test
+    void testPaintDeterminate_shortFillFollowsTrackCurve() {
+        // Fill shorter than the corner arc: painted as the track clipped to the fill rectangle
+        BufferedImage img = paint(200, 20, true, 6);
+
+        assertEquals(0, img.getRGB(0, 0) >>> 24, "Corner outside the track should stay transparent");
+        assertEquals(FILL.getRGB(), img.getRGB(4, 10), "Sliver inside the track should be filled");
+        assertEquals(TRACK.getRGB(), img.getRGB(10, 10), "Nothing should be filled past the fill length");
+    }
+
+    @Test
+    void testPaintDeterminate_verticalFillsFromBottom() {
+        BufferedImage img = paint(20, 200, false, 100);
+
+        assertEquals(FILL.getRGB(), img.getRGB(10, 150), "Bottom half should be filled");
+        assertEquals(TRACK.getRGB(), img.getRGB(10, 50), "Top half should show the track");
+    }
+
+    @Test
+    void testPaintBar_boxInsideTrack() {
+        BufferedImage img = new BufferedImage(200, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        ProgressPainter.paintBar(g, 0, 0, 200, 20, 999, TRACK, FILL, true, 80, 40);
+        g.dispose();
+
+        assertEquals(TRACK.getRGB(), img.getRGB(70, 10));
+        assertEquals(FILL.getRGB(), img.getRGB(100, 10));
+        assertEquals(TRACK.getRGB(), img.getRGB(130, 10));
+    }
+
+    @Test
+    void testPaintBar_restoresClip() {
+        BufferedImage img = new BufferedImage(200, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setClip(10, 0, 150, 20);
+        ProgressPainter.paintDeterminate(g, 0, 0, 200, 20, 999, TRACK, FILL, true, 5);
+        assertEquals(new Rectangle(10, 0, 150, 20), g.getClipBounds());
+        g.dispose();
+    }
+
+    @Test
+    void testContrastTextColor() {
+        assertEquals(Color.WHITE, ProgressPainter.contrastTextColor(FILL));
+        assertEquals(Color.BLACK, ProgressPainter.contrastTextColor(TRACK));
+        assertEquals(Color.BLACK, ProgressPainter.contrastTextColor(new Color(255, 193, 7)));
+    }
+
+    private static BufferedImage paint(int width, int height, boolean horizontal, int amountFull) {
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        try {
+            ProgressPainter.paintDeterminate(g, 0, 0, width, height, 999, TRACK, FILL, horizontal, amountFull);
+        } finally {
+            g.dispose();
+        }
+        return img;
+    }
+}
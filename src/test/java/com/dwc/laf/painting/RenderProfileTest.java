@@ -0,0 +1,101 @@
+package com.dwc.laf.painting;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderProfileTest {
+
+    @AfterEach
+    void tearDown() {
+        RenderProfile.setCurrent(RenderProfile.FULL);
+        ShadowPainter.clearCache();
+    }
+
+    @Test
+    void testDefaultIsFull() {
+        assertEquals(RenderProfile.FULL, RenderProfile.current(), "tests run without -Ddwc.renderProfile");
+        assertEquals(RenderProfile.FULL, RenderProfile.fromProperty(null, Map.of("DISPLAY", "localhost:10.0")),
+                "Remote sessions are only detected with dwc.renderProfile=auto");
+    }
+
+    @Test
+    void testFromProperty() {
+        assertEquals(RenderProfile.REMOTE, RenderProfile.fromProperty("remote", Map.of()));
+        assertEquals(RenderProfile.REMOTE, RenderProfile.fromProperty(" Remote ", Map.of()));
+        assertEquals(RenderProfile.FULL, RenderProfile.fromProperty("full", Map.of()));
+        assertEquals(RenderProfile.FULL, RenderProfile.fromProperty("bogus", Map.of()));
+        assertEquals(RenderProfile.FULL, RenderProfile.fromProperty("auto", Map.of("DISPLAY", ":0")));
+        assertEquals(RenderProfile.REMOTE, RenderProfile.fromProperty("auto", Map.of("DISPLAY", "localhost:10.0")));
+    }
+
+    @Test
+    void testDetect_remoteSessions() {
+        assertEquals(RenderProfile.REMOTE, RenderProfile.detect(Map.of("SESSIONNAME", "RDP-Tcp#3")));
+        assertEquals(RenderProfile.REMOTE, RenderProfile.detect(Map.of("XRDP_SESSION", "1")));
+        assertEquals(RenderProfile.REMOTE, RenderProfile.detect(Map.of("VNCDESKTOP", "host:1 (user)")));
+        assertEquals(RenderProfile.REMOTE, RenderProfile.detect(Map.of("DISPLAY", "workstation:0.0")));
+        assertEquals(RenderProfile.REMOTE, RenderProfile.detect(
+                Map.of("DISPLAY", ":10", "SSH_CONNECTION", "10.0.0.5 50000 10.0.0.9 22")));
+    }
+
+    @Test
+    void testDetect_localSessions() {
+        assertEquals(RenderProfile.FULL, RenderProfile.detect(Map.of()));
+        assertEquals(RenderProfile.FULL, RenderProfile.detect(Map.of("SESSIONNAME", "Console")));
+        assertEquals(RenderProfile.FULL, RenderProfile.detect(Map.of("DISPLAY", ":0")));
+        assertEquals(RenderProfile.FULL, RenderProfile.detect(Map.of("DISPLAY", "unix:0")));
+        assertEquals(RenderProfile.FULL, RenderProfile.detect(
+                Map.of("DISPLAY", "/private/tmp/com.apple.launchd.x/org.xquartz:0")));
+        assertEquals(RenderProfile.FULL, RenderProfile.detect(
+                Map.of("SSH_CONNECTION", "10.0.0.5 50000 10.0.0.9 22")), "SSH without a display");
+    }
+
+    @Test
+    void testRemote_paintingHintsDisableAntialiasing() {
+        RenderProfile.setCurrent(RenderProfile.REMOTE);
+        Graphics2D g = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        Object[] saved = PaintUtils.setupPaintingHints(g);
+        assertEquals(RenderingHints.VALUE_ANTIALIAS_OFF, g.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+        assertEquals(RenderingHints.VALUE_STROKE_NORMALIZE, g.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL));
+        PaintUtils.restorePaintingHints(g, saved);
+        g.dispose();
+    }
+
+    @Test
+    void testRemote_roundedShapesSnapToPixels() {
+        RenderProfile.setCurrent(RenderProfile.REMOTE);
+        Shape shape = PaintUtils.createRoundedShape(1.4f, 2.6f, 99.5f, 30.2f, 7.6f);
+        RoundRectangle2D rr = assertInstanceOf(RoundRectangle2D.class, shape);
+        assertEquals(new Rectangle2D.Float(1, 3, 100, 30), rr.getBounds2D());
+        assertEquals(8, rr.getArcWidth());
+
+        RenderProfile.setCurrent(RenderProfile.FULL);
+        assertEquals(1.4f, (float) PaintUtils.createRoundedShape(1.4f, 2.6f, 99.5f, 30.2f, 7.6f).getBounds2D().getX());
+    }
+
+    @Test
+    void testRemote_noShadow() {
+        RenderProfile.setCurrent(RenderProfile.REMOTE);
+        BufferedImage img = new BufferedImage(250, 150, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        ShadowPainter.paintShadow(g, 50, 30, 100, 40, 8, 5, 2, 2, new Color(0, 0, 0, 128));
+        g.dispose();
+
+        for (int x = 0; x < img.getWidth(); x++) {
+            for (int y = 0; y < img.getHeight(); y++) {
+                assertEquals(0, img.getRGB(x, y) >>> 24, "No shadow pixels under the remote profile");
+            }
+        }
+    }
+}
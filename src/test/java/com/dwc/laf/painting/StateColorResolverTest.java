@@ -166,4 +166,14 @@ class StateColorResolverTest {
         g.dispose();
         g2.dispose();
     }
+
+    @Test
+    void testBlend_appliesOpacityAndAlpha() {
+        Color blended = StateColorResolver.blend(new Color(0, 0, 255, 102), Color.WHITE, 1f);
+        assertEquals(new Color(153, 153, 255), blended);
+        assertEquals(255, blended.getAlpha());
+
+        assertEquals(new Color(128, 128, 128), StateColorResolver.blend(Color.BLACK, Color.WHITE, 0.5f));
+        assertEquals(Color.WHITE, StateColorResolver.blend(Color.BLACK, Color.WHITE, -1f));
+    }
 }
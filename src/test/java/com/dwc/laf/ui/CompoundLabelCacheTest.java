@@ -0,0 +1,113 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.DwcLookAndFeel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.LookAndFeel;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.plaf.basic.BasicGraphicsUtils;
+import java.awt.Dimension;
+import java.awt.FontMetrics;
+import java.awt.Rectangle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CompoundLabelCache} verifying that cached layouts match
+ * {@link SwingUtilities#layoutCompoundLabel}, that changed inputs miss, and
+ * that the button preferred size is unchanged by the cache.
+ */
+class CompoundLabelCacheTest {
+
+    private LookAndFeel previousLaf;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        previousLaf = UIManager.getLookAndFeel();
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        UIManager.setLookAndFeel(previousLaf);
+    }
+
+    private static String layout(CompoundLabelCache cache, JLabel label, String text, int width,
+            Rectangle iconR, Rectangle textR) {
+        FontMetrics fm = label.getFontMetrics(label.getFont());
+        return cache.layout(label, fm, text, null,
+                SwingConstants.CENTER, SwingConstants.LEADING,
+                SwingConstants.CENTER, SwingConstants.TRAILING,
+                new Rectangle(0, 0, width, 20), iconR, textR, 4);
+    }
+
+    @Test
+    void testHitReturnsSameLayoutAsSwing() {
+        JLabel label = new JLabel();
+        CompoundLabelCache cache = new CompoundLabelCache(2);
+        String text = "A fairly long label that will not fit";
+
+        Rectangle expectedIcon = new Rectangle();
+        Rectangle expectedText = new Rectangle();
+        String expected = SwingUtilities.layoutCompoundLabel(label,
+                label.getFontMetrics(label.getFont()), text, null,
+                SwingConstants.CENTER, SwingConstants.LEADING,
+                SwingConstants.CENTER, SwingConstants.TRAILING,
+                new Rectangle(0, 0, 60, 20), expectedIcon, expectedText, 4);
+
+        for (int i = 0; i < 2; i++) {
+            Rectangle iconR = new Rectangle();
+            Rectangle textR = new Rectangle();
+            assertEquals(expected, layout(cache, label, text, 60, iconR, textR),
+                    "Clipped text, pass " + i);
+            assertEquals(expectedIcon, iconR);
+            assertEquals(expectedText, textR);
+        }
+        assertTrue(expected.endsWith("..."), "Text should have been clipped");
+    }
+
+    @Test
+    void testChangedInputsMiss() {
+        JLabel label = new JLabel();
+        CompoundLabelCache cache = new CompoundLabelCache(2);
+        Rectangle textR = new Rectangle();
+
+        layout(cache, label, "Short", 200, new Rectangle(), textR);
+        int shortWidth = textR.width;
+        layout(cache, label, "Much longer text", 200, new Rectangle(), textR);
+        assertTrue(textR.width > shortWidth, "New text must be measured again");
+
+        assertEquals("Much longer text", layout(cache, label, "Much longer text", 400,
+                new Rectangle(), textR), "Resized view lays out again");
+        assertEquals("Short", layout(cache, label, "Short", 200, new Rectangle(), textR));
+        assertEquals(shortWidth, textR.width);
+    }
+
+    @Test
+    void testButtonPreferredSizeMatchesBasicLayout() {
+        JButton button = new JButton("A wide button label");
+        Dimension basic = BasicGraphicsUtils.getPreferredButtonSize(button, button.getIconTextGap());
+        Dimension dwc = button.getPreferredSize();
+
+        assertEquals(Math.max(basic.width, 72), dwc.width);
+        assertEquals(Math.max(basic.height, 36), dwc.height);
+
+        button.setText("Short");
+        assertTrue(button.getPreferredSize().width < dwc.width,
+                "Text change must not be answered from the cache");
+    }
+
+    @Test
+    void testCachePerComponent() {
+        JLabel a = new JLabel("a");
+        JLabel b = new JLabel("b");
+        assertSame(CompoundLabelCache.of(a), CompoundLabelCache.of(a));
+        assertNotSame(CompoundLabelCache.of(a), CompoundLabelCache.of(b));
+    }
+}
@@ -0,0 +1,126 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.DwcLookAndFeel;
+import com.dwc.laf.painting.PaintUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DisabledColors} verifying that theme colors are blended
+ * once per theme generation, that unknown backgrounds fall back to
+ * compositing, and that the blended fill paints the pixels of a composited one.
+ */
+class DisabledColorsTest {
+
+    private LookAndFeel previousLaf;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        previousLaf = UIManager.getLookAndFeel();
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        UIManager.put("Component.disabledOpacity", null);
+        UIManager.setLookAndFeel(previousLaf);
+    }
+
+    @Test
+    void testThemeColorsBlendedAtThemeBuild() {
+        DisabledColors palette = DisabledColors.current();
+        int built = palette.size();
+        assertTrue(built > 0, "Theme colors are blended when the palette is built");
+
+        Color panel = UIManager.getColor("Panel.background");
+        Color blended = palette.over(UIManager.getColor("Button.background"), panel);
+        assertEquals(255, blended.getAlpha());
+        assertSame(blended, palette.over(UIManager.getColor("Button.background"), panel));
+        assertEquals(built, palette.size(), "Theme color over the panel background is not blended again");
+        assertSame(palette, DisabledColors.current(), "Palette shared within a theme generation");
+    }
+
+    @Test
+    void testOpacityChangeStartsNewPalette() {
+        DisabledColors first = DisabledColors.current();
+        UIManager.put("Component.disabledOpacity", 0.5f);
+        DisabledColors second = DisabledColors.current();
+        assertNotSame(first, second);
+        assertEquals(0.5f, second.opacity());
+        assertEquals(new Color(128, 128, 128), second.over(Color.WHITE, Color.BLACK));
+    }
+
+    @Test
+    void testUnknownBackgroundNotBlended() {
+        DisabledColors palette = DisabledColors.current();
+        assertNull(palette.over(Color.RED, null));
+        assertNull(palette.over(Color.RED, new Color(255, 255, 255, 128)));
+        assertNull(palette.over(null, Color.WHITE));
+    }
+
+    @Test
+    void testCacheBounded() {
+        DisabledColors palette = DisabledColors.current();
+        for (int i = 0; i < DisabledColors.MAX_CACHED * 2; i++) {
+            assertNotNull(palette.over(new Color(i), Color.WHITE));
+        }
+        assertEquals(DisabledColors.MAX_CACHED, palette.size());
+    }
+
+    @Test
+    void testBeneathUsesOpaqueAncestor() {
+        JPanel parent = new JPanel(null);
+        parent.setBackground(Color.ORANGE);
+        JButton button = new JButton();
+        parent.add(button);
+        assertEquals(Color.ORANGE, DisabledColors.beneath(button));
+        button.setOpaque(true);
+        button.setBackground(Color.CYAN);
+        assertEquals(Color.CYAN, DisabledColors.beneath(button));
+    }
+
+    @Test
+    void testBlendedFillMatchesCompositedFill() {
+        Color under = UIManager.getColor("Panel.background");
+        Color color = UIManager.getColor("Button.background");
+        DisabledColors palette = DisabledColors.current();
+
+        BufferedImage composited = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = composited.createGraphics();
+        g.setColor(under);
+        g.fillRect(0, 0, 40, 20);
+        g.setComposite(AlphaComposite.SrcOver.derive(palette.opacity()));
+        PaintUtils.paintRoundedBackground(g, 0, 0, 40, 20, 8, color);
+        g.dispose();
+
+        BufferedImage blended = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+        g = blended.createGraphics();
+        g.setColor(under);
+        g.fillRect(0, 0, 40, 20);
+        PaintUtils.paintRoundedBackground(g, 0, 0, 40, 20, 8, palette.over(color, under));
+        g.dispose();
+
+        for (int x = 0; x < 40; x++) {
+            for (int y = 0; y < 20; y++) {
+                int a = composited.getRGB(x, y);
+                int b = blended.getRGB(x, y);
+                for (int shift = 0; shift < 24; shift += 8) {
+                    assertTrue(Math.abs((a >> shift & 0xFF) - (b >> shift & 0xFF)) <= 1,
+                            "Pixel " + x + "," + y + ": " + Integer.toHexString(a) + " vs " + Integer.toHexString(b));
+                }
+            }
+        }
+    }
+}
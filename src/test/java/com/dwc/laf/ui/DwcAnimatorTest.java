@@ -0,0 +1,197 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.DwcLookAndFeel;
+import com.dwc.laf.painting.RenderProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.LookAndFeel;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DwcAnimator} verifying color transitions, the shared tick,
+ * suspension of hidden components, and the indeterminate progress bar
+ * animation driven by the shared timer.
+ */
+class DwcAnimatorTest {
+
+    private static final long MS = 1_000_000L;
+
+    private LookAndFeel previousLaf;
+    private final List<DwcAnimator.Animation> started = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        previousLaf = UIManager.getLookAndFeel();
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        started.forEach(DwcAnimator::stop);
+        UIManager.setLookAndFeel(previousLaf);
+    }
+
+    /** A panel that reports itself as showing, so its animations are not suspended. */
+    private static final class ShowingPanel extends JPanel {
+        boolean showing = true;
+
+        ShowingPanel() {
+            setSize(100, 40);
+        }
+
+        @Override
+        public boolean isShowing() {
+            return showing;
+        }
+    }
+
+    /** Exposes the animation frame of the progress bar delegate. */
+    private static final class IndexUI extends DwcProgressBarUI {
+        int index() {
+            return getAnimationIndex();
+        }
+
+        int frames() {
+            return getFrameCount();
+        }
+    }
+
+    @Test
+    void testFirstColorReturnsTarget() {
+        JPanel panel = new ShowingPanel();
+        assertEquals(Color.RED, DwcAnimator.color(panel, "bg", Color.RED, 150, 0));
+        assertEquals(Color.RED, DwcAnimator.color(panel, "bg", Color.RED, 150, 50 * MS));
+    }
+
+    @Test
+    void testColorTransitionsOverDuration() {
+        JPanel panel = new ShowingPanel();
+        Color from = new Color(0, 0, 0);
+        Color to = new Color(200, 100, 0);
+        DwcAnimator.color(panel, "bg", from, 100, 0);
+
+        assertEquals(from, DwcAnimator.color(panel, "bg", to, 100, 0),
+                "Transition should start at the color currently shown");
+        Color mid = DwcAnimator.color(panel, "bg", to, 100, 50 * MS);
+        assertEquals(100, mid.getRed(), "Ease-in-out is halfway at half the duration");
+        assertEquals(50, mid.getGreen());
+        assertEquals(to, DwcAnimator.color(panel, "bg", to, 100, 100 * MS));
+        assertEquals(1, DwcAnimator.activeCount(), "Running transition is registered");
+
+        DwcAnimator.tick(100 * MS);
+        assertEquals(0, DwcAnimator.activeCount(), "Finished transition is unregistered");
+    }
+
+    @Test
+    void testHiddenComponentSwitchesInstantly() {
+        JPanel panel = new JPanel();
+        DwcAnimator.color(panel, "bg", Color.BLACK, 150, 0);
+        assertEquals(Color.WHITE, DwcAnimator.color(panel, "bg", Color.WHITE, 150, 0));
+        assertEquals(0, DwcAnimator.activeCount());
+    }
+
+    @Test
+    void testRemoteRenderProfileSwitchesInstantly() {
+        ShowingPanel panel = new ShowingPanel();
+        RenderProfile.setCurrent(RenderProfile.REMOTE);
+        try {
+            DwcAnimator.color(panel, "bg", Color.BLACK, 150, 0);
+            assertEquals(Color.WHITE, DwcAnimator.color(panel, "bg", Color.WHITE, 150, 0));
+            assertEquals(0, DwcAnimator.activeCount(), "No transition runs under the remote profile");
+        } finally {
+            RenderProfile.setCurrent(RenderProfile.FULL);
+        }
+    }
+
+    @Test
+    void testInterpolateIncludesAlpha() {
+        Color clear = new Color(0x11223344 & 0x00FFFFFF, true);
+        Color opaque = new Color(0x223344);
+        Color mid = DwcAnimator.interpolate(clear, opaque, 0.5f);
+        assertEquals(128, mid.getAlpha());
+        assertEquals(0x22, mid.getRed());
+    }
+
+    @Test
+    void testOneTickAdvancesAllAnimations() throws Exception {
+        int[] ticks = new int[1];
+        // On the EDT, so the running shared timer cannot tick in between
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 0; i < 50; i++) {
+                DwcAnimator.Animation a = now -> ++ticks[0] > 0;
+                started.add(a);
+                DwcAnimator.start(new ShowingPanel(), a);
+            }
+            assertEquals(50, DwcAnimator.activeCount());
+
+            DwcAnimator.tick(0);
+            assertEquals(50, ticks[0], "One tick advances all fifty animations");
+        });
+    }
+
+    @Test
+    void testHiddenComponentAnimationIsSuspended() {
+        int[] ticks = new int[1];
+        DwcAnimator.Animation a = now -> ++ticks[0] > 0;
+        started.add(a);
+        DwcAnimator.start(new JPanel(), a);
+
+        DwcAnimator.tick(0);
+        assertEquals(0, ticks[0], "Animation of a hidden component must not run");
+        assertEquals(1, DwcAnimator.activeCount(), "Suspended animation stays registered until stopped");
+        assertTrue(DwcAnimator.isSuspended(new JPanel()));
+        assertFalse(DwcAnimator.isSuspended(new ShowingPanel()));
+    }
+
+    @Test
+    void testHiddenComponentTransitionIsDropped() {
+        ShowingPanel panel = new ShowingPanel();
+        DwcAnimator.color(panel, "bg", Color.BLACK, 150, 0);
+        DwcAnimator.color(panel, "bg", Color.WHITE, 150, 0);
+        assertEquals(1, DwcAnimator.activeCount(), "Running transition is registered");
+
+        // E.g. the dialog is disposed during a hover transition
+        panel.showing = false;
+        DwcAnimator.tick(50 * MS);
+        assertEquals(0, DwcAnimator.activeCount(), "Transition of a hidden component must not stay registered");
+        assertEquals(Color.WHITE, DwcAnimator.color(panel, "bg", Color.WHITE, 150, 60 * MS),
+                "Dropped transition ends at its target");
+    }
+
+    @Test
+    void testIndeterminateProgressUsesSharedTimer() {
+        JProgressBar pb = new JProgressBar() {
+            @Override
+            public boolean isShowing() {
+                return true;
+            }
+        };
+        IndexUI ui = new IndexUI();
+        pb.setUI(ui);
+        pb.setSize(200, 8);
+        pb.setIndeterminate(true);
+        int before = DwcAnimator.activeCount();
+
+        ui.startAnimationTimer();
+        assertEquals(before + 1, DwcAnimator.activeCount());
+
+        int index = ui.index();
+        DwcAnimator.tick(0);
+        DwcAnimator.tick(120 * MS);
+        assertEquals((index + 2) % ui.frames(), ui.index(),
+                "Two 50 ms repaint intervals elapsed");
+
+        ui.stopAnimationTimer();
+        assertEquals(before, DwcAnimator.activeCount());
+    }
+}
@@ -1,13 +1,16 @@
 package com.dwc.laf.ui;
 
 import com.dwc.laf.DwcLookAndFeel;
+import com.dwc.laf.painting.StateColorResolver;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.swing.JButton;
+import javax.swing.JPanel;
 import javax.swing.LookAndFeel;
 import javax.swing.UIManager;
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
@@ -246,4 +249,94 @@ class DwcButtonUITest {
         assertNotEquals(defaultPixel, successPixel,
                 "Success variant button should render with different colors than default variant");
     }
+
+    @Test
+    void testOpaqueCornersModePaintsParentInCorners() {
+        UIManager.put("Component.opaqueCorners", Boolean.TRUE);
+        try {
+            JPanel parent = new JPanel();
+            parent.setBackground(Color.RED);
+            JButton button = new JButton("OK");
+            parent.add(button);
+            button.setSize(100, 40);
+            assertTrue(button.isOpaque(), "Button stays opaque in opaque-corners mode");
+
+            BufferedImage img = new BufferedImage(100, 40, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = img.createGraphics();
+            try {
+                button.getUI().update(g2, button);
+            } finally {
+                g2.dispose();
+            }
+            assertEquals(Color.RED.getRGB(), img.getRGB(0, 0), "Corner shows the parent background");
+            assertNotEquals(Color.RED.getRGB(), img.getRGB(50, 20), "Center shows the button background");
+        } finally {
+            UIManager.put("Component.opaqueCorners", null);
+        }
+    }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JButton button = new JButton("OK");
+        button.setSize(100, 36);
+        var g = new RecordingGraphics2D(new BufferedImage(100, 36, BufferedImage.TYPE_INT_ARGB));
+        button.paint(g);
+
+        // Background and border are one antialiased fill each; no Area geometry
+        assertTrue(g.fills() <= 2, "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertEquals(1, g.count("drawString") + g.count("drawGlyphVector"), g.summary());
+        assertTrue(g.antialiasedArea() <= 2L * 100 * 36, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 4, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("clip") <= 1, "Clip changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 8, "Hint changes over budget: " + g.summary());
+    }
+
+    @Test
+    void testDisabledPaintStaysWithinOperationBudget() {
+        JButton button = new JButton("OK");
+        button.setEnabled(false);
+        button.setSize(100, 36);
+        var g = new RecordingGraphics2D(new BufferedImage(100, 36, BufferedImage.TYPE_INT_ARGB));
+        button.paint(g);
+
+        // Reduced opacity is pre-blended into opaque colors: no extra fills, no compositing
+        assertTrue(g.fills() <= 2, "Fills over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+    }
+
+    @Test
+    void testDisabledPaintUsesPreBlendedColors() {
+        JButton button = new JButton("OK");
+        button.setEnabled(false);
+        button.setSize(100, 36);
+        var g = new RecordingGraphics2D(new BufferedImage(100, 36, BufferedImage.TYPE_INT_ARGB));
+        button.paint(g);
+
+        Color expected = StateColorResolver.blend(UIManager.getColor("Button.background"),
+                UIManager.getColor("Panel.background"), 0.6f);
+        assertEquals(expected, g.ops("fill").get(0).color(), g.summary());
+        var textOps = g.ops("drawGlyphVector").isEmpty() ? g.ops("drawString") : g.ops("drawGlyphVector");
+        Color text = textOps.get(0).color();
+        assertEquals(255, text.getAlpha(), g.summary());
+        assertNotEquals(UIManager.getColor("Button.disabledText"), text, "Text is blended over the fill");
+    }
+
+    @Test
+    void testDisabledPaintCompositesOverUnknownBackground() {
+        JPanel parent = new JPanel(null);
+        parent.setBackground(new Color(0, 0, 0, 0));
+        JButton button = new JButton("OK");
+        button.setEnabled(false);
+        button.setSize(100, 36);
+        parent.add(button);
+        var g = new RecordingGraphics2D(new BufferedImage(100, 36, BufferedImage.TYPE_INT_ARGB));
+        button.paint(g);
+
+        assertEquals(UIManager.getColor("Button.background"), g.ops("fill").get(0).color(), g.summary());
+        assertTrue(g.stateChanges("setComposite") > 0, "Translucent parent needs compositing: " + g.summary());
+    }
 }
@@ -130,4 +130,36 @@ class DwcCheckBoxUITest {
             g2.dispose();
         }
     }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JCheckBox checkBox = new JCheckBox("Confirm", true);
+        checkBox.setSize(160, 24);
+        var g = new RecordingGraphics2D(new BufferedImage(160, 24, BufferedImage.TYPE_INT_ARGB));
+        checkBox.paint(g);
+
+        // Box, border and check mark; antialiasing confined to the icon
+        assertTrue(g.fills() <= 2, "Fills over budget: " + g.summary());
+        assertTrue(g.draws() <= 1, "Strokes over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertTrue(g.antialiasedArea() <= 24L * 24, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 3, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 10, "Hint changes over budget: " + g.summary());
+    }
+
+    @Test
+    void testDisabledPaintUsesOpaqueColors() {
+        JCheckBox checkBox = new JCheckBox("Confirm", true);
+        checkBox.setEnabled(false);
+        checkBox.setSize(160, 24);
+        var g = new RecordingGraphics2D(new BufferedImage(160, 24, BufferedImage.TYPE_INT_ARGB));
+        checkBox.paint(g);
+
+        // Box, border and check mark pre-blended over the parent background
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        for (var op : g.ops("fill")) {
+            assertEquals(255, op.color().getAlpha(), "Translucent fill: " + g.summary());
+        }
+    }
 }
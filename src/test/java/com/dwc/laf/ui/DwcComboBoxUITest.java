@@ -208,4 +208,36 @@ class DwcComboBoxUITest {
         assertNull(cb.getClientProperty("DwcTextFieldUI.hover"),
                 "Hover should be null after MOUSE_EXITED");
     }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JComboBox<String> combo = new JComboBox<>(new String[] {"Limit", "Market"});
+        combo.setSize(160, 36);
+        combo.doLayout();
+        var g = new RecordingGraphics2D(new BufferedImage(160, 36, BufferedImage.TYPE_INT_ARGB));
+        combo.paint(g);
+
+        // Background, border, arrow button background and one chevron stroke
+        assertTrue(g.fills() <= 3, "Fills over budget: " + g.summary());
+        assertTrue(g.draws() <= 1, "Strokes over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertTrue(g.antialiasedArea() <= 2L * 160 * 36, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 10, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("clip") <= 3, "Clip changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 12, "Hint changes over budget: " + g.summary());
+    }
+
+    @Test
+    void testDisabledPaintUsesOpaqueColors() {
+        JComboBox<String> combo = new JComboBox<>(new String[] {"Limit", "Market"});
+        combo.setEnabled(false);
+        combo.setSize(160, 36);
+        combo.doLayout();
+        var g = new RecordingGraphics2D(new BufferedImage(160, 36, BufferedImage.TYPE_INT_ARGB));
+        combo.paint(g);
+
+        assertEquals(255, g.ops("fill").get(0).color().getAlpha(), "Background is pre-blended: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+    }
 }
@@ -1,6 +1,7 @@
 package com.dwc.laf.ui;
 
 import com.dwc.laf.DwcLookAndFeel;
+import com.dwc.laf.painting.StateColorResolver;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,7 +18,7 @@ import java.awt.image.BufferedImage;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Tests for {@link DwcLabelUI} verifying per-component instances, UI installation,
+ * Tests for {@link DwcLabelUI} verifying the shared instance, UI installation,
  * opacity, paint smoke tests (enabled and disabled), and token-derived font/color.
  */
 class DwcLabelUITest {
@@ -36,14 +37,14 @@ class DwcLabelUITest {
     }
 
     @Test
-    void createUI_returnsPerComponentInstances() {
+    void createUI_returnsSharedInstance() {
         JLabel l1 = new JLabel("A");
         JLabel l2 = new JLabel("B");
         ComponentUI ui1 = DwcLabelUI.createUI(l1);
         ComponentUI ui2 = DwcLabelUI.createUI(l2);
 
-        assertNotSame(ui1, ui2,
-                "Each JLabel should get its own DwcLabelUI instance");
+        assertSame(ui1, ui2,
+                "All JLabels should share one stateless DwcLabelUI instance");
     }
 
     @Test
@@ -127,4 +128,36 @@ class DwcLabelUITest {
         assertEquals(uiFg, fg,
                 "Label foreground should match UIManager.getColor('Label.foreground')");
     }
+
+    @Test
+    void paint_staysWithinOperationBudget() {
+        JLabel label = new JLabel("Balance");
+        label.setSize(100, 20);
+        var g = new RecordingGraphics2D(new BufferedImage(100, 20, BufferedImage.TYPE_INT_ARGB));
+        label.paint(g);
+
+        // A non-opaque label only draws its text
+        assertEquals(0, g.fills(), "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertEquals(1, g.count("drawString") + g.count("drawGlyphVector"), g.summary());
+        assertEquals(0, g.antialiasedArea(), "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 2, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setRenderingHint"), "Hint changes over budget: " + g.summary());
+    }
+
+    @Test
+    void paintDisabled_usesOpaqueTextColor() {
+        JLabel label = new JLabel("Balance");
+        label.setEnabled(false);
+        label.setSize(100, 20);
+        var g = new RecordingGraphics2D(new BufferedImage(100, 20, BufferedImage.TYPE_INT_ARGB));
+        label.paint(g);
+
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        var text = g.ops("drawGlyphVector").isEmpty() ? g.ops("drawString") : g.ops("drawGlyphVector");
+        Color expected = StateColorResolver.blend(label.getForeground(),
+                UIManager.getColor("Panel.background"), 0.6f);
+        assertEquals(expected, text.get(0).color(), g.summary());
+    }
 }
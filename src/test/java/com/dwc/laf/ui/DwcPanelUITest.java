@@ -17,7 +17,7 @@ import java.awt.image.BufferedImage;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Tests for {@link DwcPanelUI} verifying per-component instances, UI installation,
+ * Tests for {@link DwcPanelUI} verifying the shared instance, UI installation,
  * background color, paint smoke tests (default and card mode), and UIDefaults entries.
  */
 class DwcPanelUITest {
@@ -36,14 +36,14 @@ class DwcPanelUITest {
     }
 
     @Test
-    void createUI_returnsPerComponentInstances() {
+    void createUI_returnsSharedInstance() {
         JPanel p1 = new JPanel();
         JPanel p2 = new JPanel();
         ComponentUI ui1 = DwcPanelUI.createUI(p1);
         ComponentUI ui2 = DwcPanelUI.createUI(p2);
 
-        assertNotSame(ui1, ui2,
-                "Each JPanel should get its own DwcPanelUI instance");
+        assertSame(ui1, ui2,
+                "All JPanels should share one stateless DwcPanelUI instance");
     }
 
     @Test
@@ -144,4 +144,23 @@ class DwcPanelUITest {
         assertNotNull(shadowColor,
                 "Panel.shadowColor should not be null");
     }
+
+    @Test
+    void cardPaint_staysWithinOperationBudget() {
+        JPanel card = new JPanel();
+        card.putClientProperty("dwc.panelStyle", "card");
+        card.setSize(300, 200);
+        var g = new RecordingGraphics2D(new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB));
+        card.paint(g);
+
+        // One cached shadow image and one rounded background fill
+        assertTrue(g.fills() <= 1, "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertTrue(g.count("drawImage") <= 1, "Image draws over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertTrue(g.antialiasedArea() <= 300L * 200, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 3, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 4, "Hint changes over budget: " + g.summary());
+    }
 }
@@ -182,4 +182,80 @@ class DwcProgressBarUITest {
         assertNotEquals(defaultPixel, successPixel,
                 "Success variant progress bar should render with different colors than default");
     }
+
+    @Test
+    void testDeterminateFillStaysInsideRoundedTrack() {
+        JProgressBar pb = new JProgressBar(0, 100);
+        pb.setBorder(null);
+        pb.setValue(100);
+        pb.setSize(200, 20);
+
+        BufferedImage img = new BufferedImage(200, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = img.createGraphics();
+        try {
+            pb.getUI().paint(g2, pb);
+        } finally {
+            g2.dispose();
+        }
+
+        assertEquals(UIManager.getColor("ProgressBar.foreground").getRGB(), img.getRGB(100, 10));
+        assertEquals(0, img.getRGB(0, 0) >>> 24, "Fill should be clipped to the rounded track");
+        assertEquals(0, img.getRGB(199, 19) >>> 24, "Fill should be clipped to the rounded track");
+    }
+
+    @Test
+    void testFramesPaintTrackAndFillOnly() {
+        JProgressBar determinate = new JProgressBar(0, 100);
+        determinate.setValue(3);
+        determinate.setSize(200, 20);
+        JProgressBar indeterminate = new JProgressBar(0, 100);
+        indeterminate.setIndeterminate(true);
+        indeterminate.setSize(200, 20);
+
+        for (JProgressBar pb : new JProgressBar[] {determinate, indeterminate}) {
+            var g = new RecordingGraphics2D(new BufferedImage(200, 20, BufferedImage.TYPE_INT_ARGB));
+            try {
+                pb.getUI().paint(g, pb);
+            } finally {
+                g.dispose();
+            }
+            assertEquals(2, g.count("fill"), "One fill for the track and one for the bar: " + g.ops());
+        }
+    }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JProgressBar pb = new JProgressBar(0, 100);
+        pb.setValue(60);
+        pb.setSize(300, 8);
+        var g = new RecordingGraphics2D(new BufferedImage(300, 8, BufferedImage.TYPE_INT_ARGB));
+        pb.paint(g);
+
+        // Opaque background, track and bar; the bar is clipped, not intersected
+        assertTrue(g.fills() <= 3, "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertTrue(g.antialiasedArea() <= 2L * 300 * 8, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 3, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("clip") <= 1, "Clip changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 4, "Hint changes over budget: " + g.summary());
+    }
+
+    @Test
+    void testDisabledPaintUsesOpaqueColors() {
+        JProgressBar pb = new JProgressBar(0, 100);
+        pb.setValue(60);
+        pb.setStringPainted(true);
+        pb.setEnabled(false);
+        pb.setSize(300, 20);
+        var g = new RecordingGraphics2D(new BufferedImage(300, 20, BufferedImage.TYPE_INT_ARGB));
+        pb.paint(g);
+
+        // Track, bar and string pre-blended; the bar is blended over the track
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        for (var op : g.ops("fill")) {
+            assertEquals(255, op.color().getAlpha(), "Translucent fill: " + g.summary());
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.DwcLookAndFeel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JComponent;
+import javax.swing.JTable;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DwcProgressCellRenderer} verifying value mapping, variant and
+ * text painting, the paint operation count per bar, and painting inside a table.
+ */
+class DwcProgressCellRendererTest {
+
+    private LookAndFeel previousLaf;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        previousLaf = UIManager.getLookAndFeel();
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        UIManager.setLookAndFeel(previousLaf);
+    }
+
+    @Test
+    void testFractionOfValue() {
+        var renderer = new DwcProgressCellRenderer(0, 200);
+        assertEquals(0.5, renderer.fractionOf(100));
+        assertEquals(0.25, renderer.fractionOf(50.0));
+        assertEquals(0.0, renderer.fractionOf(-10));
+        assertEquals(1.0, renderer.fractionOf(500L));
+        assertEquals(0.0, renderer.fractionOf("n/a"));
+        assertEquals(0.0, renderer.fractionOf(null));
+    }
+
+    @Test
+    void testInvalidRangeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new DwcProgressCellRenderer(10, 10));
+    }
+
+    @Test
+    void testPaintsFillFromValue() {
+        BufferedImage img = paintCell(new DwcProgressCellRenderer(), 50, 212, 24);
+
+        Color fill = UIManager.getColor("ProgressBar.foreground");
+        Color track = UIManager.getColor("ProgressBar.background");
+        assertEquals(fill.getRGB(), img.getRGB(40, 6), "Left half of the bar should be filled");
+        assertEquals(track.getRGB(), img.getRGB(170, 6), "Right half of the bar should show the track");
+        assertEquals(0, img.getRGB(2, 12) >>> 24, "Cell padding should stay transparent");
+    }
+
+    @Test
+    void testVariantClientProperty() {
+        var renderer = new DwcProgressCellRenderer();
+        renderer.setStringPainted(false);
+        renderer.putClientProperty("dwc.progressType", "success");
+        BufferedImage img = paintCell(renderer, 100, 212, 24);
+
+        assertEquals(UIManager.getColor("ProgressBar.success.foreground").getRGB(), img.getRGB(100, 12));
+    }
+
+    @Test
+    void testOneFillPerAreaAndOneString() {
+        var renderer = new DwcProgressCellRenderer();
+        JComponent c = (JComponent) renderer.getTableCellRendererComponent(null, 40, false, false, 0, 0);
+        c.setSize(212, 24);
+
+        var g = new RecordingGraphics2D(new BufferedImage(212, 24, BufferedImage.TYPE_INT_ARGB));
+        try {
+            c.paint(g);
+        } finally {
+            g.dispose();
+        }
+
+        assertEquals(2, g.count("fill"), "Track and fill should be one antialiased fill each");
+        assertEquals(1, g.count("drawString") + g.count("drawGlyphVector"), g.summary());
+    }
+
+    @Test
+    void testStaticPainterMatchesRenderer() {
+        BufferedImage img = new BufferedImage(200, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        try {
+            DwcProgressCellRenderer.paintProgress(g, new Rectangle(0, 0, 200, 16), 0.75, "danger", null);
+        } finally {
+            g.dispose();
+        }
+        assertEquals(UIManager.getColor("ProgressBar.danger.foreground").getRGB(), img.getRGB(100, 8));
+        assertEquals(UIManager.getColor("ProgressBar.background").getRGB(), img.getRGB(180, 8));
+    }
+
+    @Test
+    void testPaintManyBarsInTable() {
+        Object[][] data = new Object[500][1];
+        for (int i = 0; i < data.length; i++) {
+            data[i][0] = i % 101;
+        }
+        JTable table = new JTable(data, new String[] {"Progress"});
+        table.getColumnModel().getColumn(0).setCellRenderer(new DwcProgressCellRenderer());
+        table.setSize(200, 500 * table.getRowHeight());
+
+        BufferedImage img = new BufferedImage(200, table.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        try {
+            assertDoesNotThrow(() -> table.paint(g));
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static BufferedImage paintCell(DwcProgressCellRenderer renderer, Object value, int width, int height) {
+        JComponent c = (JComponent) renderer.getTableCellRendererComponent(null, value, false, false, 0, 0);
+        c.setSize(width, height);
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        try {
+            c.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return img;
+    }
+}
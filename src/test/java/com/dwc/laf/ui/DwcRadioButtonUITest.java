@@ -129,4 +129,36 @@ class DwcRadioButtonUITest {
             g2.dispose();
         }
     }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JRadioButton radio = new JRadioButton("Day order", true);
+        radio.setSize(160, 24);
+        var g = new RecordingGraphics2D(new BufferedImage(160, 24, BufferedImage.TYPE_INT_ARGB));
+        radio.paint(g);
+
+        // Border ring, circle and selection dot; antialiasing confined to the icon
+        assertTrue(g.fills() <= 3, "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertTrue(g.antialiasedArea() <= 24L * 24, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 3, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 9, "Hint changes over budget: " + g.summary());
+    }
+
+    @Test
+    void testDisabledPaintUsesOpaqueColors() {
+        JRadioButton radio = new JRadioButton("Market", true);
+        radio.setEnabled(false);
+        radio.setSize(160, 24);
+        var g = new RecordingGraphics2D(new BufferedImage(160, 24, BufferedImage.TYPE_INT_ARGB));
+        radio.paint(g);
+
+        // Circle, border and dot pre-blended over the parent background
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        for (var op : g.ops("fill")) {
+            assertEquals(255, op.color().getAlpha(), "Translucent fill: " + g.summary());
+        }
+    }
 }
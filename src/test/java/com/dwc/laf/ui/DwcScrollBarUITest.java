@@ -100,4 +100,22 @@ class DwcScrollBarUITest {
             g2.dispose();
         }
     }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JScrollBar sb = new JScrollBar(JScrollBar.VERTICAL, 300, 100, 0, 1000);
+        sb.setSize(16, 400);
+        sb.doLayout();
+        var g = new RecordingGraphics2D(new BufferedImage(16, 400, BufferedImage.TYPE_INT_ARGB));
+        sb.paint(g);
+
+        // Track fills are crisp; only the thumb (a tenth of the track) is antialiased
+        assertTrue(g.fills() <= 3, "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertTrue(g.antialiasedArea() <= 16L * 40, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 4, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 4, "Hint changes over budget: " + g.summary());
+    }
 }
@@ -223,4 +223,25 @@ class DwcTabbedPaneUITest {
         }
         return false;
     }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Orders", new JPanel());
+        tabs.addTab("Positions", new JPanel());
+        tabs.setSize(300, 200);
+        tabs.doLayout();
+        var g = new RecordingGraphics2D(new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB));
+        tabs.paint(g);
+
+        // Tab strip, separator and selection indicator are crisp rectangles
+        assertTrue(g.fills() <= 4, "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertEquals(0, g.antialiasedArea(), "Antialiased area over budget: " + g.summary());
+        assertEquals(2, g.count("drawString") + g.count("drawGlyphVector"), g.summary());
+        assertTrue(g.stateChanges("create") <= 8, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("clip") <= 2, "Clip changes over budget: " + g.summary());
+    }
 }
@@ -5,11 +5,18 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.swing.JComponent;
+import javax.swing.JLabel;
 import javax.swing.JTable;
 import javax.swing.LookAndFeel;
+import javax.swing.UIDefaults;
 import javax.swing.UIManager;
+import javax.swing.border.Border;
+import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -130,6 +137,169 @@ class DwcTableUITest {
         }
     }
 
+    @Test
+    void testRendererStripesRows() {
+        JTable table = createSampleTable();
+        var renderer = table.getDefaultRenderer(Object.class);
+
+        Component even = renderer.getTableCellRendererComponent(table, "A1", false, false, 0, 0);
+        assertEquals(UIManager.getColor("Table.background"), even.getBackground());
+        Component odd = renderer.getTableCellRendererComponent(table, "A2", false, false, 1, 0);
+        assertEquals(UIManager.getColor("Table.alternateRowColor"), odd.getBackground());
+        Component selected = renderer.getTableCellRendererComponent(table, "A3", true, true, 2, 0);
+        assertEquals(table.getSelectionBackground(), selected.getBackground());
+        assertEquals("A3", ((JLabel) selected).getText());
+    }
+
+    @Test
+    void testRendererReusesBorderAndFont() {
+        JTable table = createSampleTable();
+        var renderer = table.getDefaultRenderer(Object.class);
+
+        JComponent first = (JComponent) renderer.getTableCellRendererComponent(table, "A1", false, true, 0, 0);
+        Border border = first.getBorder();
+        JComponent second = (JComponent) renderer.getTableCellRendererComponent(table, "B2", true, true, 1, 1);
+        assertSame(border, second.getBorder(), "Cell border should be shared, not reallocated");
+        assertSame(table.getFont(), second.getFont());
+    }
+
+    @Test
+    void testHeaderRendererCachesBoldFont() {
+        JTable table = createSampleTable();
+        var renderer = table.getTableHeader().getDefaultRenderer();
+
+        Component first = renderer.getTableCellRendererComponent(table, "Col 1", false, false, -1, 0);
+        Font bold = first.getFont();
+        Border border = ((JComponent) first).getBorder();
+        assertTrue(bold.isBold());
+
+        Component second = renderer.getTableCellRendererComponent(table, "Col 2", false, false, -1, 1);
+        assertSame(bold, second.getFont(), "Bold header font should be derived once");
+        assertSame(border, ((JComponent) second).getBorder(), "Header border should be built once");
+
+        table.setFont(table.getFont().deriveFont(20f));
+        Component third = renderer.getTableCellRendererComponent(table, "Col 3", false, false, -1, 2);
+        assertEquals(20f, third.getFont().getSize2D(), "Font change should refresh the bold font");
+    }
+
+    @Test
+    void testHeaderRendererMakesNoDefaultsLookups() {
+        JTable table = createSampleTable();
+        var renderer = table.getTableHeader().getDefaultRenderer();
+        int[] lookups = new int[1];
+        UIDefaults.ActiveValue counting = t -> {
+            lookups[0]++;
+            return null;
+        };
+        // DefaultTableCellRenderer reads these for every unselected cell
+        UIManager.put("Table.cellNoFocusBorder", counting);
+        UIManager.put("Table.alternateRowColor", counting);
+        try {
+            for (int column = 0; column < 3; column++) {
+                Component c = renderer.getTableCellRendererComponent(table, "Col " + column, false, false, -1, column);
+                assertEquals("Col " + column, ((JLabel) c).getText());
+            }
+            assertEquals(0, lookups[0], "Header cells should use the state cached in updateUI()");
+        } finally {
+            UIManager.put("Table.cellNoFocusBorder", null);
+            UIManager.put("Table.alternateRowColor", null);
+        }
+    }
+
+    @Test
+    void testRendererTransparentOverRowBands() {
+        JTable table = createSampleTable();
+        var renderer = table.getDefaultRenderer(Object.class);
+
+        assertFalse(renderer.getTableCellRendererComponent(table, "A2", false, false, 1, 0).isOpaque(),
+                "Unselected cells should let the row band show through");
+        assertFalse(renderer.getTableCellRendererComponent(table, "A3", true, false, 2, 0).isOpaque(),
+                "Selected cells in row selection mode should let the selection band show through");
+
+        table.setCellSelectionEnabled(true);
+        assertTrue(renderer.getTableCellRendererComponent(table, "A3", true, false, 2, 0).isOpaque(),
+                "Selected cells in cell selection mode should paint their own background");
+    }
+
+    @Test
+    void testPaintFillsOneBandPerRow() {
+        JTable table = createTable(20);
+        int rowHeight = table.getRowHeight();
+        table.setSize(300, 20 * rowHeight);
+        table.setRowSelectionInterval(4, 4);
+
+        var g = new RecordingGraphics2D(new BufferedImage(300, 20 * rowHeight, BufferedImage.TYPE_INT_ARGB));
+        g.setClip(0, 0, 300, 10 * rowHeight);
+        try {
+            table.paint(g);
+        } finally {
+            g.dispose();
+        }
+
+        // Table background, then bands for rows 1, 3, 4 (selected), 5, 7 and 9; no per-cell fills
+        var fills = g.ops("fillRect");
+        assertEquals(7, fills.size(), "Expected one fill for the background and one per banded row: " + fills);
+        for (var band : fills.subList(1, fills.size())) {
+            assertEquals(300, band.bounds().width, "Bands should span the dirty region");
+            assertEquals(rowHeight, band.bounds().height);
+        }
+        assertEquals(4 * rowHeight, fills.get(3).bounds().y);
+        assertEquals(table.getSelectionBackground(), fills.get(3).color());
+        assertEquals(UIManager.getColor("Table.alternateRowColor"), fills.get(1).color());
+        assertEquals(30, g.count("drawString") + g.count("drawGlyphVector"),
+                "Every visible cell should still render its text");
+    }
+
+    @Test
+    void testPaintBandsOnlyDirtyRows() {
+        JTable table = createTable(20);
+        int rowHeight = table.getRowHeight();
+        table.setSize(300, 20 * rowHeight);
+
+        var g = new RecordingGraphics2D(new BufferedImage(300, 20 * rowHeight, BufferedImage.TYPE_INT_ARGB));
+        g.setClip(100, 12 * rowHeight, 50, 2 * rowHeight);
+        try {
+            table.getUI().paint(g, table);
+        } finally {
+            g.dispose();
+        }
+
+        var fills = g.ops("fillRect");
+        assertEquals(1, fills.size(), "Only odd row 13 lies in the dirty region: " + fills);
+        assertEquals(new Rectangle(100, 13 * rowHeight, 50, rowHeight), fills.get(0).bounds());
+    }
+
+    @Test
+    void testPaintStripesApplicationRenderer() {
+        JTable table = createTable(4);
+        table.setDefaultRenderer(Object.class, (t, value, selected, focus, row, column) -> new JLabel(String.valueOf(value)));
+        int rowHeight = table.getRowHeight();
+        table.setSize(300, 4 * rowHeight);
+
+        var g = new RecordingGraphics2D(new BufferedImage(300, 4 * rowHeight, BufferedImage.TYPE_INT_ARGB));
+        g.setClip(0, 0, 300, 4 * rowHeight);
+        try {
+            table.getUI().paint(g, table);
+        } finally {
+            g.dispose();
+        }
+
+        assertEquals(2, g.count("fillRect"), "Rows 1 and 3 should be banded under a custom renderer");
+    }
+
+    /**
+     * Creates a JTable with the given number of rows and 3 columns.
+     */
+    private JTable createTable(int rows) {
+        Object[][] data = new Object[rows][3];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < 3; c++) {
+                data[r][c] = (char) ('A' + c) + String.valueOf(r + 1);
+            }
+        }
+        return new JTable(data, new String[] {"Col 1", "Col 2", "Col 3"});
+    }
+
     /**
      * Creates a sample JTable with 5 rows and 3 columns for testing.
      */
@@ -5,13 +5,20 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.swing.JComponent;
 import javax.swing.JTextField;
 import javax.swing.LookAndFeel;
+import javax.swing.RepaintManager;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -173,4 +180,91 @@ class DwcTextFieldUITest {
         assertEquals("com.dwc.laf.ui.DwcTextFieldUI", UIManager.get("TextFieldUI"),
                 "TextFieldUI should be registered to DwcTextFieldUI class name");
     }
+
+    /** A text field that records the regions painted immediately instead of painting them. */
+    private static final class RecordingTextField extends JTextField {
+        final List<Rectangle> painted = new ArrayList<>();
+
+        RecordingTextField(String text) {
+            super(text);
+        }
+
+        @Override
+        public void paintImmediately(int x, int y, int w, int h) {
+            painted.add(new Rectangle(x, y, w, h));
+        }
+    }
+
+    @Test
+    void testHoverRepaintsOnlyRingRegions() {
+        RecordingTextField tf = new RecordingTextField("Test");
+        tf.setSize(200, 36);
+        RepaintManager previous = RepaintManager.currentManager(tf);
+        RepaintManager rm = new RepaintManager();
+        RepaintManager.setCurrentManager(rm);
+        try {
+            MouseEvent enter = new MouseEvent(tf, MouseEvent.MOUSE_ENTERED, 0, 0, 10, 10, 0, false);
+            for (MouseListener l : tf.getMouseListeners()) {
+                l.mouseEntered(enter);
+            }
+            DwcAnimator.flush();
+
+            // Pixels painted: the strips painted immediately, plus the
+            // union the manager paints in its next pass
+            List<Rectangle> regions = new ArrayList<>(tf.painted);
+            Rectangle dirty = rm.getDirtyRegion(tf);
+            if (!dirty.isEmpty()) {
+                regions.add(dirty);
+            }
+            long pixels = regions.stream().mapToLong(r -> (long) r.width * r.height).sum();
+
+            assertFalse(regions.isEmpty(), "Hover should repaint the border ring");
+            assertTrue(pixels * 2 < 200 * 36, "Hover painted " + pixels + " of " + 200 * 36 + " pixels");
+            Rectangle text = new Rectangle(12, 12, 176, 12);
+            for (Rectangle r : regions) {
+                assertFalse(r.intersects(text), "Region " + r + " covers the text area");
+            }
+        } finally {
+            RepaintManager.setCurrentManager(previous);
+        }
+    }
+
+    @Test
+    void testRingRegionsCoverWholeSmallField() {
+        JTextField tf = new JTextField();
+        tf.setSize(10, 10);
+        Rectangle[] regions = DwcTextFieldBorder.ringRegions(tf);
+        assertArrayEquals(new Rectangle[] {new Rectangle(0, 0, 10, 10)}, regions);
+        assertSame(regions, DwcTextFieldBorder.ringRegions(tf), "Regions are cached per size");
+    }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JTextField field = new JTextField("Account");
+        field.setSize(200, 36);
+        var g = new RecordingGraphics2D(new BufferedImage(200, 36, BufferedImage.TYPE_INT_ARGB));
+        field.paint(g);
+
+        assertTrue(g.fills() <= 2, "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertTrue(g.antialiasedArea() <= 2L * 200 * 36, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 5, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("clip") <= 2, "Clip changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 12, "Hint changes over budget: " + g.summary());
+    }
+
+    @Test
+    void testDisabledPaintCompositesOnlyText() {
+        JTextField field = new JTextField("Account");
+        field.setEnabled(false);
+        field.setSize(200, 36);
+        var g = new RecordingGraphics2D(new BufferedImage(200, 36, BufferedImage.TYPE_INT_ARGB));
+        field.paint(g);
+
+        // The background is pre-blended; only the view's text is composited
+        assertEquals(255, g.ops("fill").get(0).color().getAlpha(), "Background is pre-blended: " + g.summary());
+        assertEquals(2, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+    }
 }
@@ -15,7 +15,7 @@ import java.awt.image.BufferedImage;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Tests for {@link DwcToolTipUI} verifying UI installation, per-component instances,
+ * Tests for {@link DwcToolTipUI} verifying UI installation, the shared instance,
  * border setup, insets, and paint pipeline smoke test.
  */
 class DwcToolTipUITest {
@@ -41,11 +41,11 @@ class DwcToolTipUITest {
     }
 
     @Test
-    void testPerComponentInstance() {
+    void testSharedInstance() {
         JToolTip tooltip1 = new JToolTip();
         JToolTip tooltip2 = new JToolTip();
-        assertNotSame(tooltip1.getUI(), tooltip2.getUI(),
-                "Each JToolTip should have its own DwcToolTipUI instance");
+        assertSame(tooltip1.getUI(), tooltip2.getUI(),
+                "All JToolTips should share one stateless DwcToolTipUI instance");
     }
 
     @Test
@@ -92,4 +92,25 @@ class DwcToolTipUITest {
             g2.dispose();
         }
     }
+
+    @Test
+    void testPaintStaysWithinOperationBudget() {
+        JToolTip tooltip = new JToolTip();
+        tooltip.setTipText("Cancels all open orders");
+        int w = tooltip.getPreferredSize().width;
+        int h = tooltip.getPreferredSize().height;
+        tooltip.setSize(w, h);
+        var g = new RecordingGraphics2D(new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB));
+        tooltip.paint(g);
+
+        // Background and border fills; the shadow is one cached image
+        assertTrue(g.fills() <= 2, "Fills over budget: " + g.summary());
+        assertEquals(0, g.draws(), "Strokes over budget: " + g.summary());
+        assertTrue(g.count("drawImage") <= 1, "Image draws over budget: " + g.summary());
+        assertEquals(0, g.areaShapes(), "Area operations over budget: " + g.summary());
+        assertTrue(g.antialiasedArea() <= 2L * w * h, "Antialiased area over budget: " + g.summary());
+        assertTrue(g.stateChanges("create") <= 4, "Graphics copies over budget: " + g.summary());
+        assertEquals(0, g.stateChanges("setComposite"), "Composite changes over budget: " + g.summary());
+        assertTrue(g.stateChanges("setRenderingHint") <= 8, "Hint changes over budget: " + g.summary());
+    }
 }
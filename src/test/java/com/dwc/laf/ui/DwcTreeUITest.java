@@ -111,6 +111,69 @@ class DwcTreeUITest {
         }
     }
 
+    @Test
+    void testLargeModelClientProperty() {
+        JTree tree = createSampleTree();
+        assertFalse(tree.isLargeModel());
+
+        tree.putClientProperty(DwcTreeUI.LARGE_MODEL_PROPERTY, Boolean.TRUE);
+        assertTrue(tree.isLargeModel(), "dwc.largeModel should enable JTree large-model layout");
+        assertEquals(24, tree.getRowHeight(), "Large-model mode needs a fixed row height");
+
+        tree.putClientProperty(DwcTreeUI.LARGE_MODEL_PROPERTY, null);
+        assertFalse(tree.isLargeModel());
+    }
+
+    @Test
+    void testSelectionPaintedAsMergedRuns() {
+        DefaultMutableTreeNode root = new DefaultMutableTreeNode("Root");
+        for (int i = 0; i < 10; i++) {
+            root.add(new DefaultMutableTreeNode("Node " + i));
+        }
+        JTree tree = new JTree(new DefaultTreeModel(root));
+        tree.putClientProperty(DwcTreeUI.LARGE_MODEL_PROPERTY, Boolean.TRUE);
+        tree.setSize(200, 11 * 24);
+        tree.setSelectionRows(new int[] {1, 2, 3, 6, 7});
+
+        var g = new RecordingGraphics2D(new BufferedImage(200, 11 * 24, BufferedImage.TYPE_INT_ARGB));
+        g.setClip(0, 0, 200, 11 * 24);
+        try {
+            tree.getUI().paint(g, tree);
+        } finally {
+            g.dispose();
+        }
+
+        var selectionFills = g.ops("fillRect").stream()
+                .filter(op -> op.bounds().width == 200)
+                .toList();
+        assertEquals(2, selectionFills.size(), "Rows 1-3 and 6-7 should be painted as two runs: " + selectionFills);
+        assertEquals(24, selectionFills.get(0).bounds().y);
+        assertEquals(3 * 24, selectionFills.get(0).bounds().height);
+        assertEquals(6 * 24, selectionFills.get(1).bounds().y);
+        assertEquals(2 * 24, selectionFills.get(1).bounds().height);
+    }
+
+    @Test
+    void testNodeIconsDrawnFromRasters() {
+        DefaultMutableTreeNode root = new DefaultMutableTreeNode("Root");
+        for (int i = 0; i < 5; i++) {
+            root.add(new DefaultMutableTreeNode("Leaf " + i));
+        }
+        JTree tree = new JTree(new DefaultTreeModel(root));
+        tree.setSize(200, 6 * 24);
+
+        var g = new RecordingGraphics2D(new BufferedImage(200, 6 * 24, BufferedImage.TYPE_INT_ARGB));
+        g.setClip(0, 0, 200, 6 * 24);
+        try {
+            tree.getUI().paint(g, tree);
+        } finally {
+            g.dispose();
+        }
+
+        assertEquals(0, g.count("draw"), "Icons should be blitted, not stroked per row");
+        assertTrue(g.count("drawImage") >= 6, "Each row icon should be drawn from a cached raster");
+    }
+
     private JTree createSampleTree() {
         DefaultMutableTreeNode root = new DefaultMutableTreeNode("Root");
         DefaultMutableTreeNode child1 = new DefaultMutableTreeNode("Child 1");
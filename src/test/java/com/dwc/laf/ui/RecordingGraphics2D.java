@@ -0,0 +1,589 @@
+package com.dwc.laf.ui;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test helper: a {@link Graphics2D} that forwards to a real image graphics
+ * and records every drawing operation, so tests can assert how many fills,
+ * strokes or text draws a paint pass performs.
+ *
+ * <p>Graphics created with {@link #create()} share the recording, so nested
+ * painting (cell renderers, borders) is counted as well. Besides drawing
+ * operations it counts the state changes that cost the pipeline work --
+ * {@code "create"}, {@code "setComposite"}, {@code "clip"} (any clip
+ * change) and {@code "setRenderingHint"} (any hint change) -- the
+ * {@link Area} shapes filled, stroked or clipped to, and the device area
+ * covered by antialiased shape operations. Together these make an
+ * operation budget a delegate test can assert, so a change that paints
+ * identical pixels at a higher cost fails the build.</p>
+ */
+final class RecordingGraphics2D extends Graphics2D {
+
+    /**
+     * One recorded drawing operation.
+     *
+     * @param shape the class of the filled or stroked shape, or null for
+     *              operations without a {@link Shape} argument
+     */
+    record Op(String name, Color color, Rectangle bounds, Class<? extends Shape> shape) {
+    }
+
+    /** Recording shared by a graphics and the graphics created from it. */
+    private static final class Recording {
+        final List<Op> ops = new ArrayList<>();
+        final Map<String, Integer> stateChanges = new HashMap<>();
+        int areaShapes;
+        long antialiasedArea;
+    }
+
+    /** Names of the stroke operations counted by {@link #draws()}. */
+    private static final Set<String> STROKES = Set.of("draw", "drawLine", "drawRect",
+            "drawRoundRect", "drawOval", "drawArc", "drawPolyline", "drawPolygon");
+
+    private final Graphics2D delegate;
+    private final Recording recording;
+    private final List<Op> ops;
+
+    RecordingGraphics2D(BufferedImage image) {
+        this(image.createGraphics(), new Recording());
+    }
+
+    private RecordingGraphics2D(Graphics2D delegate, Recording recording) {
+        this.delegate = delegate;
+        this.recording = recording;
+        this.ops = recording.ops;
+    }
+
+    /** Returns all recorded operations, in order. */
+    List<Op> ops() {
+        return ops;
+    }
+
+    /** Returns the recorded operations with the given name. */
+    List<Op> ops(String name) {
+        return ops.stream().filter(op -> op.name().equals(name)).toList();
+    }
+
+    /** Returns the number of recorded operations with the given name. */
+    int count(String name) {
+        return ops(name).size();
+    }
+
+    /** Returns the number of fill or draw operations on shapes of the given type. */
+    int count(String name, Class<? extends Shape> shape) {
+        return (int) ops.stream()
+                .filter(op -> op.name().equals(name) && op.shape() != null && shape.isAssignableFrom(op.shape()))
+                .count();
+    }
+
+    /** Returns the number of fill operations of any kind. */
+    int fills() {
+        return (int) ops.stream().filter(op -> op.name().startsWith("fill")).count();
+    }
+
+    /** Returns the number of stroke operations of any kind. */
+    int draws() {
+        return (int) ops.stream().filter(op -> STROKES.contains(op.name())).count();
+    }
+
+    /**
+     * Returns how often the given state was changed: {@code "create"},
+     * {@code "setComposite"}, {@code "clip"} or {@code "setRenderingHint"}.
+     */
+    int stateChanges(String name) {
+        return recording.stateChanges.getOrDefault(name, 0);
+    }
+
+    /** Returns the number of {@link Area} shapes filled, stroked or clipped to. */
+    int areaShapes() {
+        return recording.areaShapes;
+    }
+
+    /**
+     * Returns the device pixel area of the bounds of all shape operations
+     * painted with antialiasing on.
+     */
+    long antialiasedArea() {
+        return recording.antialiasedArea;
+    }
+
+    /** Describes the recorded counters and operations, for assertion messages. */
+    String summary() {
+        return "fills=" + fills() + " draws=" + draws() + " areaShapes=" + areaShapes()
+                + " antialiasedArea=" + antialiasedArea() + " stateChanges=" + recording.stateChanges
+                + " ops=" + ops.stream().map(op -> op.shape() != null
+                        ? op.name() + "(" + op.shape().getSimpleName() + ")" : op.name()).toList();
+    }
+
+    /** Discards the recorded operations and counters. */
+    void clear() {
+        ops.clear();
+        recording.stateChanges.clear();
+        recording.areaShapes = 0;
+        recording.antialiasedArea = 0;
+    }
+
+    private void record(String name, Rectangle bounds) {
+        record(name, bounds, null);
+    }
+
+    private void record(String name, Rectangle bounds, Shape shape) {
+        Color color = delegate.getPaint() instanceof Color c ? c : null;
+        ops.add(new Op(name, color, bounds, shape != null ? shape.getClass() : null));
+        if (shape instanceof Area) {
+            recording.areaShapes++;
+        }
+        if (bounds != null && !name.startsWith("drawImage") && !name.equals("copyArea")
+                && RenderingHints.VALUE_ANTIALIAS_ON.equals(
+                        delegate.getRenderingHint(RenderingHints.KEY_ANTIALIASING))) {
+            Rectangle device = delegate.getTransform().createTransformedShape(bounds).getBounds();
+            recording.antialiasedArea += (long) device.width * device.height;
+        }
+    }
+
+    private void stateChange(String name) {
+        recording.stateChanges.merge(name, 1, Integer::sum);
+    }
+
+    // ---- Recorded operations ----
+
+    @Override
+    public void fillRect(int x, int y, int width, int height) {
+        record("fillRect", new Rectangle(x, y, width, height));
+        delegate.fillRect(x, y, width, height);
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height) {
+        record("clearRect", new Rectangle(x, y, width, height));
+        delegate.clearRect(x, y, width, height);
+    }
+
+    @Override
+    public void drawRect(int x, int y, int width, int height) {
+        record("drawRect", new Rectangle(x, y, width, height));
+        delegate.drawRect(x, y, width, height);
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2) {
+        record("drawLine", new Rectangle(Math.min(x1, x2), Math.min(y1, y2),
+                Math.abs(x2 - x1), Math.abs(y2 - y1)));
+        delegate.drawLine(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void fill(Shape s) {
+        record("fill", s.getBounds(), s);
+        delegate.fill(s);
+    }
+
+    @Override
+    public void draw(Shape s) {
+        record("draw", s.getBounds(), s);
+        delegate.draw(s);
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        record("drawRoundRect", new Rectangle(x, y, width, height));
+        delegate.drawRoundRect(x, y, width, height, arcWidth, arcHeight);
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        record("fillRoundRect", new Rectangle(x, y, width, height));
+        delegate.fillRoundRect(x, y, width, height, arcWidth, arcHeight);
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height) {
+        record("drawOval", new Rectangle(x, y, width, height));
+        delegate.drawOval(x, y, width, height);
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height) {
+        record("fillOval", new Rectangle(x, y, width, height));
+        delegate.fillOval(x, y, width, height);
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        record("drawArc", new Rectangle(x, y, width, height));
+        delegate.drawArc(x, y, width, height, startAngle, arcAngle);
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        record("fillArc", new Rectangle(x, y, width, height));
+        delegate.fillArc(x, y, width, height, startAngle, arcAngle);
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+        record("drawPolyline", null);
+        delegate.drawPolyline(xPoints, yPoints, nPoints);
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        record("drawPolygon", null);
+        delegate.drawPolygon(xPoints, yPoints, nPoints);
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        record("fillPolygon", null);
+        delegate.fillPolygon(xPoints, yPoints, nPoints);
+    }
+
+    @Override
+    public void drawString(String str, int x, int y) {
+        record("drawString", null);
+        delegate.drawString(str, x, y);
+    }
+
+    @Override
+    public void drawString(String str, float x, float y) {
+        record("drawString", null);
+        delegate.drawString(str, x, y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+        record("drawString", null);
+        delegate.drawString(iterator, x, y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+        record("drawString", null);
+        delegate.drawString(iterator, x, y);
+    }
+
+    @Override
+    public void drawChars(char[] data, int offset, int length, int x, int y) {
+        record("drawString", null);
+        delegate.drawChars(data, offset, length, x, y);
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector glyphs, float x, float y) {
+        record("drawGlyphVector", null);
+        delegate.drawGlyphVector(glyphs, x, y);
+    }
+
+    @Override
+    public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+        record("drawImage", null);
+        return delegate.drawImage(img, xform, obs);
+    }
+
+    @Override
+    public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+        record("drawImage", null);
+        delegate.drawImage(img, op, x, y);
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+        record("drawImage", null);
+        delegate.drawRenderedImage(img, xform);
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+        record("drawImage", null);
+        delegate.drawRenderableImage(img, xform);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+        record("drawImage", null);
+        return delegate.drawImage(img, x, y, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+        record("drawImage", new Rectangle(x, y, width, height));
+        return delegate.drawImage(img, x, y, width, height, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+        record("drawImage", null);
+        return delegate.drawImage(img, x, y, bgcolor, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor,
+                             ImageObserver observer) {
+        record("drawImage", new Rectangle(x, y, width, height));
+        return delegate.drawImage(img, x, y, width, height, bgcolor, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2,
+                             int sx1, int sy1, int sx2, int sy2, ImageObserver observer) {
+        record("drawImage", new Rectangle(dx1, dy1, dx2 - dx1, dy2 - dy1));
+        return delegate.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2,
+                             int sx1, int sy1, int sx2, int sy2, Color bgcolor, ImageObserver observer) {
+        record("drawImage", new Rectangle(dx1, dy1, dx2 - dx1, dy2 - dy1));
+        return delegate.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, bgcolor, observer);
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+        record("copyArea", new Rectangle(x, y, width, height));
+        delegate.copyArea(x, y, width, height, dx, dy);
+    }
+
+    // ---- Forwarded state ----
+
+    @Override
+    public Graphics create() {
+        stateChange("create");
+        return new RecordingGraphics2D((Graphics2D) delegate.create(), recording);
+    }
+
+    @Override
+    public void dispose() {
+        delegate.dispose();
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+        return delegate.hit(rect, s, onStroke);
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return delegate.getDeviceConfiguration();
+    }
+
+    @Override
+    public void setComposite(Composite comp) {
+        stateChange("setComposite");
+        delegate.setComposite(comp);
+    }
+
+    @Override
+    public void setPaint(Paint paint) {
+        delegate.setPaint(paint);
+    }
+
+    @Override
+    public void setStroke(Stroke s) {
+        delegate.setStroke(s);
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue) {
+        stateChange("setRenderingHint");
+        delegate.setRenderingHint(hintKey, hintValue);
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key hintKey) {
+        return delegate.getRenderingHint(hintKey);
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> hints) {
+        stateChange("setRenderingHint");
+        delegate.setRenderingHints(hints);
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> hints) {
+        stateChange("setRenderingHint");
+        delegate.addRenderingHints(hints);
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return delegate.getRenderingHints();
+    }
+
+    @Override
+    public void translate(int x, int y) {
+        delegate.translate(x, y);
+    }
+
+    @Override
+    public void translate(double tx, double ty) {
+        delegate.translate(tx, ty);
+    }
+
+    @Override
+    public void rotate(double theta) {
+        delegate.rotate(theta);
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y) {
+        delegate.rotate(theta, x, y);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        delegate.scale(sx, sy);
+    }
+
+    @Override
+    public void shear(double shx, double shy) {
+        delegate.shear(shx, shy);
+    }
+
+    @Override
+    public void transform(AffineTransform tx) {
+        delegate.transform(tx);
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx) {
+        delegate.setTransform(tx);
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return delegate.getTransform();
+    }
+
+    @Override
+    public Paint getPaint() {
+        return delegate.getPaint();
+    }
+
+    @Override
+    public Composite getComposite() {
+        return delegate.getComposite();
+    }
+
+    @Override
+    public void setBackground(Color color) {
+        delegate.setBackground(color);
+    }
+
+    @Override
+    public Color getBackground() {
+        return delegate.getBackground();
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return delegate.getStroke();
+    }
+
+    @Override
+    public void clip(Shape s) {
+        stateChange("clip");
+        if (s instanceof Area) {
+            recording.areaShapes++;
+        }
+        delegate.clip(s);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        return delegate.getFontRenderContext();
+    }
+
+    @Override
+    public Color getColor() {
+        return delegate.getColor();
+    }
+
+    @Override
+    public void setColor(Color c) {
+        delegate.setColor(c);
+    }
+
+    @Override
+    public void setPaintMode() {
+        delegate.setPaintMode();
+    }
+
+    @Override
+    public void setXORMode(Color c1) {
+        delegate.setXORMode(c1);
+    }
+
+    @Override
+    public Font getFont() {
+        return delegate.getFont();
+    }
+
+    @Override
+    public void setFont(Font font) {
+        delegate.setFont(font);
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font f) {
+        return delegate.getFontMetrics(f);
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return delegate.getClipBounds();
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height) {
+        stateChange("clip");
+        delegate.clipRect(x, y, width, height);
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height) {
+        stateChange("clip");
+        delegate.setClip(x, y, width, height);
+    }
+
+    @Override
+    public Shape getClip() {
+        return delegate.getClip();
+    }
+
+    @Override
+    public void setClip(Shape clip) {
+        stateChange("clip");
+        if (clip instanceof Area) {
+            recording.areaShapes++;
+        }
+        delegate.setClip(clip);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dwc.laf.ui;
+
+import com.dwc.laf.DwcLookAndFeel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JProgressBar;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ThemeStyles} verifying that styles are shared within a
+ * theme generation and rebuilt after {@code UIManager.put} and after a new
+ * look and feel is installed.
+ */
+class ThemeStylesTest {
+
+    private LookAndFeel previousLaf;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        previousLaf = UIManager.getLookAndFeel();
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        UIManager.setLookAndFeel(previousLaf);
+    }
+
+    @Test
+    void testStyleSharedWithinGeneration() {
+        DwcProgressBarUI.Style first = DwcProgressBarUI.Style.current();
+        new JProgressBar();
+        new JButton("OK");
+        assertSame(first, DwcProgressBarUI.Style.current(),
+                "Installing delegates should reuse the style of the current theme");
+    }
+
+    @Test
+    void testStyleImmutable() {
+        DwcProgressBarUI.Style style = DwcProgressBarUI.Style.current();
+        assertThrows(UnsupportedOperationException.class,
+                () -> style.variantForegrounds().put("custom", Color.RED));
+    }
+
+    @Test
+    void testUIManagerPutStartsNewGeneration() {
+        DwcProgressBarUI.Style before = DwcProgressBarUI.Style.current();
+        UIManager.put("ProgressBar.arc", 99);
+        try {
+            DwcProgressBarUI.Style after = DwcProgressBarUI.Style.current();
+            assertNotSame(before, after, "UIManager.put should discard the shared styles");
+            assertEquals(99, after.arc());
+        } finally {
+            UIManager.put("ProgressBar.arc", null);
+        }
+        assertNotEquals(99, DwcProgressBarUI.Style.current().arc(),
+                "Removing the override should rebuild the style from the theme");
+    }
+
+    @Test
+    void testNewLookAndFeelStartsNewGeneration() throws Exception {
+        DwcProgressBarUI.Style before = DwcProgressBarUI.Style.current();
+        UIManager.setLookAndFeel(new DwcLookAndFeel());
+        assertNotSame(before, DwcProgressBarUI.Style.current(),
+                "Installing a look and feel should discard the shared styles");
+    }
+}